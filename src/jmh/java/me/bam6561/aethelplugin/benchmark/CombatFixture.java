@@ -0,0 +1,178 @@
+package me.bam6561.aethelplugin.benchmark;
+
+import me.bam6561.aethelplugin.enums.rpg.AethelAttribute;
+import me.bam6561.aethelplugin.listeners.DamageListener;
+import me.bam6561.aethelplugin.plugin.EffectBuffer;
+import me.bam6561.aethelplugin.rpg.DamageContext;
+import me.bam6561.aethelplugin.rpg.RpgSystem;
+import me.bam6561.aethelplugin.stubs.StubDamageEvent;
+import me.bam6561.aethelplugin.stubs.StubLivingEntity;
+import me.bam6561.aethelplugin.stubs.Stubs;
+import me.bam6561.aethelplugin.utils.TagSchema;
+import org.bukkit.World;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.EntityType;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Represents a stubbed attacker and defender fighting through the plugin's own
+ * {@link RpgSystem} and {@link DamageListener} stages, shared by the benchmarks.
+ * <p>
+ * The attacker critically hits, while the defender counters, dodges,
+ * and mitigates damage with armor, toughness, protection, and resistance.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.44
+ * @since 1.27.44
+ */
+public class CombatFixture {
+  /**
+   * Health of the stubbed entities, high enough for them to survive every hit.
+   */
+  public static final double HEALTH = 1.0E12;
+
+  /**
+   * Damage of each hit.
+   */
+  public static final double DAMAGE = 10.0;
+
+  /**
+   * {@link RpgSystem}
+   */
+  private final RpgSystem rpgSystem = new RpgSystem();
+
+  /**
+   * {@link EffectBuffer}
+   */
+  private final EffectBuffer effectBuffer = new EffectBuffer();
+
+  /**
+   * Reused {@link DamageContext} with a seeded random number generator.
+   */
+  private final DamageContext context;
+
+  /**
+   * Attacking entity.
+   */
+  private final StubLivingEntity attacker;
+
+  /**
+   * Defending entity.
+   */
+  private final StubLivingEntity defender;
+
+  /**
+   * Reused entity damage event.
+   */
+  private final StubDamageEvent event;
+
+  /**
+   * Creates an attacking zombie and a defending entity of a type.
+   *
+   * @param defenderType defending entity type, either a zombie or player
+   * @param cause        damage cause of the hits
+   */
+  public CombatFixture(@NotNull EntityType defenderType, @NotNull EntityDamageEvent.DamageCause cause) {
+    Objects.requireNonNull(defenderType, "Null defender type");
+    Objects.requireNonNull(cause, "Null cause");
+    Stubs.installServer();
+    DamageListener.addStages(rpgSystem);
+    this.context = new DamageContext(rpgSystem, effectBuffer, new SplittableRandom(0));
+
+    World world = Stubs.createWorld("world");
+    this.attacker = createEntity(EntityType.ZOMBIE, world);
+    PersistentDataContainer attackerTags = attacker.getPersistentDataContainer();
+    TagSchema.setAttribute(attackerTags, AethelAttribute.CRITICAL_CHANCE, 25);
+    TagSchema.setAttribute(attackerTags, AethelAttribute.CRITICAL_DAMAGE, 50);
+    attacker.setPosition(0.5, 64, 2.5);
+
+    this.defender = createEntity(defenderType, world);
+    PersistentDataContainer defenderTags = defender.getPersistentDataContainer();
+    TagSchema.setAttribute(defenderTags, AethelAttribute.COUNTER_CHANCE, 25);
+    TagSchema.setAttribute(defenderTags, AethelAttribute.DODGE_CHANCE, 10);
+    TagSchema.setAttribute(defenderTags, AethelAttribute.ARMOR, 5);
+    TagSchema.setAttribute(defenderTags, AethelAttribute.ARMOR_TOUGHNESS, 2);
+    TagSchema.setEnchantment(defenderTags, TagSchema.getEnchantmentId(Enchantment.PROTECTION), 8);
+    TagSchema.setEnchantment(defenderTags, TagSchema.getEnchantmentId(Enchantment.BLAST_PROTECTION), 4);
+    defender.addPotionEffect(new PotionEffect(PotionEffectType.RESISTANCE, PotionEffect.INFINITE_DURATION, 0));
+    defender.setPosition(0.5, 64, 0.5);
+
+    this.event = new StubDamageEvent(attacker, defender, cause, DAMAGE);
+  }
+
+  /**
+   * Creates a stubbed entity with enough health to survive every hit.
+   *
+   * @param type  entity type, either a zombie or player
+   * @param world world
+   * @return stubbed entity
+   */
+  private static StubLivingEntity createEntity(EntityType type, World world) {
+    StubLivingEntity entity = type == EntityType.PLAYER ? Stubs.createPlayer(world) : Stubs.createLivingEntity(type, world);
+    entity.setHealth(HEALTH);
+    entity.setAttribute(Attribute.GENERIC_MAX_HEALTH, HEALTH);
+    entity.setAttribute(Attribute.GENERIC_ARMOR, 10);
+    entity.setAttribute(Attribute.GENERIC_ARMOR_TOUGHNESS, 4);
+    entity.setAttribute(Attribute.GENERIC_ATTACK_DAMAGE, 3);
+    entity.setAttribute(Attribute.GENERIC_ATTACK_SPEED, 1);
+    return entity;
+  }
+
+  /**
+   * Gets the {@link RpgSystem}.
+   *
+   * @return {@link RpgSystem}
+   */
+  @NotNull
+  public RpgSystem getRpgSystem() {
+    return this.rpgSystem;
+  }
+
+  /**
+   * Gets the reused {@link DamageContext}.
+   *
+   * @return reused {@link DamageContext}
+   */
+  @NotNull
+  public DamageContext getContext() {
+    return this.context;
+  }
+
+  /**
+   * Gets the attacking entity.
+   *
+   * @return attacking entity
+   */
+  @NotNull
+  public StubLivingEntity getAttacker() {
+    return this.attacker;
+  }
+
+  /**
+   * Gets the defending entity.
+   *
+   * @return defending entity
+   */
+  @NotNull
+  public StubLivingEntity getDefender() {
+    return this.defender;
+  }
+
+  /**
+   * Gets the reused entity damage event.
+   *
+   * @return reused entity damage event
+   */
+  @NotNull
+  public StubDamageEvent getEvent() {
+    return this.event;
+  }
+}
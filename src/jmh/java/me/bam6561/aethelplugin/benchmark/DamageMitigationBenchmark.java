@@ -0,0 +1,82 @@
+package me.bam6561.aethelplugin.benchmark;
+
+import me.bam6561.aethelplugin.rpg.CombatProfile;
+import me.bam6561.aethelplugin.stubs.StubLivingEntity;
+import me.bam6561.aethelplugin.utils.entity.DamageMitigation;
+import org.bukkit.entity.EntityType;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link DamageMitigation} of a defender with armor, protection,
+ * and resistance, read from the defender's {@link CombatProfile}.
+ * <p>
+ * Run with:
+ * <pre>
+ *   mvn -P benchmark test-compile exec:exec -Djmh.includes=DamageMitigationBenchmark
+ * </pre>
+ *
+ * @author Danny Nguyen
+ * @version 1.27.44
+ * @since 1.27.44
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DamageMitigationBenchmark {
+  /**
+   * Reused {@link DamageMitigation}.
+   */
+  private DamageMitigation mitigation;
+
+  /**
+   * Defending entity.
+   */
+  private StubLivingEntity defender;
+
+  /**
+   * Defender's {@link CombatProfile}.
+   */
+  private CombatProfile profile;
+
+  /**
+   * Damage mitigated, kept in a field so it isn't constant folded.
+   */
+  private double damage = CombatFixture.DAMAGE;
+
+  /**
+   * Creates the defender and reads its combat profile.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    CombatFixture fixture = new CombatFixture(EntityType.ZOMBIE, EntityDamageEvent.DamageCause.ENTITY_ATTACK);
+    this.defender = fixture.getDefender();
+    this.profile = fixture.getRpgSystem().getCombatProfile(defender);
+    this.mitigation = new DamageMitigation().reset(defender, profile);
+  }
+
+  /**
+   * Armor, protection, and resistance mitigation of a hit.
+   *
+   * @return mitigated damage
+   */
+  @Benchmark
+  public double mitigateArmorProtectionResistance() {
+    return mitigation.mitigateArmorProtectionResistance(damage);
+  }
+
+  /**
+   * Mitigation reset onto the defender before mitigating a hit, as each hit does.
+   *
+   * @return mitigated damage
+   */
+  @Benchmark
+  public double resetAndMitigateArmorProtectionResistance() {
+    return mitigation.reset(defender, profile).mitigateArmorProtectionResistance(damage);
+  }
+}
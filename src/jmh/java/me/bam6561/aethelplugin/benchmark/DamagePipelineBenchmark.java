@@ -0,0 +1,80 @@
+package me.bam6561.aethelplugin.benchmark;
+
+import me.bam6561.aethelplugin.rpg.DamageContext;
+import me.bam6561.aethelplugin.rpg.DamagePipeline;
+import me.bam6561.aethelplugin.stubs.StubDamageEvent;
+import org.bukkit.entity.EntityType;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks hits run through every stage of the entity {@link DamagePipeline}.
+ * <p>
+ * Run with:
+ * <pre>
+ *   mvn -P benchmark test-compile exec:exec -Djmh.includes=DamagePipelineBenchmark
+ * </pre>
+ *
+ * @author Danny Nguyen
+ * @version 1.27.44
+ * @since 1.27.44
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DamagePipelineBenchmark {
+  /**
+   * Damage cause of the hits.
+   */
+  @Param({"ENTITY_ATTACK", "ENTITY_EXPLOSION"})
+  private EntityDamageEvent.DamageCause cause;
+
+  /**
+   * Entity damage {@link DamagePipeline}.
+   */
+  private DamagePipeline pipeline;
+
+  /**
+   * Reused {@link DamageContext}.
+   */
+  private DamageContext context;
+
+  /**
+   * Reused entity damage event.
+   */
+  private StubDamageEvent event;
+
+  /**
+   * Creates the fighting entities.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    CombatFixture fixture = new CombatFixture(EntityType.ZOMBIE, cause);
+    this.pipeline = fixture.getRpgSystem().getEntityDamagePipeline();
+    this.context = fixture.getContext();
+    this.event = fixture.getEvent();
+  }
+
+  /**
+   * A hit loaded into the reused context and run through the pipeline, as the damage listener does.
+   *
+   * @return damage dealt
+   */
+  @Benchmark
+  public double hit() {
+    event.setDamage(CombatFixture.DAMAGE);
+    context.load(event);
+    try {
+      pipeline.run(context);
+      context.applyDamage();
+    } finally {
+      context.clear();
+    }
+    return event.getDamage();
+  }
+}
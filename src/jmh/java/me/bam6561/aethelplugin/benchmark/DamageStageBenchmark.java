@@ -0,0 +1,93 @@
+package me.bam6561.aethelplugin.benchmark;
+
+import me.bam6561.aethelplugin.interfaces.DamageStage;
+import me.bam6561.aethelplugin.rpg.DamageContext;
+import me.bam6561.aethelplugin.rpg.DamagePipeline;
+import me.bam6561.aethelplugin.stubs.StubDamageEvent;
+import org.bukkit.entity.EntityType;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks each {@link DamageStage} of the entity {@link DamagePipeline} on its own,
+ * without the pipeline's metrics, over a hit loaded once per iteration.
+ * <p>
+ * Run with:
+ * <pre>
+ *   mvn -P benchmark test-compile exec:exec -Djmh.includes=DamageStageBenchmark
+ * </pre>
+ *
+ * @author Danny Nguyen
+ * @version 1.27.44
+ * @since 1.27.44
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DamageStageBenchmark {
+  /**
+   * Name of the stage.
+   */
+  @Param({"critical-hit", "vulnerable", "specific-cause", "block", "counter", "dodge", "toughness", "armor-protection-resistance", "damage-taken-passives", "health", "damage-dealt-passives"})
+  private String stageName;
+
+  /**
+   * {@link DamageStage}
+   */
+  private DamageStage damageStage;
+
+  /**
+   * Reused {@link DamageContext}.
+   */
+  private DamageContext context;
+
+  /**
+   * Reused entity damage event.
+   */
+  private StubDamageEvent event;
+
+  /**
+   * Creates the fighting entities.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    CombatFixture fixture = new CombatFixture(EntityType.ZOMBIE, EntityDamageEvent.DamageCause.ENTITY_ATTACK);
+    this.damageStage = fixture.getRpgSystem().getEntityDamagePipeline().getStage(stageName).getDamageStage();
+    this.context = fixture.getContext();
+    this.event = fixture.getEvent();
+  }
+
+  /**
+   * Loads the hit into the reused context.
+   */
+  @Setup(Level.Iteration)
+  public void loadContext() {
+    event.setDamage(CombatFixture.DAMAGE);
+    context.load(event);
+  }
+
+  /**
+   * Releases the hit from the reused context.
+   */
+  @TearDown(Level.Iteration)
+  public void clearContext() {
+    context.clear();
+  }
+
+  /**
+   * The stage applied to the loaded hit.
+   *
+   * @return damage after the stage
+   */
+  @Benchmark
+  public double apply() {
+    context.setDamage(CombatFixture.DAMAGE);
+    damageStage.apply(context);
+    return context.getDamage();
+  }
+}
@@ -0,0 +1,133 @@
+package me.bam6561.aethelplugin.benchmark;
+
+import me.bam6561.aethelplugin.rpg.HealthTable;
+import me.bam6561.aethelplugin.stubs.StubDamageEvent;
+import me.bam6561.aethelplugin.stubs.StubLivingEntity;
+import me.bam6561.aethelplugin.utils.entity.HealthChange;
+import org.bukkit.entity.EntityType;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link HealthChange health changes} of a zombie and
+ * a player, each reset onto its entity as the damage stages do.
+ * <p>
+ * Run with:
+ * <pre>
+ *   mvn -P benchmark test-compile exec:exec -Djmh.includes=HealthChangeBenchmark
+ * </pre>
+ *
+ * @author Danny Nguyen
+ * @version 1.27.44
+ * @since 1.27.44
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HealthChangeBenchmark {
+  /**
+   * Type of entity whose health is changed.
+   */
+  @Param({"ZOMBIE", "PLAYER"})
+  private EntityType entityType;
+
+  /**
+   * Reused {@link HealthChange}.
+   */
+  private HealthChange healthChange;
+
+  /**
+   * {@link HealthTable}
+   */
+  private HealthTable healthTable;
+
+  /**
+   * Entity whose health is changed.
+   */
+  private StubLivingEntity entity;
+
+  /**
+   * Reused entity damage event.
+   */
+  private StubDamageEvent event;
+
+  /**
+   * Creates the entity.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    CombatFixture fixture = new CombatFixture(entityType, EntityDamageEvent.DamageCause.ENTITY_ATTACK);
+    this.healthChange = new HealthChange(fixture.getRpgSystem());
+    this.healthTable = fixture.getRpgSystem().getHealthTable();
+    this.entity = fixture.getDefender();
+    this.event = fixture.getEvent();
+  }
+
+  /**
+   * Wounds the entity to half health before each iteration, so it
+   * neither dies from damage nor stops being healed during it.
+   */
+  @Setup(Level.Iteration)
+  public void wound() {
+    healthTable.setHealth(entity, CombatFixture.HEALTH / 2);
+  }
+
+  /**
+   * Health change reset onto the entity, which reads its health and combat profile.
+   *
+   * @return {@link HealthChange}
+   */
+  @Benchmark
+  public HealthChange reset() {
+    return healthChange.reset(entity);
+  }
+
+  /**
+   * Damage outside an event, which also hurts the entity and updates its health displays.
+   *
+   * @return entity's health
+   */
+  @Benchmark
+  public double damage() {
+    healthChange.reset(entity).damage(1);
+    return healthTable.getHealth(entity);
+  }
+
+  /**
+   * Damage from an entity damage by entity event, whose health displays are deferred.
+   *
+   * @return entity's health
+   */
+  @Benchmark
+  public double damageEvent() {
+    healthChange.reset(entity).damage(event, 1);
+    return healthTable.getHealth(entity);
+  }
+
+  /**
+   * Healing, which also updates the entity's health displays.
+   *
+   * @return entity's health
+   */
+  @Benchmark
+  public double heal() {
+    healthChange.reset(entity).heal(1);
+    return healthTable.getHealth(entity);
+  }
+
+  /**
+   * Health displays updated from the entity's current health.
+   *
+   * @return entity's health
+   */
+  @Benchmark
+  public double updateDisplays() {
+    healthChange.reset(entity).updateDisplays();
+    return entity.getHealth();
+  }
+}
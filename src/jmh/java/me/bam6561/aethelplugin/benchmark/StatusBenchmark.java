@@ -0,0 +1,114 @@
+package me.bam6561.aethelplugin.benchmark;
+
+import me.bam6561.aethelplugin.enums.rpg.RpgEquipmentSlot;
+import me.bam6561.aethelplugin.enums.rpg.StatusType;
+import me.bam6561.aethelplugin.enums.rpg.abilities.PassiveAbilityType;
+import me.bam6561.aethelplugin.enums.rpg.abilities.PassiveTriggerType;
+import me.bam6561.aethelplugin.rpg.CooldownLedger;
+import me.bam6561.aethelplugin.rpg.RpgSystem;
+import me.bam6561.aethelplugin.rpg.abilities.PassiveAbility;
+import org.bukkit.entity.EntityType;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link StatusType status} stacking through the {@link RpgSystem}
+ * and the trigger checks of {@link PassiveAbility passive abilities}.
+ * <p>
+ * Run with:
+ * <pre>
+ *   mvn -P benchmark test-compile exec:exec -Djmh.includes=StatusBenchmark
+ * </pre>
+ *
+ * @author Danny Nguyen
+ * @version 1.27.44
+ * @since 1.27.44
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StatusBenchmark {
+  /**
+   * {@link StatusType Status types} added in turn.
+   */
+  private static final StatusType[] statusTypes = StatusType.values();
+
+  /**
+   * {@link RpgSystem}
+   */
+  private RpgSystem rpgSystem;
+
+  /**
+   * Defender's UUID.
+   */
+  private UUID defenderUUID;
+
+  /**
+   * Passive abilities checked in turn.
+   */
+  private PassiveAbility[] abilities;
+
+  /**
+   * Seeded random number generator.
+   */
+  private SplittableRandom random;
+
+  /**
+   * Number of operations run.
+   */
+  private long operations;
+
+  /**
+   * Creates the defender and passive abilities.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    CombatFixture fixture = new CombatFixture(EntityType.ZOMBIE, EntityDamageEvent.DamageCause.ENTITY_ATTACK);
+    this.rpgSystem = fixture.getRpgSystem();
+    this.defenderUUID = fixture.getDefender().getUniqueId();
+    CooldownLedger cooldowns = new CooldownLedger();
+    this.abilities = new PassiveAbility[]{
+        new PassiveAbility(cooldowns, RpgEquipmentSlot.HAND, PassiveTriggerType.DAMAGE_DEALT, PassiveAbilityType.BLEED, new String[]{"25.5", "10", "false", "2", "100"}),
+        new PassiveAbility(cooldowns, RpgEquipmentSlot.OFF_HAND, PassiveTriggerType.DAMAGE_DEALT, PassiveAbilityType.BRITTLE, new String[]{"20", "0", "false", "5", "100"}),
+        new PassiveAbility(cooldowns, RpgEquipmentSlot.CHEST, PassiveTriggerType.DAMAGE_TAKEN, PassiveAbilityType.VULNERABLE, new String[]{"15", "60", "false", "4", "60"})};
+    this.random = new SplittableRandom(0);
+  }
+
+  /**
+   * A tick of the RPG system followed by stacks of a status added to the defender,
+   * which expire after 100 ticks so the number of live stacks stays bounded.
+   *
+   * @return current tick
+   */
+  @Benchmark
+  public long addStatus() {
+    long i = operations++;
+    rpgSystem.tick();
+    rpgSystem.addStatus(defenderUUID, statusTypes[(int) (i % statusTypes.length)], 1 + (int) (i & 3), 100);
+    return rpgSystem.getCurrentTick();
+  }
+
+  /**
+   * Chance and cooldown check of a passive ability, whose
+   * condition data is pre-parsed when it is loaded.
+   *
+   * @return if the passive ability triggered
+   */
+  @Benchmark
+  public boolean passiveTriggerCheck() {
+    long tick = ++operations;
+    PassiveAbility ability = abilities[(int) (tick % abilities.length)];
+    if (ability.isTriggered(tick, random)) {
+      ability.startCooldown(tick, 0.0);
+      return true;
+    }
+    return false;
+  }
+}
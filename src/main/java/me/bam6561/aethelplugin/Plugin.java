@@ -9,12 +9,24 @@ import me.bam6561.aethelplugin.commands.location.LocationCommand;
 import me.bam6561.aethelplugin.commands.playerstat.StatCommand;
 import me.bam6561.aethelplugin.commands.showitem.ShowItemCommand;
 import me.bam6561.aethelplugin.listeners.*;
+import me.bam6561.aethelplugin.plugin.EffectBuffer;
+import me.bam6561.aethelplugin.plugin.TickBuckets;
+import me.bam6561.aethelplugin.plugin.TickScheduler;
+import me.bam6561.aethelplugin.rpg.DisplayManager;
+import me.bam6561.aethelplugin.rpg.EquipmentReconciler;
+import me.bam6561.aethelplugin.rpg.HealthTable;
+import me.bam6561.aethelplugin.rpg.RpgSystem;
 import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
 import org.bukkit.plugin.PluginManager;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitScheduler;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.UUID;
+
 /**
  * Represents the plugin as an object.
  * <p>
@@ -22,7 +34,7 @@ import org.jetbrains.annotations.NotNull;
  * handle various requests given to it by its users and the server.
  *
  * @author Danny Nguyen
- * @version 1.24.9
+ * @version 1.27.45
  * @since 1.0.0
  */
 public class Plugin extends JavaPlugin {
@@ -31,6 +43,11 @@ public class Plugin extends JavaPlugin {
    */
   private static final PluginData data = new PluginData();
 
+  /**
+   * Paper's tick end event, fired after every tick's work is done.
+   */
+  private static final String TICK_END_EVENT = "com.destroystokyo.paper.event.server.ServerTickEndEvent";
+
   /**
    * No parameter constructor.
    */
@@ -43,6 +60,7 @@ public class Plugin extends JavaPlugin {
    *  <li>{@link PluginData#loadResources() Loads} existing plugin data.
    *  <li>{@link #registerCommands() Registers} commands.
    *  <li>{@link #registerEventListeners() Registers} event listeners.
+   *  <li>{@link PluginData#loadDisabledDamageStages() Loads} disabled damage stages.
    *  <li>{@link #scheduleRepeatingTasks() Schedules} repeating tasks.
    * </ul>
    */
@@ -51,6 +69,7 @@ public class Plugin extends JavaPlugin {
     data.loadResources();
     registerCommands();
     registerEventListeners();
+    data.loadDisabledDamageStages();
     scheduleRepeatingTasks();
   }
 
@@ -58,12 +77,15 @@ public class Plugin extends JavaPlugin {
    * On disable:
    * <ul>
    *   <li>Cancels repeating tasks.
+   *   <li>{@link HealthTable#saveAll() Writes} entities' health back to their tags.
    *   <li>{@link PluginData#saveResources() Saves} persistent plugin data.
    * </ul>
    */
   @Override
   public void onDisable() {
     Bukkit.getScheduler().cancelTasks(this);
+    data.getRpgSystem().getHealthTable().saveAll();
+    data.getRpgSystem().exportAttributes();
     data.saveResources();
   }
 
@@ -127,27 +149,75 @@ public class Plugin extends JavaPlugin {
   }
 
   /**
-   * Schedules the plugin's repeating tasks.
+   * Schedules the plugin's repeating tasks as {@link TickScheduler} phases.
    * <ul>
-   *  <li>{@link PluginTask#triggerStatuses()}
-   *  <li>{@link PluginTask#triggerBelowHealthPassives()}
-   *  <li>{@link PluginTask#decayOvershields()}
-   *  <li>{@link PluginTask#updateActionDisplay()}
-   *  <li>{@link PluginTask#refreshEnchantmentEffects()}
+   *  <li>{@link PluginTask#advanceRpgTick()}
+   *  <li>{@link PluginTask#triggerStatuses(UUID)}
+   *  <li>{@link PluginTask#triggerIntervalPassives(UUID)}
+   *  <li>{@link PluginTask#triggerBelowHealthPassives(UUID)}
+   *  <li>{@link PluginTask#decayOvershield(UUID)}
+   *  <li>{@link PluginTask#updateActionDisplay(UUID)}
+   *  <li>{@link PluginTask#trackLocation(UUID)}
+   *  <li>{@link PluginTask#refreshEnchantmentEffects(UUID)}
+   *  <li>{@link PluginTask#evictSuspendedEntities()}
+   *  <li>{@link HealthTable#saveAll()}
+   *  <li>{@link RpgSystem#exportAttributes()}
+   *  <li>{@link EquipmentReconciler#reconcile()}
+   *  <li>{@link DisplayManager#render()}
    * </ul>
    * <p>
-   * Same interval tasks are staggered by 5 ticks to distribute the workload.
+   * Per-second entity loops visit one of {@link RpgSystem#TICK_BUCKETS} {@link TickBuckets}
+   * every tick, so each tick handles a fraction of the population while each entity keeps
+   * its 1-second cadence. Remaining same interval phases are staggered to distribute the workload.
+   * <p>
+   * The {@link EffectBuffer} is {@link #scheduleEffectFlush(TickScheduler) flushed} separately.
    */
   private void scheduleRepeatingTasks() {
-    BukkitScheduler scheduler = Bukkit.getScheduler();
+    TickScheduler tickScheduler = data.getTickScheduler();
+    RpgSystem rpgSystem = data.getRpgSystem();
     PluginTask pluginTask = new PluginTask();
-    scheduler.scheduleSyncRepeatingTask(this, pluginTask::triggerStatuses, 0, 20);
-    scheduler.scheduleSyncRepeatingTask(this, pluginTask::triggerIntervalPassives, 5, 20);
-    scheduler.scheduleSyncRepeatingTask(this, pluginTask::triggerBelowHealthPassives, 10, 20);
-    scheduler.scheduleSyncRepeatingTask(this, pluginTask::decayOvershields, 10, 20);
-    scheduler.scheduleSyncRepeatingTask(this, pluginTask::updateActionDisplay, 0, 40);
-    scheduler.scheduleSyncRepeatingTask(this, pluginTask::trackLocations, 0, 50);
-    scheduler.scheduleSyncRepeatingTask(this, pluginTask::refreshEnchantmentEffects, 0, 100);
+    tickScheduler.addPhase("rpg-tick", 1, 0, pluginTask::advanceRpgTick);
+    tickScheduler.addPhase("statuses", 1, 0, 500, rpgSystem.getDamageOverTimeEntities()::pollBucket, pluginTask::triggerStatuses);
+    tickScheduler.addPhase("interval-passives", 1, 0, 500, rpgSystem.getOnlinePlayers()::pollBucket, pluginTask::triggerIntervalPassives);
+    tickScheduler.addPhase("below-health-passives", 1, 0, 250, rpgSystem.getWounded()::pollBucket, pluginTask::triggerBelowHealthPassives);
+    tickScheduler.addPhase("overshield-decay", 1, 0, 250, rpgSystem.getOvershields()::pollBucket, pluginTask::decayOvershield);
+    tickScheduler.addPhase("action-display", 40, 0, 1000, () -> new ArrayList<>(rpgSystem.getOnlinePlayers()), pluginTask::updateActionDisplay);
+    tickScheduler.addPhase("track-locations", 50, 0, 500, () -> new ArrayList<>(data.getPluginSystem().getTrackedLocations().keySet()), pluginTask::trackLocation);
+    tickScheduler.addPhase("enchantment-effects", 100, 0, 500, pluginTask::getSufficientEnchantmentPlayers, pluginTask::refreshEnchantmentEffects);
+    tickScheduler.addPhase("suspension-eviction", 1200, 600, pluginTask::evictSuspendedEntities);
+    tickScheduler.addPhase("health-checkpoint", 600, 300, rpgSystem.getHealthTable()::saveAll);
+    tickScheduler.addPhase("attribute-export", 600, 450, rpgSystem::exportAttributes);
+    tickScheduler.addPhase("equipment-reconcile", 1, 0, rpgSystem.getEquipmentReconciler()::reconcile);
+    tickScheduler.addPhase("displays", 1, 0, rpgSystem.getDisplayManager()::render);
+    scheduleEffectFlush(tickScheduler);
+    Bukkit.getScheduler().scheduleSyncRepeatingTask(this, tickScheduler, 0, 1);
+  }
+
+  /**
+   * Flushes the {@link EffectBuffer} at the end of every tick, so effects
+   * queued by events during a tick are sent in the same tick.
+   * <p>
+   * Repeating tasks run at the start of a tick, before entities and players are ticked,
+   * so the end of the tick is only observable through Paper's tick end event. Servers
+   * without it fall back to flushing as the last {@link TickScheduler} phase instead.
+   *
+   * @param tickScheduler {@link TickScheduler}
+   */
+  private void scheduleEffectFlush(TickScheduler tickScheduler) {
+    EffectBuffer effectBuffer = data.getEffectBuffer();
+    Class<? extends Event> tickEndEvent;
+    try {
+      tickEndEvent = Class.forName(TICK_END_EVENT).asSubclass(Event.class);
+    } catch (ClassNotFoundException | ClassCastException ex) {
+      tickScheduler.addPhase("effect-flush", 1, 0, effectBuffer::flush);
+      return;
+    }
+    Bukkit.getPluginManager().registerEvent(tickEndEvent, new Listener() {
+    }, EventPriority.MONITOR, (listener, e) -> {
+      if (tickEndEvent.isInstance(e)) {
+        effectBuffer.flush();
+      }
+    }, this);
   }
 
   /**
@@ -6,28 +6,41 @@ import me.bam6561.aethelplugin.commands.itemeditor.EditedItemCache;
 import me.bam6561.aethelplugin.commands.playerstat.PastStatHistory;
 import me.bam6561.aethelplugin.commands.showitem.PastItemHistory;
 import me.bam6561.aethelplugin.enums.plugin.Directory;
+import me.bam6561.aethelplugin.enums.rpg.SuspensionPolicy;
+import me.bam6561.aethelplugin.plugin.EffectBuffer;
 import me.bam6561.aethelplugin.plugin.PluginLogger;
 import me.bam6561.aethelplugin.plugin.PluginSystem;
+import me.bam6561.aethelplugin.plugin.TickScheduler;
+import me.bam6561.aethelplugin.rpg.DamagePipeline;
+import me.bam6561.aethelplugin.rpg.EntitySuspensions;
 import me.bam6561.aethelplugin.rpg.Equipment;
 import me.bam6561.aethelplugin.rpg.RpgPlayer;
 import me.bam6561.aethelplugin.rpg.RpgSystem;
 import me.bam6561.aethelplugin.rpg.Settings;
 import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
 import java.text.DecimalFormat;
 import java.util.Collection;
+import java.util.List;
 import java.util.logging.Logger;
 
 /**
  * Represents plugin's resources in memory.
  *
  * @author Danny Nguyen
- * @version 1.25.9
+ * @version 1.27.42
  * @since 1.1.7
  */
 public class PluginData {
+  /**
+   * Config path of each world's disabled {@link DamagePipeline} stages.
+   */
+  private static final String DISABLED_DAMAGE_STAGES = "damage-pipeline.disabled-stages";
+
   /**
    * {@link PluginLogger};
    */
@@ -68,6 +81,16 @@ public class PluginData {
    */
   private final RpgSystem rpgSystem = new RpgSystem();
 
+  /**
+   * {@link TickScheduler Tick scheduler} phases.
+   */
+  private final TickScheduler tickScheduler = new TickScheduler();
+
+  /**
+   * Particles and sounds queued during the tick.
+   */
+  private final EffectBuffer effectBuffer = new EffectBuffer();
+
   /**
    * No parameter constructor.
    */
@@ -77,6 +100,7 @@ public class PluginData {
   /**
    * Loads persistent plugin data. Creates data directories if they do not already exist.
    * <ul>
+   *  <li>{@link #loadConfig() Config}
    *  <li>{@link ItemRegistry}
    *  <li>{@link RecipeRegistry}
    *  <li>{@link Equipment Jewelry}
@@ -93,6 +117,8 @@ public class PluginData {
 
     log.info("[Aethel] Loading Resources");
 
+    loadConfig();
+
     start = System.nanoTime();
     Plugin.getData().getItemRegistry().loadData();
     finish = System.nanoTime();
@@ -125,6 +151,67 @@ public class PluginData {
     pluginLogger = new PluginLogger();
   }
 
+  /**
+   * Loads the plugin's config, writing the default config if it does not already exist.
+   * <ul>
+   *  <li>{@link EntitySuspensions} {@link SuspensionPolicy} and maximum parked age
+   * </ul>
+   */
+  private void loadConfig() {
+    Plugin plugin = Plugin.getInstance();
+    plugin.saveDefaultConfig();
+    FileConfiguration config = plugin.getConfig();
+
+    EntitySuspensions suspensions = rpgSystem.getSuspensions();
+    String policy = config.getString("suspension.policy", SuspensionPolicy.FREEZE.name());
+    try {
+      suspensions.setPolicy(SuspensionPolicy.valueOf(policy.toUpperCase()));
+    } catch (IllegalArgumentException ex) {
+      Bukkit.getLogger().warning("[Aethel] Invalid suspension policy: " + policy);
+    }
+    long maxParkedTicks = config.getLong("suspension.max-parked-ticks", EntitySuspensions.DEFAULT_MAX_PARKED_TICKS);
+    if (maxParkedTicks > 0) {
+      suspensions.setMaxParkedTicks(maxParkedTicks);
+    } else {
+      Bukkit.getLogger().warning("[Aethel] Invalid suspension max parked ticks: " + maxParkedTicks);
+    }
+  }
+
+  /**
+   * Loads each world's disabled {@link DamagePipeline} stages from the config.
+   * <p>
+   * Must be called after the stages are registered. Unrecognized and core stages are ignored.
+   */
+  public void loadDisabledDamageStages() {
+    ConfigurationSection section = Plugin.getInstance().getConfig().getConfigurationSection(DISABLED_DAMAGE_STAGES);
+    if (section == null) {
+      return;
+    }
+    for (String worldName : section.getKeys(false)) {
+      for (String stageName : section.getStringList(worldName)) {
+        try {
+          if (!rpgSystem.setDamageStageEnabled(stageName, worldName, false)) {
+            Bukkit.getLogger().warning("[Aethel] Invalid disabled damage stage: " + stageName);
+          }
+        } catch (IllegalArgumentException ex) {
+          Bukkit.getLogger().warning("[Aethel] Invalid disabled damage stage: " + stageName);
+        }
+      }
+    }
+  }
+
+  /**
+   * Saves a world's disabled {@link DamagePipeline} stages to the config.
+   *
+   * @param worldName world name
+   */
+  public void saveDisabledDamageStages(@NotNull String worldName) {
+    List<String> stageNames = rpgSystem.getDisabledDamageStages(worldName);
+    Plugin plugin = Plugin.getInstance();
+    plugin.getConfig().set(DISABLED_DAMAGE_STAGES + "." + worldName, stageNames.isEmpty() ? null : stageNames);
+    plugin.saveConfig();
+  }
+
   /**
    * Saves persistent plugin data.
    * <ul>
@@ -242,6 +329,26 @@ public class PluginData {
     return this.rpgSystem;
   }
 
+  /**
+   * Gets the plugin's {@link TickScheduler}.
+   *
+   * @return plugin's {@link TickScheduler}
+   */
+  @NotNull
+  public TickScheduler getTickScheduler() {
+    return this.tickScheduler;
+  }
+
+  /**
+   * Gets the plugin's {@link EffectBuffer}.
+   *
+   * @return plugin's {@link EffectBuffer}
+   */
+  @NotNull
+  public EffectBuffer getEffectBuffer() {
+    return this.effectBuffer;
+  }
+
   /**
    * Gets the plugin's {@link PluginLogger}.
    *
@@ -1,22 +1,42 @@
 package me.bam6561.aethelplugin.commands;
 
 import me.bam6561.aethelplugin.Plugin;
+import me.bam6561.aethelplugin.PluginData;
 import me.bam6561.aethelplugin.enums.plugin.Message;
 import me.bam6561.aethelplugin.plugin.MenuInput;
+import me.bam6561.aethelplugin.plugin.TickScheduler;
+import me.bam6561.aethelplugin.rpg.DamagePipeline;
+import me.bam6561.aethelplugin.rpg.RpgSystem;
+import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
+import org.bukkit.World;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
+import java.text.DecimalFormat;
+import java.util.List;
+
 /**
  * Command invocation that allows the user to bypass conditions for various interactions.
  * <p>
+ * Additional parameters:
+ * <ul>
+ *   <li>"timings": shows {@link TickScheduler} phase timings
+ *   <li>"timings reset": resets {@link TickScheduler} phase timings
+ *   <li>"stages": shows {@link DamagePipeline} stage metrics
+ *   <li>"stages reset": resets {@link DamagePipeline} stage metrics
+ *   <li>"stages enable/disable [stage] [world]": toggles a {@link DamagePipeline} stage in a world
+ * </ul>
+ * <p>
+ * Core stages can't be disabled, and toggled stages are saved to the config.
+ * <p>
  * Registered through {@link Plugin}.
  *
  * @author Danny Nguyen
- * @version 1.23.12
+ * @version 1.27.42
  * @since 1.4.6
  */
 public class DeveloperCommand implements CommandExecutor {
@@ -55,18 +75,43 @@ public class DeveloperCommand implements CommandExecutor {
    * @param user command user
    * @param args user provided parameters
    * @author Danny Nguyen
-   * @version 1.23.12
+   * @version 1.27.42
    * @since 1.23.12
    */
   private record Request(Player user, String[] args) {
     /**
      * Checks if the command request was formatted correctly before
-     * {@link MenuInput#setIsDeveloper toggling} developer mode.
+     * {@link MenuInput#setIsDeveloper toggling} developer mode, interacting with
+     * {@link TickScheduler} phase timings, or {@link DamagePipeline} stage metrics.
      */
     private void readRequest() {
       int numberOfParameters = args.length;
       if (numberOfParameters == 0) {
         toggleDeveloperMode();
+      } else if (args[0].equalsIgnoreCase("timings")) {
+        if (numberOfParameters == 1) {
+          getTimings();
+        } else if (numberOfParameters == 2 && args[1].equalsIgnoreCase("reset")) {
+          Plugin.getData().getTickScheduler().resetTimings();
+          user.sendMessage(ChatColor.RED + "[Timings Reset]");
+        } else {
+          user.sendMessage(Message.UNRECOGNIZED_PARAMETERS.getMessage());
+        }
+      } else if (args[0].equalsIgnoreCase("stages")) {
+        RpgSystem rpgSystem = Plugin.getData().getRpgSystem();
+        List<DamagePipeline> pipelines = rpgSystem.getDamagePipelines();
+        if (numberOfParameters == 1) {
+          getStageMetrics(pipelines);
+        } else if (numberOfParameters == 2 && args[1].equalsIgnoreCase("reset")) {
+          for (DamagePipeline pipeline : pipelines) {
+            pipeline.resetMetrics();
+          }
+          user.sendMessage(ChatColor.RED + "[Stage Metrics Reset]");
+        } else if (numberOfParameters == 4 && (args[1].equalsIgnoreCase("enable") || args[1].equalsIgnoreCase("disable"))) {
+          setStageEnabled(rpgSystem, args[2], args[3], args[1].equalsIgnoreCase("enable"));
+        } else {
+          user.sendMessage(Message.UNRECOGNIZED_PARAMETERS.getMessage());
+        }
       } else {
         user.sendMessage(Message.UNRECOGNIZED_PARAMETERS.getMessage());
       }
@@ -85,5 +130,84 @@ public class DeveloperCommand implements CommandExecutor {
         user.sendMessage(ChatColor.RED + "[Developer Mode Off]");
       }
     }
+
+    /**
+     * Responds with each {@link TickScheduler} phase's timings in milliseconds.
+     */
+    private void getTimings() {
+      DecimalFormat df3 = new DecimalFormat();
+      df3.setMaximumFractionDigits(3);
+      user.sendMessage(ChatColor.GREEN + "[Timings]");
+      for (TickScheduler.Phase<?> phase : Plugin.getData().getTickScheduler().getPhases()) {
+        user.sendMessage(ChatColor.AQUA + phase.getName() + " " + ChatColor.GRAY + phase.getPeriod() + "t " +
+            ChatColor.WHITE + "Avg: " + df3.format(phase.getAverageNanos() / 1000000.0) + " ms " +
+            "Last: " + df3.format(phase.getLastNanos() / 1000000.0) + " ms " +
+            "Max: " + df3.format(phase.getMaxNanos() / 1000000.0) + " ms " +
+            "Items: " + phase.getLastItems() + " " +
+            "Carried: " + phase.getCarriedTicks() + " " +
+            "Skipped: " + phase.getSkippedCycles());
+      }
+    }
+
+    /**
+     * Responds with each {@link DamagePipeline} stage's metrics.
+     *
+     * @param pipelines {@link DamagePipeline damage pipelines}
+     */
+    private void getStageMetrics(List<DamagePipeline> pipelines) {
+      DecimalFormat df3 = new DecimalFormat();
+      df3.setMaximumFractionDigits(3);
+      user.sendMessage(ChatColor.GREEN + "[Stage Metrics]");
+      for (DamagePipeline pipeline : pipelines) {
+        user.sendMessage(ChatColor.GOLD + pipeline.getName());
+        for (DamagePipeline.Stage stage : pipeline.getStages()) {
+          user.sendMessage(ChatColor.AQUA + stage.getName() + " " +
+              ChatColor.WHITE + "Calls: " + stage.getInvocations() + " " +
+              "Stops: " + stage.getStops() + " " +
+              "Avg: " + df3.format(stage.getAverageNanos() / 1000.0) + " us " +
+              "Max: " + df3.format(stage.getMaxNanos() / 1000.0) + " us " +
+              "Total: " + df3.format(stage.getTotalNanos() / 1000000.0) + " ms " +
+              "Avg Damage: " + df3.format(stage.getAverageDamageDelta()) +
+              (stage.getDisabledWorlds().isEmpty() ? "" : ChatColor.GRAY + " Disabled: " + String.join(", ", stage.getDisabledWorlds())));
+        }
+      }
+    }
+
+    /**
+     * Enables or disables a {@link DamagePipeline} stage in a world
+     * for every pipeline that contains a stage by that name, then
+     * {@link PluginData#saveDisabledDamageStages saves} the world's disabled stages.
+     * <p>
+     * Stages can still be enabled in unloaded worlds they were disabled in.
+     *
+     * @param rpgSystem {@link RpgSystem}
+     * @param stageName stage name
+     * @param worldName world name
+     * @param isEnabled if the stage is enabled
+     */
+    private void setStageEnabled(RpgSystem rpgSystem, String stageName, String worldName, boolean isEnabled) {
+      World world = Bukkit.getWorld(worldName);
+      if (world != null) {
+        worldName = world.getName();
+      } else if (!isEnabled || !rpgSystem.getDisabledDamageStages(worldName).contains(stageName)) {
+        user.sendMessage(Message.ERROR.getMessage() + "Unrecognized world.");
+        return;
+      }
+      try {
+        if (!rpgSystem.setDamageStageEnabled(stageName, worldName, isEnabled)) {
+          user.sendMessage(Message.ERROR.getMessage() + "Unrecognized stage.");
+          return;
+        }
+      } catch (IllegalArgumentException ex) {
+        user.sendMessage(Message.ERROR.getMessage() + "Core stages can't be disabled.");
+        return;
+      }
+      Plugin.getData().saveDisabledDamageStages(worldName);
+      if (isEnabled) {
+        user.sendMessage(ChatColor.GREEN + "[Enabled Stage] " + ChatColor.AQUA + stageName + ChatColor.WHITE + " in " + worldName);
+      } else {
+        user.sendMessage(ChatColor.RED + "[Disabled Stage] " + ChatColor.AQUA + stageName + ChatColor.WHITE + " in " + worldName);
+      }
+    }
   }
-}
\ No newline at end of file
+}
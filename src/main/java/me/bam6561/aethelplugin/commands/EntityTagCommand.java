@@ -5,7 +5,9 @@ import me.bam6561.aethelplugin.enums.plugin.Key;
 import me.bam6561.aethelplugin.enums.plugin.KeyHeader;
 import me.bam6561.aethelplugin.enums.plugin.Message;
 import me.bam6561.aethelplugin.enums.rpg.AethelAttribute;
-import me.bam6561.aethelplugin.utils.TextFormatter;
+import me.bam6561.aethelplugin.rpg.Equipment;
+import me.bam6561.aethelplugin.rpg.RpgPlayer;
+import me.bam6561.aethelplugin.utils.TagSchema;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.NamespacedKey;
@@ -36,7 +38,7 @@ import java.util.UUID;
  * </ul>
  *
  * @author Danny Nguyen
- * @version 1.23.12
+ * @version 1.27.27
  * @since 1.22.15
  */
 public class EntityTagCommand implements CommandExecutor {
@@ -75,7 +77,7 @@ public class EntityTagCommand implements CommandExecutor {
    * @param user command user
    * @param args user provided parameters
    * @author Danny Nguyen
-   * @version 1.23.12
+   * @version 1.27.27
    * @since 1.23.12
    */
   private record Request(Player user, String[] args) {
@@ -109,6 +111,13 @@ public class EntityTagCommand implements CommandExecutor {
         }
       }
 
+      // Tags are read and modified directly, so in-memory health and attribute totals are written back first
+      Plugin.getData().getRpgSystem().getHealthTable().unload(entity.getUniqueId());
+      Equipment.AethelAttributes attributes = getAttributes(entity);
+      if (attributes != null) {
+        attributes.exportTotals();
+      }
+
       String action = args[0].toLowerCase();
       switch (numberOfParameters) {
         case 2 -> {
@@ -169,6 +178,8 @@ public class EntityTagCommand implements CommandExecutor {
     private void removeTag(Entity entity) {
       String tag = args[2];
       if (new TagModifier(entity, tag).removeTag()) {
+        Plugin.getData().getRpgSystem().invalidateCombatProfile(entity.getUniqueId());
+        importAttributes(entity);
         user.sendMessage(ChatColor.RED + "[Removed Tag] " + ChatColor.AQUA + tag);
       } else {
         user.sendMessage(ChatColor.RED + "Tag does not exist.");
@@ -191,13 +202,43 @@ public class EntityTagCommand implements CommandExecutor {
         }
       }
       new TagModifier(entity, tag).setTag(value.toString());
+      Plugin.getData().getRpgSystem().invalidateCombatProfile(entity.getUniqueId());
+      importAttributes(entity);
+    }
+
+    /**
+     * Reads the player's {@link Equipment.AethelAttributes} totals back from their modified tags.
+     *
+     * @param entity interacting entity
+     */
+    private void importAttributes(Entity entity) {
+      Equipment.AethelAttributes attributes = getAttributes(entity);
+      if (attributes != null) {
+        attributes.importTotals();
+      }
+    }
+
+    /**
+     * Gets the player's {@link Equipment.AethelAttributes}.
+     *
+     * @param entity interacting entity
+     * @return player's {@link Equipment.AethelAttributes}, or null if the entity isn't an {@link RpgPlayer}
+     */
+    private Equipment.AethelAttributes getAttributes(Entity entity) {
+      if (entity instanceof Player) {
+        RpgPlayer rpgPlayer = Plugin.getData().getRpgSystem().getRpgPlayers().get(entity.getUniqueId());
+        if (rpgPlayer != null) {
+          return rpgPlayer.getEquipment().getAttributes();
+        }
+      }
+      return null;
     }
 
     /**
      * Represents an entity's {@link Key Aethel tag} set or remove operation.
      *
      * @author Danny Nguyen
-     * @version 1.23.15
+     * @version 1.27.25
      * @since 1.22.15
      */
     private class TagModifier {
@@ -244,9 +285,8 @@ public class EntityTagCommand implements CommandExecutor {
       private void setTag(String value) {
         Objects.requireNonNull(value, "Null value");
         if (tag.startsWith("attribute.")) {
-          try {
-            AethelAttribute.valueOf(TextFormatter.formatEnum(tag.substring(10)));
-          } catch (IllegalArgumentException ex) {
+          AethelAttribute attribute = TagSchema.parseAttribute(tag.substring(10));
+          if (attribute == null) {
             user.sendMessage(Message.INVALID_ATTRIBUTE.getMessage());
             return;
           }
@@ -257,15 +297,12 @@ public class EntityTagCommand implements CommandExecutor {
             user.sendMessage(Message.INVALID_VALUE.getMessage());
             return;
           }
-          entityTags.set(new NamespacedKey(Plugin.getInstance(), KeyHeader.AETHEL.getHeader() + tag), PersistentDataType.DOUBLE, attributeValue);
+          entityTags.set(TagSchema.getAttributeKey(attribute), PersistentDataType.DOUBLE, attributeValue);
         } else if (tag.startsWith("enchantment.")) {
-          switch (tag.substring(12)) {
-            case "protection", "blast_protection", "fire_protection", "projectile_protection", "feather_falling" -> {
-            }
-            default -> {
-              user.sendMessage(Message.INVALID_ATTRIBUTE.getMessage());
-              return;
-            }
+          int enchantmentId = TagSchema.parseEnchantment(tag.substring(12));
+          if (enchantmentId == -1) {
+            user.sendMessage(Message.INVALID_ATTRIBUTE.getMessage());
+            return;
           }
           int enchantmentValue;
           try {
@@ -274,7 +311,7 @@ public class EntityTagCommand implements CommandExecutor {
             user.sendMessage(Message.INVALID_VALUE.getMessage());
             return;
           }
-          entityTags.set(new NamespacedKey(Plugin.getInstance(), KeyHeader.AETHEL.getHeader() + tag), PersistentDataType.INTEGER, enchantmentValue);
+          entityTags.set(TagSchema.getEnchantmentKey(enchantmentId), PersistentDataType.INTEGER, enchantmentValue);
         } else if (tag.startsWith("rpg.")) {
           switch (tag.substring(4)) {
             case "health" -> {
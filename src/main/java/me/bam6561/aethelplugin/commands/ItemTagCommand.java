@@ -11,6 +11,7 @@ import me.bam6561.aethelplugin.enums.rpg.abilities.PassiveAbilityType;
 import me.bam6561.aethelplugin.enums.rpg.abilities.PassiveTriggerType;
 import me.bam6561.aethelplugin.rpg.abilities.ActiveAbility;
 import me.bam6561.aethelplugin.rpg.abilities.PassiveAbility;
+import me.bam6561.aethelplugin.utils.TagSchema;
 import me.bam6561.aethelplugin.utils.TextFormatter;
 import me.bam6561.aethelplugin.utils.abilities.ActiveAbilityInput;
 import me.bam6561.aethelplugin.utils.abilities.PassiveAbilityInput;
@@ -45,7 +46,7 @@ import java.util.Objects;
  * </ul>
  *
  * @author Danny Nguyen
- * @version 1.23.12
+ * @version 1.27.25
  * @since 1.2.6
  */
 public class ItemTagCommand implements CommandExecutor {
@@ -90,7 +91,7 @@ public class ItemTagCommand implements CommandExecutor {
    * @param args user provided parameters
    * @param item interacting item
    * @author Danny Nguyen
-   * @version 1.24.12
+   * @version 1.27.25
    * @since 1.23.12
    */
   private record Request(Player user, String[] args, ItemStack item) {
@@ -194,7 +195,7 @@ public class ItemTagCommand implements CommandExecutor {
      * Represents an item's {@link Key Aethel tag} set or remove operation.
      *
      * @author Danny Nguyen
-     * @version 1.23.12
+     * @version 1.27.25
      * @since 1.13.9
      */
     private class TagModifier {
@@ -380,7 +381,7 @@ public class ItemTagCommand implements CommandExecutor {
        * Represents a tag set operation.
        *
        * @author Danny Nguyen
-       * @version 1.25.5
+       * @version 1.27.25
        * @since 1.23.12
        */
       private class TagSet {
@@ -465,19 +466,20 @@ public class ItemTagCommand implements CommandExecutor {
             user.sendMessage(ChatColor.RED + "Did not provide equipment slot and attribute.");
             return;
           }
+          RpgEquipmentSlot eSlot;
           try {
-            RpgEquipmentSlot.valueOf(TextFormatter.formatEnum(tagMeta[0]));
+            eSlot = RpgEquipmentSlot.valueOf(TextFormatter.formatEnum(tagMeta[0]));
           } catch (IllegalArgumentException ex) {
             user.sendMessage(Message.UNRECOGNIZED_EQUIPMENT_SLOT.getMessage());
             return;
           }
-          try {
-            AethelAttribute.valueOf(TextFormatter.formatEnum(tagMeta[1]));
-          } catch (IllegalArgumentException ex) {
+          AethelAttribute attribute = TagSchema.parseAttribute(tagMeta[1]);
+          if (attribute == null) {
             user.sendMessage(ChatColor.RED + "Unrecognized Aethel attribute.");
             return;
           }
-          setAttributeTag(attributeValue);
+          tag = eSlot.getId() + "." + attribute.getId();
+          setAttributeTag(TagSchema.getSlotAttributeId(eSlot, attribute), attributeValue);
         }
 
         /**
@@ -720,11 +722,11 @@ public class ItemTagCommand implements CommandExecutor {
         /**
          * Sets an item's {@link Key#ATTRIBUTE_LIST attribute} tag.
          *
-         * @param value tag value
+         * @param slotAttributeId {@link TagSchema#getSlotAttributeId slot attribute ID}
+         * @param value           tag value
          */
-        private void setAttributeTag(double value) {
-          NamespacedKey tagKey = new NamespacedKey(Plugin.getInstance(), KeyHeader.ATTRIBUTE.getHeader() + tag);
-          itemTags.set(tagKey, PersistentDataType.DOUBLE, value);
+        private void setAttributeTag(int slotAttributeId, double value) {
+          TagSchema.setSlotAttribute(itemTags, slotAttributeId, value);
           setKeyToList(Key.ATTRIBUTE_LIST.getNamespacedKey());
           item.setItemMeta(meta);
           user.sendMessage(ChatColor.GREEN + "[Set Tag] " + ChatColor.AQUA + originalTag.toLowerCase() + " " + ChatColor.WHITE + value);
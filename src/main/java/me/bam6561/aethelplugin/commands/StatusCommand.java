@@ -3,7 +3,9 @@ package me.bam6561.aethelplugin.commands;
 import me.bam6561.aethelplugin.Plugin;
 import me.bam6561.aethelplugin.enums.plugin.Message;
 import me.bam6561.aethelplugin.enums.rpg.StatusType;
+import me.bam6561.aethelplugin.rpg.EntityHandles;
 import me.bam6561.aethelplugin.rpg.Status;
+import me.bam6561.aethelplugin.rpg.StatusSet;
 import me.bam6561.aethelplugin.utils.TextFormatter;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
@@ -35,7 +37,7 @@ import java.util.*;
  * The self user is included by default, unless "r:!s," is specified.
  *
  * @author Danny Nguyen
- * @version 1.23.12
+ * @version 1.27.12
  * @since 1.14.8
  */
 public class StatusCommand implements CommandExecutor {
@@ -74,7 +76,7 @@ public class StatusCommand implements CommandExecutor {
    * @param user command user
    * @param args user provided parameters
    * @author Danny Nguyen
-   * @version 1.24.4
+   * @version 1.27.12
    * @since 1.23.12
    */
   private record Request(Player user, String[] args) {
@@ -131,10 +133,7 @@ public class StatusCommand implements CommandExecutor {
             user.sendMessage(ChatColor.RED + "Invalid UUID.");
             return;
           }
-          Entity entity = Bukkit.getEntity(uuid);
-          if (entity instanceof LivingEntity) {
-            uuid = UUID.fromString(target);
-          } else {
+          if (Plugin.getData().getRpgSystem().getEntityHandles().get(uuid) == null) {
             user.sendMessage(ChatColor.RED + "Not a living entity.");
             return;
           }
@@ -202,8 +201,10 @@ public class StatusCommand implements CommandExecutor {
           }
         }
 
+        EntityHandles entityHandles = Plugin.getData().getRpgSystem().getEntityHandles();
         Set<UUID> targets = new HashSet<>();
         for (LivingEntity livingEntity : livingEntities) {
+          entityHandles.put(livingEntity);
           targets.add(livingEntity.getUniqueId());
         }
 
@@ -238,23 +239,24 @@ public class StatusCommand implements CommandExecutor {
      * @param uuid entity uuid
      */
     private void getStatuses(UUID uuid) {
-      Map<StatusType, Status> statusTypes = Plugin.getData().getRpgSystem().getStatuses().get(uuid);
-      if (statusTypes == null) {
-        user.sendMessage(ChatColor.RED + "[No Statuses] " + ChatColor.DARK_PURPLE + Bukkit.getEntity(uuid).getName());
+      StatusSet statusSet = Plugin.getData().getRpgSystem().getStatuses().get(uuid);
+      if (statusSet == null) {
+        user.sendMessage(ChatColor.RED + "[No Statuses] " + ChatColor.DARK_PURPLE + getEntityName(uuid));
         return;
       }
 
       StringBuilder statusesBuilder = new StringBuilder();
-      statusesBuilder.append(ChatColor.GREEN).append("[Get Statuses] ").append(ChatColor.DARK_PURPLE).append(Bukkit.getEntity(uuid).getName()).append(" ");
+      statusesBuilder.append(ChatColor.GREEN).append("[Get Statuses] ").append(ChatColor.DARK_PURPLE).append(getEntityName(uuid)).append(" ");
+      Map<StatusType, Status> statusTypes = statusSet.getStatuses();
       for (StatusType statusType : statusTypes.keySet()) {
         Status status = statusTypes.get(statusType);
         statusesBuilder.append(ChatColor.AQUA).append(statusType.getProperName()).append(" ");
         statusesBuilder.append(ChatColor.WHITE).append(status.getStackAmount()).append(" ");
-        Map<Integer, Integer> stackInstances = status.getStackInstances();
+        List<Status.StackInstance> stackInstances = status.getStackInstances();
         if (!stackInstances.isEmpty()) {
           statusesBuilder.append("[");
-          for (Integer stackAmount : stackInstances.values()) {
-            statusesBuilder.append(stackAmount).append(", ");
+          for (Status.StackInstance stackInstance : stackInstances) {
+            statusesBuilder.append(stackInstance.getStacks()).append(", ");
           }
           statusesBuilder.delete(statusesBuilder.length() - 2, statusesBuilder.length());
           statusesBuilder.append("] ");
@@ -269,8 +271,8 @@ public class StatusCommand implements CommandExecutor {
      * @param uuid entity uuid
      */
     private void removeStatuses(UUID uuid) {
-      Plugin.getData().getRpgSystem().getStatuses().remove(uuid);
-      user.sendMessage(ChatColor.RED + "[All Statuses Removed] " + ChatColor.DARK_PURPLE + Bukkit.getEntity(uuid).getName());
+      Plugin.getData().getRpgSystem().removeStatuses(uuid);
+      user.sendMessage(ChatColor.RED + "[All Statuses Removed] " + ChatColor.DARK_PURPLE + getEntityName(uuid));
     }
 
     /**
@@ -287,15 +289,8 @@ public class StatusCommand implements CommandExecutor {
         return;
       }
 
-      Map<UUID, Map<StatusType, Status>> entityStatuses = Plugin.getData().getRpgSystem().getStatuses();
-      Map<StatusType, Status> statuses = entityStatuses.get(uuid);
-      if (statuses != null) {
-        statuses.remove(statusType);
-        if (statuses.isEmpty()) {
-          entityStatuses.remove(uuid);
-        }
-      }
-      user.sendMessage(ChatColor.RED + "[Status Removed] " + ChatColor.DARK_PURPLE + Bukkit.getEntity(uuid).getName() + " " + ChatColor.AQUA + statusType.getProperName());
+      Plugin.getData().getRpgSystem().removeStatus(uuid, statusType);
+      user.sendMessage(ChatColor.RED + "[Status Removed] " + ChatColor.DARK_PURPLE + getEntityName(uuid) + " " + ChatColor.AQUA + statusType.getProperName());
     }
 
     /**
@@ -338,17 +333,19 @@ public class StatusCommand implements CommandExecutor {
      * @param ticks  duration
      */
     private void addStatus(UUID uuid, StatusType status, int stacks, int ticks) {
-      Map<UUID, Map<StatusType, Status>> entityStatuses = Plugin.getData().getRpgSystem().getStatuses();
-      if (!entityStatuses.containsKey(uuid)) {
-        entityStatuses.put(uuid, new HashMap<>());
-      }
-      Map<StatusType, Status> statuses = entityStatuses.get(uuid);
-      if (statuses.containsKey(status)) {
-        statuses.get(status).addStacks(stacks, ticks);
-      } else {
-        statuses.put(status, new Status(uuid, status, stacks, ticks));
-      }
-      user.sendMessage(ChatColor.GREEN + "[Status Added] " + ChatColor.DARK_PURPLE + Bukkit.getEntity(uuid).getName() + " " + ChatColor.AQUA + status.getProperName() + " " + ChatColor.WHITE + stacks + " " + ticks);
+      Plugin.getData().getRpgSystem().addStatus(uuid, status, stacks, ticks);
+      user.sendMessage(ChatColor.GREEN + "[Status Added] " + ChatColor.DARK_PURPLE + getEntityName(uuid) + " " + ChatColor.AQUA + status.getProperName() + " " + ChatColor.WHITE + stacks + " " + ticks);
+    }
+
+    /**
+     * Gets the entity's name.
+     *
+     * @param uuid entity uuid
+     * @return entity's name, or its uuid if it is no longer loaded
+     */
+    private String getEntityName(UUID uuid) {
+      LivingEntity entity = Plugin.getData().getRpgSystem().getEntityHandles().get(uuid);
+      return entity != null ? entity.getName() : uuid.toString();
     }
 
     /**
@@ -40,7 +40,7 @@ import java.util.UUID;
  * Called through {@link MenuListener}.
  *
  * @author Danny Nguyen
- * @version 1.26.10
+ * @version 1.27.48
  * @since 1.9.2
  */
 public class CharacterMenuClick implements MenuClick {
@@ -186,12 +186,11 @@ public class CharacterMenuClick implements MenuClick {
       Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> {
         e.getInventory().setItem(11, user.getInventory().getItem(e.getSlot()));
         Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> {
-          ItemStack item = user.getInventory().getItem(user.getInventory().getHeldItemSlot());
           StringBuilder logEntry = new StringBuilder();
           String time = ZonedDateTime.now(ZoneId.of("America/New_York")).format(DateTimeFormatter.ofPattern("hh:mm"));
           logEntry.append(time).append(" ").append(user.getName()).append("CM/IPIC");
           Plugin.getData().getPluginLogger().addEntry(logEntry.toString());
-          Plugin.getData().getRpgSystem().getRpgPlayers().get(uuid).getEquipment().readSlot(item, RpgEquipmentSlot.HAND);
+          Plugin.getData().getRpgSystem().getEquipmentReconciler().markDirty(uuid, RpgEquipmentSlot.HAND);
           Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), new SheetMenu(user, e.getInventory())::addAttributes, 3);
         }, 1);
       }, 1);
@@ -249,7 +248,7 @@ public class CharacterMenuClick implements MenuClick {
    * Represents an equipment change operation.
    *
    * @author Danny Nguyen
-   * @version 1.26.10
+   * @version 1.27.48
    * @since 1.23.10
    */
   private class EquipmentChange {
@@ -432,20 +431,19 @@ public class CharacterMenuClick implements MenuClick {
      */
     private void updateArmorHandsAttributes(int iSlot) {
       Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> {
-        Equipment equipment = Plugin.getData().getRpgSystem().getRpgPlayers().get(uuid).getEquipment();
-        ItemStack wornItem = user.getInventory().getItem(iSlot);
         StringBuilder logEntry = new StringBuilder();
         String time = ZonedDateTime.now(ZoneId.of("America/New_York")).format(DateTimeFormatter.ofPattern("hh:mm"));
         logEntry.append(time).append(" ").append(user.getName()).append("CM/UAHA");
         Plugin.getData().getPluginLogger().addEntry(logEntry.toString());
-        switch (iSlot) {
-          case 39 -> equipment.readSlot(wornItem, RpgEquipmentSlot.HEAD);
-          case 38 -> equipment.readSlot(wornItem, RpgEquipmentSlot.CHEST);
-          case 37 -> equipment.readSlot(wornItem, RpgEquipmentSlot.LEGS);
-          case 36 -> equipment.readSlot(wornItem, RpgEquipmentSlot.FEET);
-          case 40 -> equipment.readSlot(wornItem, RpgEquipmentSlot.OFF_HAND);
-          default -> equipment.readSlot(wornItem, RpgEquipmentSlot.HAND);
-        }
+        RpgEquipmentSlot eSlot = switch (iSlot) {
+          case 39 -> RpgEquipmentSlot.HEAD;
+          case 38 -> RpgEquipmentSlot.CHEST;
+          case 37 -> RpgEquipmentSlot.LEGS;
+          case 36 -> RpgEquipmentSlot.FEET;
+          case 40 -> RpgEquipmentSlot.OFF_HAND;
+          default -> RpgEquipmentSlot.HAND;
+        };
+        Plugin.getData().getRpgSystem().getEquipmentReconciler().markDirty(uuid, eSlot);
         Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), new SheetMenu(user, e.getClickedInventory())::addAttributes, 3);
       }, 1);
     }
@@ -466,11 +464,11 @@ public class CharacterMenuClick implements MenuClick {
         switch (slot) {
           case 20 -> {
             equipment.getJewelry()[0] = wornItem;
-            equipment.readSlot(wornItem, RpgEquipmentSlot.NECKLACE);
+            Plugin.getData().getRpgSystem().getEquipmentReconciler().markDirty(uuid, RpgEquipmentSlot.NECKLACE);
           }
           case 29 -> {
             equipment.getJewelry()[1] = wornItem;
-            equipment.readSlot(wornItem, RpgEquipmentSlot.RING);
+            Plugin.getData().getRpgSystem().getEquipmentReconciler().markDirty(uuid, RpgEquipmentSlot.RING);
           }
         }
         Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), new SheetMenu(user, menu)::addAttributes, 3);
@@ -1,7 +1,6 @@
 package me.bam6561.aethelplugin.commands.character;
 
 import me.bam6561.aethelplugin.Plugin;
-import me.bam6561.aethelplugin.enums.plugin.Key;
 import me.bam6561.aethelplugin.enums.plugin.PlayerHead;
 import me.bam6561.aethelplugin.enums.rpg.AethelAttribute;
 import me.bam6561.aethelplugin.enums.rpg.StatusType;
@@ -9,18 +8,20 @@ import me.bam6561.aethelplugin.interfaces.Menu;
 import me.bam6561.aethelplugin.rpg.Buffs;
 import me.bam6561.aethelplugin.rpg.Equipment;
 import me.bam6561.aethelplugin.rpg.Status;
+import me.bam6561.aethelplugin.rpg.StatusSet;
+import me.bam6561.aethelplugin.utils.TagSchema;
 import me.bam6561.aethelplugin.utils.item.ItemCreator;
 import net.md_5.bungee.api.ChatColor;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.attribute.Attribute;
+import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.persistence.PersistentDataContainer;
-import org.bukkit.persistence.PersistentDataType;
 import org.jetbrains.annotations.NotNull;
 
 import java.text.DecimalFormat;
@@ -33,7 +34,7 @@ import java.util.*;
  * {@link Equipment.Enchantments enchantments}, and {@link Status statuses}.
  *
  * @author Danny Nguyen
- * @version 1.27.0
+ * @version 1.27.47
  * @since 1.6.3
  */
 public class SheetMenu implements Menu {
@@ -155,14 +156,15 @@ public class SheetMenu implements Menu {
    */
   protected void addAttributes() {
     PersistentDataContainer entityTags = Bukkit.getPlayer(uuid).getPersistentDataContainer();
+    Equipment.AethelAttributes attributes = Plugin.getData().getRpgSystem().getRpgPlayers().get(uuid).getEquipment().getAttributes();
     Buffs buffs = Plugin.getData().getRpgSystem().getBuffs().get(uuid);
 
     DecimalFormat df2 = new DecimalFormat();
     df2.setMaximumFractionDigits(2);
 
-    addOffenseAttributes(entityTags, buffs, df2);
-    addDefenseAttributes(entityTags, buffs, df2);
-    addOtherAttributes(entityTags, buffs, df2);
+    addOffenseAttributes(attributes, buffs, df2);
+    addDefenseAttributes(entityTags, attributes, buffs, df2);
+    addOtherAttributes(attributes, buffs, df2);
   }
 
   /**
@@ -170,15 +172,15 @@ public class SheetMenu implements Menu {
    */
   private void addStatuses() {
     List<String> lore = new ArrayList<>();
-    Map<UUID, Map<StatusType, Status>> entityStatuses = Plugin.getData().getRpgSystem().getStatuses();
-    if (entityStatuses.containsKey(uuid)) {
-      Map<StatusType, Status> statuses = entityStatuses.get(uuid);
+    StatusSet statusSet = Plugin.getData().getRpgSystem().getStatuses().get(uuid);
+    if (statusSet != null) {
+      Map<StatusType, Status> statuses = statusSet.getStatuses();
       for (StatusType statusType : statuses.keySet()) {
         Status status = statuses.get(statusType);
         StringBuilder instancesBuilder = new StringBuilder();
         instancesBuilder.append("[");
-        for (int instance : status.getStackInstances().values()) {
-          instancesBuilder.append(instance).append(", ");
+        for (Status.StackInstance stackInstance : status.getStackInstances()) {
+          instancesBuilder.append(stackInstance.getStacks()).append(", ");
         }
         instancesBuilder.delete(instancesBuilder.length() - 2, instancesBuilder.length());
         instancesBuilder.append("]");
@@ -200,15 +202,15 @@ public class SheetMenu implements Menu {
   /**
    * Adds the player's offense attributes.
    *
-   * @param entityTags owner's persistent tags
+   * @param attributes owner's {@link Equipment.AethelAttributes}
    * @param buffs      {@link Buffs}
    * @param df2        0.00 decimal format
    */
-  private void addOffenseAttributes(PersistentDataContainer entityTags, Buffs buffs, DecimalFormat df2) {
-    double criticalChanceBase = entityTags.getOrDefault(Key.ATTRIBUTE_CRITICAL_CHANCE.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
-    double criticalDamageBase = entityTags.getOrDefault(Key.ATTRIBUTE_CRITICAL_DAMAGE.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
-    double feintSkillBase = entityTags.getOrDefault(Key.ATTRIBUTE_FEINT_SKILL.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
-    double accuracySkillBase = entityTags.getOrDefault(Key.ATTRIBUTE_ACCURACY_SKILL.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
+  private void addOffenseAttributes(Equipment.AethelAttributes attributes, Buffs buffs, DecimalFormat df2) {
+    double criticalChanceBase = attributes.getTotal(AethelAttribute.CRITICAL_CHANCE);
+    double criticalDamageBase = attributes.getTotal(AethelAttribute.CRITICAL_DAMAGE);
+    double feintSkillBase = attributes.getTotal(AethelAttribute.FEINT_SKILL);
+    double accuracySkillBase = attributes.getTotal(AethelAttribute.ACCURACY_SKILL);
 
     double damageBuff = 0.0;
     double attackSpeedBuff = 0.0;
@@ -239,15 +241,16 @@ public class SheetMenu implements Menu {
    * Adds the player's defense attributes.
    *
    * @param entityTags owner's persistent tags
+   * @param attributes owner's {@link Equipment.AethelAttributes}
    * @param buffs      {@link Buffs}
    * @param df2        0.00 decimal format
    */
-  private void addDefenseAttributes(PersistentDataContainer entityTags, Buffs buffs, DecimalFormat df2) {
-    double maxHealthBase = entityTags.getOrDefault(Key.ATTRIBUTE_MAX_HEALTH.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
-    double counterChanceBase = entityTags.getOrDefault(Key.ATTRIBUTE_COUNTER_CHANCE.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
-    double dodgeChanceBase = entityTags.getOrDefault(Key.ATTRIBUTE_DODGE_CHANCE.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
-    double armorToughnessBase = entityTags.getOrDefault(Key.ATTRIBUTE_ARMOR_TOUGHNESS.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
-    double armorBase = entityTags.getOrDefault(Key.ATTRIBUTE_ARMOR.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
+  private void addDefenseAttributes(PersistentDataContainer entityTags, Equipment.AethelAttributes attributes, Buffs buffs, DecimalFormat df2) {
+    double maxHealthBase = attributes.getTotal(AethelAttribute.MAX_HEALTH);
+    double counterChanceBase = attributes.getTotal(AethelAttribute.COUNTER_CHANCE);
+    double dodgeChanceBase = attributes.getTotal(AethelAttribute.DODGE_CHANCE);
+    double armorToughnessBase = attributes.getTotal(AethelAttribute.ARMOR_TOUGHNESS);
+    double armorBase = attributes.getTotal(AethelAttribute.ARMOR);
 
     double genericMaxHealthBuff = 0.0;
     double maxHealthBuff = 0.0;
@@ -270,14 +273,14 @@ public class SheetMenu implements Menu {
       knockbackResistanceBuff = buffs.getAttribute(Attribute.GENERIC_KNOCKBACK_RESISTANCE);
     }
 
-    double protectionBase = entityTags.getOrDefault(Key.ENCHANTMENT_PROTECTION.getNamespacedKey(), PersistentDataType.INTEGER, 0);
-    double blastProtectionBase = entityTags.getOrDefault(Key.ENCHANTMENT_BLAST_PROTECTION.getNamespacedKey(), PersistentDataType.INTEGER, 0);
-    double fireProtectionBase = entityTags.getOrDefault(Key.ENCHANTMENT_FIRE_PROTECTION.getNamespacedKey(), PersistentDataType.INTEGER, 0);
-    double projectileProtectionBase = entityTags.getOrDefault(Key.ENCHANTMENT_PROJECTILE_PROTECTION.getNamespacedKey(), PersistentDataType.INTEGER, 0);
-    double featherFallingBase = entityTags.getOrDefault(Key.ENCHANTMENT_FEATHER_FALLING.getNamespacedKey(), PersistentDataType.INTEGER, 0);
+    double protectionBase = TagSchema.getEnchantment(entityTags, TagSchema.getEnchantmentId(Enchantment.PROTECTION));
+    double blastProtectionBase = TagSchema.getEnchantment(entityTags, TagSchema.getEnchantmentId(Enchantment.BLAST_PROTECTION));
+    double fireProtectionBase = TagSchema.getEnchantment(entityTags, TagSchema.getEnchantmentId(Enchantment.FIRE_PROTECTION));
+    double projectileProtectionBase = TagSchema.getEnchantment(entityTags, TagSchema.getEnchantmentId(Enchantment.PROJECTILE_PROTECTION));
+    double featherFallingBase = TagSchema.getEnchantment(entityTags, TagSchema.getEnchantmentId(Enchantment.FEATHER_FALLING));
 
     Player player = Bukkit.getPlayer(uuid);
-    double rpgCurrentHealth = entityTags.getOrDefault(Key.RPG_HEALTH.getNamespacedKey(), PersistentDataType.DOUBLE, player.getHealth());
+    double rpgCurrentHealth = Plugin.getData().getRpgSystem().getHealthTable().getHealth(player);
     double rpgMaxHealth = player.getAttribute(Attribute.GENERIC_MAX_HEALTH).getValue() + maxHealthBase + genericMaxHealthBuff + maxHealthBuff;
 
     String maxHealth = ChatColor.RED + df2.format(rpgCurrentHealth) + " / " + df2.format(rpgMaxHealth) + " HP" + (genericMaxHealthBuff + maxHealthBuff != 0.0 ? " [" + df2.format(genericMaxHealthBuff + maxHealthBuff) + "]" : "");
@@ -299,17 +302,17 @@ public class SheetMenu implements Menu {
   /**
    * Adds the player's other attributes.
    *
-   * @param entityTags owner's persistent tags
+   * @param attributes owner's {@link Equipment.AethelAttributes}
    * @param buffs      {@link Buffs}
    * @param df2        0.00 decimal format
    */
-  private void addOtherAttributes(PersistentDataContainer entityTags, Buffs buffs, DecimalFormat df2) {
+  private void addOtherAttributes(Equipment.AethelAttributes attributes, Buffs buffs, DecimalFormat df2) {
     DecimalFormat df3 = new DecimalFormat();
     df3.setMaximumFractionDigits(3);
 
-    double itemDamageBase = entityTags.getOrDefault(Key.ATTRIBUTE_ITEM_DAMAGE.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
-    double itemCooldownBase = entityTags.getOrDefault(Key.ATTRIBUTE_ITEM_COOLDOWN.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
-    double tenacityBase = entityTags.getOrDefault(Key.ATTRIBUTE_TENACITY.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
+    double itemDamageBase = attributes.getTotal(AethelAttribute.ITEM_DAMAGE);
+    double itemCooldownBase = attributes.getTotal(AethelAttribute.ITEM_COOLDOWN);
+    double tenacityBase = attributes.getTotal(AethelAttribute.TENACITY);
 
     double itemDamageBuff = 0.0;
     double itemCooldownBuff = 0.0;
@@ -1,6 +1,5 @@
 package me.bam6561.aethelplugin.enums.plugin;
 
-import me.bam6561.aethelplugin.Plugin;
 import me.bam6561.aethelplugin.enums.rpg.AethelAttribute;
 import me.bam6561.aethelplugin.rpg.abilities.ActiveAbility;
 import me.bam6561.aethelplugin.rpg.abilities.PassiveAbility;
@@ -11,149 +10,149 @@ import org.jetbrains.annotations.NotNull;
  * Plugin namespaced keys.
  *
  * @author Danny Nguyen
- * @version 1.25.6
+ * @version 1.27.41
  * @since 1.11.9
  */
 public enum Key {
   /**
    * Unusable item.
    */
-  UNUSABLE(new NamespacedKey(Plugin.getInstance(), KeyHeader.ITEM.getHeader() + "unusable")),
+  UNUSABLE(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ITEM.getHeader() + "unusable")),
 
   /**
    * Non-placeable item.
    */
-  NON_PLACEABLE(new NamespacedKey(Plugin.getInstance(), KeyHeader.ITEM.getHeader() + "non_placeable")),
+  NON_PLACEABLE(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ITEM.getHeader() + "non_placeable")),
 
   /**
    * Non-consumable item.
    */
-  NON_EDIBLE(new NamespacedKey(Plugin.getInstance(), KeyHeader.ITEM.getHeader() + "non_edible")),
+  NON_EDIBLE(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ITEM.getHeader() + "non_edible")),
 
   /**
    * Item {@link AethelAttribute} list.
    */
-  ATTRIBUTE_LIST(new NamespacedKey(Plugin.getInstance(), KeyHeader.ATTRIBUTE.getHeader() + "list")),
+  ATTRIBUTE_LIST(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ATTRIBUTE.getHeader() + "list")),
 
   /**
    * Item {@link PassiveAbility} list.
    */
-  PASSIVE_LIST(new NamespacedKey(Plugin.getInstance(), KeyHeader.PASSIVE.getHeader() + "list")),
+  PASSIVE_LIST(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.PASSIVE.getHeader() + "list")),
 
   /**
    * Item {@link me.bam6561.aethelplugin.rpg.Equipment} {@link ActiveAbility} list.
    */
-  ACTIVE_EQUIPMENT_LIST(new NamespacedKey(Plugin.getInstance(), KeyHeader.ACTIVE_EQUIPMENT.getHeader() + "list")),
+  ACTIVE_EQUIPMENT_LIST(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ACTIVE_EQUIPMENT.getHeader() + "list")),
 
   /**
    * Item edible {@link ActiveAbility} list.
    */
-  ACTIVE_EDIBLE_LIST(new NamespacedKey(Plugin.getInstance(), KeyHeader.ACTIVE_EDIBLE.getHeader() + "list")),
+  ACTIVE_EDIBLE_LIST(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ACTIVE_EDIBLE.getHeader() + "list")),
 
   /**
    * {@link me.bam6561.aethelplugin.commands.forge.RecipeRegistry Recipe} Forge ID.
    */
-  RECIPE_FORGE_ID(new NamespacedKey(Plugin.getInstance(), KeyHeader.FORGE.getHeader() + "id")),
+  RECIPE_FORGE_ID(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.FORGE.getHeader() + "id")),
 
   /**
    * Reinforced durability.
    */
-  RPG_DURABILITY(new NamespacedKey(Plugin.getInstance(), KeyHeader.RPG.getHeader() + "durability")),
+  RPG_DURABILITY(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.RPG.getHeader() + "durability")),
 
   /**
    * Max reinforced durability.
    */
-  RPG_MAX_DURABILITY(new NamespacedKey(Plugin.getInstance(), KeyHeader.RPG.getHeader() + "durability_max")),
+  RPG_MAX_DURABILITY(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.RPG.getHeader() + "durability_max")),
 
   /**
    * RPG current health.
    */
-  RPG_HEALTH(new NamespacedKey(Plugin.getInstance(), KeyHeader.RPG.getHeader() + "health")),
+  RPG_HEALTH(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.RPG.getHeader() + "health")),
 
   /**
    * {@link AethelAttribute#MAX_HEALTH}
    */
-  ATTRIBUTE_MAX_HEALTH(new NamespacedKey(Plugin.getInstance(), KeyHeader.ATTRIBUTE.getHeader() + AethelAttribute.MAX_HEALTH.getId())),
+  ATTRIBUTE_MAX_HEALTH(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ATTRIBUTE.getHeader() + AethelAttribute.MAX_HEALTH.getId())),
 
   /**
    * {@link AethelAttribute#CRITICAL_CHANCE}
    */
-  ATTRIBUTE_CRITICAL_CHANCE(new NamespacedKey(Plugin.getInstance(), KeyHeader.ATTRIBUTE.getHeader() + AethelAttribute.CRITICAL_CHANCE.getId())),
+  ATTRIBUTE_CRITICAL_CHANCE(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ATTRIBUTE.getHeader() + AethelAttribute.CRITICAL_CHANCE.getId())),
 
   /**
    * {@link AethelAttribute#CRITICAL_DAMAGE}
    */
-  ATTRIBUTE_CRITICAL_DAMAGE(new NamespacedKey(Plugin.getInstance(), KeyHeader.ATTRIBUTE.getHeader() + AethelAttribute.CRITICAL_DAMAGE.getId())),
+  ATTRIBUTE_CRITICAL_DAMAGE(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ATTRIBUTE.getHeader() + AethelAttribute.CRITICAL_DAMAGE.getId())),
 
   /**
    * {@link AethelAttribute#FEINT_SKILL}
    */
-  ATTRIBUTE_FEINT_SKILL(new NamespacedKey(Plugin.getInstance(), KeyHeader.ATTRIBUTE.getHeader() + AethelAttribute.FEINT_SKILL.getId())),
+  ATTRIBUTE_FEINT_SKILL(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ATTRIBUTE.getHeader() + AethelAttribute.FEINT_SKILL.getId())),
 
   /**
    * {@link AethelAttribute#ACCURACY_SKILL}
    */
-  ATTRIBUTE_ACCURACY_SKILL(new NamespacedKey(Plugin.getInstance(), KeyHeader.ATTRIBUTE.getHeader() + AethelAttribute.ACCURACY_SKILL.getId())),
+  ATTRIBUTE_ACCURACY_SKILL(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ATTRIBUTE.getHeader() + AethelAttribute.ACCURACY_SKILL.getId())),
 
   /**
    * {@link AethelAttribute#COUNTER_CHANCE}
    */
-  ATTRIBUTE_COUNTER_CHANCE(new NamespacedKey(Plugin.getInstance(), KeyHeader.ATTRIBUTE.getHeader() + AethelAttribute.COUNTER_CHANCE.getId())),
+  ATTRIBUTE_COUNTER_CHANCE(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ATTRIBUTE.getHeader() + AethelAttribute.COUNTER_CHANCE.getId())),
 
   /**
    * {@link AethelAttribute#DODGE_CHANCE}
    */
-  ATTRIBUTE_DODGE_CHANCE(new NamespacedKey(Plugin.getInstance(), KeyHeader.ATTRIBUTE.getHeader() + AethelAttribute.DODGE_CHANCE.getId())),
+  ATTRIBUTE_DODGE_CHANCE(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ATTRIBUTE.getHeader() + AethelAttribute.DODGE_CHANCE.getId())),
 
   /**
    * {@link AethelAttribute#ARMOR_TOUGHNESS}
    */
-  ATTRIBUTE_ARMOR_TOUGHNESS(new NamespacedKey(Plugin.getInstance(), KeyHeader.ATTRIBUTE.getHeader() + AethelAttribute.ARMOR_TOUGHNESS.getId())),
+  ATTRIBUTE_ARMOR_TOUGHNESS(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ATTRIBUTE.getHeader() + AethelAttribute.ARMOR_TOUGHNESS.getId())),
 
   /**
    * {@link AethelAttribute#ARMOR}
    */
-  ATTRIBUTE_ARMOR(new NamespacedKey(Plugin.getInstance(), KeyHeader.ATTRIBUTE.getHeader() + AethelAttribute.ARMOR.getId())),
+  ATTRIBUTE_ARMOR(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ATTRIBUTE.getHeader() + AethelAttribute.ARMOR.getId())),
 
   /**
    * {@link AethelAttribute#ITEM_DAMAGE}
    */
-  ATTRIBUTE_ITEM_DAMAGE(new NamespacedKey(Plugin.getInstance(), KeyHeader.ATTRIBUTE.getHeader() + AethelAttribute.ITEM_DAMAGE.getId())),
+  ATTRIBUTE_ITEM_DAMAGE(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ATTRIBUTE.getHeader() + AethelAttribute.ITEM_DAMAGE.getId())),
 
   /**
    * {@link AethelAttribute#ITEM_COOLDOWN}
    */
-  ATTRIBUTE_ITEM_COOLDOWN(new NamespacedKey(Plugin.getInstance(), KeyHeader.ATTRIBUTE.getHeader() + AethelAttribute.ITEM_COOLDOWN.getId())),
+  ATTRIBUTE_ITEM_COOLDOWN(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ATTRIBUTE.getHeader() + AethelAttribute.ITEM_COOLDOWN.getId())),
 
   /**
    * {@link AethelAttribute#TENACITY}
    */
-  ATTRIBUTE_TENACITY(new NamespacedKey(Plugin.getInstance(), KeyHeader.ATTRIBUTE.getHeader() + AethelAttribute.TENACITY.getId())),
+  ATTRIBUTE_TENACITY(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ATTRIBUTE.getHeader() + AethelAttribute.TENACITY.getId())),
 
   /**
    * Protection.
    */
-  ENCHANTMENT_PROTECTION(new NamespacedKey(Plugin.getInstance(), KeyHeader.ENCHANTMENT.getHeader() + "protection")),
+  ENCHANTMENT_PROTECTION(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ENCHANTMENT.getHeader() + "protection")),
 
   /**
    * Blast protection.
    */
-  ENCHANTMENT_BLAST_PROTECTION(new NamespacedKey(Plugin.getInstance(), KeyHeader.ENCHANTMENT.getHeader() + "blast_protection")),
+  ENCHANTMENT_BLAST_PROTECTION(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ENCHANTMENT.getHeader() + "blast_protection")),
 
   /**
    * Fire protection.
    */
-  ENCHANTMENT_FIRE_PROTECTION(new NamespacedKey(Plugin.getInstance(), KeyHeader.ENCHANTMENT.getHeader() + "fire_protection")),
+  ENCHANTMENT_FIRE_PROTECTION(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ENCHANTMENT.getHeader() + "fire_protection")),
 
   /**
    * Projectile protection.
    */
-  ENCHANTMENT_PROJECTILE_PROTECTION(new NamespacedKey(Plugin.getInstance(), KeyHeader.ENCHANTMENT.getHeader() + "projectile_protection")),
+  ENCHANTMENT_PROJECTILE_PROTECTION(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ENCHANTMENT.getHeader() + "projectile_protection")),
 
   /**
    * Feather falling.
    */
-  ENCHANTMENT_FEATHER_FALLING(new NamespacedKey(Plugin.getInstance(), KeyHeader.ENCHANTMENT.getHeader() + "feather_falling"));
+  ENCHANTMENT_FEATHER_FALLING(new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ENCHANTMENT.getHeader() + "feather_falling"));
 
   /**
    * Namespaced key.
@@ -6,7 +6,7 @@ import org.jetbrains.annotations.NotNull;
  * Plugin key headers.
  *
  * @author Danny Nguyen
- * @version 1.25.0
+ * @version 1.27.41
  * @since 1.15.3
  */
 public enum KeyHeader {
@@ -60,6 +60,14 @@ public enum KeyHeader {
    */
   ACTIVE_EDIBLE(AETHEL.getHeader() + "edible.");
 
+  /**
+   * Namespace of the plugin's keys, which is the plugin's name in lowercase.
+   * <p>
+   * Keys are created in the namespace directly so they
+   * don't require the plugin instance to be loaded.
+   */
+  public static final String NAMESPACE = "aethelplugin";
+
   /**
    * Key header.
    */
@@ -0,0 +1,20 @@
+package me.bam6561.aethelplugin.enums.rpg;
+
+/**
+ * Types of damage mitigation applied to ability damage.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.22
+ * @since 1.27.22
+ */
+public enum MitigationType {
+  /**
+   * Physical damage mitigated by armor, protection, and resistance.
+   */
+  ARMOR_PROTECTION_RESISTANCE,
+
+  /**
+   * Magical damage mitigated by protection and resistance.
+   */
+  PROTECTION_RESISTANCE
+}
@@ -0,0 +1,20 @@
+package me.bam6561.aethelplugin.enums.rpg;
+
+/**
+ * Types of ways time passes for an unloaded entity's RPG state.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.13
+ * @since 1.27.13
+ */
+public enum SuspensionPolicy {
+  /**
+   * Remaining durations are paused while the entity is unloaded.
+   */
+  FREEZE,
+
+  /**
+   * Remaining durations continue to elapse while the entity is unloaded.
+   */
+  FAST_FORWARD
+}
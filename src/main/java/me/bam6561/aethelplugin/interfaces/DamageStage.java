@@ -0,0 +1,26 @@
+package me.bam6561.aethelplugin.interfaces;
+
+import me.bam6561.aethelplugin.rpg.DamageContext;
+import me.bam6561.aethelplugin.rpg.DamagePipeline;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents a step of damage calculation run by a {@link DamagePipeline}.
+ * <p>
+ * Stages read and modify the damage through their {@link DamageContext}, and
+ * can end the chain early when the damage has been fully handled or avoided.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.16
+ * @since 1.27.16
+ */
+@FunctionalInterface
+public interface DamageStage {
+  /**
+   * Applies the stage to the damage being calculated.
+   *
+   * @param context {@link DamageContext}
+   * @return if the damage event is cancelled and the remaining stages are skipped
+   */
+  boolean apply(@NotNull DamageContext context);
+}
@@ -5,6 +5,7 @@ import me.bam6561.aethelplugin.enums.plugin.Key;
 import me.bam6561.aethelplugin.enums.plugin.KeyHeader;
 import me.bam6561.aethelplugin.enums.rpg.RpgEquipmentSlot;
 import me.bam6561.aethelplugin.enums.rpg.abilities.ActiveAbilityType;
+import me.bam6561.aethelplugin.rpg.CooldownLedger;
 import me.bam6561.aethelplugin.rpg.RpgPlayer;
 import me.bam6561.aethelplugin.rpg.abilities.ActiveAbility;
 import me.bam6561.aethelplugin.utils.TextFormatter;
@@ -26,7 +27,7 @@ import java.util.Set;
  * Collection of player action listeners.
  *
  * @author Danny Nguyen
- * @version 1.25.9
+ * @version 1.27.7
  * @since 1.17.3
  */
 public class ActionListener implements Listener {
@@ -82,14 +83,14 @@ public class ActionListener implements Listener {
       return;
     }
     Player caster = e.getPlayer();
-    Set<String> onCooldownEdibles = Plugin.getData().getRpgSystem().getRpgPlayers().get(caster.getUniqueId()).getOnCooldownEdibles();
+    CooldownLedger cooldowns = Plugin.getData().getRpgSystem().getRpgPlayers().get(caster.getUniqueId()).getCooldowns();
     String id;
     if (itemTags.has(Key.RECIPE_FORGE_ID.getNamespacedKey(), PersistentDataType.STRING)) {
       id = itemTags.get(Key.RECIPE_FORGE_ID.getNamespacedKey(), PersistentDataType.STRING);
     } else {
       id = item.getType().name();
     }
-    if (onCooldownEdibles.contains(id)) {
+    if (cooldowns.isEdibleOnCooldown(id)) {
       return;
     }
 
@@ -98,7 +99,7 @@ public class ActionListener implements Listener {
       NamespacedKey activeKey = new NamespacedKey(Plugin.getInstance(), KeyHeader.ACTIVE_EDIBLE.getHeader() + active);
       String[] abilityMeta = active.split("\\.");
       ActiveAbilityType activeAbilityType = ActiveAbilityType.valueOf(TextFormatter.formatEnum(abilityMeta[0]));
-      ActiveAbility ability = new ActiveAbility(onCooldownEdibles, id, activeAbilityType, itemTags.get(activeKey, PersistentDataType.STRING).split(" "));
+      ActiveAbility ability = new ActiveAbility(cooldowns, id, activeAbilityType, itemTags.get(activeKey, PersistentDataType.STRING).split(" "));
       ability.doEffect(caster);
     }
   }
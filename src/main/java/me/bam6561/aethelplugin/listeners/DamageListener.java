@@ -1,12 +1,12 @@
 package me.bam6561.aethelplugin.listeners;
 
 import me.bam6561.aethelplugin.Plugin;
-import me.bam6561.aethelplugin.enums.plugin.Key;
-import me.bam6561.aethelplugin.enums.rpg.AethelAttribute;
 import me.bam6561.aethelplugin.enums.rpg.StatusType;
 import me.bam6561.aethelplugin.enums.rpg.abilities.PassiveTriggerType;
+import me.bam6561.aethelplugin.plugin.EffectBuffer;
 import me.bam6561.aethelplugin.rpg.*;
 import me.bam6561.aethelplugin.rpg.abilities.PassiveAbility;
+import me.bam6561.aethelplugin.utils.entity.DamageFormula;
 import me.bam6561.aethelplugin.utils.entity.DamageMitigation;
 import me.bam6561.aethelplugin.utils.entity.HealthChange;
 import me.bam6561.aethelplugin.utils.item.DurabilityChange;
@@ -24,21 +24,24 @@ import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.inventory.meta.PotionMeta;
-import org.bukkit.persistence.PersistentDataContainer;
-import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.potion.PotionType;
 import org.bukkit.util.Vector;
+import org.jetbrains.annotations.NotNull;
 
-import java.util.Map;
-import java.util.Random;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.random.RandomGenerator;
 
 /**
  * Collection of damage done, taken, and healed listeners.
+ * <p>
+ * Damage is calculated by running the {@link RpgSystem}'s {@link DamagePipeline damage pipelines}
+ * over a {@link DamageContext} that is reused across hits instead of being allocated per event.
+ * A fresh context is only created when damage is dealt while another hit is still being calculated.
  *
  * @author Danny Nguyen
- * @version 1.27.4
+ * @version 1.27.43
  * @since 1.9.4
  */
 public class DamageListener implements Listener {
@@ -48,13 +51,40 @@ public class DamageListener implements Listener {
   private static final Set<EntityDamageEvent.DamageCause> ignoredDamageCauses = Set.of(EntityDamageEvent.DamageCause.CUSTOM, EntityDamageEvent.DamageCause.KILL);
 
   /**
-   * No parameter constructor.
+   * Reused {@link DamageContext}.
+   */
+  private final DamageContext context = new DamageContext(Plugin.getData().getRpgSystem(), Plugin.getData().getEffectBuffer());
+
+  /**
+   * Reused {@link HealthChange} for healing.
+   */
+  private final HealthChange healthChange = new HealthChange();
+
+  /**
+   * Registers the default {@link EntityDamage} and {@link EnvironmentDamage} stages.
    */
   public DamageListener() {
+    addStages(Plugin.getData().getRpgSystem());
+  }
+
+  /**
+   * Adds the default {@link EntityDamage} and {@link EnvironmentDamage}
+   * stages to an {@link RpgSystem}'s {@link DamagePipeline damage pipelines}.
+   *
+   * @param rpgSystem {@link RpgSystem}
+   */
+  public static void addStages(@NotNull RpgSystem rpgSystem) {
+    Objects.requireNonNull(rpgSystem, "Null RPG system");
+    EntityDamage.addStages(rpgSystem.getEntityDamagePipeline());
+    EnvironmentDamage.addStages(rpgSystem.getEnvironmentDamagePipeline());
   }
 
   /**
    * Processes damage dealt and taken interactions.
+   * <p>
+   * Environmental damage taken by entities that don't
+   * {@link RpgSystem#isParticipant(LivingEntity) participate}
+   * in the RPG system is left to vanilla.
    *
    * @param e entity damage event
    */
@@ -64,17 +94,32 @@ public class DamageListener implements Listener {
       return;
     }
 
-    if (!(e.getEntity() instanceof LivingEntity)) {
+    if (!(e.getEntity() instanceof LivingEntity defender)) {
       return;
     }
 
+    RpgSystem rpgSystem = Plugin.getData().getRpgSystem();
+    DamagePipeline pipeline;
     if (e instanceof EntityDamageByEntityEvent event) {
-      new EntityDamage(event).calculateDamage();
+      if (event.getDamager().getType() == EntityType.FROG && defender.getType() == EntityType.MAGMA_CUBE) {
+        return;
+      }
+      pipeline = rpgSystem.getEntityDamagePipeline();
+    } else if (!ignoredDamageCauses.contains(e.getCause()) && rpgSystem.isParticipant(defender)) {
+      pipeline = rpgSystem.getEnvironmentDamagePipeline();
+    } else {
       return;
     }
 
-    if (!ignoredDamageCauses.contains(e.getCause())) {
-      new EnvironmentDamage(e).calculateDamage();
+    DamageContext context = this.context.isInUse() ? new DamageContext(rpgSystem, Plugin.getData().getEffectBuffer()) : this.context;
+    context.load(e);
+    try {
+      if (pipeline.run(context)) {
+        e.setCancelled(true);
+      }
+      context.applyDamage();
+    } finally {
+      context.clear();
     }
   }
 
@@ -85,209 +130,121 @@ public class DamageListener implements Listener {
    */
   @EventHandler
   private void onRegainHealth(EntityRegainHealthEvent e) {
-    if (e.getEntity() instanceof LivingEntity livingEntity) {
-      new HealthChange(livingEntity).heal(e.getAmount());
+    if (e.getEntity() instanceof LivingEntity livingEntity && Plugin.getData().getRpgSystem().isParticipant(livingEntity)) {
+      healthChange.reset(livingEntity).heal(e.getAmount());
+      healthChange.clear();
       e.setCancelled(true);
     }
   }
 
   /**
-   * Represents an entity damaging another entity.
+   * Represents the stages of an entity damaging another entity.
    *
    * @author Danny Nguyen
-   * @version 1.27.0
+   * @version 1.27.43
    * @since 1.23.13
    */
   private static class EntityDamage {
     /**
-     * RNG.
-     */
-    private final Random random = new Random();
-
-    /**
-     * Entity damage by entity event.
-     */
-    private final EntityDamageByEntityEvent e;
-
-    /**
-     * Attacking entity.
-     */
-    private final Entity attacker;
-
-    /**
-     * Defending entity.
-     */
-    private final LivingEntity defender;
-
-    /**
-     * Damage mitigation.
-     */
-    private final DamageMitigation mitigation;
-
-    /**
-     * Defending entity's statuses.
-     */
-    private final Map<StatusType, Status> defenderStatuses;
-
-    /**
-     * Attacking entity's persistent tags.
+     * Stage methods only.
      */
-    private final PersistentDataContainer attackerEntityTags;
-
-    /**
-     * Defending entity's persistent tags.
-     */
-    private final PersistentDataContainer defenderEntityTags;
-
-    /**
-     * Attacking entity's buffs.
-     */
-    private final Buffs attackerBuffs;
-
-    /**
-     * Defending entity's buffs.
-     */
-    private final Buffs defenderBuffs;
-
-    /**
-     * Associates the entity damage by entity event with all its components.
-     *
-     * @param e entity damage by entity event
-     */
-    EntityDamage(EntityDamageByEntityEvent e) {
-      this.e = e;
-      this.attacker = e.getDamager();
-      this.defender = (LivingEntity) e.getEntity();
-      this.mitigation = new DamageMitigation(defender);
-      this.attackerEntityTags = attacker.getPersistentDataContainer();
-      this.defenderEntityTags = defender.getPersistentDataContainer();
-      RpgSystem rpgSystem = Plugin.getData().getRpgSystem();
-      this.defenderStatuses = rpgSystem.getStatuses().get(defender.getUniqueId());
-      Map<UUID, Buffs> entityBuffs = rpgSystem.getBuffs();
-      this.attackerBuffs = entityBuffs.get(attacker.getUniqueId());
-      this.defenderBuffs = entityBuffs.get(defender.getUniqueId());
+    private EntityDamage() {
     }
 
     /**
-     * Calculates damage dealt by entity.
-     */
-    private void calculateDamage() {
-      if (attacker.getType() == EntityType.FROG && defender.getType() == EntityType.MAGMA_CUBE) {
-        return;
-      }
-
-      if (attacker instanceof LivingEntity) {
-        ifCriticallyHit();
-        if (defenderStatuses != null) {
-          ifVulnerable();
-        }
-      }
-
-      if (mitigateSpecificCauseDamage()) {
-        e.setCancelled(true);
-        return;
-      }
-
-      if (ifBlocked()) {
-        e.setCancelled(true);
-        return;
-      }
-      if (ifCountered()) {
-        e.setCancelled(true);
-        return;
-      } else if (ifDodged()) {
-        e.setCancelled(true);
-        return;
-      } else if (ifTougher()) {
-        e.setCancelled(true);
-        return;
-      }
-
-      e.setDamage(mitigation.mitigateArmorProtectionResistance(e.getDamage()));
-      final double finalDamage = e.getDamage();
-
-      if (defender instanceof Player defenderPlayer) {
-        triggerDamageTakenPassives(defenderPlayer);
-      }
-
-      new HealthChange(defender).damage(e, finalDamage);
-
-      if (defender.getHealth() != 0.0 && attacker instanceof Player attackerPlayer) {
-        triggerDamageDealtPassives(attackerPlayer);
-      }
+     * Adds the stages in the order damage dealt by entity is calculated.
+     *
+     * @param pipeline {@link DamagePipeline}
+     */
+    private static void addStages(DamagePipeline pipeline) {
+      pipeline.addStage("critical-hit", EntityDamage::ifCriticallyHit);
+      pipeline.addStage("vulnerable", EntityDamage::ifVulnerable);
+      pipeline.addStage("specific-cause", EntityDamage::mitigateSpecificCauseDamage);
+      pipeline.addStage("block", EntityDamage::ifBlocked);
+      pipeline.addStage("counter", EntityDamage::ifCountered);
+      pipeline.addStage("dodge", EntityDamage::ifDodged);
+      pipeline.addStage("toughness", DamageListener::ifTougher);
+      pipeline.addStage("armor-protection-resistance", EntityDamage::mitigateArmorProtectionResistance);
+      pipeline.addStage("damage-taken-passives", EntityDamage::triggerDamageTakenPassives);
+      pipeline.addCoreStage("health", EntityDamage::changeHealth);
+      pipeline.addStage("damage-dealt-passives", EntityDamage::triggerDamageDealtPassives);
     }
 
     /**
      * If the attacker dealt a critical hit, multiply the damage by its modifier.
+     *
+     * @param c {@link DamageContext}
+     * @return false
      */
-    private void ifCriticallyHit() {
-      double criticalChanceBase = attackerEntityTags.getOrDefault(Key.ATTRIBUTE_CRITICAL_CHANCE.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
-      double criticalChanceBuff = 0.0;
-      if (attackerBuffs != null) {
-        criticalChanceBuff = attackerBuffs.getAethelAttribute(AethelAttribute.CRITICAL_CHANCE);
-      }
+    private static boolean ifCriticallyHit(DamageContext c) {
+      CombatProfile attackerProfile = c.getAttackerProfile();
+      if (attackerProfile != null && attackerProfile.getCriticalChance() > c.getRandom().nextDouble() * 100) {
+        World world = c.getDefender().getWorld();
+        EffectBuffer effectBuffer = c.getEffectBuffer();
+        effectBuffer.spawnParticle(world, Particle.CRIT, c.getDefenderLocation().add(0, 1, 0), 3, 0.5, 0.5, 0.5);
+        effectBuffer.playSound(world, c.getDefenderEyeLocation(), Sound.ENTITY_PLAYER_ATTACK_CRIT, SoundCategory.PLAYERS, 0.65f, 1);
 
-      if (criticalChanceBase + criticalChanceBuff > random.nextDouble() * 100) {
-        World world = defender.getWorld();
-        world.spawnParticle(Particle.CRIT, defender.getLocation().add(0, 1, 0), 3, 0.5, 0.5, 0.5);
-        world.playSound(defender.getEyeLocation(), Sound.ENTITY_PLAYER_ATTACK_CRIT, SoundCategory.PLAYERS, 0.65f, 1);
-
-        double criticalDamageBase = attackerEntityTags.getOrDefault(Key.ATTRIBUTE_CRITICAL_DAMAGE.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
-        double criticalDamageBuff = 0.0;
-        if (attackerBuffs != null) {
-          criticalDamageBuff = attackerBuffs.getAethelAttribute(AethelAttribute.CRITICAL_DAMAGE);
-        }
-
-        e.setDamage(e.getDamage() * (1.25 + (criticalDamageBase + criticalDamageBuff) / 100));
+        c.setDamage(c.getDamage() * DamageFormula.getCriticalMultiplier(attackerProfile.getCriticalDamage()));
       }
+      return false;
     }
 
     /**
      * If the target has the {@link StatusType#VULNERABLE}, multiply the damage by its number of stacks.
+     *
+     * @param c {@link DamageContext}
+     * @return false
      */
-    private void ifVulnerable() {
-      if (defenderStatuses.containsKey(StatusType.VULNERABLE)) {
-        int vulnerable = defenderStatuses.get(StatusType.VULNERABLE).getStackAmount();
-        e.setDamage(e.getDamage() * (1 + (vulnerable * 0.025)));
+    private static boolean ifVulnerable(DamageContext c) {
+      if (c.getAttackerProfile() == null) {
+        return false;
+      }
+      int vulnerable = c.getDefenderProfile().getVulnerable();
+      if (vulnerable > 0) {
+        c.setDamage(c.getDamage() * DamageFormula.getVulnerableMultiplier(vulnerable));
       }
+      return false;
     }
 
     /**
      * Mitigates specific cause damage taken based on their respective protection enchantment.
      *
+     * @param c {@link DamageContext}
      * @return if no damage taken or magic damage was taken/mitigated
      */
-    private boolean mitigateSpecificCauseDamage() {
-      switch (e.getCause()) {
+    private static boolean mitigateSpecificCauseDamage(DamageContext c) {
+      LivingEntity defender = c.getDefender();
+      Entity attacker = c.getAttacker();
+      switch (c.getCause()) {
         case BLOCK_EXPLOSION, ENTITY_EXPLOSION -> {
-          if (ifBlocked()) {
+          if (ifBlocked(c)) {
             return true;
           }
 
-          e.setDamage(mitigation.mitigateExplosion(e.getDamage()));
-          if (e.getDamage() <= 0) {
+          c.setDamage(c.getMitigation().mitigateExplosion(c.getDamage()));
+          if (c.getDamage() <= 0) {
             return true;
           }
         }
         case MAGIC -> {
-          final double finalDamage = mitigation.mitigateProtectionResistance(e.getDamage());
-          e.setDamage(0.01);
+          final double finalDamage = c.getMitigation().mitigateProtectionResistance(c.getDamage());
+          c.setDamage(0.01);
 
           if (defender instanceof Player defenderPlayer) {
-            triggerDamageTakenPassives(defenderPlayer);
+            triggerDamageTakenPassives(c, defenderPlayer);
           }
 
-          new HealthChange(defender).damage(finalDamage);
+          c.getHealthChange().damage(finalDamage);
           return true;
         }
         case PROJECTILE -> {
-          if (ifBlocked()) {
+          if (ifBlocked(c)) {
             return true;
           }
 
-          int projectileProtection = defender.getPersistentDataContainer().getOrDefault(Key.ENCHANTMENT_PROJECTILE_PROTECTION.getNamespacedKey(), PersistentDataType.INTEGER, 0);
+          int projectileProtection = c.getDefenderProfile().getProjectileProtection();
           if (projectileProtection > 0) {
-            e.setDamage(mitigation.mitigateProjectile(e.getDamage()));
+            c.setDamage(c.getMitigation().mitigateProjectile(c.getDamage()));
           }
 
           if (defender instanceof Player defendingPlayer && projectileProtection >= 10) {
@@ -313,14 +270,14 @@ public class DamageListener implements Listener {
         }
       }
       if (attacker.getType() == EntityType.AREA_EFFECT_CLOUD) {
-        final double finalDamage = mitigation.mitigateProtectionResistance(e.getDamage());
-        e.setDamage(0.01);
+        final double finalDamage = c.getMitigation().mitigateProtectionResistance(c.getDamage());
+        c.setDamage(0.01);
 
         if (defender instanceof Player defenderPlayer) {
-          triggerDamageTakenPassives(defenderPlayer);
+          triggerDamageTakenPassives(c, defenderPlayer);
         }
 
-        new HealthChange(defender).damage(finalDamage);
+        c.getHealthChange().damage(finalDamage);
         return true;
       }
       return false;
@@ -329,21 +286,23 @@ public class DamageListener implements Listener {
     /**
      * If the player blocked the attack with a shield.
      *
+     * @param c {@link DamageContext}
      * @return if the player blocked the attack with a shield
      */
-    private boolean ifBlocked() {
+    private static boolean ifBlocked(DamageContext c) {
+      LivingEntity defender = c.getDefender();
       if (!(defender instanceof Player defendingPlayer)) {
         return false;
       }
-      if (!(defendingPlayer.isBlocking() && getDirectionAngle() <= 90)) {
+      if (!(defendingPlayer.isBlocking() && getDirectionAngle(c) <= 90)) {
         return false;
       }
-      if (attacker instanceof LivingEntity livingAttacker) {
+      if (c.getAttacker() instanceof LivingEntity livingAttacker) {
         ItemStack hand = livingAttacker.getEquipment().getItemInMainHand();
         if (ItemReader.isNotNullOrAir(hand)) {
           switch (hand.getType()) {
             case WOODEN_AXE, STONE_AXE, IRON_AXE, DIAMOND_AXE, NETHERITE_AXE -> {
-              defender.getWorld().playSound(defender.getLocation(), Sound.ITEM_SHIELD_BREAK, SoundCategory.PLAYERS, 1, 1);
+              c.getEffectBuffer().playSound(defender.getWorld(), c.getDefenderLocation(), Sound.ITEM_SHIELD_BREAK, SoundCategory.PLAYERS, 1, 1);
               defendingPlayer.setCooldown(Material.SHIELD, 100);
             }
           }
@@ -353,12 +312,12 @@ public class DamageListener implements Listener {
       ItemStack offhand = defenderEquipment.getItemInOffHand();
       ItemStack hand = defenderEquipment.getItemInMainHand();
       if (offhand.getType() == Material.SHIELD && !offhand.getItemMeta().isUnbreakable()) {
-        DurabilityChange.increaseDamage(defender, defender.getEquipment(), EquipmentSlot.OFF_HAND, Math.max(1, (int) e.getDamage() / 4));
-        defender.getWorld().playSound(defender.getEyeLocation(), Sound.ITEM_SHIELD_BLOCK, SoundCategory.PLAYERS, 1, 1);
+        DurabilityChange.increaseDamage(defender, defender.getEquipment(), EquipmentSlot.OFF_HAND, Math.max(1, (int) c.getDamage() / 4));
+        c.getEffectBuffer().playSound(defender.getWorld(), c.getDefenderEyeLocation(), Sound.ITEM_SHIELD_BLOCK, SoundCategory.PLAYERS, 1, 1);
         return true;
       } else if (hand.getType() == Material.SHIELD && !hand.getItemMeta().isUnbreakable()) {
-        DurabilityChange.increaseDamage(defender, defender.getEquipment(), EquipmentSlot.HAND, Math.max(1, (int) e.getDamage() / 4));
-        defender.getWorld().playSound(defender.getEyeLocation(), Sound.ITEM_SHIELD_BLOCK, SoundCategory.PLAYERS, 1, 1);
+        DurabilityChange.increaseDamage(defender, defender.getEquipment(), EquipmentSlot.HAND, Math.max(1, (int) c.getDamage() / 4));
+        c.getEffectBuffer().playSound(defender.getWorld(), c.getDefenderEyeLocation(), Sound.ITEM_SHIELD_BLOCK, SoundCategory.PLAYERS, 1, 1);
         return true;
       }
       return true;
@@ -371,29 +330,20 @@ public class DamageListener implements Listener {
      * <p>
      * Projectile attacks cannot trigger counterattacks.
      *
+     * @param c {@link DamageContext}
      * @return if the attacker died
      */
-    private boolean ifCountered() {
-      if (e.getCause() == EntityDamageEvent.DamageCause.PROJECTILE || !(attacker instanceof LivingEntity livingAttacker)) {
+    private static boolean ifCountered(DamageContext c) {
+      if (c.getCause() == EntityDamageEvent.DamageCause.PROJECTILE || !(c.getAttacker() instanceof LivingEntity livingAttacker)) {
         return false;
       }
 
-      double counterChanceBase = defenderEntityTags.getOrDefault(Key.ATTRIBUTE_COUNTER_CHANCE.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
-      double counterChanceBuff = 0.0;
-      if (defenderBuffs != null) {
-        counterChanceBuff = defenderBuffs.getAethelAttribute(AethelAttribute.COUNTER_CHANCE);
-      }
-
-      double feintSkillBase = attackerEntityTags.getOrDefault(Key.ATTRIBUTE_FEINT_SKILL.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
-      double feintSkillBuff = 0.0;
-      if (attackerBuffs != null) {
-        feintSkillBuff = attackerBuffs.getAethelAttribute(AethelAttribute.FEINT_SKILL);
-      }
-
-      if (counterChanceBase + counterChanceBuff - feintSkillBase - feintSkillBuff > random.nextDouble() * 100) {
+      if (c.getDefenderProfile().getCounterChance() - c.getAttackerProfile().getFeintSkill() > c.getRandom().nextDouble() * 100) {
+        LivingEntity defender = c.getDefender();
         World world = defender.getWorld();
-        world.spawnParticle(Particle.FIREWORK, defender.getLocation().add(0, 1, 0), 3, 0.5, 0.5, 0.5, 0.05);
-        world.playSound(defender.getEyeLocation(), Sound.ENTITY_ALLAY_HURT, SoundCategory.PLAYERS, 0.65f, 0.75f);
+        EffectBuffer effectBuffer = c.getEffectBuffer();
+        effectBuffer.spawnParticle(world, Particle.FIREWORK, c.getDefenderLocation().add(0, 1, 0), 3, 0.5, 0.5, 0.5, 0.05);
+        effectBuffer.playSound(world, c.getDefenderEyeLocation(), Sound.ENTITY_ALLAY_HURT, SoundCategory.PLAYERS, 0.65f, 0.75f);
 
         int attackSpeed;
         if (defender.getAttribute(Attribute.GENERIC_ATTACK_SPEED) != null) {
@@ -403,16 +353,16 @@ public class DamageListener implements Listener {
         }
 
         double counterDamage = attackSpeed * defender.getAttribute(Attribute.GENERIC_ATTACK_DAMAGE).getValue();
-        final double finalDamage = new DamageMitigation(livingAttacker).mitigateArmorProtectionResistance(counterDamage);
+        final double finalDamage = c.getAttackerMitigation().mitigateArmorProtectionResistance(counterDamage);
 
         if (livingAttacker instanceof Player player) {
           if (player.getGameMode() == GameMode.SURVIVAL || player.getGameMode() == GameMode.ADVENTURE) {
-            new HealthChange(player).damage(finalDamage);
+            c.getAttackerHealthChange().damage(finalDamage);
           }
         } else {
-          new HealthChange(livingAttacker).damage(finalDamage);
+          c.getAttackerHealthChange().damage(finalDamage);
         }
-        return attackerEntityTags.get(Key.RPG_HEALTH.getNamespacedKey(), PersistentDataType.DOUBLE) <= 0.0;
+        return c.getRpgSystem().getHealthTable().getHealth(livingAttacker) <= 0.0;
       }
       return false;
     }
@@ -420,81 +370,90 @@ public class DamageListener implements Listener {
     /**
      * Ignore damage taken if the entity dodged.
      *
+     * @param c {@link DamageContext}
      * @return if dodged
      */
-    private boolean ifDodged() {
-      double dodgeChanceBase = defenderEntityTags.getOrDefault(Key.ATTRIBUTE_DODGE_CHANCE.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
-      double dodgeChanceBuff = 0.0;
-      if (defenderBuffs != null) {
-        dodgeChanceBuff = defenderBuffs.getAethelAttribute(AethelAttribute.DODGE_CHANCE);
-      }
-
-      double accuracySkillBase = attackerEntityTags.getOrDefault(Key.ATTRIBUTE_ACCURACY_SKILL.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
-      double accuracySkillBuff = 0.0;
-      if (attackerBuffs != null) {
-        accuracySkillBuff = attackerBuffs.getAethelAttribute(AethelAttribute.ACCURACY_SKILL);
-      }
-
-      if (dodgeChanceBase + dodgeChanceBuff - accuracySkillBase - accuracySkillBuff > random.nextDouble() * 100) {
-        World world = defender.getWorld();
-        world.spawnParticle(Particle.EXPLOSION, defender.getLocation().add(0, 1, 0), 3, 0.5, 0.5, 0.5, 0.05);
-        world.playSound(defender.getEyeLocation(), Sound.ITEM_CROSSBOW_SHOOT, SoundCategory.PLAYERS, 0.65f, 0);
+    private static boolean ifDodged(DamageContext c) {
+      CombatProfile attackerProfile = c.getAttackerProfile();
+      double accuracySkill = attackerProfile != null ? attackerProfile.getAccuracySkill() : 0.0;
+      if (c.getDefenderProfile().getDodgeChance() - accuracySkill > c.getRandom().nextDouble() * 100) {
+        World world = c.getDefender().getWorld();
+        EffectBuffer effectBuffer = c.getEffectBuffer();
+        effectBuffer.spawnParticle(world, Particle.EXPLOSION, c.getDefenderLocation().add(0, 1, 0), 3, 0.5, 0.5, 0.5, 0.05);
+        effectBuffer.playSound(world, c.getDefenderEyeLocation(), Sound.ITEM_CROSSBOW_SHOOT, SoundCategory.PLAYERS, 0.65f, 0);
         return true;
       }
       return false;
     }
 
     /**
-     * Ignore damage taken if the defender's toughness is higher,
-     * otherwise toughness mitigates damage by a flat amount.
+     * Mitigates damage taken based on the defender's armor, protection, and resistance.
      *
-     * @return if tougher than damage
+     * @param c {@link DamageContext}
+     * @return false
      */
-    private boolean ifTougher() {
-      double toughnessBase = defenderEntityTags.getOrDefault(Key.ATTRIBUTE_ARMOR_TOUGHNESS.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
-      double toughnessBuff = 0.0;
-      if (defenderBuffs != null) {
-        toughnessBuff = defenderBuffs.getAethelAttribute(AethelAttribute.ARMOR_TOUGHNESS);
-      }
-      double toughness = defender.getAttribute(Attribute.GENERIC_ARMOR_TOUGHNESS).getValue() + toughnessBase + toughnessBuff;
-      if (defenderStatuses != null && defenderStatuses.containsKey(StatusType.BATTER)) {
-        toughness = Math.max(0, toughness - defenderStatuses.get(StatusType.BATTER).getStackAmount());
-      }
+    private static boolean mitigateArmorProtectionResistance(DamageContext c) {
+      c.setDamage(c.getMitigation().mitigateArmorProtectionResistance(c.getDamage()));
+      return false;
+    }
 
-      e.setDamage(Math.max(0, e.getDamage() - (toughness / 2)));
-      if (e.getDamage() == 0) {
-        World world = defender.getWorld();
-        world.spawnParticle(Particle.END_ROD, defender.getLocation().add(0, 1, 0), 3, 0.5, 0.5, 0.5, 0.05);
-        world.playSound(defender.getEyeLocation(), Sound.BLOCK_IRON_TRAPDOOR_CLOSE, SoundCategory.PLAYERS, 1, 0);
-        return true;
+    /**
+     * Triggers the defending player's {@link PassiveTriggerType#DAMAGE_TAKEN} {@link PassiveAbility passive abilities}.
+     *
+     * @param c {@link DamageContext}
+     * @return false
+     */
+    private static boolean triggerDamageTakenPassives(DamageContext c) {
+      if (c.getDefender() instanceof Player defenderPlayer) {
+        triggerDamageTakenPassives(c, defenderPlayer);
       }
       return false;
     }
 
     /**
-     * Triggers {@link PassiveTriggerType#DAMAGE_DEALT} {@link PassiveAbility passive abilities}.
+     * Applies the final damage to the defender's health.
      *
-     * @param attacker attacking player
+     * @param c {@link DamageContext}
+     * @return false
      */
-    private void triggerDamageDealtPassives(Player attacker) {
-      if (attacker.getAttackCooldown() < 0.75 || e.getCause() == EntityDamageEvent.DamageCause.ENTITY_SWEEP_ATTACK || !(e.getEntity() instanceof LivingEntity defender)) {
-        return;
+    private static boolean changeHealth(DamageContext c) {
+      c.getHealthChange().damage((EntityDamageByEntityEvent) c.getEvent(), c.getDamage());
+      return false;
+    }
+
+    /**
+     * Triggers {@link PassiveTriggerType#DAMAGE_DEALT} {@link PassiveAbility passive abilities}
+     * if the defender survived and the attacker is a player.
+     * <p>
+     * Players without RPG data, such as NPCs, have no passive abilities.
+     *
+     * @param c {@link DamageContext}
+     * @return false
+     */
+    private static boolean triggerDamageDealtPassives(DamageContext c) {
+      LivingEntity defender = c.getDefender();
+      if (defender.getHealth() == 0.0 || !(c.getAttacker() instanceof Player attacker)) {
+        return false;
+      }
+      if (attacker.getAttackCooldown() < 0.75 || c.getCause() == EntityDamageEvent.DamageCause.ENTITY_SWEEP_ATTACK) {
+        return false;
       }
 
-      RpgPlayer rpgPlayer = Plugin.getData().getRpgSystem().getRpgPlayers().get(attacker.getUniqueId());
-      Map<Equipment.Abilities.SlotPassive, PassiveAbility> damageDealtTriggers = rpgPlayer.getEquipment().getAbilities().getTriggerPassives().get(PassiveTriggerType.DAMAGE_DEALT);
-      if (damageDealtTriggers.isEmpty()) {
-        return;
+      RpgSystem rpgSystem = c.getRpgSystem();
+      RpgPlayer rpgPlayer = rpgSystem.getRpgPlayers().get(attacker.getUniqueId());
+      if (rpgPlayer == null) {
+        return false;
+      }
+      PassiveAbility[] damageDealtTriggers = rpgPlayer.getEquipment().getAbilities().getTriggerPassives(PassiveTriggerType.DAMAGE_DEALT);
+      if (damageDealtTriggers.length == 0) {
+        return false;
       }
 
-      Random random = new Random();
-      for (PassiveAbility ability : damageDealtTriggers.values()) {
-        if (ability.isOnCooldown()) {
-          continue;
-        }
-        double chance = Double.parseDouble(ability.getConditionData().get(0));
-        if (chance > random.nextDouble() * 100) {
-          boolean self = Boolean.parseBoolean(ability.getEffectData().get(0));
+      RandomGenerator random = c.getRandom();
+      long currentTick = rpgSystem.getCurrentTick();
+      for (PassiveAbility ability : damageDealtTriggers) {
+        if (ability.isTriggered(currentTick, random)) {
+          boolean self = ability.isSelf();
           UUID targetUUID;
           if (self) {
             targetUUID = attacker.getUniqueId();
@@ -504,30 +463,35 @@ public class DamageListener implements Listener {
           ability.doEffect(rpgPlayer.getUUID(), targetUUID);
         }
       }
+      return false;
     }
 
     /**
      * Triggers {@link PassiveTriggerType#DAMAGE_TAKEN} {@link PassiveAbility passive abilities}.
+     * <p>
+     * Players without RPG data, such as NPCs, have no passive abilities.
      *
+     * @param c        {@link DamageContext}
      * @param defender defending player
      */
-    private void triggerDamageTakenPassives(Player defender) {
-      RpgPlayer rpgPlayer = Plugin.getData().getRpgSystem().getRpgPlayers().get(defender.getUniqueId());
-      Map<Equipment.Abilities.SlotPassive, PassiveAbility> damageTakenTriggers = rpgPlayer.getEquipment().getAbilities().getTriggerPassives().get(PassiveTriggerType.DAMAGE_TAKEN);
-      if (damageTakenTriggers.isEmpty()) {
+    private static void triggerDamageTakenPassives(DamageContext c, Player defender) {
+      RpgPlayer rpgPlayer = c.getRpgSystem().getRpgPlayers().get(defender.getUniqueId());
+      if (rpgPlayer == null) {
+        return;
+      }
+      PassiveAbility[] damageTakenTriggers = rpgPlayer.getEquipment().getAbilities().getTriggerPassives(PassiveTriggerType.DAMAGE_TAKEN);
+      if (damageTakenTriggers.length == 0) {
         return;
       }
 
+      Entity attacker = c.getAttacker();
       boolean livingAttacker = attacker instanceof LivingEntity;
 
-      Random random = new Random();
-      for (PassiveAbility ability : damageTakenTriggers.values()) {
-        if (ability.isOnCooldown()) {
-          continue;
-        }
-        double chance = Double.parseDouble(ability.getConditionData().get(0));
-        if (chance > random.nextDouble() * 100) {
-          boolean self = Boolean.parseBoolean(ability.getEffectData().get(0));
+      RandomGenerator random = c.getRandom();
+      long currentTick = c.getRpgSystem().getCurrentTick();
+      for (PassiveAbility ability : damageTakenTriggers) {
+        if (ability.isTriggered(currentTick, random)) {
+          boolean self = ability.isSelf();
           if (livingAttacker) {
             UUID targetUUID;
             if (self) {
@@ -548,13 +512,14 @@ public class DamageListener implements Listener {
     /**
      * Gets an attacker's direction angle from the location of the defender.
      *
+     * @param c {@link DamageContext}
      * @return attacker's direction angle
      */
-    private double getDirectionAngle() {
-      Location defenderLocation = defender.getLocation();
+    private static double getDirectionAngle(DamageContext c) {
+      Location defenderLocation = c.getDefender().getLocation();
       Vector defenderDirection = defenderLocation.getDirection();
       Vector entityLocationVector = defenderLocation.toVector();
-      Vector entityDirection = attacker.getLocation().toVector().subtract(entityLocationVector);
+      Vector entityDirection = c.getAttacker().getLocation().toVector().subtract(entityLocationVector);
 
       double x1 = defenderDirection.getX();
       double z1 = defenderDirection.getZ();
@@ -568,117 +533,74 @@ public class DamageListener implements Listener {
   }
 
   /**
-   * Represents environmental damage taken by an entity.
+   * Represents the stages of environmental damage taken by an entity.
    *
    * @author Danny Nguyen
-   * @version 1.27.0
+   * @version 1.27.43
    * @since 1.23.13
    */
-  private class EnvironmentDamage {
-    /**
-     * RNG.
-     */
-    private final Random random = new Random();
-
-    /**
-     * Entity damage event.
-     */
-    private final EntityDamageEvent e;
-
+  private static class EnvironmentDamage {
     /**
-     * Defending entity.
+     * Stage methods only.
      */
-    private final LivingEntity defender;
-
-    /**
-     * Defending entity's persistent tags.
-     */
-    private final PersistentDataContainer defenderEntityTags;
-
-    /**
-     * Defending entity's statuses.
-     */
-    private final Map<StatusType, Status> defenderStatuses;
-
-    /**
-     * Defending entity's buffs.
-     */
-    private final Buffs defenderBuffs;
-
-    /**
-     * Associates the entity damage event with all its components.
-     *
-     * @param e entity damage event
-     */
-    EnvironmentDamage(EntityDamageEvent e) {
-      this.e = e;
-      this.defender = (LivingEntity) e.getEntity();
-      this.defenderEntityTags = defender.getPersistentDataContainer();
-      RpgSystem rpgSystem = Plugin.getData().getRpgSystem();
-      this.defenderStatuses = rpgSystem.getStatuses().get(defender.getUniqueId());
-      this.defenderBuffs = rpgSystem.getBuffs().get(defender.getUniqueId());
+    private EnvironmentDamage() {
     }
 
     /**
-     * Calculates damage dealt by environment.
+     * Adds the stages in the order damage dealt by environment is calculated.
+     *
+     * @param pipeline {@link DamagePipeline}
      */
-    private void calculateDamage() {
-      if (mitigateEnvironmentalDamage()) {
-        e.setCancelled(true);
-        return;
-      }
-
-      final double finalDamage = e.getDamage();
-      e.setDamage(0.01);
-
-      if (defender instanceof Player defenderPlayer) {
-        triggerDamageTakenPassives(defenderPlayer);
-      }
-
-      new HealthChange(defender).damage(finalDamage);
+    private static void addStages(DamagePipeline pipeline) {
+      pipeline.addStage("environmental-mitigation", EnvironmentDamage::mitigateEnvironmentalDamage);
+      pipeline.addStage("damage-taken-passives", EnvironmentDamage::triggerDamageTakenPassives);
+      pipeline.addCoreStage("health", EnvironmentDamage::changeHealth);
     }
 
     /**
      * Mitigates environmental damage taken based on the entity's {@link Equipment.Enchantments}.
      *
+     * @param c {@link DamageContext}
      * @return if no damage is taken
      */
-    private boolean mitigateEnvironmentalDamage() {
-      DamageMitigation mitigation = new DamageMitigation(defender);
-      switch (e.getCause()) {
-        case FALL -> e.setDamage(mitigation.mitigateFall(e.getDamage()));
+    private static boolean mitigateEnvironmentalDamage(DamageContext c) {
+      DamageMitigation mitigation = c.getMitigation();
+      switch (c.getCause()) {
+        case FALL -> c.setDamage(mitigation.mitigateFall(c.getDamage()));
         case DRAGON_BREATH, FLY_INTO_WALL, MAGIC, POISON, WITHER ->
-            e.setDamage(mitigation.mitigateProtection(e.getDamage()));
-        case FIRE, FIRE_TICK, HOT_FLOOR, LAVA -> e.setDamage(mitigation.mitigateFire(e.getDamage()));
+            c.setDamage(mitigation.mitigateProtection(c.getDamage()));
+        case FIRE, FIRE_TICK, HOT_FLOOR, LAVA -> c.setDamage(mitigation.mitigateFire(c.getDamage()));
         case BLOCK_EXPLOSION -> {
-          if (ifBlocked()) {
+          if (ifBlocked(c)) {
             return true;
           }
 
-          e.setDamage(mitigation.mitigateExplosion(e.getDamage()));
-          if (e.getDamage() <= 0) {
+          c.setDamage(mitigation.mitigateExplosion(c.getDamage()));
+          if (c.getDamage() <= 0) {
             return true;
           }
 
-          if (ifDodged()) {
+          if (ifDodged(c)) {
             return true;
-          } else if (ifTougher()) {
+          } else if (ifTougher(c)) {
             return true;
           }
 
-          e.setDamage(mitigation.mitigateArmorProtection(e.getDamage()));
+          c.setDamage(mitigation.mitigateArmorProtection(c.getDamage()));
         }
       }
-      e.setDamage(mitigation.mitigateResistance(e.getDamage()));
+      c.setDamage(mitigation.mitigateResistance(c.getDamage()));
       return false;
     }
 
     /**
      * If the player blocked with a shield.
      *
+     * @param c {@link DamageContext}
      * @return if the player blocked with a shield
      */
-    private boolean ifBlocked() {
+    private static boolean ifBlocked(DamageContext c) {
+      LivingEntity defender = c.getDefender();
       if (!(defender instanceof Player defendingPlayer)) {
         return false;
       }
@@ -689,12 +611,12 @@ public class DamageListener implements Listener {
       ItemStack offhand = defenderEquipment.getItemInOffHand();
       ItemStack hand = defenderEquipment.getItemInMainHand();
       if (offhand.getType() == Material.SHIELD && !offhand.getItemMeta().isUnbreakable()) {
-        DurabilityChange.increaseDamage(defender, defender.getEquipment(), EquipmentSlot.OFF_HAND, Math.max(1, (int) e.getDamage() / 4));
-        defender.getWorld().playSound(defender.getEyeLocation(), Sound.ITEM_SHIELD_BLOCK, SoundCategory.PLAYERS, 1, 1);
+        DurabilityChange.increaseDamage(defender, defender.getEquipment(), EquipmentSlot.OFF_HAND, Math.max(1, (int) c.getDamage() / 4));
+        c.getEffectBuffer().playSound(defender.getWorld(), c.getDefenderEyeLocation(), Sound.ITEM_SHIELD_BLOCK, SoundCategory.PLAYERS, 1, 1);
         return true;
       } else if (hand.getType() == Material.SHIELD && !hand.getItemMeta().isUnbreakable()) {
-        DurabilityChange.increaseDamage(defender, defender.getEquipment(), EquipmentSlot.HAND, Math.max(1, (int) e.getDamage() / 4));
-        defender.getWorld().playSound(defender.getEyeLocation(), Sound.ITEM_SHIELD_BLOCK, SoundCategory.PLAYERS, 1, 1);
+        DurabilityChange.increaseDamage(defender, defender.getEquipment(), EquipmentSlot.HAND, Math.max(1, (int) c.getDamage() / 4));
+        c.getEffectBuffer().playSound(defender.getWorld(), c.getDefenderEyeLocation(), Sound.ITEM_SHIELD_BLOCK, SoundCategory.PLAYERS, 1, 1);
         return true;
       }
       return true;
@@ -703,72 +625,93 @@ public class DamageListener implements Listener {
     /**
      * Ignore damage taken if the entity dodged.
      *
+     * @param c {@link DamageContext}
      * @return if dodged
      */
-    private boolean ifDodged() {
-      double dodgeChanceBase = defenderEntityTags.getOrDefault(Key.ATTRIBUTE_DODGE_CHANCE.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
-      double dodgeChanceBuff = 0.0;
-      if (defenderBuffs != null) {
-        dodgeChanceBuff = defenderBuffs.getAethelAttribute(AethelAttribute.DODGE_CHANCE);
-      }
-
-      if (dodgeChanceBase + dodgeChanceBuff > random.nextDouble() * 100) {
-        World world = defender.getWorld();
-        world.spawnParticle(Particle.EXPLOSION, defender.getLocation().add(0, 1, 0), 3, 0.5, 0.5, 0.5, 0.05);
-        world.playSound(defender.getEyeLocation(), Sound.ITEM_CROSSBOW_SHOOT, SoundCategory.PLAYERS, 0.65f, 0);
+    private static boolean ifDodged(DamageContext c) {
+      if (c.getDefenderProfile().getDodgeChance() > c.getRandom().nextDouble() * 100) {
+        World world = c.getDefender().getWorld();
+        EffectBuffer effectBuffer = c.getEffectBuffer();
+        effectBuffer.spawnParticle(world, Particle.EXPLOSION, c.getDefenderLocation().add(0, 1, 0), 3, 0.5, 0.5, 0.5, 0.05);
+        effectBuffer.playSound(world, c.getDefenderEyeLocation(), Sound.ITEM_CROSSBOW_SHOOT, SoundCategory.PLAYERS, 0.65f, 0);
         return true;
       }
       return false;
     }
 
     /**
-     * Ignore damage taken if the defender's toughness is higher,
-     * otherwise toughness mitigates damage by a flat amount.
+     * Triggers the defending player's {@link PassiveTriggerType#DAMAGE_TAKEN} {@link PassiveAbility passive abilities}.
      *
-     * @return if tougher than damage
+     * @param c {@link DamageContext}
+     * @return false
      */
-    private boolean ifTougher() {
-      double toughnessBase = defenderEntityTags.getOrDefault(Key.ATTRIBUTE_ARMOR_TOUGHNESS.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
-      double toughnessBuff = 0.0;
-      if (defenderBuffs != null) {
-        toughnessBuff = defenderBuffs.getAethelAttribute(AethelAttribute.ARMOR_TOUGHNESS);
-      }
-      double toughness = defender.getAttribute(Attribute.GENERIC_ARMOR_TOUGHNESS).getValue() + toughnessBase + toughnessBuff;
-      if (defenderStatuses != null && defenderStatuses.containsKey(StatusType.BATTER)) {
-        toughness = Math.max(0, toughness - defenderStatuses.get(StatusType.BATTER).getStackAmount());
+    private static boolean triggerDamageTakenPassives(DamageContext c) {
+      if (c.getDefender() instanceof Player defenderPlayer) {
+        DamageListener.triggerDamageTakenPassives(c, defenderPlayer);
       }
+      return false;
+    }
 
-      e.setDamage(Math.max(0, e.getDamage() - (toughness / 2)));
-      if (e.getDamage() == 0) {
-        World world = defender.getWorld();
-        world.spawnParticle(Particle.END_ROD, defender.getLocation().add(0, 1, 0), 3, 0.5, 0.5, 0.5, 0.05);
-        world.playSound(defender.getEyeLocation(), Sound.BLOCK_IRON_TRAPDOOR_CLOSE, SoundCategory.PLAYERS, 1, 0);
-        return true;
-      }
+    /**
+     * Applies the final damage to the defender's health.
+     *
+     * @param c {@link DamageContext}
+     * @return false
+     */
+    private static boolean changeHealth(DamageContext c) {
+      final double finalDamage = c.getDamage();
+      c.setDamage(0.01);
+      c.getHealthChange().damage(finalDamage);
       return false;
     }
   }
 
   /**
-   * Triggers {@link PassiveTriggerType#DAMAGE_TAKEN} {@link PassiveAbility passive abilities}.
+   * Ignore damage taken if the defender's toughness is higher,
+   * otherwise toughness mitigates damage by a flat amount.
    *
+   * @param c {@link DamageContext}
+   * @return if tougher than damage
+   */
+  private static boolean ifTougher(DamageContext c) {
+    LivingEntity defender = c.getDefender();
+    CombatProfile defenderProfile = c.getDefenderProfile();
+    double toughness = defender.getAttribute(Attribute.GENERIC_ARMOR_TOUGHNESS).getValue() + defenderProfile.getArmorToughness();
+    c.setDamage(DamageFormula.mitigateToughness(c.getDamage(), toughness, defenderProfile.getBatter()));
+    if (c.getDamage() == 0) {
+      World world = defender.getWorld();
+      EffectBuffer effectBuffer = c.getEffectBuffer();
+      effectBuffer.spawnParticle(world, Particle.END_ROD, c.getDefenderLocation().add(0, 1, 0), 3, 0.5, 0.5, 0.5, 0.05);
+      effectBuffer.playSound(world, c.getDefenderEyeLocation(), Sound.BLOCK_IRON_TRAPDOOR_CLOSE, SoundCategory.PLAYERS, 1, 0);
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Triggers {@link PassiveTriggerType#DAMAGE_TAKEN} {@link PassiveAbility passive abilities}
+   * from environmental damage, which can only be triggered on self.
+   * <p>
+   * Players without RPG data, such as NPCs, have no passive abilities.
+   *
+   * @param c        {@link DamageContext}
    * @param defender defending player
    */
-  private void triggerDamageTakenPassives(Player defender) {
-    RpgPlayer rpgPlayer = Plugin.getData().getRpgSystem().getRpgPlayers().get(defender.getUniqueId());
-    Map<Equipment.Abilities.SlotPassive, PassiveAbility> damageTakenTriggers = rpgPlayer.getEquipment().getAbilities().getTriggerPassives().get(PassiveTriggerType.DAMAGE_TAKEN);
-    if (damageTakenTriggers.isEmpty()) {
+  private static void triggerDamageTakenPassives(DamageContext c, Player defender) {
+    RpgPlayer rpgPlayer = c.getRpgSystem().getRpgPlayers().get(defender.getUniqueId());
+    if (rpgPlayer == null) {
+      return;
+    }
+    PassiveAbility[] damageTakenTriggers = rpgPlayer.getEquipment().getAbilities().getTriggerPassives(PassiveTriggerType.DAMAGE_TAKEN);
+    if (damageTakenTriggers.length == 0) {
       return;
     }
 
-    Random random = new Random();
-    for (PassiveAbility ability : damageTakenTriggers.values()) {
-      if (ability.isOnCooldown()) {
-        continue;
-      }
-      double chance = Double.parseDouble(ability.getConditionData().get(0));
-      if (chance > random.nextDouble() * 100) {
-        boolean self = Boolean.parseBoolean(ability.getEffectData().get(0));
+    RandomGenerator random = c.getRandom();
+    long currentTick = c.getRpgSystem().getCurrentTick();
+    for (PassiveAbility ability : damageTakenTriggers) {
+      if (ability.isTriggered(currentTick, random)) {
+        boolean self = ability.isSelf();
         if (self) {
           ability.doEffect(rpgPlayer.getUUID(), defender.getUniqueId());
         }
@@ -3,9 +3,9 @@ package me.bam6561.aethelplugin.listeners;
 import me.bam6561.aethelplugin.Plugin;
 import me.bam6561.aethelplugin.enums.rpg.RpgEquipmentSlot;
 import me.bam6561.aethelplugin.rpg.Equipment;
+import me.bam6561.aethelplugin.rpg.EquipmentReconciler;
 import me.bam6561.aethelplugin.utils.item.DurabilityChange;
 import me.bam6561.aethelplugin.utils.item.ItemReader;
-import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -24,12 +24,13 @@ import org.bukkit.inventory.PlayerInventory;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.UUID;
 
 /**
  * Collection of {@link Equipment} held, equipped, and unequipped listeners.
  *
  * @author Danny Nguyen
- * @version 1.26.9
+ * @version 1.27.28
  * @since 1.9.0
  */
 public class EquipmentListener implements Listener {
@@ -115,7 +116,7 @@ public class EquipmentListener implements Listener {
     String time = ZonedDateTime.now(ZoneId.of("America/New_York")).format(DateTimeFormatter.ofPattern("hh:mm"));
     logEntry.append(time).append(" ").append(e.getPlayer().getName()).append("EL/IH");
     Plugin.getData().getPluginLogger().addEntry(logEntry.toString());
-    equipment.readSlot(heldItem, RpgEquipmentSlot.HAND);
+    Plugin.getData().getRpgSystem().getEquipmentReconciler().markDirty(player.getUniqueId(), RpgEquipmentSlot.HAND);
   }
 
   /**
@@ -140,7 +141,7 @@ public class EquipmentListener implements Listener {
       String time = ZonedDateTime.now(ZoneId.of("America/New_York")).format(DateTimeFormatter.ofPattern("hh:mm"));
       logEntry.append(time).append(" ").append(e.getPlayer().getName()).append("EL/ID");
       Plugin.getData().getPluginLogger().addEntry(logEntry.toString());
-      equipment.readSlot(heldItem, RpgEquipmentSlot.HAND);
+      Plugin.getData().getRpgSystem().getEquipmentReconciler().markDirty(player.getUniqueId(), RpgEquipmentSlot.HAND);
     }
   }
 
@@ -151,13 +152,14 @@ public class EquipmentListener implements Listener {
    */
   @EventHandler
   private void onSwapHandItems(PlayerSwapHandItemsEvent e) {
-    Equipment equipment = Plugin.getData().getRpgSystem().getRpgPlayers().get(e.getPlayer().getUniqueId()).getEquipment();
+    UUID uuid = e.getPlayer().getUniqueId();
     StringBuilder logEntry = new StringBuilder();
     String time = ZonedDateTime.now(ZoneId.of("America/New_York")).format(DateTimeFormatter.ofPattern("hh:mm"));
     logEntry.append(time).append(" ").append(e.getPlayer().getName()).append("EL/SHI");
     Plugin.getData().getPluginLogger().addEntry(logEntry.toString());
-    equipment.readSlot(e.getMainHandItem(), RpgEquipmentSlot.HAND);
-    equipment.readSlot(e.getOffHandItem(), RpgEquipmentSlot.OFF_HAND);
+    EquipmentReconciler equipmentReconciler = Plugin.getData().getRpgSystem().getEquipmentReconciler();
+    equipmentReconciler.markDirty(uuid, RpgEquipmentSlot.HAND);
+    equipmentReconciler.markDirty(uuid, RpgEquipmentSlot.OFF_HAND);
   }
 
   /**
@@ -190,7 +192,10 @@ public class EquipmentListener implements Listener {
   @EventHandler
   private void onDispenseArmor(BlockDispenseArmorEvent e) {
     if (e.getTargetEntity() instanceof Player player) {
-      readEquipmentSlot(player, getEquipmentSlot(e.getItem()));
+      RpgEquipmentSlot eSlot = getEquipmentSlot(e.getItem());
+      if (eSlot != null) {
+        readEquipmentSlot(player, eSlot);
+      }
     }
   }
 
@@ -292,52 +297,35 @@ public class EquipmentListener implements Listener {
   }
 
   /**
-   * Reads the item at the slot they interacted with.
+   * Marks the slot they interacted with to be read by the {@link EquipmentReconciler}.
    * <p>
-   * A 1 tick delay is used for because only the item that exists in the
-   * corresponding slot after the interaction happens should be read.
+   * The slot is read on the next tick because only the item that exists
+   * in the corresponding slot after the interaction happens should be read.
    *
    * @param player interacting player
    * @param eSlot  {@link RpgEquipmentSlot}
    */
   private void readEquipmentSlot(Player player, RpgEquipmentSlot eSlot) {
-    int slot;
-    switch (eSlot) {
-      case HEAD -> slot = 39;
-      case CHEST -> slot = 38;
-      case LEGS -> slot = 37;
-      case FEET -> slot = 36;
-      case OFF_HAND -> slot = 40;
-      default -> slot = -1;
-    }
-    Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> {
-      Equipment equipment = Plugin.getData().getRpgSystem().getRpgPlayers().get(player.getUniqueId()).getEquipment();
-      ItemStack wornItem = player.getInventory().getItem(slot);
-      StringBuilder logEntry = new StringBuilder();
-      String time = ZonedDateTime.now(ZoneId.of("America/New_York")).format(DateTimeFormatter.ofPattern("hh:mm"));
-      logEntry.append(time).append(" ").append(player.getName()).append("EL/RES");
-      Plugin.getData().getPluginLogger().addEntry(logEntry.toString());
-      equipment.readSlot(wornItem, eSlot);
-    }, 1);
+    StringBuilder logEntry = new StringBuilder();
+    String time = ZonedDateTime.now(ZoneId.of("America/New_York")).format(DateTimeFormatter.ofPattern("hh:mm"));
+    logEntry.append(time).append(" ").append(player.getName()).append("EL/RES");
+    Plugin.getData().getPluginLogger().addEntry(logEntry.toString());
+    Plugin.getData().getRpgSystem().getEquipmentReconciler().markDirty(player.getUniqueId(), eSlot);
   }
 
   /**
-   * Reads the item in the hand slot.
+   * Marks the hand slot to be read by the {@link EquipmentReconciler}.
    * <p>
-   * A 1 tick delay is used for because only the item that exists in the
-   * corresponding slot after the interaction happens should be read.
+   * The slot is read on the next tick because only the item that exists
+   * in the corresponding slot after the interaction happens should be read.
    *
    * @param player interacting player
    */
   private void readHandSlot(Player player) {
-    Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> {
-      Equipment equipment = Plugin.getData().getRpgSystem().getRpgPlayers().get(player.getUniqueId()).getEquipment();
-      PlayerInventory pInv = player.getInventory();
-      StringBuilder logEntry = new StringBuilder();
-      String time = ZonedDateTime.now(ZoneId.of("America/New_York")).format(DateTimeFormatter.ofPattern("hh:mm"));
-      logEntry.append(time).append(" ").append(player.getName()).append("EL/RHS");
-      Plugin.getData().getPluginLogger().addEntry(logEntry.toString());
-      equipment.readSlot(pInv.getItemInMainHand(), RpgEquipmentSlot.HAND);
-    }, 1);
+    StringBuilder logEntry = new StringBuilder();
+    String time = ZonedDateTime.now(ZoneId.of("America/New_York")).format(DateTimeFormatter.ofPattern("hh:mm"));
+    logEntry.append(time).append(" ").append(player.getName()).append("EL/RHS");
+    Plugin.getData().getPluginLogger().addEntry(logEntry.toString());
+    Plugin.getData().getRpgSystem().getEquipmentReconciler().markDirty(player.getUniqueId(), RpgEquipmentSlot.HAND);
   }
 }
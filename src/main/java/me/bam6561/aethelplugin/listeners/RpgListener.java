@@ -1,11 +1,11 @@
 package me.bam6561.aethelplugin.listeners;
 
 import me.bam6561.aethelplugin.Plugin;
-import me.bam6561.aethelplugin.enums.rpg.AethelAttribute;
-import me.bam6561.aethelplugin.enums.rpg.RpgEquipmentSlot;
 import me.bam6561.aethelplugin.enums.rpg.abilities.PassiveAbilityType;
 import me.bam6561.aethelplugin.enums.rpg.abilities.PassiveTriggerType;
+import me.bam6561.aethelplugin.rpg.EntitySuspensions;
 import me.bam6561.aethelplugin.rpg.Equipment;
+import me.bam6561.aethelplugin.rpg.HealthTable;
 import me.bam6561.aethelplugin.rpg.RpgPlayer;
 import me.bam6561.aethelplugin.rpg.RpgSystem;
 import me.bam6561.aethelplugin.rpg.abilities.PassiveAbility;
@@ -13,35 +13,51 @@ import me.bam6561.aethelplugin.utils.entity.HealthChange;
 import org.bukkit.Bukkit;
 import org.bukkit.Statistic;
 import org.bukkit.boss.BossBar;
-import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Raider;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDeathEvent;
 import org.bukkit.event.entity.EntityPotionEffectEvent;
+import org.bukkit.event.entity.EntityRemoveEvent;
 import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 import org.bukkit.scheduler.BukkitScheduler;
 
-import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Collection of {@link RpgSystem} listeners.
  *
  * @author Danny Nguyen
- * @version 1.26.6
+ * @version 1.27.48
  * @since 1.10.6
  */
 public class RpgListener implements Listener {
+  /**
+   * Entity removal causes after which the entity never returns with the same UUID.
+   * <p>
+   * Other causes, such as unloading or changing dimension, keep the entity's RPG state.
+   */
+  private static final Set<EntityRemoveEvent.Cause> terminalRemoveCauses = Set.of(
+      EntityRemoveEvent.Cause.DEATH, EntityRemoveEvent.Cause.DESPAWN, EntityRemoveEvent.Cause.DISCARD,
+      EntityRemoveEvent.Cause.DROP, EntityRemoveEvent.Cause.EXPLODE, EntityRemoveEvent.Cause.HIT,
+      EntityRemoveEvent.Cause.MERGE, EntityRemoveEvent.Cause.OUT_OF_WORLD, EntityRemoveEvent.Cause.PICKUP,
+      EntityRemoveEvent.Cause.PLUGIN, EntityRemoveEvent.Cause.TRANSFORMATION);
+
   /**
    * No parameter constructor.
    */
@@ -58,7 +74,8 @@ public class RpgListener implements Listener {
     Player player = e.getPlayer();
     UUID uuid = player.getUniqueId();
 
-    Map<UUID, RpgPlayer> rpgPlayers = Plugin.getData().getRpgSystem().getRpgPlayers();
+    RpgSystem rpgSystem = Plugin.getData().getRpgSystem();
+    Map<UUID, RpgPlayer> rpgPlayers = rpgSystem.getRpgPlayers();
     RpgPlayer rpgPlayer = rpgPlayers.get(uuid);
 
     if (rpgPlayer == null) {
@@ -69,6 +86,25 @@ public class RpgListener implements Listener {
       healthBar.removeAll();
       healthBar.addPlayer(player);
     }
+    rpgSystem.getOnlinePlayers().add(uuid);
+  }
+
+  /**
+   * Removes the player from {@link RpgSystem#getOnlinePlayers() online RPG players} upon leaving the server
+   * and writes their {@link RpgSystem#getHealthTable() health} and
+   * {@link Equipment.AethelAttributes Aethel attribute} totals back to their tags.
+   *
+   * @param e player quit event
+   */
+  @EventHandler
+  private void onQuit(PlayerQuitEvent e) {
+    RpgSystem rpgSystem = Plugin.getData().getRpgSystem();
+    UUID uuid = e.getPlayer().getUniqueId();
+    rpgSystem.getOnlinePlayers().remove(uuid);
+    rpgSystem.removeCombatProfile(uuid);
+    rpgSystem.getHealthTable().unload(uuid);
+    rpgSystem.getRpgPlayers().get(uuid).getEquipment().getAttributes().exportTotals();
+    rpgSystem.getEntityHandles().invalidate(uuid);
   }
 
   /**
@@ -103,34 +139,14 @@ public class RpgListener implements Listener {
     RpgPlayer rpgPlayer = rpgSystem.getRpgPlayers().get(uuid);
     BukkitScheduler scheduler = Bukkit.getScheduler();
 
-    rpgSystem.getStatuses().remove(uuid);
+    rpgSystem.removeStatuses(uuid);
     for (int taskId : rpgPlayer.getProjections()) {
       scheduler.cancelTask(taskId);
     }
 
     if (!e.getKeepInventory()) {
       Equipment equipment = rpgPlayer.getEquipment();
-
-      Equipment.AethelAttributes attributes = equipment.getAttributes();
-      Map<RpgEquipmentSlot, Map<AethelAttribute, Double>> slotAttributes = attributes.getSlotAttributes();
-      for (RpgEquipmentSlot eSlot : slotAttributes.keySet()) {
-        attributes.removeAttributes(eSlot);
-      }
-
-      Equipment.Enchantments enchantments = equipment.getEnchantments();
-      Map<RpgEquipmentSlot, Map<Enchantment, Integer>> slotEnchantments = enchantments.getSlotEnchantments();
-      for (RpgEquipmentSlot eSlot : slotEnchantments.keySet()) {
-        enchantments.removeEnchantments(eSlot);
-      }
-
-      Equipment.Abilities abilities = equipment.getAbilities();
-      Map<RpgEquipmentSlot, List<Equipment.Abilities.TriggerPassive>> slotPassives = abilities.getSlotPassives();
-      for (RpgEquipmentSlot eSlot : slotPassives.keySet()) {
-        abilities.removePassives(eSlot);
-      }
-      for (RpgEquipmentSlot eSlot : RpgEquipmentSlot.values()) {
-        abilities.removeActives(eSlot);
-      }
+      equipment.removeSlots();
 
       ItemStack[] jewelrySlots = equipment.getJewelry();
       for (int i = 0; i < jewelrySlots.length; i++) {
@@ -170,6 +186,88 @@ public class RpgListener implements Listener {
     triggerOnKillPassives(killed.getUniqueId(), killer.getUniqueId());
   }
 
+  /**
+   * Evicts a dead non-player entity's RPG state and
+   * invalidates the entity's {@link RpgSystem#getEntityHandles() entity handle}.
+   * <p>
+   * Runs last so that other death listeners can still resolve the entity.
+   *
+   * @param e entity death event
+   */
+  @EventHandler(priority = EventPriority.MONITOR)
+  private void onEntityDeathMonitor(EntityDeathEvent e) {
+    RpgSystem rpgSystem = Plugin.getData().getRpgSystem();
+    LivingEntity entity = e.getEntity();
+    if (entity instanceof Player) {
+      rpgSystem.getEntityHandles().invalidate(entity.getUniqueId());
+    } else {
+      rpgSystem.evictEntity(entity.getUniqueId());
+    }
+  }
+
+  /**
+   * Writes a player or temporarily removed entity's {@link RpgSystem#getHealthTable() health}
+   * back to its tags and invalidates its {@link RpgSystem#getEntityHandles() entity handle},
+   * otherwise evicts the permanently removed entity's RPG state.
+   * <p>
+   * Entities that change dimension keep their UUID, so their RPG state is kept for
+   * when they are added to the other world. Unloaded entities' RPG state is
+   * {@link RpgSystem#getSuspensions() parked} separately.
+   *
+   * @param e entity remove event
+   */
+  @EventHandler(priority = EventPriority.MONITOR)
+  private void onEntityRemove(EntityRemoveEvent e) {
+    RpgSystem rpgSystem = Plugin.getData().getRpgSystem();
+    Entity entity = e.getEntity();
+    UUID uuid = entity.getUniqueId();
+    if (entity instanceof Player || !terminalRemoveCauses.contains(e.getCause())) {
+      rpgSystem.getHealthTable().unload(uuid);
+      rpgSystem.removeParticipant(uuid);
+      rpgSystem.getEntityHandles().invalidate(uuid);
+    } else {
+      rpgSystem.evictEntity(uuid);
+    }
+  }
+
+  /**
+   * Parks unloaded entities' RPG state, writes their {@link RpgSystem#getHealthTable() health}
+   * back to their tags, and invalidates their {@link RpgSystem#getEntityHandles() entity handles}.
+   *
+   * @param e entities unload event
+   */
+  @EventHandler(priority = EventPriority.MONITOR)
+  private void onEntitiesUnload(EntitiesUnloadEvent e) {
+    RpgSystem rpgSystem = Plugin.getData().getRpgSystem();
+    EntitySuspensions suspensions = rpgSystem.getSuspensions();
+    HealthTable healthTable = rpgSystem.getHealthTable();
+    for (Entity entity : e.getEntities()) {
+      if (entity instanceof LivingEntity livingEntity && !(entity instanceof Player)) {
+        suspensions.suspend(livingEntity);
+        healthTable.unload(livingEntity.getUniqueId());
+      }
+    }
+    rpgSystem.getEntityHandles().invalidate(e.getEntities());
+  }
+
+  /**
+   * Restores loaded entities' parked RPG state.
+   *
+   * @param e entities load event
+   */
+  @EventHandler(priority = EventPriority.MONITOR)
+  private void onEntitiesLoad(EntitiesLoadEvent e) {
+    EntitySuspensions suspensions = Plugin.getData().getRpgSystem().getSuspensions();
+    if (suspensions.size() == 0) {
+      return;
+    }
+    for (Entity entity : e.getEntities()) {
+      if (entity instanceof LivingEntity livingEntity) {
+        suspensions.resume(livingEntity);
+      }
+    }
+  }
+
   /**
    * Increments the killed entity statistic for a player.
    *
@@ -217,18 +315,15 @@ public class RpgListener implements Listener {
    */
   private void triggerOnKillPassives(UUID killedUUID, UUID selfUUID) {
     RpgPlayer rpgPlayer = Plugin.getData().getRpgSystem().getRpgPlayers().get(selfUUID);
-    Map<Equipment.Abilities.SlotPassive, PassiveAbility> killTriggers = rpgPlayer.getEquipment().getAbilities().getTriggerPassives().get(PassiveTriggerType.ON_KILL);
-    if (killTriggers.isEmpty()) {
+    PassiveAbility[] killTriggers = rpgPlayer.getEquipment().getAbilities().getTriggerPassives(PassiveTriggerType.ON_KILL);
+    if (killTriggers.length == 0) {
       return;
     }
-    Random random = new Random();
-    for (PassiveAbility ability : killTriggers.values()) {
-      if (ability.isOnCooldown()) {
-        continue;
-      }
-      double chance = Double.parseDouble(ability.getConditionData().get(0));
-      if (chance > random.nextDouble() * 100) {
-        boolean self = Boolean.parseBoolean(ability.getEffectData().get(0));
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long currentTick = Plugin.getData().getRpgSystem().getCurrentTick();
+    for (PassiveAbility ability : killTriggers) {
+      if (ability.isTriggered(currentTick, random)) {
+        boolean self = ability.isSelf();
         UUID targetUUID;
         switch (ability.getType().getEffect()) {
           case BUFF, STACK_INSTANCE, POTION_EFFECT -> {
@@ -0,0 +1,856 @@
+package me.bam6561.aethelplugin.plugin;
+
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.Sound;
+import org.bukkit.SoundCategory;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Represents particles and sounds queued during a tick.
+ * <p>
+ * Every particle spawned or sound played through a world is sent to every
+ * nearby player as its own packet, so effect-heavy fights can flood clients.
+ * Instead, effects are queued here and {@link #flush() flushed} once per tick:
+ * <ul>
+ *   <li>Identical effects in the same block are merged into one.
+ *   <li>Each chunk emits a limited number of particles and sounds.
+ *   <li>Each player receives a limited number of effects.
+ * </ul>
+ * <p>
+ * Queued effects are looked up through reused merge keys,
+ * so merging an effect into another allocates nothing.
+ * <p>
+ * Effects should only be queued from the main thread.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.45
+ * @since 1.27.19
+ */
+public class EffectBuffer {
+  /**
+   * Max number of particles a merged particle effect can spawn.
+   */
+  private static final int MAX_MERGED_COUNT = 24;
+
+  /**
+   * Max number of particle effects emitted per chunk per tick.
+   */
+  private static final int MAX_PARTICLES_PER_CHUNK = 48;
+
+  /**
+   * Max number of sound effects emitted per chunk per tick.
+   */
+  private static final int MAX_SOUNDS_PER_CHUNK = 12;
+
+  /**
+   * Max number of effects sent to a player per tick.
+   */
+  private static final int MAX_EFFECTS_PER_VIEWER = 96;
+
+  /**
+   * Squared distance players can see particles from.
+   */
+  private static final double PARTICLE_RANGE_SQUARED = 32 * 32;
+
+  /**
+   * Queued particle effects.
+   */
+  private final Map<ParticleKey, ParticleEffect> particles = new LinkedHashMap<>();
+
+  /**
+   * Queued sound effects.
+   */
+  private final Map<SoundKey, SoundEffect> sounds = new LinkedHashMap<>();
+
+  /**
+   * Reused particle effect merge key.
+   */
+  private final ParticleKey particleKey = new ParticleKey();
+
+  /**
+   * Reused sound effect merge key.
+   */
+  private final SoundKey soundKey = new SoundKey();
+
+  /**
+   * Number of effects emitted per chunk during a flush.
+   */
+  private final Map<ChunkKey, int[]> chunkEmissions = new HashMap<>();
+
+  /**
+   * Viewers by world during a flush.
+   */
+  private final Map<World, List<Viewer>> viewers = new HashMap<>();
+
+  /**
+   * Number of effects queued.
+   */
+  private long queued;
+
+  /**
+   * Number of effects merged into another.
+   */
+  private long merged;
+
+  /**
+   * Number of effects dropped by chunk caps and packets dropped by viewer caps.
+   */
+  private long dropped;
+
+  /**
+   * Number of packets sent to players.
+   */
+  private long sent;
+
+  /**
+   * No parameter constructor.
+   */
+  public EffectBuffer() {
+  }
+
+  /**
+   * Queues a particle effect.
+   *
+   * @param world    world
+   * @param particle particle
+   * @param location location
+   * @param count    number of particles
+   */
+  public void spawnParticle(@NotNull World world, @NotNull Particle particle, @NotNull Location location, int count) {
+    spawnParticle(world, particle, location, count, 0, 0, 0, 1, null);
+  }
+
+  /**
+   * Queues a particle effect.
+   *
+   * @param world    world
+   * @param particle particle
+   * @param location location
+   * @param count    number of particles
+   * @param offsetX  max random offset on the x-axis
+   * @param offsetY  max random offset on the y-axis
+   * @param offsetZ  max random offset on the z-axis
+   */
+  public void spawnParticle(@NotNull World world, @NotNull Particle particle, @NotNull Location location, int count, double offsetX, double offsetY, double offsetZ) {
+    spawnParticle(world, particle, location, count, offsetX, offsetY, offsetZ, 1, null);
+  }
+
+  /**
+   * Queues a particle effect.
+   *
+   * @param world    world
+   * @param particle particle
+   * @param location location
+   * @param count    number of particles
+   * @param offsetX  max random offset on the x-axis
+   * @param offsetY  max random offset on the y-axis
+   * @param offsetZ  max random offset on the z-axis
+   * @param extra    particle speed
+   */
+  public void spawnParticle(@NotNull World world, @NotNull Particle particle, @NotNull Location location, int count, double offsetX, double offsetY, double offsetZ, double extra) {
+    spawnParticle(world, particle, location, count, offsetX, offsetY, offsetZ, extra, null);
+  }
+
+  /**
+   * Queues a particle effect.
+   *
+   * @param world    world
+   * @param particle particle
+   * @param location location
+   * @param count    number of particles
+   * @param offsetX  max random offset on the x-axis
+   * @param offsetY  max random offset on the y-axis
+   * @param offsetZ  max random offset on the z-axis
+   * @param data     particle data
+   * @param <T>      particle data type
+   */
+  public <T> void spawnParticle(@NotNull World world, @NotNull Particle particle, @NotNull Location location, int count, double offsetX, double offsetY, double offsetZ, @Nullable T data) {
+    spawnParticle(world, particle, location, count, offsetX, offsetY, offsetZ, 1, data);
+  }
+
+  /**
+   * Queues a particle effect, merging it into an identical effect in the same block.
+   *
+   * @param world    world
+   * @param particle particle
+   * @param location location
+   * @param count    number of particles
+   * @param offsetX  max random offset on the x-axis
+   * @param offsetY  max random offset on the y-axis
+   * @param offsetZ  max random offset on the z-axis
+   * @param extra    particle speed
+   * @param data     particle data
+   * @param <T>      particle data type
+   */
+  public <T> void spawnParticle(@NotNull World world, @NotNull Particle particle, @NotNull Location location, int count, double offsetX, double offsetY, double offsetZ, double extra, @Nullable T data) {
+    Objects.requireNonNull(world, "Null world");
+    Objects.requireNonNull(particle, "Null particle");
+    Objects.requireNonNull(location, "Null location");
+    queued++;
+    double x = location.getX();
+    double y = location.getY();
+    double z = location.getZ();
+    ParticleKey key = count == 0 ? particleKey.set(world, particle, data, extra, toBlockKey(x, y, z), true, offsetX, offsetY, offsetZ) : particleKey.set(world, particle, data, extra, toBlockKey(x, y, z), false, 0, 0, 0);
+    ParticleEffect effect = particles.get(key);
+    if (effect == null) {
+      particles.put(key.copy(), new ParticleEffect(world, particle, x, y, z, count, offsetX, offsetY, offsetZ, extra, data));
+    } else {
+      merged++;
+      effect.merge(count, offsetX, offsetY, offsetZ);
+    }
+  }
+
+  /**
+   * Queues a sound effect, merging it into an identical sound in the same block.
+   *
+   * @param world    world
+   * @param location location
+   * @param sound    sound
+   * @param category sound category
+   * @param volume   volume
+   * @param pitch    pitch
+   */
+  public void playSound(@NotNull World world, @NotNull Location location, @NotNull Sound sound, @NotNull SoundCategory category, float volume, float pitch) {
+    Objects.requireNonNull(world, "Null world");
+    Objects.requireNonNull(location, "Null location");
+    Objects.requireNonNull(sound, "Null sound");
+    Objects.requireNonNull(category, "Null category");
+    queued++;
+    SoundKey key = soundKey.set(world, sound, category, toBlockKey(location.getX(), location.getY(), location.getZ()));
+    SoundEffect effect = sounds.get(key);
+    if (effect == null) {
+      Location soundLocation = location.clone();
+      soundLocation.setWorld(world);
+      sounds.put(key.copy(), new SoundEffect(soundLocation, sound, category, volume, pitch));
+    } else {
+      merged++;
+      effect.merge(volume);
+    }
+  }
+
+  /**
+   * Sends the queued effects to nearby players within their chunk and viewer caps.
+   * <p>
+   * Effects over their chunk's cap are dropped for everyone, while effects
+   * over a viewer's cap are only dropped for that viewer.
+   */
+  public void flush() {
+    if (particles.isEmpty() && sounds.isEmpty()) {
+      return;
+    }
+
+    for (ParticleEffect effect : particles.values()) {
+      if (!isUnderChunkCap(effect.world, effect.x, effect.z, 0, MAX_PARTICLES_PER_CHUNK)) {
+        dropped++;
+        continue;
+      }
+      for (Viewer viewer : getViewers(effect.world)) {
+        if (viewer.getDistanceSquared(effect.x, effect.y, effect.z) <= PARTICLE_RANGE_SQUARED) {
+          if (viewer.emissions < MAX_EFFECTS_PER_VIEWER) {
+            viewer.player.spawnParticle(effect.particle, effect.x, effect.y, effect.z, effect.count, effect.offsetX, effect.offsetY, effect.offsetZ, effect.extra, effect.data);
+            viewer.emissions++;
+            sent++;
+          } else {
+            dropped++;
+          }
+        }
+      }
+    }
+
+    for (SoundEffect effect : sounds.values()) {
+      Location location = effect.location;
+      World world = location.getWorld();
+      if (!isUnderChunkCap(world, location.getX(), location.getZ(), 1, MAX_SOUNDS_PER_CHUNK)) {
+        dropped++;
+        continue;
+      }
+      double range = effect.volume > 1 ? 16 * effect.volume : 16;
+      double rangeSquared = range * range;
+      for (Viewer viewer : getViewers(world)) {
+        if (viewer.getDistanceSquared(location.getX(), location.getY(), location.getZ()) <= rangeSquared) {
+          if (viewer.emissions < MAX_EFFECTS_PER_VIEWER) {
+            viewer.player.playSound(location, effect.sound, effect.category, effect.volume, effect.pitch);
+            viewer.emissions++;
+            sent++;
+          } else {
+            dropped++;
+          }
+        }
+      }
+    }
+
+    particles.clear();
+    sounds.clear();
+    chunkEmissions.clear();
+    viewers.clear();
+  }
+
+  /**
+   * Resets the effect counters.
+   */
+  public void resetCounters() {
+    queued = 0;
+    merged = 0;
+    dropped = 0;
+    sent = 0;
+  }
+
+  /**
+   * Gets the number of effects queued.
+   *
+   * @return number of effects queued
+   */
+  public long getQueued() {
+    return this.queued;
+  }
+
+  /**
+   * Gets the number of effects merged into another.
+   *
+   * @return number of effects merged into another
+   */
+  public long getMerged() {
+    return this.merged;
+  }
+
+  /**
+   * Gets the number of effects dropped by chunk caps and packets dropped by viewer caps.
+   *
+   * @return number of effects dropped by chunk caps and packets dropped by viewer caps
+   */
+  public long getDropped() {
+    return this.dropped;
+  }
+
+  /**
+   * Gets the number of packets sent to players.
+   *
+   * @return number of packets sent to players
+   */
+  public long getSent() {
+    return this.sent;
+  }
+
+  /**
+   * Counts an emission in a chunk if the chunk's cap hasn't been reached.
+   *
+   * @param world world
+   * @param x     x-coordinate
+   * @param z     z-coordinate
+   * @param type  0 for particles, 1 for sounds
+   * @param cap   max emissions per chunk
+   * @return if the emission is allowed
+   */
+  private boolean isUnderChunkCap(World world, double x, double z, int type, int cap) {
+    ChunkKey key = new ChunkKey(world, (int) Math.floor(x) >> 4, (int) Math.floor(z) >> 4);
+    int[] emissions = chunkEmissions.computeIfAbsent(key, chunk -> new int[2]);
+    if (emissions[type] >= cap) {
+      return false;
+    }
+    emissions[type]++;
+    return true;
+  }
+
+  /**
+   * Gets a world's viewers, caching their locations for the rest of the flush.
+   *
+   * @param world world
+   * @return world's viewers
+   */
+  private List<Viewer> getViewers(World world) {
+    List<Viewer> worldViewers = viewers.get(world);
+    if (worldViewers == null) {
+      List<Player> players = world.getPlayers();
+      worldViewers = new ArrayList<>(players.size());
+      for (Player player : players) {
+        worldViewers.add(new Viewer(player, player.getLocation()));
+      }
+      viewers.put(world, worldViewers);
+    }
+    return worldViewers;
+  }
+
+  /**
+   * Packs block coordinates into a key.
+   *
+   * @param x x-coordinate
+   * @param y y-coordinate
+   * @param z z-coordinate
+   * @return block key
+   */
+  private static long toBlockKey(double x, double y, double z) {
+    long blockX = (long) Math.floor(x) & 0x3FFFFFF;
+    long blockZ = (long) Math.floor(z) & 0x3FFFFFF;
+    long blockY = (long) Math.floor(y) & 0xFFF;
+    return blockX << 38 | blockZ << 12 | blockY;
+  }
+
+  /**
+   * Represents a merge key of identical particle effects in the same block.
+   * <p>
+   * Directional particles only merge with particles moving in the same direction.
+   * <p>
+   * Keys are mutable so one can be reused to look up queued effects,
+   * and are only {@link #copy() copied} when a new effect is queued.
+   *
+   * @author Danny Nguyen
+   * @version 1.27.45
+   * @since 1.27.19
+   */
+  private static class ParticleKey {
+    /**
+     * World.
+     */
+    private World world;
+
+    /**
+     * Particle.
+     */
+    private Particle particle;
+
+    /**
+     * Particle data.
+     */
+    private Object data;
+
+    /**
+     * Particle speed.
+     */
+    private double extra;
+
+    /**
+     * Block key.
+     */
+    private long block;
+
+    /**
+     * If the particle's offsets are its direction.
+     */
+    private boolean isDirectional;
+
+    /**
+     * Direction on the x-axis, or 0 if the particle isn't directional.
+     */
+    private double directionX;
+
+    /**
+     * Direction on the y-axis, or 0 if the particle isn't directional.
+     */
+    private double directionY;
+
+    /**
+     * Direction on the z-axis, or 0 if the particle isn't directional.
+     */
+    private double directionZ;
+
+    /**
+     * Sets the key's components.
+     *
+     * @param world         world
+     * @param particle      particle
+     * @param data          particle data
+     * @param extra         particle speed
+     * @param block         block key
+     * @param isDirectional if the particle's offsets are its direction
+     * @param directionX    direction on the x-axis
+     * @param directionY    direction on the y-axis
+     * @param directionZ    direction on the z-axis
+     * @return this key
+     */
+    private ParticleKey set(World world, Particle particle, Object data, double extra, long block, boolean isDirectional, double directionX, double directionY, double directionZ) {
+      this.world = world;
+      this.particle = particle;
+      this.data = data;
+      this.extra = extra;
+      this.block = block;
+      this.isDirectional = isDirectional;
+      this.directionX = directionX;
+      this.directionY = directionY;
+      this.directionZ = directionZ;
+      return this;
+    }
+
+    /**
+     * Copies the key so it can be stored.
+     *
+     * @return copy of the key
+     */
+    private ParticleKey copy() {
+      return new ParticleKey().set(world, particle, data, extra, block, isDirectional, directionX, directionY, directionZ);
+    }
+
+    /**
+     * Returns true if the key has the same components.
+     *
+     * @param o compared object
+     * @return if the key has the same components
+     */
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ParticleKey key)) {
+        return false;
+      }
+      return world == key.world && particle == key.particle && Double.compare(extra, key.extra) == 0 && block == key.block && isDirectional == key.isDirectional && Double.compare(directionX, key.directionX) == 0 && Double.compare(directionY, key.directionY) == 0 && Double.compare(directionZ, key.directionZ) == 0 && Objects.equals(data, key.data);
+    }
+
+    /**
+     * Gets the hash of the key's components.
+     *
+     * @return hash of the key's components
+     */
+    @Override
+    public int hashCode() {
+      int hash = world.hashCode();
+      hash = 31 * hash + particle.hashCode();
+      hash = 31 * hash + Objects.hashCode(data);
+      hash = 31 * hash + Double.hashCode(extra);
+      hash = 31 * hash + Long.hashCode(block);
+      hash = 31 * hash + Boolean.hashCode(isDirectional);
+      hash = 31 * hash + Double.hashCode(directionX);
+      hash = 31 * hash + Double.hashCode(directionY);
+      return 31 * hash + Double.hashCode(directionZ);
+    }
+  }
+
+  /**
+   * Represents a merge key of identical sound effects in the same block.
+   * <p>
+   * Keys are mutable so one can be reused to look up queued sounds,
+   * and are only {@link #copy() copied} when a new sound is queued.
+   *
+   * @author Danny Nguyen
+   * @version 1.27.41
+   * @since 1.27.19
+   */
+  private static class SoundKey {
+    /**
+     * World.
+     */
+    private World world;
+
+    /**
+     * Sound.
+     */
+    private Sound sound;
+
+    /**
+     * Sound category.
+     */
+    private SoundCategory category;
+
+    /**
+     * Block key.
+     */
+    private long block;
+
+    /**
+     * Sets the key's components.
+     *
+     * @param world    world
+     * @param sound    sound
+     * @param category sound category
+     * @param block    block key
+     * @return this key
+     */
+    private SoundKey set(World world, Sound sound, SoundCategory category, long block) {
+      this.world = world;
+      this.sound = sound;
+      this.category = category;
+      this.block = block;
+      return this;
+    }
+
+    /**
+     * Copies the key so it can be stored.
+     *
+     * @return copy of the key
+     */
+    private SoundKey copy() {
+      return new SoundKey().set(world, sound, category, block);
+    }
+
+    /**
+     * Returns true if the key has the same components.
+     *
+     * @param o compared object
+     * @return if the key has the same components
+     */
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof SoundKey key)) {
+        return false;
+      }
+      return world == key.world && sound == key.sound && category == key.category && block == key.block;
+    }
+
+    /**
+     * Gets the hash of the key's components.
+     *
+     * @return hash of the key's components
+     */
+    @Override
+    public int hashCode() {
+      int hash = world.hashCode();
+      hash = 31 * hash + sound.hashCode();
+      hash = 31 * hash + category.hashCode();
+      return 31 * hash + Long.hashCode(block);
+    }
+  }
+
+  /**
+   * Represents a chunk's emission counter key.
+   *
+   * @param world  world
+   * @param chunkX chunk x-coordinate
+   * @param chunkZ chunk z-coordinate
+   */
+  private record ChunkKey(World world, int chunkX, int chunkZ) {
+  }
+
+  /**
+   * Represents a queued particle effect.
+   *
+   * @author Danny Nguyen
+   * @version 1.27.19
+   * @since 1.27.19
+   */
+  private static class ParticleEffect {
+    /**
+     * World.
+     */
+    private final World world;
+
+    /**
+     * Particle.
+     */
+    private final Particle particle;
+
+    /**
+     * X-coordinate.
+     */
+    private final double x;
+
+    /**
+     * Y-coordinate.
+     */
+    private final double y;
+
+    /**
+     * Z-coordinate.
+     */
+    private final double z;
+
+    /**
+     * Particle speed.
+     */
+    private final double extra;
+
+    /**
+     * Particle data.
+     */
+    private final Object data;
+
+    /**
+     * Number of particles.
+     */
+    private int count;
+
+    /**
+     * Max random offset on the x-axis.
+     */
+    private double offsetX;
+
+    /**
+     * Max random offset on the y-axis.
+     */
+    private double offsetY;
+
+    /**
+     * Max random offset on the z-axis.
+     */
+    private double offsetZ;
+
+    /**
+     * Associates a particle effect with its parameters.
+     *
+     * @param world    world
+     * @param particle particle
+     * @param x        x-coordinate
+     * @param y        y-coordinate
+     * @param z        z-coordinate
+     * @param count    number of particles
+     * @param offsetX  max random offset on the x-axis
+     * @param offsetY  max random offset on the y-axis
+     * @param offsetZ  max random offset on the z-axis
+     * @param extra    particle speed
+     * @param data     particle data
+     */
+    ParticleEffect(World world, Particle particle, double x, double y, double z, int count, double offsetX, double offsetY, double offsetZ, double extra, Object data) {
+      this.world = world;
+      this.particle = particle;
+      this.x = x;
+      this.y = y;
+      this.z = z;
+      this.count = count;
+      this.offsetX = offsetX;
+      this.offsetY = offsetY;
+      this.offsetZ = offsetZ;
+      this.extra = extra;
+      this.data = data;
+    }
+
+    /**
+     * Merges an identical particle effect into this one.
+     * <p>
+     * Directional particles keep their original direction and count.
+     *
+     * @param count   number of particles
+     * @param offsetX max random offset on the x-axis
+     * @param offsetY max random offset on the y-axis
+     * @param offsetZ max random offset on the z-axis
+     */
+    private void merge(int count, double offsetX, double offsetY, double offsetZ) {
+      if (this.count == 0) {
+        return;
+      }
+      this.count = Math.max(this.count, Math.min(MAX_MERGED_COUNT, this.count + count));
+      this.offsetX = Math.max(this.offsetX, offsetX);
+      this.offsetY = Math.max(this.offsetY, offsetY);
+      this.offsetZ = Math.max(this.offsetZ, offsetZ);
+    }
+  }
+
+  /**
+   * Represents a queued sound effect.
+   *
+   * @author Danny Nguyen
+   * @version 1.27.19
+   * @since 1.27.19
+   */
+  private static class SoundEffect {
+    /**
+     * Location.
+     */
+    private final Location location;
+
+    /**
+     * Sound.
+     */
+    private final Sound sound;
+
+    /**
+     * Sound category.
+     */
+    private final SoundCategory category;
+
+    /**
+     * Pitch.
+     */
+    private final float pitch;
+
+    /**
+     * Volume.
+     */
+    private float volume;
+
+    /**
+     * Associates a sound effect with its parameters.
+     *
+     * @param location location
+     * @param sound    sound
+     * @param category sound category
+     * @param volume   volume
+     * @param pitch    pitch
+     */
+    SoundEffect(Location location, Sound sound, SoundCategory category, float volume, float pitch) {
+      this.location = location;
+      this.sound = sound;
+      this.category = category;
+      this.volume = volume;
+      this.pitch = pitch;
+    }
+
+    /**
+     * Merges an identical sound effect into this one by keeping the louder volume.
+     *
+     * @param volume volume
+     */
+    private void merge(float volume) {
+      this.volume = Math.max(this.volume, volume);
+    }
+  }
+
+  /**
+   * Represents a player receiving effects during a flush.
+   *
+   * @author Danny Nguyen
+   * @version 1.27.19
+   * @since 1.27.19
+   */
+  private static class Viewer {
+    /**
+     * Player.
+     */
+    private final Player player;
+
+    /**
+     * X-coordinate.
+     */
+    private final double x;
+
+    /**
+     * Y-coordinate.
+     */
+    private final double y;
+
+    /**
+     * Z-coordinate.
+     */
+    private final double z;
+
+    /**
+     * Number of effects sent during the flush.
+     */
+    private int emissions;
+
+    /**
+     * Associates a viewer with their location.
+     *
+     * @param player   player
+     * @param location player's location
+     */
+    Viewer(Player player, Location location) {
+      this.player = player;
+      this.x = location.getX();
+      this.y = location.getY();
+      this.z = location.getZ();
+    }
+
+    /**
+     * Gets the squared distance to a position.
+     *
+     * @param x x-coordinate
+     * @param y y-coordinate
+     * @param z z-coordinate
+     * @return squared distance to the position
+     */
+    private double getDistanceSquared(double x, double y, double z) {
+      double dx = this.x - x;
+      double dy = this.y - y;
+      double dz = this.z - z;
+      return dx * dx + dy * dy + dz * dz;
+    }
+  }
+}
@@ -0,0 +1,234 @@
+package me.bam6561.aethelplugin.plugin;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Represents a set whose elements are spread across buckets
+ * that are visited one at a time in round-robin order.
+ * <p>
+ * Used by {@link TickScheduler} phases to process a fraction of a population
+ * each tick while every element keeps the same cadence. For example, with 20
+ * buckets polled once per tick, each element is visited once every 20 ticks.
+ * <p>
+ * Elements are placed into a bucket by their hash, unless that bucket is
+ * already fuller than the smallest bucket, in which case the smallest bucket
+ * is used instead. Buckets are only rebalanced at the start of each cycle,
+ * before the first bucket is polled, so moving an element between buckets
+ * never skips it or visits it twice within the same cycle.
+ *
+ * @param <E> element type
+ * @author Danny Nguyen
+ * @version 1.27.39
+ * @since 1.27.11
+ */
+public class TickBuckets<E> extends AbstractSet<E> {
+  /**
+   * Buckets of elements.
+   */
+  private final List<Set<E>> buckets;
+
+  /**
+   * Elements' bucket index.
+   */
+  private final Map<E, Integer> bucketIndex = new HashMap<>();
+
+  /**
+   * Index of the next bucket to be polled.
+   */
+  private int cursor;
+
+  /**
+   * Associates the set with its number of buckets.
+   *
+   * @param bucketCount number of buckets
+   */
+  public TickBuckets(int bucketCount) {
+    if (bucketCount < 1) {
+      throw new IllegalArgumentException("Non-positive bucket count");
+    }
+    this.buckets = new ArrayList<>(bucketCount);
+    for (int i = 0; i < bucketCount; i++) {
+      buckets.add(new LinkedHashSet<>());
+    }
+  }
+
+  /**
+   * Gets a snapshot of the next bucket's elements and advances to the bucket after it.
+   * <p>
+   * Buckets are rebalanced before the first bucket of each cycle is polled.
+   *
+   * @return next bucket's elements
+   */
+  @NotNull
+  public List<E> pollBucket() {
+    if (cursor == 0) {
+      rebalance();
+    }
+    List<E> elements = new ArrayList<>(buckets.get(cursor));
+    cursor = (cursor + 1) % buckets.size();
+    return elements;
+  }
+
+  /**
+   * Adds an element to its preferred bucket, or the smallest bucket if its preferred bucket is fuller.
+   *
+   * @param element element
+   * @return if the element was added
+   */
+  @Override
+  public boolean add(E element) {
+    if (bucketIndex.containsKey(element)) {
+      return false;
+    }
+    int index = Math.floorMod(Objects.hashCode(element), buckets.size());
+    int smallestIndex = getSmallestBucket();
+    if (buckets.get(index).size() > buckets.get(smallestIndex).size()) {
+      index = smallestIndex;
+    }
+    buckets.get(index).add(element);
+    bucketIndex.put(element, index);
+    return true;
+  }
+
+  /**
+   * Removes an element.
+   *
+   * @param o element
+   * @return if the element was removed
+   */
+  @Override
+  public boolean remove(Object o) {
+    Integer index = bucketIndex.remove(o);
+    if (index == null) {
+      return false;
+    }
+    buckets.get(index).remove(o);
+    return true;
+  }
+
+  /**
+   * Moves elements from the fullest bucket into the smallest bucket
+   * until their sizes differ by at most one element.
+   * <p>
+   * Only called between cycles, when no bucket has been polled yet.
+   */
+  private void rebalance() {
+    while (true) {
+      int largestIndex = getLargestBucket();
+      int smallestIndex = getSmallestBucket();
+      Set<E> largestBucket = buckets.get(largestIndex);
+      Set<E> smallestBucket = buckets.get(smallestIndex);
+      if (largestBucket.size() - smallestBucket.size() <= 1) {
+        return;
+      }
+      Iterator<E> elements = largestBucket.iterator();
+      E element = elements.next();
+      elements.remove();
+      smallestBucket.add(element);
+      bucketIndex.put(element, smallestIndex);
+    }
+  }
+
+  /**
+   * Gets the index of the bucket with the fewest elements.
+   *
+   * @return smallest bucket index
+   */
+  private int getSmallestBucket() {
+    int smallestIndex = 0;
+    for (int i = 1; i < buckets.size(); i++) {
+      if (buckets.get(i).size() < buckets.get(smallestIndex).size()) {
+        smallestIndex = i;
+      }
+    }
+    return smallestIndex;
+  }
+
+  /**
+   * Gets the index of the bucket with the most elements.
+   *
+   * @return largest bucket index
+   */
+  private int getLargestBucket() {
+    int largestIndex = 0;
+    for (int i = 1; i < buckets.size(); i++) {
+      if (buckets.get(i).size() > buckets.get(largestIndex).size()) {
+        largestIndex = i;
+      }
+    }
+    return largestIndex;
+  }
+
+  /**
+   * Gets if the element exists.
+   *
+   * @param o element
+   * @return if the element exists
+   */
+  @Override
+  public boolean contains(Object o) {
+    return bucketIndex.containsKey(o);
+  }
+
+  /**
+   * Gets the number of elements.
+   *
+   * @return number of elements
+   */
+  @Override
+  public int size() {
+    return bucketIndex.size();
+  }
+
+  /**
+   * Removes all elements.
+   */
+  @Override
+  public void clear() {
+    bucketIndex.clear();
+    for (Set<E> bucket : buckets) {
+      bucket.clear();
+    }
+  }
+
+  /**
+   * Gets an iterator over all elements.
+   *
+   * @return iterator over all elements
+   */
+  @NotNull
+  @Override
+  public Iterator<E> iterator() {
+    Iterator<Map.Entry<E, Integer>> entries = bucketIndex.entrySet().iterator();
+    return new Iterator<>() {
+      /**
+       * Last returned element.
+       */
+      private Map.Entry<E, Integer> current;
+
+      @Override
+      public boolean hasNext() {
+        return entries.hasNext();
+      }
+
+      @Override
+      public E next() {
+        current = entries.next();
+        return current.getKey();
+      }
+
+      @Override
+      public void remove() {
+        if (current == null) {
+          throw new IllegalStateException();
+        }
+        int index = current.getValue();
+        entries.remove();
+        buckets.get(index).remove(current.getKey());
+        current = null;
+      }
+    };
+  }
+}
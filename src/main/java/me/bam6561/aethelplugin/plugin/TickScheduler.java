@@ -0,0 +1,357 @@
+package me.bam6561.aethelplugin.plugin;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Represents the plugin's single repeating task, which
+ * runs named phases of work on their own tick intervals.
+ * <p>
+ * When a phase is due, it takes a snapshot of its work items and processes
+ * them until its per-tick time budget runs out. Remaining items carry over
+ * to the next tick, so a slow phase is spread across ticks instead of
+ * stalling a single one. At least one item is processed per tick so that
+ * every phase always makes progress.
+ * <p>
+ * Each phase records its own timings, which are
+ * shown through {@link me.bam6561.aethelplugin.commands.DeveloperCommand}.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.10
+ * @since 1.27.10
+ */
+public class TickScheduler implements Runnable {
+  /**
+   * {@link Phase Phases} in the order they are run.
+   */
+  private final List<Phase<?>> phases = new ArrayList<>();
+
+  /**
+   * Number of ticks the scheduler has run.
+   */
+  private long currentTick;
+
+  /**
+   * No parameter constructor.
+   */
+  public TickScheduler() {
+  }
+
+  /**
+   * Adds a phase whose work is processed one item at a time within its budget.
+   *
+   * @param name         phase name
+   * @param period       interval in ticks
+   * @param offset       tick offset used to stagger phases with the same period
+   * @param budgetMicros time budget per tick in microseconds
+   * @param workItems    supplies the work items when the phase is due
+   * @param task         processes a work item
+   * @param <T>          work item type
+   */
+  public <T> void addPhase(@NotNull String name, int period, int offset, long budgetMicros, @NotNull Supplier<Collection<T>> workItems, @NotNull Consumer<T> task) {
+    phases.add(new Phase<>(name, period, offset, budgetMicros * 1000, workItems, task));
+  }
+
+  /**
+   * Adds a phase that runs as a single unit of work.
+   *
+   * @param name   phase name
+   * @param period interval in ticks
+   * @param offset tick offset used to stagger phases with the same period
+   * @param task   phase task
+   */
+  public void addPhase(@NotNull String name, int period, int offset, @NotNull Runnable task) {
+    Objects.requireNonNull(task, "Null task");
+    phases.add(new Phase<Runnable>(name, period, offset, 0, () -> List.of(task), Runnable::run));
+  }
+
+  /**
+   * Runs due and carried over phases.
+   */
+  @Override
+  public void run() {
+    for (Phase<?> phase : phases) {
+      phase.run(currentTick);
+    }
+    currentTick++;
+  }
+
+  /**
+   * Resets all phases' timings.
+   */
+  public void resetTimings() {
+    for (Phase<?> phase : phases) {
+      phase.resetTimings();
+    }
+  }
+
+  /**
+   * Gets the {@link Phase phases}.
+   *
+   * @return {@link Phase phases}
+   */
+  @NotNull
+  public List<Phase<?>> getPhases() {
+    return Collections.unmodifiableList(this.phases);
+  }
+
+  /**
+   * Represents a named unit of repeating work.
+   *
+   * @param <T> work item type
+   * @author Danny Nguyen
+   * @version 1.27.10
+   * @since 1.27.10
+   */
+  public static class Phase<T> {
+    /**
+     * Phase name.
+     */
+    private final String name;
+
+    /**
+     * Interval in ticks.
+     */
+    private final int period;
+
+    /**
+     * Tick offset.
+     */
+    private final int offset;
+
+    /**
+     * Time budget per tick in nanoseconds.
+     */
+    private final long budgetNanos;
+
+    /**
+     * Supplies the work items when the phase is due.
+     */
+    private final Supplier<Collection<T>> workItems;
+
+    /**
+     * Processes a work item.
+     */
+    private final Consumer<T> task;
+
+    /**
+     * Work items of the current cycle.
+     */
+    private final List<T> pendingItems = new ArrayList<>();
+
+    /**
+     * Index of the next work item to process.
+     */
+    private int cursor;
+
+    /**
+     * Time spent on the current cycle in nanoseconds.
+     */
+    private long cycleNanos;
+
+    /**
+     * Number of completed cycles.
+     */
+    private long cycles;
+
+    /**
+     * Total time spent across completed cycles in nanoseconds.
+     */
+    private long totalNanos;
+
+    /**
+     * Time spent on the last completed cycle in nanoseconds.
+     */
+    private long lastNanos;
+
+    /**
+     * Longest time spent on a completed cycle in nanoseconds.
+     */
+    private long maxNanos;
+
+    /**
+     * Number of work items in the last completed cycle.
+     */
+    private int lastItems;
+
+    /**
+     * Number of ticks that work was carried over into.
+     */
+    private long carriedTicks;
+
+    /**
+     * Number of times the phase was due while work was still carried over.
+     */
+    private long skippedCycles;
+
+    /**
+     * Associates a phase with its schedule and work.
+     *
+     * @param name        phase name
+     * @param period      interval in ticks
+     * @param offset      tick offset
+     * @param budgetNanos time budget per tick in nanoseconds
+     * @param workItems   supplies the work items when the phase is due
+     * @param task        processes a work item
+     */
+    private Phase(String name, int period, int offset, long budgetNanos, Supplier<Collection<T>> workItems, Consumer<T> task) {
+      this.name = Objects.requireNonNull(name, "Null name");
+      this.period = Math.max(1, period);
+      this.offset = Math.floorMod(offset, this.period);
+      this.budgetNanos = budgetNanos;
+      this.workItems = Objects.requireNonNull(workItems, "Null work items");
+      this.task = Objects.requireNonNull(task, "Null task");
+    }
+
+    /**
+     * Starts a new cycle if the phase is due, then processes
+     * work items until the budget is spent or the cycle ends.
+     *
+     * @param tick current tick
+     */
+    private void run(long tick) {
+      boolean isDue = tick % period == offset;
+      boolean isCarriedOver = cursor < pendingItems.size();
+      if (isCarriedOver) {
+        carriedTicks++;
+        if (isDue) {
+          skippedCycles++;
+        }
+      } else if (isDue) {
+        pendingItems.addAll(workItems.get());
+        cursor = 0;
+        cycleNanos = 0;
+      } else {
+        return;
+      }
+
+      long start = System.nanoTime();
+      long deadline = start + budgetNanos;
+      int size = pendingItems.size();
+      do {
+        if (cursor < size) {
+          task.accept(pendingItems.get(cursor));
+          cursor++;
+        }
+      } while (cursor < size && System.nanoTime() < deadline);
+      cycleNanos += System.nanoTime() - start;
+
+      if (cursor >= size) {
+        completeCycle(size);
+      }
+    }
+
+    /**
+     * Records the timings of a completed cycle.
+     *
+     * @param items number of work items processed
+     */
+    private void completeCycle(int items) {
+      pendingItems.clear();
+      cursor = 0;
+      cycles++;
+      totalNanos += cycleNanos;
+      lastNanos = cycleNanos;
+      maxNanos = Math.max(maxNanos, cycleNanos);
+      lastItems = items;
+    }
+
+    /**
+     * Resets the phase's timings.
+     */
+    private void resetTimings() {
+      cycles = 0;
+      totalNanos = 0;
+      lastNanos = 0;
+      maxNanos = 0;
+      lastItems = 0;
+      carriedTicks = 0;
+      skippedCycles = 0;
+    }
+
+    /**
+     * Gets the phase name.
+     *
+     * @return phase name
+     */
+    @NotNull
+    public String getName() {
+      return this.name;
+    }
+
+    /**
+     * Gets the interval in ticks.
+     *
+     * @return interval in ticks
+     */
+    public int getPeriod() {
+      return this.period;
+    }
+
+    /**
+     * Gets the number of completed cycles.
+     *
+     * @return number of completed cycles
+     */
+    public long getCycles() {
+      return this.cycles;
+    }
+
+    /**
+     * Gets the average time spent per completed cycle in nanoseconds.
+     *
+     * @return average time spent per completed cycle in nanoseconds
+     */
+    public long getAverageNanos() {
+      return cycles == 0 ? 0 : totalNanos / cycles;
+    }
+
+    /**
+     * Gets the time spent on the last completed cycle in nanoseconds.
+     *
+     * @return time spent on the last completed cycle in nanoseconds
+     */
+    public long getLastNanos() {
+      return this.lastNanos;
+    }
+
+    /**
+     * Gets the longest time spent on a completed cycle in nanoseconds.
+     *
+     * @return longest time spent on a completed cycle in nanoseconds
+     */
+    public long getMaxNanos() {
+      return this.maxNanos;
+    }
+
+    /**
+     * Gets the number of work items in the last completed cycle.
+     *
+     * @return number of work items in the last completed cycle
+     */
+    public int getLastItems() {
+      return this.lastItems;
+    }
+
+    /**
+     * Gets the number of ticks that work was carried over into.
+     *
+     * @return number of ticks that work was carried over into
+     */
+    public long getCarriedTicks() {
+      return this.carriedTicks;
+    }
+
+    /**
+     * Gets the number of times the phase was due while work was still carried over.
+     *
+     * @return number of skipped cycles
+     */
+    public long getSkippedCycles() {
+      return this.skippedCycles;
+    }
+  }
+}
@@ -3,7 +3,6 @@ package me.bam6561.aethelplugin.rpg;
 import me.bam6561.aethelplugin.Plugin;
 import me.bam6561.aethelplugin.enums.rpg.AethelAttribute;
 import me.bam6561.aethelplugin.utils.entity.HealthChange;
-import org.bukkit.Bukkit;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.attribute.AttributeInstance;
 import org.bukkit.entity.LivingEntity;
@@ -15,7 +14,7 @@ import java.util.*;
  * Represents an entity's temporary attribute stat changes.
  *
  * @author Danny Nguyen
- * @version 1.22.20
+ * @version 1.27.14
  * @since 1.20.9
  */
 public class Buffs {
@@ -25,13 +24,9 @@ public class Buffs {
   private final UUID uuid;
 
   /**
-   * Attribute buff instances represented by their timer ID.
-   * <p>
-   * Aethel attribute buff timers are not necessary to be
-   * tracked since they do not modify the entity's original
-   * stat values directly and can be removed freely without issues.
+   * Buff instances ordered by their expiry tick.
    */
-  private final Set<Integer> attributeBuffs = new HashSet<>();
+  private final PriorityQueue<BuffInstance> buffInstances = new PriorityQueue<>(Comparator.comparingLong(BuffInstance::expiryTick));
 
   /**
    * Temporary {@link Attribute} values.
@@ -60,7 +55,10 @@ public class Buffs {
    * @param duration  duration in ticks
    */
   public void addAttribute(@NotNull Attribute attribute, double value, int duration) {
-    LivingEntity entity = (LivingEntity) Bukkit.getEntity(uuid);
+    LivingEntity entity = Plugin.getData().getRpgSystem().getEntityHandles().get(uuid);
+    if (entity == null) {
+      return;
+    }
     AttributeInstance entityAttribute = entity.getAttribute(Objects.requireNonNull(attribute, "Null attribute"));
     if (entityAttribute == null) {
       return;
@@ -71,23 +69,11 @@ public class Buffs {
 
     entityAttribute.setBaseValue(entityAttribute.getBaseValue() + value);
     attributes.put(attribute, attributes.getOrDefault(attribute, 0.0) + value);
-
-    int taskID;
     if (attribute == Attribute.GENERIC_MAX_HEALTH) {
       new HealthChange(entity).updateDisplays();
-      taskID = Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> {
-        entityAttribute.setBaseValue(entityAttribute.getBaseValue() - value);
-        attributes.put(attribute, attributes.get(attribute) - value);
-        new HealthChange(entity).updateDisplays();
-      }, duration).getTaskId();
-    } else {
-      taskID = Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> {
-        entityAttribute.setBaseValue(entityAttribute.getBaseValue() - value);
-        attributes.put(attribute, attributes.get(attribute) - value);
-      }, duration).getTaskId();
     }
-    Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> removeAttributeIfEmpty(taskID, attribute), duration);
-    attributeBuffs.add(taskID);
+    buffInstances.add(new BuffInstance(getExpiryTick(duration), attribute, null, value));
+    Plugin.getData().getRpgSystem().invalidateCombatProfile(uuid);
   }
 
   /**
@@ -98,54 +84,104 @@ public class Buffs {
    * @param duration        duration in ticks
    */
   public void addAethelAttribute(@NotNull AethelAttribute aethelAttribute, double value, int duration) {
+    Objects.requireNonNull(aethelAttribute, "Null Aethel attribute");
     aethelAttributes.put(aethelAttribute, aethelAttributes.getOrDefault(aethelAttribute, 0.0) + value);
-
+    Plugin.getData().getRpgSystem().invalidateCombatProfile(uuid);
     if (aethelAttribute == AethelAttribute.MAX_HEALTH) {
-      LivingEntity entity = (LivingEntity) Bukkit.getEntity(uuid);
-      new HealthChange(entity).updateDisplays();
-      Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> {
-        aethelAttributes.put(aethelAttribute, aethelAttributes.get(aethelAttribute) - value);
+      LivingEntity entity = Plugin.getData().getRpgSystem().getEntityHandles().get(uuid);
+      if (entity != null) {
         new HealthChange(entity).updateDisplays();
-      }, duration);
-    } else {
-      Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> aethelAttributes.put(aethelAttribute, aethelAttributes.get(aethelAttribute) - value), duration);
+      }
     }
-
-    Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> removeAethelAttributeIfEmpty(aethelAttribute), duration);
+    buffInstances.add(new BuffInstance(getExpiryTick(duration), null, aethelAttribute, value));
   }
 
   /**
-   * Removes the attribute after its timer ends.
+   * Reverts buff instances that have expired by the current tick.
+   * <p>
+   * Buffed attributes are removed once their values return to zero.
    *
-   * @param taskID    task ID to be removed
-   * @param attribute attribute to be removed
-   */
-  private void removeAttributeIfEmpty(int taskID, Attribute attribute) {
-    Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> {
-      attributeBuffs.remove(taskID);
-      if (attributes.get(attribute) == 0.0) {
-        attributes.remove(attribute);
-        if (attributes.isEmpty() && aethelAttributes.isEmpty()) {
-          Plugin.getData().getRpgSystem().getBuffs().remove(uuid);
+   * @param currentTick current {@link RpgSystem} tick
+   * @return if the entity no longer has any buffs
+   */
+  boolean expireBuffs(long currentTick) {
+    BuffInstance buffInstance = buffInstances.peek();
+    if (buffInstance == null || buffInstance.expiryTick() > currentTick) {
+      return buffInstances.isEmpty();
+    }
+
+    RpgSystem rpgSystem = Plugin.getData().getRpgSystem();
+    rpgSystem.invalidateCombatProfile(uuid);
+    LivingEntity entity = rpgSystem.getEntityHandles().get(uuid);
+    boolean updateDisplays = false;
+    while (buffInstance != null && buffInstance.expiryTick() <= currentTick) {
+      buffInstances.poll();
+      double value = buffInstance.value();
+      Attribute attribute = buffInstance.attribute();
+      if (attribute != null) {
+        if (entity != null) {
+          AttributeInstance entityAttribute = entity.getAttribute(attribute);
+          if (entityAttribute != null) {
+            entityAttribute.setBaseValue(entityAttribute.getBaseValue() - value);
+          }
+        }
+        double remaining = attributes.get(attribute) - value;
+        if (remaining == 0.0) {
+          attributes.remove(attribute);
+        } else {
+          attributes.put(attribute, remaining);
+        }
+        updateDisplays = updateDisplays || attribute == Attribute.GENERIC_MAX_HEALTH;
+      } else {
+        AethelAttribute aethelAttribute = buffInstance.aethelAttribute();
+        double remaining = aethelAttributes.get(aethelAttribute) - value;
+        if (remaining == 0.0) {
+          aethelAttributes.remove(aethelAttribute);
+        } else {
+          aethelAttributes.put(aethelAttribute, remaining);
         }
+        updateDisplays = updateDisplays || aethelAttribute == AethelAttribute.MAX_HEALTH;
       }
-    }, 1);
+      buffInstance = buffInstances.peek();
+    }
+
+    if (buffInstances.isEmpty()) {
+      attributes.clear();
+      aethelAttributes.clear();
+    }
+    if (updateDisplays && entity != null) {
+      new HealthChange(entity).updateDisplays();
+    }
+    return buffInstances.isEmpty();
   }
 
   /**
-   * Removes the {@link AethelAttribute} after its timer ends.
+   * Delays every buff instance's expiry by a number of ticks.
+   * <p>
+   * Used to pause buffs while their entity is {@link EntitySuspensions suspended}.
    *
-   * @param aethelAttribute {@link AethelAttribute} to be removed
-   */
-  private void removeAethelAttributeIfEmpty(AethelAttribute aethelAttribute) {
-    Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> {
-      if (aethelAttributes.get(aethelAttribute) == 0.0) {
-        aethelAttributes.remove(aethelAttribute);
-        if (aethelAttributes.isEmpty() && attributes.isEmpty()) {
-          Plugin.getData().getRpgSystem().getBuffs().remove(uuid);
-        }
-      }
-    }, 1);
+   * @param ticks number of ticks
+   */
+  void delayExpiry(long ticks) {
+    if (ticks <= 0) {
+      return;
+    }
+    List<BuffInstance> delayedInstances = new ArrayList<>(buffInstances.size());
+    for (BuffInstance buffInstance : buffInstances) {
+      delayedInstances.add(new BuffInstance(buffInstance.expiryTick() + ticks, buffInstance.attribute(), buffInstance.aethelAttribute(), buffInstance.value()));
+    }
+    buffInstances.clear();
+    buffInstances.addAll(delayedInstances);
+  }
+
+  /**
+   * Gets the tick a buff instance expires on.
+   *
+   * @param duration duration in ticks
+   * @return expiry tick
+   */
+  private long getExpiryTick(int duration) {
+    return Plugin.getData().getRpgSystem().getCurrentTick() + Math.max(1, duration);
   }
 
   /**
@@ -190,16 +226,37 @@ public class Buffs {
 
   /**
    * Safely removes all buffs from the entity.
+   * <p>
+   * Both attribute and {@link AethelAttribute} buff instances are cancelled.
    */
   public void removeAllBuffs() {
-    for (int taskID : attributeBuffs) {
-      Bukkit.getScheduler().cancelTask(taskID);
+    LivingEntity entity = Plugin.getData().getRpgSystem().getEntityHandles().get(uuid);
+    if (entity != null) {
+      for (Attribute attribute : attributes.keySet()) {
+        AttributeInstance attributeInstance = entity.getAttribute(attribute);
+        attributeInstance.setBaseValue(attributeInstance.getBaseValue() - attributes.get(attribute));
+      }
     }
-    LivingEntity entity = (LivingEntity) Bukkit.getEntity(uuid);
-    for (Attribute attribute : attributes.keySet()) {
-      AttributeInstance attributeInstance = entity.getAttribute(attribute);
-      attributeInstance.setBaseValue(attributeInstance.getBaseValue() - attributes.get(attribute));
+    boolean updateDisplays = attributes.containsKey(Attribute.GENERIC_MAX_HEALTH) || aethelAttributes.containsKey(AethelAttribute.MAX_HEALTH);
+    buffInstances.clear();
+    attributes.clear();
+    aethelAttributes.clear();
+    RpgSystem rpgSystem = Plugin.getData().getRpgSystem();
+    rpgSystem.getBuffs().remove(uuid);
+    rpgSystem.invalidateCombatProfile(uuid);
+    if (updateDisplays && entity != null) {
+      new HealthChange(entity).updateDisplays();
     }
-    Plugin.getData().getRpgSystem().getBuffs().remove(uuid);
+  }
+
+  /**
+   * Represents a buff application.
+   *
+   * @param expiryTick      tick the buff expires on
+   * @param attribute       buffed attribute, null if an {@link AethelAttribute} buff
+   * @param aethelAttribute buffed {@link AethelAttribute}, null if an attribute buff
+   * @param value           buff value
+   */
+  private record BuffInstance(long expiryTick, Attribute attribute, AethelAttribute aethelAttribute, double value) {
   }
 }
@@ -0,0 +1,372 @@
+package me.bam6561.aethelplugin.rpg;
+
+import me.bam6561.aethelplugin.enums.rpg.AethelAttribute;
+import me.bam6561.aethelplugin.enums.rpg.StatusType;
+import me.bam6561.aethelplugin.utils.TagSchema;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Represents an entity's combat stats read from its {@link TagSchema Aethel tags},
+ * {@link Buffs}, and {@link Status statuses}.
+ * <p>
+ * Reading persistent tags requires NBT lookups and boxing, so stats are cached
+ * as primitives and only reread once the profile has been marked dirty by an
+ * {@link Equipment} slot change or {@link Buffs} change. {@link Status} stacks
+ * are updated in place whenever a {@link #isCached(StatusType) cached} status changes.
+ * <p>
+ * Vanilla attribute values and potion effects are not cached,
+ * since they can change without the plugin being notified.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.47
+ * @since 1.27.14
+ */
+public class CombatProfile {
+  /**
+   * If the stats need to be reread.
+   */
+  private boolean isDirty = true;
+
+  /**
+   * {@link AethelAttribute#MAX_HEALTH} and max health buffs.
+   */
+  private double maxHealth;
+
+  /**
+   * {@link AethelAttribute#CRITICAL_CHANCE}
+   */
+  private double criticalChance;
+
+  /**
+   * {@link AethelAttribute#CRITICAL_DAMAGE}
+   */
+  private double criticalDamage;
+
+  /**
+   * {@link AethelAttribute#FEINT_SKILL}
+   */
+  private double feintSkill;
+
+  /**
+   * {@link AethelAttribute#ACCURACY_SKILL}
+   */
+  private double accuracySkill;
+
+  /**
+   * {@link AethelAttribute#COUNTER_CHANCE}
+   */
+  private double counterChance;
+
+  /**
+   * {@link AethelAttribute#DODGE_CHANCE}
+   */
+  private double dodgeChance;
+
+  /**
+   * {@link AethelAttribute#ARMOR_TOUGHNESS}
+   */
+  private double armorToughness;
+
+  /**
+   * {@link AethelAttribute#ARMOR}
+   */
+  private int armor;
+
+  /**
+   * Protection enchantment level.
+   */
+  private int protection;
+
+  /**
+   * Blast protection enchantment level.
+   */
+  private int blastProtection;
+
+  /**
+   * Fire protection enchantment level.
+   */
+  private int fireProtection;
+
+  /**
+   * Projectile protection enchantment level.
+   */
+  private int projectileProtection;
+
+  /**
+   * Feather falling enchantment level.
+   */
+  private int featherFalling;
+
+  /**
+   * {@link StatusType#BATTER} stacks.
+   */
+  private int batter;
+
+  /**
+   * {@link StatusType#BRITTLE} stacks.
+   */
+  private int brittle;
+
+  /**
+   * {@link StatusType#VULNERABLE} stacks.
+   */
+  private int vulnerable;
+
+  /**
+   * No parameter constructor.
+   */
+  public CombatProfile() {
+  }
+
+  /**
+   * Rereads the entity's stats if the profile is dirty.
+   *
+   * @param rpgSystem owning {@link RpgSystem}
+   * @param entity    interacting entity
+   */
+  void refresh(@NotNull RpgSystem rpgSystem, @NotNull LivingEntity entity) {
+    if (!isDirty) {
+      return;
+    }
+    isDirty = false;
+
+    UUID uuid = Objects.requireNonNull(entity, "Null entity").getUniqueId();
+    PersistentDataContainer entityTags = entity.getPersistentDataContainer();
+    Buffs buffs = rpgSystem.getBuffs().get(uuid);
+    StatusSet statuses = rpgSystem.getStatuses().get(uuid);
+
+    maxHealth = rpgSystem.getAethelAttribute(entity, AethelAttribute.MAX_HEALTH);
+    criticalChance = rpgSystem.getAethelAttribute(entity, AethelAttribute.CRITICAL_CHANCE);
+    criticalDamage = rpgSystem.getAethelAttribute(entity, AethelAttribute.CRITICAL_DAMAGE);
+    feintSkill = rpgSystem.getAethelAttribute(entity, AethelAttribute.FEINT_SKILL);
+    accuracySkill = rpgSystem.getAethelAttribute(entity, AethelAttribute.ACCURACY_SKILL);
+    counterChance = rpgSystem.getAethelAttribute(entity, AethelAttribute.COUNTER_CHANCE);
+    dodgeChance = rpgSystem.getAethelAttribute(entity, AethelAttribute.DODGE_CHANCE);
+    armorToughness = rpgSystem.getAethelAttribute(entity, AethelAttribute.ARMOR_TOUGHNESS);
+    double armorBase = rpgSystem.getAethelAttribute(entity, AethelAttribute.ARMOR);
+
+    protection = TagSchema.getEnchantment(entityTags, TagSchema.getEnchantmentId(Enchantment.PROTECTION));
+    blastProtection = TagSchema.getEnchantment(entityTags, TagSchema.getEnchantmentId(Enchantment.BLAST_PROTECTION));
+    fireProtection = TagSchema.getEnchantment(entityTags, TagSchema.getEnchantmentId(Enchantment.FIRE_PROTECTION));
+    projectileProtection = TagSchema.getEnchantment(entityTags, TagSchema.getEnchantmentId(Enchantment.PROJECTILE_PROTECTION));
+    featherFalling = TagSchema.getEnchantment(entityTags, TagSchema.getEnchantmentId(Enchantment.FEATHER_FALLING));
+
+    double armorBuff = 0.0;
+    if (buffs != null) {
+      maxHealth += buffs.getAttribute(Attribute.GENERIC_MAX_HEALTH) + buffs.getAethelAttribute(AethelAttribute.MAX_HEALTH);
+      criticalChance += buffs.getAethelAttribute(AethelAttribute.CRITICAL_CHANCE);
+      criticalDamage += buffs.getAethelAttribute(AethelAttribute.CRITICAL_DAMAGE);
+      feintSkill += buffs.getAethelAttribute(AethelAttribute.FEINT_SKILL);
+      accuracySkill += buffs.getAethelAttribute(AethelAttribute.ACCURACY_SKILL);
+      counterChance += buffs.getAethelAttribute(AethelAttribute.COUNTER_CHANCE);
+      dodgeChance += buffs.getAethelAttribute(AethelAttribute.DODGE_CHANCE);
+      armorToughness += buffs.getAethelAttribute(AethelAttribute.ARMOR_TOUGHNESS);
+      armorBuff = buffs.getAethelAttribute(AethelAttribute.ARMOR);
+    }
+    armor = (int) armorBase + (int) armorBuff;
+
+    if (statuses != null) {
+      batter = statuses.getStackAmount(StatusType.BATTER);
+      brittle = statuses.getStackAmount(StatusType.BRITTLE);
+      vulnerable = statuses.getStackAmount(StatusType.VULNERABLE);
+    } else {
+      batter = 0;
+      brittle = 0;
+      vulnerable = 0;
+    }
+  }
+
+  /**
+   * Sets the number of stacks of a {@link #isCached(StatusType) cached} {@link StatusType}.
+   *
+   * @param type   {@link StatusType}
+   * @param stacks number of stacks
+   */
+  void setStackAmount(@NotNull StatusType type, int stacks) {
+    switch (Objects.requireNonNull(type, "Null status type")) {
+      case BATTER -> batter = stacks;
+      case BRITTLE -> brittle = stacks;
+      case VULNERABLE -> vulnerable = stacks;
+    }
+  }
+
+  /**
+   * Gets if a {@link StatusType}'s stacks are cached by combat profiles.
+   *
+   * @param type {@link StatusType}
+   * @return if the {@link StatusType}'s stacks are cached
+   */
+  static boolean isCached(@NotNull StatusType type) {
+    return switch (Objects.requireNonNull(type, "Null status type")) {
+      case BATTER, BRITTLE, VULNERABLE -> true;
+      default -> false;
+    };
+  }
+
+  /**
+   * Marks the stats to be reread on their next use.
+   */
+  void markDirty() {
+    this.isDirty = true;
+  }
+
+  /**
+   * Gets the {@link AethelAttribute#MAX_HEALTH} and max health buffs.
+   *
+   * @return {@link AethelAttribute#MAX_HEALTH} and max health buffs
+   */
+  public double getMaxHealth() {
+    return this.maxHealth;
+  }
+
+  /**
+   * Gets the {@link AethelAttribute#CRITICAL_CHANCE}.
+   *
+   * @return {@link AethelAttribute#CRITICAL_CHANCE}
+   */
+  public double getCriticalChance() {
+    return this.criticalChance;
+  }
+
+  /**
+   * Gets the {@link AethelAttribute#CRITICAL_DAMAGE}.
+   *
+   * @return {@link AethelAttribute#CRITICAL_DAMAGE}
+   */
+  public double getCriticalDamage() {
+    return this.criticalDamage;
+  }
+
+  /**
+   * Gets the {@link AethelAttribute#FEINT_SKILL}.
+   *
+   * @return {@link AethelAttribute#FEINT_SKILL}
+   */
+  public double getFeintSkill() {
+    return this.feintSkill;
+  }
+
+  /**
+   * Gets the {@link AethelAttribute#ACCURACY_SKILL}.
+   *
+   * @return {@link AethelAttribute#ACCURACY_SKILL}
+   */
+  public double getAccuracySkill() {
+    return this.accuracySkill;
+  }
+
+  /**
+   * Gets the {@link AethelAttribute#COUNTER_CHANCE}.
+   *
+   * @return {@link AethelAttribute#COUNTER_CHANCE}
+   */
+  public double getCounterChance() {
+    return this.counterChance;
+  }
+
+  /**
+   * Gets the {@link AethelAttribute#DODGE_CHANCE}.
+   *
+   * @return {@link AethelAttribute#DODGE_CHANCE}
+   */
+  public double getDodgeChance() {
+    return this.dodgeChance;
+  }
+
+  /**
+   * Gets the {@link AethelAttribute#ARMOR_TOUGHNESS}.
+   *
+   * @return {@link AethelAttribute#ARMOR_TOUGHNESS}
+   */
+  public double getArmorToughness() {
+    return this.armorToughness;
+  }
+
+  /**
+   * Gets the {@link AethelAttribute#ARMOR}.
+   *
+   * @return {@link AethelAttribute#ARMOR}
+   */
+  public int getArmor() {
+    return this.armor;
+  }
+
+  /**
+   * Gets the protection enchantment level.
+   *
+   * @return protection enchantment level
+   */
+  public int getProtection() {
+    return this.protection;
+  }
+
+  /**
+   * Gets the blast protection enchantment level.
+   *
+   * @return blast protection enchantment level
+   */
+  public int getBlastProtection() {
+    return this.blastProtection;
+  }
+
+  /**
+   * Gets the fire protection enchantment level.
+   *
+   * @return fire protection enchantment level
+   */
+  public int getFireProtection() {
+    return this.fireProtection;
+  }
+
+  /**
+   * Gets the projectile protection enchantment level.
+   *
+   * @return projectile protection enchantment level
+   */
+  public int getProjectileProtection() {
+    return this.projectileProtection;
+  }
+
+  /**
+   * Gets the feather falling enchantment level.
+   *
+   * @return feather falling enchantment level
+   */
+  public int getFeatherFalling() {
+    return this.featherFalling;
+  }
+
+  /**
+   * Gets the number of {@link StatusType#BATTER} stacks.
+   *
+   * @return number of {@link StatusType#BATTER} stacks
+   */
+  public int getBatter() {
+    return this.batter;
+  }
+
+  /**
+   * Gets the number of {@link StatusType#BRITTLE} stacks.
+   *
+   * @return number of {@link StatusType#BRITTLE} stacks
+   */
+  public int getBrittle() {
+    return this.brittle;
+  }
+
+  /**
+   * Gets the number of {@link StatusType#VULNERABLE} stacks.
+   *
+   * @return number of {@link StatusType#VULNERABLE} stacks
+   */
+  public int getVulnerable() {
+    return this.vulnerable;
+  }
+}
@@ -0,0 +1,189 @@
+package me.bam6561.aethelplugin.rpg;
+
+import me.bam6561.aethelplugin.Plugin;
+import me.bam6561.aethelplugin.enums.rpg.RpgEquipmentSlot;
+import me.bam6561.aethelplugin.enums.rpg.abilities.ActiveAbilityType;
+import me.bam6561.aethelplugin.enums.rpg.abilities.PassiveAbilityType;
+import me.bam6561.aethelplugin.enums.rpg.abilities.PassiveTriggerType;
+import me.bam6561.aethelplugin.rpg.abilities.ActiveAbility;
+import me.bam6561.aethelplugin.rpg.abilities.PassiveAbility;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Represents an {@link RpgPlayer}'s ability cooldowns.
+ * <p>
+ * Cooldowns are stored as the {@link RpgSystem} tick they expire on, so
+ * checking a cooldown is a single comparison against the current tick
+ * and putting an ability on cooldown doesn't require a scheduled task.
+ * <p>
+ * {@link PassiveAbility Passive} and {@link ActiveAbility active} equipment
+ * abilities are indexed by their {@link RpgEquipmentSlot} and ability type
+ * ordinals, while edible abilities are identified by their item id.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.34
+ * @since 1.27.7
+ */
+public class CooldownLedger {
+  /**
+   * Number of {@link RpgEquipmentSlot equipment slots}.
+   */
+  private static final int SLOTS = RpgEquipmentSlot.values().length;
+
+  /**
+   * Number of {@link PassiveAbilityType passive ability types}.
+   */
+  private static final int PASSIVE_TYPES = PassiveAbilityType.values().length;
+
+  /**
+   * Number of {@link ActiveAbilityType active ability types}.
+   */
+  private static final int ACTIVE_TYPES = ActiveAbilityType.values().length;
+
+  /**
+   * {@link PassiveAbility} cooldown expiry ticks.
+   */
+  private final long[] passiveCooldowns = new long[PassiveTriggerType.values().length * SLOTS * PASSIVE_TYPES];
+
+  /**
+   * {@link ActiveAbility} cooldown expiry ticks.
+   */
+  private final long[] activeCooldowns = new long[SLOTS * ACTIVE_TYPES];
+
+  /**
+   * Edible {@link ActiveAbility} cooldown expiry ticks by item id.
+   */
+  private final Map<String, Long> edibleCooldowns = new HashMap<>();
+
+  /**
+   * No parameter constructor.
+   */
+  public CooldownLedger() {
+  }
+
+  /**
+   * Gets the cooldown index of a {@link PassiveAbility}.
+   *
+   * @param trigger {@link PassiveTriggerType}
+   * @param eSlot   {@link RpgEquipmentSlot}
+   * @param type    {@link PassiveAbilityType}
+   * @return {@link PassiveAbility} cooldown index
+   */
+  public static int getPassiveIndex(@NotNull PassiveTriggerType trigger, @NotNull RpgEquipmentSlot eSlot, @NotNull PassiveAbilityType type) {
+    return (trigger.ordinal() * SLOTS + eSlot.ordinal()) * PASSIVE_TYPES + type.ordinal();
+  }
+
+  /**
+   * Gets the cooldown index of an equipment {@link ActiveAbility}.
+   *
+   * @param eSlot {@link RpgEquipmentSlot}
+   * @param type  {@link ActiveAbilityType}
+   * @return {@link ActiveAbility} cooldown index
+   */
+  public static int getActiveIndex(@NotNull RpgEquipmentSlot eSlot, @NotNull ActiveAbilityType type) {
+    return eSlot.ordinal() * ACTIVE_TYPES + type.ordinal();
+  }
+
+  /**
+   * Gets if a {@link PassiveAbility} is on cooldown.
+   *
+   * @param index {@link PassiveAbility} cooldown index
+   * @return if the {@link PassiveAbility} is on cooldown
+   */
+  public boolean isPassiveOnCooldown(int index) {
+    return isPassiveOnCooldown(index, getCurrentTick());
+  }
+
+  /**
+   * Gets if a {@link PassiveAbility} is on cooldown on a tick.
+   *
+   * @param index       {@link PassiveAbility} cooldown index
+   * @param currentTick current tick
+   * @return if the {@link PassiveAbility} is on cooldown
+   */
+  public boolean isPassiveOnCooldown(int index, long currentTick) {
+    return passiveCooldowns[index] > currentTick;
+  }
+
+  /**
+   * Puts a {@link PassiveAbility} on cooldown.
+   *
+   * @param index {@link PassiveAbility} cooldown index
+   * @param ticks cooldown in ticks
+   */
+  public void setPassiveCooldown(int index, int ticks) {
+    setPassiveCooldown(index, getCurrentTick(), ticks);
+  }
+
+  /**
+   * Puts a {@link PassiveAbility} on cooldown from a tick.
+   *
+   * @param index       {@link PassiveAbility} cooldown index
+   * @param currentTick current tick
+   * @param ticks       cooldown in ticks
+   */
+  public void setPassiveCooldown(int index, long currentTick, int ticks) {
+    passiveCooldowns[index] = currentTick + ticks;
+  }
+
+  /**
+   * Gets if an equipment {@link ActiveAbility} is on cooldown.
+   *
+   * @param index {@link ActiveAbility} cooldown index
+   * @return if the {@link ActiveAbility} is on cooldown
+   */
+  public boolean isActiveOnCooldown(int index) {
+    return activeCooldowns[index] > getCurrentTick();
+  }
+
+  /**
+   * Puts an equipment {@link ActiveAbility} on cooldown.
+   *
+   * @param index {@link ActiveAbility} cooldown index
+   * @param ticks cooldown in ticks
+   */
+  public void setActiveCooldown(int index, int ticks) {
+    activeCooldowns[index] = getCurrentTick() + ticks;
+  }
+
+  /**
+   * Gets if an edible is on cooldown.
+   *
+   * @param id edible item id
+   * @return if the edible is on cooldown
+   */
+  public boolean isEdibleOnCooldown(@NotNull String id) {
+    Long expiryTick = edibleCooldowns.get(Objects.requireNonNull(id, "Null item id"));
+    if (expiryTick == null) {
+      return false;
+    }
+    if (expiryTick > getCurrentTick()) {
+      return true;
+    }
+    edibleCooldowns.remove(id);
+    return false;
+  }
+
+  /**
+   * Puts an edible on cooldown.
+   *
+   * @param id    edible item id
+   * @param ticks cooldown in ticks
+   */
+  public void setEdibleCooldown(@NotNull String id, int ticks) {
+    edibleCooldowns.put(Objects.requireNonNull(id, "Null item id"), getCurrentTick() + ticks);
+  }
+
+  /**
+   * Gets the {@link RpgSystem}'s current tick.
+   *
+   * @return current tick
+   */
+  private long getCurrentTick() {
+    return Plugin.getData().getRpgSystem().getCurrentTick();
+  }
+}
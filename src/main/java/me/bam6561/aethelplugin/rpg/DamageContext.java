@@ -0,0 +1,381 @@
+package me.bam6561.aethelplugin.rpg;
+
+import me.bam6561.aethelplugin.interfaces.DamageStage;
+import me.bam6561.aethelplugin.plugin.EffectBuffer;
+import me.bam6561.aethelplugin.utils.entity.DamageMitigation;
+import me.bam6561.aethelplugin.utils.entity.HealthChange;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Represents the state of a hit shared between {@link DamageStage damage stages}.
+ * <p>
+ * Contexts are {@link #load(EntityDamageEvent) loaded} with a new event on every
+ * hit and {@link #clear() cleared} afterwards, so a single context can be reused
+ * across hits instead of being allocated per event.
+ * <p>
+ * The damage is kept as a primitive while stages modify it and is only
+ * {@link #applyDamage() applied} to the event once the stages are done,
+ * since setting an event's damage boxes and recalculates its modifiers.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.43
+ * @since 1.27.16
+ */
+public class DamageContext {
+  /**
+   * {@link RpgSystem}
+   */
+  private final RpgSystem rpgSystem;
+
+  /**
+   * {@link EffectBuffer}
+   */
+  private final EffectBuffer effectBuffer;
+
+  /**
+   * Reused damage mitigation of the defending entity.
+   */
+  private final DamageMitigation mitigation = new DamageMitigation();
+
+  /**
+   * Reused health change of the defending entity.
+   */
+  private final HealthChange healthChange;
+
+  /**
+   * Reused damage mitigation of the attacking entity.
+   */
+  private final DamageMitigation attackerMitigation = new DamageMitigation();
+
+  /**
+   * Reused health change of the attacking entity.
+   */
+  private final HealthChange attackerHealthChange;
+
+  /**
+   * Reused location of the defending entity.
+   */
+  private final Location location = new Location(null, 0, 0, 0);
+
+  /**
+   * If a hit is being calculated.
+   */
+  private boolean isInUse = false;
+
+  /**
+   * RNG used for every hit, or null to use the current thread's.
+   */
+  private final RandomGenerator seededRandom;
+
+  /**
+   * RNG.
+   */
+  private RandomGenerator random;
+
+  /**
+   * Entity damage event.
+   */
+  private EntityDamageEvent event;
+
+  /**
+   * Attacking entity, null if the damage was environmental.
+   */
+  private Entity attacker;
+
+  /**
+   * Defending entity.
+   */
+  private LivingEntity defender;
+
+  /**
+   * Attacking entity's {@link CombatProfile}, null if the attacker isn't a living entity.
+   */
+  private CombatProfile attackerProfile;
+
+  /**
+   * Defending entity's {@link CombatProfile}.
+   */
+  private CombatProfile defenderProfile;
+
+  /**
+   * Current damage.
+   */
+  private double damage;
+
+  /**
+   * If the current damage differs from the event's.
+   */
+  private boolean isDamageChanged;
+
+  /**
+   * Associates the context with the systems its stages use.
+   *
+   * @param rpgSystem    {@link RpgSystem}
+   * @param effectBuffer {@link EffectBuffer}
+   */
+  public DamageContext(@NotNull RpgSystem rpgSystem, @NotNull EffectBuffer effectBuffer) {
+    this(rpgSystem, effectBuffer, null);
+  }
+
+  /**
+   * Associates the context with the systems its stages use and an RNG,
+   * so hits can be reproduced from the RNG's seed.
+   *
+   * @param rpgSystem    {@link RpgSystem}
+   * @param effectBuffer {@link EffectBuffer}
+   * @param random       RNG used for every hit, or null to use the current thread's
+   */
+  public DamageContext(@NotNull RpgSystem rpgSystem, @NotNull EffectBuffer effectBuffer, @Nullable RandomGenerator random) {
+    this.rpgSystem = Objects.requireNonNull(rpgSystem, "Null RPG system");
+    this.effectBuffer = Objects.requireNonNull(effectBuffer, "Null effect buffer");
+    this.seededRandom = random;
+    this.healthChange = new HealthChange(rpgSystem);
+    this.attackerHealthChange = new HealthChange(rpgSystem);
+  }
+
+  /**
+   * Loads the entity damage event with all its components.
+   *
+   * @param event entity damage event whose entity is a living entity
+   */
+  public void load(@NotNull EntityDamageEvent event) {
+    this.event = Objects.requireNonNull(event, "Null event");
+    this.isInUse = true;
+    this.random = seededRandom != null ? seededRandom : ThreadLocalRandom.current();
+    this.attacker = event instanceof EntityDamageByEntityEvent entityEvent ? entityEvent.getDamager() : null;
+    this.defender = (LivingEntity) event.getEntity();
+    this.attackerProfile = attacker instanceof LivingEntity livingAttacker ? rpgSystem.getCombatProfile(livingAttacker) : null;
+    this.defenderProfile = rpgSystem.getCombatProfile(defender);
+    this.mitigation.reset(defender, defenderProfile);
+    this.damage = event.getDamage();
+    this.isDamageChanged = false;
+  }
+
+  /**
+   * Applies the current damage to the event if it has changed.
+   */
+  public void applyDamage() {
+    if (isDamageChanged) {
+      isDamageChanged = false;
+      event.setDamage(damage);
+    }
+  }
+
+  /**
+   * Releases the references to the last hit.
+   */
+  public void clear() {
+    this.event = null;
+    this.attacker = null;
+    this.defender = null;
+    this.attackerProfile = null;
+    this.defenderProfile = null;
+    this.mitigation.clear();
+    this.healthChange.clear();
+    this.attackerMitigation.clear();
+    this.attackerHealthChange.clear();
+    this.location.setWorld(null);
+    this.isInUse = false;
+  }
+
+  /**
+   * Gets if a hit is being calculated.
+   *
+   * @return if a hit is being calculated
+   */
+  public boolean isInUse() {
+    return this.isInUse;
+  }
+
+  /**
+   * Gets the {@link RpgSystem}.
+   *
+   * @return {@link RpgSystem}
+   */
+  @NotNull
+  public RpgSystem getRpgSystem() {
+    return this.rpgSystem;
+  }
+
+  /**
+   * Gets the {@link EffectBuffer}.
+   *
+   * @return {@link EffectBuffer}
+   */
+  @NotNull
+  public EffectBuffer getEffectBuffer() {
+    return this.effectBuffer;
+  }
+
+  /**
+   * Gets the RNG.
+   *
+   * @return RNG
+   */
+  @NotNull
+  public RandomGenerator getRandom() {
+    return this.random;
+  }
+
+  /**
+   * Gets the entity damage event with the current damage {@link #applyDamage() applied}.
+   *
+   * @return entity damage event
+   */
+  @NotNull
+  public EntityDamageEvent getEvent() {
+    applyDamage();
+    return this.event;
+  }
+
+  /**
+   * Gets the damage cause.
+   *
+   * @return damage cause
+   */
+  @NotNull
+  public EntityDamageEvent.DamageCause getCause() {
+    return event.getCause();
+  }
+
+  /**
+   * Gets the current damage.
+   *
+   * @return current damage
+   */
+  public double getDamage() {
+    return this.damage;
+  }
+
+  /**
+   * Sets the current damage.
+   *
+   * @param damage damage
+   */
+  public void setDamage(double damage) {
+    this.damage = damage;
+    this.isDamageChanged = true;
+  }
+
+  /**
+   * Gets the attacking entity.
+   *
+   * @return attacking entity, or null if the damage was environmental
+   */
+  @Nullable
+  public Entity getAttacker() {
+    return this.attacker;
+  }
+
+  /**
+   * Gets the defending entity.
+   *
+   * @return defending entity
+   */
+  @NotNull
+  public LivingEntity getDefender() {
+    return this.defender;
+  }
+
+  /**
+   * Gets the defending entity's location.
+   * <p>
+   * The location is reused by the context, so it should not be kept.
+   *
+   * @return defending entity's location
+   */
+  @NotNull
+  public Location getDefenderLocation() {
+    return defender.getLocation(location);
+  }
+
+  /**
+   * Gets the defending entity's eye location.
+   * <p>
+   * The location is reused by the context, so it should not be kept.
+   *
+   * @return defending entity's eye location
+   */
+  @NotNull
+  public Location getDefenderEyeLocation() {
+    return defender.getLocation(location).add(0, defender.getEyeHeight(), 0);
+  }
+
+  /**
+   * Gets the defending entity's damage mitigation.
+   *
+   * @return defending entity's damage mitigation
+   */
+  @NotNull
+  public DamageMitigation getMitigation() {
+    return this.mitigation;
+  }
+
+  /**
+   * Gets the health change reset onto the defending entity.
+   *
+   * @return defending entity's health change
+   */
+  @NotNull
+  public HealthChange getHealthChange() {
+    return healthChange.reset(defender);
+  }
+
+  /**
+   * Gets the damage mitigation reset onto the attacking entity.
+   *
+   * @return attacking entity's damage mitigation
+   * @throws IllegalStateException if the attacker isn't a living entity
+   */
+  @NotNull
+  public DamageMitigation getAttackerMitigation() {
+    if (!(attacker instanceof LivingEntity livingAttacker)) {
+      throw new IllegalStateException("Non-living attacker");
+    }
+    return attackerMitigation.reset(livingAttacker, attackerProfile);
+  }
+
+  /**
+   * Gets the health change reset onto the attacking entity.
+   *
+   * @return attacking entity's health change
+   * @throws IllegalStateException if the attacker isn't a living entity
+   */
+  @NotNull
+  public HealthChange getAttackerHealthChange() {
+    if (!(attacker instanceof LivingEntity livingAttacker)) {
+      throw new IllegalStateException("Non-living attacker");
+    }
+    return attackerHealthChange.reset(livingAttacker);
+  }
+
+  /**
+   * Gets the attacking entity's {@link CombatProfile}.
+   *
+   * @return attacking entity's {@link CombatProfile}, or null if the attacker isn't a living entity
+   */
+  @Nullable
+  public CombatProfile getAttackerProfile() {
+    return this.attackerProfile;
+  }
+
+  /**
+   * Gets the defending entity's {@link CombatProfile}.
+   *
+   * @return defending entity's {@link CombatProfile}
+   */
+  @NotNull
+  public CombatProfile getDefenderProfile() {
+    return this.defenderProfile;
+  }
+}
@@ -0,0 +1,421 @@
+package me.bam6561.aethelplugin.rpg;
+
+import me.bam6561.aethelplugin.interfaces.DamageStage;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Represents an ordered registry of {@link DamageStage damage stages}.
+ * <p>
+ * Stages are run in order until one of them ends the chain early.
+ * Each stage records its own invocations, timings, and change in damage,
+ * which are shown through {@link me.bam6561.aethelplugin.commands.DeveloperCommand},
+ * and can be disabled in individual worlds unless they are core stages.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.44
+ * @since 1.27.16
+ */
+public class DamagePipeline {
+  /**
+   * Pipeline name.
+   */
+  private final String name;
+
+  /**
+   * {@link Stage Stages} in the order they are run.
+   */
+  private final List<Stage> stages = new ArrayList<>();
+
+  /**
+   * Associates the pipeline with its name.
+   *
+   * @param name pipeline name
+   */
+  public DamagePipeline(@NotNull String name) {
+    this.name = Objects.requireNonNull(name, "Null name");
+  }
+
+  /**
+   * Adds a stage to the end of the pipeline.
+   *
+   * @param name  stage name
+   * @param stage {@link DamageStage}
+   */
+  public void addStage(@NotNull String name, @NotNull DamageStage stage) {
+    stages.add(newStage(name, stage, false));
+  }
+
+  /**
+   * Adds a core stage to the end of the pipeline.
+   * <p>
+   * Core stages, such as applying the final damage, can't be disabled.
+   *
+   * @param name  stage name
+   * @param stage {@link DamageStage}
+   */
+  public void addCoreStage(@NotNull String name, @NotNull DamageStage stage) {
+    stages.add(newStage(name, stage, true));
+  }
+
+  /**
+   * Adds a stage before an existing stage.
+   *
+   * @param existingName existing stage name
+   * @param name         stage name
+   * @param stage        {@link DamageStage}
+   */
+  public void addStageBefore(@NotNull String existingName, @NotNull String name, @NotNull DamageStage stage) {
+    stages.add(indexOf(existingName), newStage(name, stage, false));
+  }
+
+  /**
+   * Adds a stage after an existing stage.
+   *
+   * @param existingName existing stage name
+   * @param name         stage name
+   * @param stage        {@link DamageStage}
+   */
+  public void addStageAfter(@NotNull String existingName, @NotNull String name, @NotNull DamageStage stage) {
+    stages.add(indexOf(existingName) + 1, newStage(name, stage, false));
+  }
+
+  /**
+   * Removes a stage.
+   *
+   * @param name stage name
+   * @return if the stage was removed
+   */
+  public boolean removeStage(@NotNull String name) {
+    Objects.requireNonNull(name, "Null name");
+    return stages.removeIf(stage -> stage.getName().equals(name));
+  }
+
+  /**
+   * Runs the stages enabled in the defender's world in order.
+   *
+   * @param context {@link DamageContext}
+   * @return if a stage ended the chain early
+   */
+  public boolean run(@NotNull DamageContext context) {
+    String worldName = context.getDefender().getWorld().getName();
+    for (int i = 0; i < stages.size(); i++) {
+      Stage stage = stages.get(i);
+      if (stage.isEnabled(worldName) && stage.apply(context)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Resets all stages' metrics.
+   */
+  public void resetMetrics() {
+    for (Stage stage : stages) {
+      stage.resetMetrics();
+    }
+  }
+
+  /**
+   * Gets the pipeline name.
+   *
+   * @return pipeline name
+   */
+  @NotNull
+  public String getName() {
+    return this.name;
+  }
+
+  /**
+   * Gets a stage by its name.
+   *
+   * @param name stage name
+   * @return {@link Stage}, or null if it doesn't exist
+   */
+  @Nullable
+  public Stage getStage(@NotNull String name) {
+    Objects.requireNonNull(name, "Null name");
+    for (Stage stage : stages) {
+      if (stage.getName().equals(name)) {
+        return stage;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Gets the {@link Stage stages}.
+   *
+   * @return {@link Stage stages}
+   */
+  @NotNull
+  public List<Stage> getStages() {
+    return Collections.unmodifiableList(this.stages);
+  }
+
+  /**
+   * Creates a stage if its name isn't already used.
+   *
+   * @param name   stage name
+   * @param stage  {@link DamageStage}
+   * @param isCore if the stage can't be disabled
+   * @return {@link Stage}
+   */
+  private Stage newStage(String name, DamageStage stage, boolean isCore) {
+    Objects.requireNonNull(name, "Null name");
+    if (getStage(name) != null) {
+      throw new IllegalArgumentException("Duplicate stage: " + name);
+    }
+    return new Stage(name, Objects.requireNonNull(stage, "Null stage"), isCore);
+  }
+
+  /**
+   * Gets the index of an existing stage.
+   *
+   * @param name stage name
+   * @return index of the stage
+   */
+  private int indexOf(String name) {
+    Objects.requireNonNull(name, "Null existing name");
+    for (int i = 0; i < stages.size(); i++) {
+      if (stages.get(i).getName().equals(name)) {
+        return i;
+      }
+    }
+    throw new IllegalArgumentException("Unrecognized stage: " + name);
+  }
+
+  /**
+   * Represents a named {@link DamageStage} and its metrics.
+   *
+   * @author Danny Nguyen
+   * @version 1.27.44
+   * @since 1.27.16
+   */
+  public static class Stage {
+    /**
+     * Stage name.
+     */
+    private final String name;
+
+    /**
+     * {@link DamageStage}
+     */
+    private final DamageStage stage;
+
+    /**
+     * If the stage can't be disabled.
+     */
+    private final boolean isCore;
+
+    /**
+     * Names of worlds the stage is disabled in.
+     */
+    private final Set<String> disabledWorlds = new HashSet<>();
+
+    /**
+     * Number of times the stage was run.
+     */
+    private long invocations;
+
+    /**
+     * Number of times the stage ended the chain early.
+     */
+    private long stops;
+
+    /**
+     * Total time spent in nanoseconds.
+     */
+    private long totalNanos;
+
+    /**
+     * Longest time spent on an invocation in nanoseconds.
+     */
+    private long maxNanos;
+
+    /**
+     * Total change in damage.
+     */
+    private double totalDamageDelta;
+
+    /**
+     * Associates a stage with its name.
+     *
+     * @param name   stage name
+     * @param stage  {@link DamageStage}
+     * @param isCore if the stage can't be disabled
+     */
+    private Stage(String name, DamageStage stage, boolean isCore) {
+      this.name = name;
+      this.stage = stage;
+      this.isCore = isCore;
+    }
+
+    /**
+     * Runs the stage and records its metrics.
+     *
+     * @param context {@link DamageContext}
+     * @return if the stage ended the chain early
+     */
+    private boolean apply(DamageContext context) {
+      double damage = context.getDamage();
+      long start = System.nanoTime();
+      boolean isStopped = stage.apply(context);
+      long nanos = System.nanoTime() - start;
+
+      invocations++;
+      totalNanos += nanos;
+      maxNanos = Math.max(maxNanos, nanos);
+      totalDamageDelta += context.getDamage() - damage;
+      if (isStopped) {
+        stops++;
+      }
+      return isStopped;
+    }
+
+    /**
+     * Resets the stage's metrics.
+     */
+    private void resetMetrics() {
+      invocations = 0;
+      stops = 0;
+      totalNanos = 0;
+      maxNanos = 0;
+      totalDamageDelta = 0;
+    }
+
+    /**
+     * Gets if the stage is enabled in a world.
+     *
+     * @param worldName world name
+     * @return if the stage is enabled in the world
+     */
+    public boolean isEnabled(@NotNull String worldName) {
+      return disabledWorlds.isEmpty() || !disabledWorlds.contains(worldName);
+    }
+
+    /**
+     * Sets if the stage is enabled in a world.
+     *
+     * @param worldName world name
+     * @param isEnabled if the stage is enabled
+     * @throws IllegalStateException if a core stage is disabled
+     */
+    public void setEnabled(@NotNull String worldName, boolean isEnabled) {
+      Objects.requireNonNull(worldName, "Null world name");
+      if (isEnabled) {
+        disabledWorlds.remove(worldName);
+      } else {
+        if (isCore) {
+          throw new IllegalStateException("Core stage: " + name);
+        }
+        disabledWorlds.add(worldName);
+      }
+    }
+
+    /**
+     * Gets if the stage is a core stage, which can't be disabled.
+     *
+     * @return if the stage is a core stage
+     */
+    public boolean isCore() {
+      return this.isCore;
+    }
+
+    /**
+     * Gets the stage name.
+     *
+     * @return stage name
+     */
+    @NotNull
+    public String getName() {
+      return this.name;
+    }
+
+    /**
+     * Gets the {@link DamageStage} run by the stage.
+     *
+     * @return {@link DamageStage}
+     */
+    @NotNull
+    public DamageStage getDamageStage() {
+      return this.stage;
+    }
+
+    /**
+     * Gets the names of worlds the stage is disabled in.
+     *
+     * @return names of worlds the stage is disabled in
+     */
+    @NotNull
+    public Set<String> getDisabledWorlds() {
+      return Collections.unmodifiableSet(this.disabledWorlds);
+    }
+
+    /**
+     * Gets the number of times the stage was run.
+     *
+     * @return number of times the stage was run
+     */
+    public long getInvocations() {
+      return this.invocations;
+    }
+
+    /**
+     * Gets the number of times the stage ended the chain early.
+     *
+     * @return number of times the stage ended the chain early
+     */
+    public long getStops() {
+      return this.stops;
+    }
+
+    /**
+     * Gets the average time spent per invocation in nanoseconds.
+     *
+     * @return average time spent per invocation in nanoseconds
+     */
+    public long getAverageNanos() {
+      return invocations == 0 ? 0 : totalNanos / invocations;
+    }
+
+    /**
+     * Gets the total time spent in nanoseconds.
+     *
+     * @return total time spent in nanoseconds
+     */
+    public long getTotalNanos() {
+      return this.totalNanos;
+    }
+
+    /**
+     * Gets the longest time spent on an invocation in nanoseconds.
+     *
+     * @return longest time spent on an invocation in nanoseconds
+     */
+    public long getMaxNanos() {
+      return this.maxNanos;
+    }
+
+    /**
+     * Gets the average change in damage per invocation.
+     *
+     * @return average change in damage per invocation
+     */
+    public double getAverageDamageDelta() {
+      return invocations == 0 ? 0 : totalDamageDelta / invocations;
+    }
+
+    /**
+     * Gets the total change in damage.
+     *
+     * @return total change in damage
+     */
+    public double getTotalDamageDelta() {
+      return this.totalDamageDelta;
+    }
+  }
+}
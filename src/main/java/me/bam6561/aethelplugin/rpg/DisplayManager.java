@@ -0,0 +1,127 @@
+package me.bam6561.aethelplugin.rpg;
+
+import me.bam6561.aethelplugin.Plugin;
+import me.bam6561.aethelplugin.utils.entity.HealthChange;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Represents the rendering of {@link RpgPlayer} {@link Displays}.
+ * <p>
+ * A player's health can change many times in a tick, such as from damage
+ * over time bursts. Each change only marks the player's displays as dirty,
+ * and dirty displays are rendered once at the end of the tick.
+ * <p>
+ * Entities damaged through vanilla damage events have their health displays
+ * {@link #deferUpdate(UUID) updated} on the next render instead, once the
+ * event's damage has been applied.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.33
+ * @since 1.27.21
+ */
+public class DisplayManager {
+  /**
+   * {@link RpgPlayer RPG players}
+   */
+  private final Map<UUID, RpgPlayer> rpgPlayers;
+
+  /**
+   * Players whose displays need to be rendered.
+   */
+  private final Set<UUID> dirtyPlayers = new LinkedHashSet<>();
+
+  /**
+   * Entities whose health displays need to be updated.
+   */
+  private final Set<UUID> deferredEntities = new LinkedHashSet<>();
+
+  /**
+   * Reused {@link HealthChange}.
+   */
+  private final HealthChange healthChange = new HealthChange();
+
+  /**
+   * Associates the display manager with RPG players.
+   *
+   * @param rpgPlayers {@link RpgPlayer RPG players}
+   */
+  DisplayManager(@NotNull Map<UUID, RpgPlayer> rpgPlayers) {
+    this.rpgPlayers = Objects.requireNonNull(rpgPlayers, "Null RPG players");
+  }
+
+  /**
+   * Sets the health a player's {@link Displays} show on the next render.
+   *
+   * @param uuid      player uuid
+   * @param health    current health
+   * @param maxHealth max health
+   */
+  public void markDirty(@NotNull UUID uuid, double health, double maxHealth) {
+    RpgPlayer rpgPlayer = rpgPlayers.get(Objects.requireNonNull(uuid, "Null uuid"));
+    if (rpgPlayer != null) {
+      rpgPlayer.getDisplays().setHealth(health, maxHealth);
+      dirtyPlayers.add(uuid);
+    }
+  }
+
+  /**
+   * Updates an entity's health displays on the next render.
+   *
+   * @param uuid entity uuid
+   */
+  public void deferUpdate(@NotNull UUID uuid) {
+    deferredEntities.add(Objects.requireNonNull(uuid, "Null uuid"));
+  }
+
+  /**
+   * Updates the health displays of entities whose updates were deferred,
+   * then renders the {@link Displays} of players whose health has changed.
+   */
+  public void render() {
+    if (!deferredEntities.isEmpty()) {
+      EntityHandles entityHandles = Plugin.getData().getRpgSystem().getEntityHandles();
+      for (UUID uuid : deferredEntities) {
+        LivingEntity entity = entityHandles.get(uuid);
+        if (entity != null) {
+          healthChange.reset(entity).updateDisplays();
+        }
+      }
+      healthChange.clear();
+      deferredEntities.clear();
+    }
+
+    if (dirtyPlayers.isEmpty()) {
+      return;
+    }
+    for (UUID uuid : dirtyPlayers) {
+      RpgPlayer rpgPlayer = rpgPlayers.get(uuid);
+      Player player = Bukkit.getPlayer(uuid);
+      if (rpgPlayer != null && player != null) {
+        rpgPlayer.getDisplays().render(player, rpgPlayer.getSettings());
+      }
+    }
+    dirtyPlayers.clear();
+  }
+
+  /**
+   * Sends a player's last rendered health to their action bar again before it fades.
+   *
+   * @param uuid player uuid
+   */
+  public void resendActionBar(@NotNull UUID uuid) {
+    RpgPlayer rpgPlayer = rpgPlayers.get(Objects.requireNonNull(uuid, "Null uuid"));
+    Player player = Bukkit.getPlayer(uuid);
+    if (rpgPlayer != null && player != null) {
+      rpgPlayer.getDisplays().resendActionBar(player, rpgPlayer.getSettings());
+    }
+  }
+}
@@ -1,23 +1,40 @@
 package me.bam6561.aethelplugin.rpg;
 
+import net.md_5.bungee.api.ChatMessageType;
+import net.md_5.bungee.api.chat.TextComponent;
 import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
 import org.bukkit.boss.BarColor;
 import org.bukkit.boss.BarStyle;
 import org.bukkit.boss.BossBar;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
+import java.text.DecimalFormat;
 import java.util.Objects;
 import java.util.UUID;
 
 /**
  * Represents an {@link RpgPlayer}'s displays.
+ * <p>
+ * Health changes only record the health to be displayed. The displays are
+ * rendered at most once per tick by the {@link DisplayManager}, and only
+ * changes since the last render are sent to the health bar and action bar.
  *
  * @author Danny Nguyen
- * @version 1.22.20
+ * @version 1.27.21
  * @since 1.22.20
  */
 public class Displays {
+  /**
+   * Health display format.
+   */
+  private static final DecimalFormat df2 = new DecimalFormat();
+
+  static {
+    df2.setMaximumFractionDigits(2);
+  }
+
   /**
    * Player's UUID.
    */
@@ -28,6 +45,51 @@ public class Displays {
    */
   private final BossBar healthBar = Bukkit.createBossBar("Health", BarColor.RED, BarStyle.SEGMENTED_10);
 
+  /**
+   * Current health to be displayed.
+   */
+  private double health;
+
+  /**
+   * Max health to be displayed.
+   */
+  private double maxHealth;
+
+  /**
+   * Current health of the formatted health text.
+   */
+  private double formattedHealth = Double.NaN;
+
+  /**
+   * Max health of the formatted health text.
+   */
+  private double formattedMaxHealth = Double.NaN;
+
+  /**
+   * Formatted health text.
+   */
+  private String healthText;
+
+  /**
+   * Health text last sent to the action bar.
+   */
+  private String actionText;
+
+  /**
+   * Health bar's title.
+   */
+  private String barTitle;
+
+  /**
+   * Health bar's progress.
+   */
+  private double barProgress;
+
+  /**
+   * Health bar's color.
+   */
+  private BarColor barColor;
+
   /**
    * Associates RPG displays with a player.
    *
@@ -37,6 +99,88 @@ public class Displays {
   public Displays(@NotNull Player player, @NotNull Settings settings) {
     this.uuid = Objects.requireNonNull(player, "Null player").getUniqueId();
     healthBar.setVisible(Objects.requireNonNull(settings, "Null settings").isHealthBarVisible());
+    this.barTitle = healthBar.getTitle();
+    this.barProgress = healthBar.getProgress();
+    this.barColor = healthBar.getColor();
+  }
+
+  /**
+   * Sets the health to be displayed on the next render.
+   *
+   * @param health    current health
+   * @param maxHealth max health
+   */
+  void setHealth(double health, double maxHealth) {
+    this.health = health;
+    this.maxHealth = maxHealth;
+  }
+
+  /**
+   * Updates the health bar and action bar with any changes since they were last rendered.
+   *
+   * @param player   interacting player
+   * @param settings {@link Settings}
+   */
+  void render(@NotNull Player player, @NotNull Settings settings) {
+    String text = getHealthText();
+    if (settings.isHealthActionVisible() && !text.equals(actionText)) {
+      sendActionBar(player);
+    }
+    if (!healthBar.isVisible()) {
+      return;
+    }
+
+    double progress = health < maxHealth ? Math.max(0, health / maxHealth) : 1.0;
+    if (progress != barProgress) {
+      healthBar.setProgress(progress);
+      barProgress = progress;
+    }
+    BarColor color = health > maxHealth ? BarColor.YELLOW : BarColor.RED;
+    if (color != barColor) {
+      healthBar.setColor(color);
+      barColor = color;
+    }
+    if (!text.equals(barTitle)) {
+      healthBar.setTitle(text);
+      barTitle = text;
+    }
+  }
+
+  /**
+   * Sends the last rendered health text to the action bar again before it fades.
+   *
+   * @param player   interacting player
+   * @param settings {@link Settings}
+   */
+  void resendActionBar(@NotNull Player player, @NotNull Settings settings) {
+    if (settings.isHealthActionVisible() && healthText != null) {
+      sendActionBar(player);
+    }
+  }
+
+  /**
+   * Sends the health text to the action bar.
+   *
+   * @param player interacting player
+   */
+  private void sendActionBar(Player player) {
+    actionText = getHealthText();
+    player.spigot().sendMessage(ChatMessageType.ACTION_BAR, new TextComponent(actionText));
+  }
+
+  /**
+   * Gets the health text, only formatting it again if the health has changed.
+   *
+   * @return health text
+   */
+  private String getHealthText() {
+    if (health != formattedHealth || maxHealth != formattedMaxHealth) {
+      ChatColor color = health > maxHealth ? ChatColor.YELLOW : ChatColor.RED;
+      healthText = color + df2.format(health) + " / " + df2.format(maxHealth) + " ❤";
+      formattedHealth = health;
+      formattedMaxHealth = maxHealth;
+    }
+    return healthText;
   }
 
   /**
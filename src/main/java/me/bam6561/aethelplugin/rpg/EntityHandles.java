@@ -0,0 +1,106 @@
+package me.bam6561.aethelplugin.rpg;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Represents weak references to live entities tracked by the {@link RpgSystem}.
+ * <p>
+ * {@link Bukkit#getEntity(UUID)} searches every loaded world, so entities
+ * are resolved once and their handles are reused until the entity dies,
+ * is removed, leaves the server, or is unloaded with its chunk, at which
+ * point {@link me.bam6561.aethelplugin.listeners.RpgListener} invalidates them.
+ * <p>
+ * Handles are weak so that entities discarded without an event
+ * firing are still garbage collected instead of leaking, and handles
+ * of entities that are no longer valid, such as dead entities whose
+ * removal was missed, are dropped instead of being returned.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.30
+ * @since 1.27.12
+ */
+public class EntityHandles {
+  /**
+   * Live entity handles by UUID.
+   */
+  private final Map<UUID, WeakReference<LivingEntity>> handles = new HashMap<>();
+
+  /**
+   * No parameter constructor.
+   */
+  public EntityHandles() {
+  }
+
+  /**
+   * Gets a live entity, resolving and caching its handle if it isn't already.
+   *
+   * @param uuid entity uuid
+   * @return live entity, or null if the entity isn't a valid loaded living entity
+   */
+  @Nullable
+  public LivingEntity get(@NotNull UUID uuid) {
+    WeakReference<LivingEntity> handle = handles.get(Objects.requireNonNull(uuid, "Null uuid"));
+    if (handle != null) {
+      LivingEntity entity = handle.get();
+      if (entity != null && entity.isValid()) {
+        return entity;
+      }
+      handles.remove(uuid);
+    }
+    if (Bukkit.getEntity(uuid) instanceof LivingEntity entity && entity.isValid()) {
+      handles.put(uuid, new WeakReference<>(entity));
+      return entity;
+    }
+    return null;
+  }
+
+  /**
+   * Caches a live entity's handle.
+   *
+   * @param entity interacting entity
+   */
+  public void put(@NotNull LivingEntity entity) {
+    Objects.requireNonNull(entity, "Null entity");
+    handles.put(entity.getUniqueId(), new WeakReference<>(entity));
+  }
+
+  /**
+   * Invalidates an entity's handle.
+   *
+   * @param uuid entity uuid
+   */
+  public void invalidate(@NotNull UUID uuid) {
+    handles.remove(Objects.requireNonNull(uuid, "Null uuid"));
+  }
+
+  /**
+   * Invalidates the handles of entities.
+   *
+   * @param entities interacting entities
+   */
+  public void invalidate(@NotNull Iterable<? extends Entity> entities) {
+    Objects.requireNonNull(entities, "Null entities");
+    for (Entity entity : entities) {
+      handles.remove(entity.getUniqueId());
+    }
+  }
+
+  /**
+   * Gets the number of cached handles.
+   *
+   * @return number of cached handles
+   */
+  public int size() {
+    return handles.size();
+  }
+}
@@ -0,0 +1,227 @@
+package me.bam6561.aethelplugin.rpg;
+
+import me.bam6561.aethelplugin.Plugin;
+import me.bam6561.aethelplugin.enums.rpg.StatusType;
+import me.bam6561.aethelplugin.enums.rpg.SuspensionPolicy;
+import org.bukkit.entity.LivingEntity;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Represents the RPG state of entities that have been unloaded with their chunks.
+ * <p>
+ * When an entity is unloaded, its {@link Status statuses}, {@link Buffs}, and
+ * Overshield are removed from the {@link RpgSystem} and parked here, so the
+ * per-tick loops only visit entities that are actually being simulated.
+ * Once the entity is loaded again, its state is restored with its remaining
+ * durations adjusted by the {@link SuspensionPolicy}.
+ * <p>
+ * Under {@link SuspensionPolicy#FREEZE}, parked state older than the
+ * maximum parked age is discarded, so entities that are never loaded
+ * again don't keep their state in memory indefinitely.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.31
+ * @since 1.27.13
+ */
+public class EntitySuspensions {
+  /**
+   * Default maximum number of ticks parked state is kept under {@link SuspensionPolicy#FREEZE}.
+   */
+  public static final long DEFAULT_MAX_PARKED_TICKS = 72000;
+
+  /**
+   * {@link SuspendedEntity Suspended entities} by UUID.
+   */
+  private final Map<UUID, SuspendedEntity> suspendedEntities = new HashMap<>();
+
+  /**
+   * {@link SuspensionPolicy}
+   */
+  private SuspensionPolicy policy = SuspensionPolicy.FREEZE;
+
+  /**
+   * Maximum number of ticks parked state is kept under {@link SuspensionPolicy#FREEZE}.
+   */
+  private long maxParkedTicks = DEFAULT_MAX_PARKED_TICKS;
+
+  /**
+   * No parameter constructor.
+   */
+  public EntitySuspensions() {
+  }
+
+  /**
+   * Parks an unloading entity's RPG state if it has any.
+   *
+   * @param entity unloading entity
+   */
+  public void suspend(@NotNull LivingEntity entity) {
+    UUID uuid = Objects.requireNonNull(entity, "Null entity").getUniqueId();
+    RpgSystem rpgSystem = Plugin.getData().getRpgSystem();
+    long currentTick = rpgSystem.getCurrentTick();
+
+    List<SuspendedStack> stacks = new ArrayList<>();
+    long latestExpiryTick = currentTick;
+    StatusSet statusSet = rpgSystem.getStatuses().get(uuid);
+    if (statusSet != null) {
+      for (Status status : statusSet.getStatuses().values()) {
+        for (Status.StackInstance stackInstance : status.getStackInstances()) {
+          long deadline = stackInstance.getDeadline();
+          stacks.add(new SuspendedStack(status.getType(), stackInstance.getStacks(), deadline - currentTick));
+          latestExpiryTick = Math.max(latestExpiryTick, deadline);
+        }
+      }
+      rpgSystem.removeStatuses(uuid);
+    }
+
+    Buffs buffs = rpgSystem.getBuffs().remove(uuid);
+    boolean overshield = rpgSystem.getOvershields().remove(uuid);
+    rpgSystem.removeCombatProfile(uuid);
+
+    if (stacks.isEmpty() && buffs == null && !overshield) {
+      return;
+    }
+    suspendedEntities.put(uuid, new SuspendedEntity(currentTick, latestExpiryTick, stacks, buffs, overshield));
+  }
+
+  /**
+   * Restores a loading entity's parked RPG state if it has any.
+   * <p>
+   * If the parked state is older than the maximum parked age under {@link SuspensionPolicy#FREEZE},
+   * only its {@link Buffs} are restored so that their buffed attributes can be reverted.
+   *
+   * @param entity loading entity
+   */
+  public void resume(@NotNull LivingEntity entity) {
+    UUID uuid = Objects.requireNonNull(entity, "Null entity").getUniqueId();
+    SuspendedEntity suspendedEntity = suspendedEntities.remove(uuid);
+    if (suspendedEntity == null) {
+      return;
+    }
+    RpgSystem rpgSystem = Plugin.getData().getRpgSystem();
+    long elapsedTicks = rpgSystem.getCurrentTick() - suspendedEntity.suspendTick();
+    rpgSystem.getEntityHandles().put(entity);
+
+    if (policy == SuspensionPolicy.FREEZE && elapsedTicks > maxParkedTicks) {
+      Buffs buffs = suspendedEntity.buffs();
+      if (buffs != null) {
+        rpgSystem.getBuffs().put(uuid, buffs);
+        buffs.removeAllBuffs();
+      }
+      return;
+    }
+
+    for (SuspendedStack stack : suspendedEntity.stacks()) {
+      long remainingTicks = policy == SuspensionPolicy.FREEZE ? stack.remainingTicks() : stack.remainingTicks() - elapsedTicks;
+      if (remainingTicks > 0) {
+        rpgSystem.addStatus(uuid, stack.type(), stack.stacks(), (int) Math.min(remainingTicks, Integer.MAX_VALUE));
+      }
+    }
+
+    Buffs buffs = suspendedEntity.buffs();
+    if (buffs != null) {
+      if (policy == SuspensionPolicy.FREEZE) {
+        buffs.delayExpiry(elapsedTicks);
+      }
+      rpgSystem.getBuffs().put(uuid, buffs);
+    }
+
+    if (suspendedEntity.overshield()) {
+      rpgSystem.getOvershields().add(uuid);
+    }
+  }
+
+  /**
+   * Discards an entity's parked RPG state.
+   *
+   * @param uuid entity uuid
+   */
+  public void evict(@NotNull UUID uuid) {
+    suspendedEntities.remove(Objects.requireNonNull(uuid, "Null uuid"));
+  }
+
+  /**
+   * Discards parked RPG state that would have fully expired by now.
+   * <ul>
+   *  <li>{@link SuspensionPolicy#FAST_FORWARD}: state whose {@link Status} stack instances have all elapsed.
+   *  <li>{@link SuspensionPolicy#FREEZE}: state older than the maximum parked age.
+   * </ul>
+   * <p>
+   * Parked {@link Buffs} are kept, since their buffed attributes can
+   * only be reverted once the entity is loaded again.
+   */
+  public void evictExpired() {
+    if (suspendedEntities.isEmpty()) {
+      return;
+    }
+    long currentTick = Plugin.getData().getRpgSystem().getCurrentTick();
+    if (policy == SuspensionPolicy.FAST_FORWARD) {
+      suspendedEntities.values().removeIf(suspendedEntity -> suspendedEntity.buffs() == null && !suspendedEntity.overshield() && suspendedEntity.latestExpiryTick() <= currentTick);
+      return;
+    }
+
+    long oldestSuspendTick = currentTick - maxParkedTicks;
+    suspendedEntities.values().removeIf(suspendedEntity -> suspendedEntity.buffs() == null && suspendedEntity.suspendTick() < oldestSuspendTick);
+    suspendedEntities.replaceAll((uuid, suspendedEntity) -> {
+      if (suspendedEntity.suspendTick() >= oldestSuspendTick || (suspendedEntity.stacks().isEmpty() && !suspendedEntity.overshield())) {
+        return suspendedEntity;
+      }
+      return new SuspendedEntity(suspendedEntity.suspendTick(), suspendedEntity.suspendTick(), List.of(), suspendedEntity.buffs(), false);
+    });
+  }
+
+  /**
+   * Gets the number of entities with parked RPG state.
+   *
+   * @return number of entities with parked RPG state
+   */
+  public int size() {
+    return suspendedEntities.size();
+  }
+
+  /**
+   * Sets the {@link SuspensionPolicy}.
+   *
+   * @param policy {@link SuspensionPolicy}
+   */
+  public void setPolicy(@NotNull SuspensionPolicy policy) {
+    this.policy = Objects.requireNonNull(policy, "Null policy");
+  }
+
+  /**
+   * Sets the maximum number of ticks parked state is kept under {@link SuspensionPolicy#FREEZE}.
+   *
+   * @param maxParkedTicks maximum number of ticks parked state is kept
+   * @throws IllegalArgumentException if the number of ticks is not positive
+   */
+  public void setMaxParkedTicks(long maxParkedTicks) {
+    if (maxParkedTicks <= 0) {
+      throw new IllegalArgumentException("Non-positive max parked ticks");
+    }
+    this.maxParkedTicks = maxParkedTicks;
+  }
+
+  /**
+   * Represents an unloaded entity's parked RPG state.
+   *
+   * @param suspendTick      {@link RpgSystem} tick the entity was unloaded on
+   * @param latestExpiryTick tick the last {@link Status} stack instance would have expired on
+   * @param stacks           {@link SuspendedStack suspended stack instances}
+   * @param buffs            {@link Buffs}, null if the entity had none
+   * @param overshield       if the entity had Overshield
+   */
+  private record SuspendedEntity(long suspendTick, long latestExpiryTick, List<SuspendedStack> stacks, Buffs buffs, boolean overshield) {
+  }
+
+  /**
+   * Represents a parked {@link Status} stack instance.
+   *
+   * @param type           {@link StatusType}
+   * @param stacks         number of stacks applied
+   * @param remainingTicks remaining duration in ticks when the entity was unloaded
+   */
+  private record SuspendedStack(StatusType type, int stacks, long remainingTicks) {
+  }
+}
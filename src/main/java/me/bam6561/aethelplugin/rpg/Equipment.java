@@ -3,18 +3,14 @@ package me.bam6561.aethelplugin.rpg;
 import me.bam6561.aethelplugin.Plugin;
 import me.bam6561.aethelplugin.enums.plugin.Directory;
 import me.bam6561.aethelplugin.enums.plugin.Key;
-import me.bam6561.aethelplugin.enums.plugin.KeyHeader;
 import me.bam6561.aethelplugin.enums.plugin.Message;
 import me.bam6561.aethelplugin.enums.rpg.AethelAttribute;
 import me.bam6561.aethelplugin.enums.rpg.RpgEquipmentSlot;
-import me.bam6561.aethelplugin.enums.rpg.abilities.ActiveAbilityType;
 import me.bam6561.aethelplugin.enums.rpg.abilities.PassiveAbilityType;
 import me.bam6561.aethelplugin.enums.rpg.abilities.PassiveTriggerType;
-import me.bam6561.aethelplugin.listeners.EquipmentListener;
 import me.bam6561.aethelplugin.rpg.abilities.ActiveAbility;
 import me.bam6561.aethelplugin.rpg.abilities.PassiveAbility;
-import me.bam6561.aethelplugin.utils.TextFormatter;
-import me.bam6561.aethelplugin.utils.entity.HealthChange;
+import me.bam6561.aethelplugin.utils.TagSchema;
 import me.bam6561.aethelplugin.utils.item.ItemCreator;
 import me.bam6561.aethelplugin.utils.item.ItemReader;
 import org.bukkit.Bukkit;
@@ -23,8 +19,8 @@ import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataContainer;
-import org.bukkit.persistence.PersistentDataType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -37,7 +33,7 @@ import java.util.*;
  * Represents an {@link RpgPlayer}'s equipment.
  *
  * @author Danny Nguyen
- * @version 1.26.10
+ * @version 1.27.48
  * @since 1.13.4
  */
 public class Equipment {
@@ -51,6 +47,11 @@ public class Equipment {
    */
   private final PersistentDataContainer entityTags;
 
+  /**
+   * {@link CooldownLedger}
+   */
+  private final CooldownLedger cooldowns;
+
   /**
    * {@link AethelAttributes}
    */
@@ -76,6 +77,11 @@ public class Equipment {
    */
   private final ItemStack[] jewelry = new ItemStack[3];
 
+  /**
+   * Items last read by {@link RpgEquipmentSlot} ordinal.
+   */
+  private final ItemStack[] readItems = new ItemStack[RpgEquipmentSlot.values().length];
+
   /**
    * Held itemstack.
    * <p>
@@ -87,10 +93,12 @@ public class Equipment {
   /**
    * Associates RPG equipment with a player.
    *
-   * @param player interacting player
+   * @param player    interacting player
+   * @param cooldowns {@link CooldownLedger}
    */
-  public Equipment(@NotNull Player player) {
+  public Equipment(@NotNull Player player, @NotNull CooldownLedger cooldowns) {
     this.uuid = Objects.requireNonNull(player, "Null player").getUniqueId();
+    this.cooldowns = Objects.requireNonNull(cooldowns, "Null cooldowns");
     this.entityTags = player.getPersistentDataContainer();
     this.heldItem = player.getInventory().getItemInMainHand();
     loadJewelrySlots();
@@ -135,6 +143,7 @@ public class Equipment {
     for (NamespacedKey entityTag : tagsToRemove) {
       player.getPersistentDataContainer().remove(entityTag);
     }
+    Plugin.getData().getRpgSystem().invalidateCombatProfile(uuid);
 
     PlayerInventory pInv = player.getInventory();
     loadSlot(pInv.getHelmet(), RpgEquipmentSlot.HEAD);
@@ -148,59 +157,49 @@ public class Equipment {
   }
 
   /**
-   * Checks if the item has {@link Key#ATTRIBUTE_LIST Aethel attributes},
-   * enchantments, {@link Key#PASSIVE_LIST passive abilities},
-   * and {@link Key#ACTIVE_EQUIPMENT_LIST active abilities} before checking
-   * whether the item is in the correct equipment slot.
+   * Loads an equipment slot's data if it isn't empty.
    *
    * @param item  interacting item
    * @param eSlot {@link RpgEquipmentSlot}
    */
   private void loadSlot(ItemStack item, RpgEquipmentSlot eSlot) {
-    if (ItemReader.isNullOrAir(item)) {
-      return;
-    }
-
-    PersistentDataContainer itemTags = item.getItemMeta().getPersistentDataContainer();
-    if (itemTags.has(Key.ATTRIBUTE_LIST.getNamespacedKey(), PersistentDataType.STRING)) {
-      attributes.getSlotAttributes().put(eSlot, new HashMap<>());
-      attributes.readAttributes(eSlot, itemTags, false);
-    }
-    if (item.getItemMeta().hasEnchants()) {
-      enchantments.getSlotEnchantments().put(eSlot, new HashMap<>());
-      enchantments.addEnchantments(eSlot, item, false);
-    }
-    if (itemTags.has(Key.PASSIVE_LIST.getNamespacedKey(), PersistentDataType.STRING)) {
-      abilities.getSlotPassives().put(eSlot, new ArrayList<>());
-      abilities.readPassives(eSlot, itemTags);
-    }
-    if (itemTags.has(Key.ACTIVE_EQUIPMENT_LIST.getNamespacedKey(), PersistentDataType.STRING)) {
-      abilities.getTriggerActives().put(eSlot, new ArrayList<>());
-      abilities.readActives(eSlot, itemTags);
+    if (ItemReader.isNotNullOrAir(item)) {
+      applySlotData(eSlot, item);
     }
   }
 
   /**
-   * Checks if the item has {@link Key#ATTRIBUTE_LIST Aethel attributes},
-   * enchantments, {@link Key#PASSIVE_LIST passive abilities},
-   * and {@link Key#ACTIVE_EQUIPMENT_LIST active abilities} before checking
-   * whether the item is in the correct equipment slot.
+   * Reads the item at an {@link RpgEquipmentSlot} only if it
+   * differs from the item last read at the {@link RpgEquipmentSlot}.
    * <p>
-   * A 2 tick delay is added to max health updates due to items containing
-   * Minecraft's Generic Health attribute requiring 1 tick to update.
+   * Displays are not updated, so callers are expected to update them once afterward.
    *
    * @param item  interacting item
    * @param eSlot {@link RpgEquipmentSlot}
+   * @return if the {@link RpgEquipmentSlot} changed
    */
-  public void readSlot(@Nullable ItemStack item, @NotNull RpgEquipmentSlot eSlot) {
-    Objects.requireNonNull(eSlot, "Null RPG equipment slot");
-    if (ItemReader.isNotNullOrAir(item)) {
-      removeSlotData(eSlot);
-      setSlotData(eSlot, item);
-    } else {
-      removeSlotData(eSlot);
+  public boolean reconcileSlot(@Nullable ItemStack item, @NotNull RpgEquipmentSlot eSlot) {
+    ItemStack readItem = readItems[Objects.requireNonNull(eSlot, "Null RPG equipment slot").ordinal()];
+    if (ItemReader.isNullOrAir(item)) {
+      if (readItem == null) {
+        return false;
+      }
+      item = null;
+    } else if (item.isSimilar(readItem)) {
+      return false;
+    }
+    applySlotData(eSlot, item);
+    return true;
+  }
+
+  /**
+   * Removes the data of every {@link RpgEquipmentSlot}, such as when the player's
+   * equipment is dropped on death, so that re-equipped items are read again.
+   */
+  public void removeSlots() {
+    for (RpgEquipmentSlot eSlot : RpgEquipmentSlot.values()) {
+      applySlotData(eSlot, null);
     }
-    Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> new HealthChange(Bukkit.getPlayer(uuid)).updateDisplays(), 2);
   }
 
   /**
@@ -219,49 +218,29 @@ public class Equipment {
   }
 
   /**
-   * Sets new data stored about an {@link RpgEquipmentSlot}.
-   *
-   * @param eSlot {@link RpgEquipmentSlot}
-   * @param item  interacting item
-   */
-  private void setSlotData(RpgEquipmentSlot eSlot, ItemStack item) {
-    PersistentDataContainer itemTags = item.getItemMeta().getPersistentDataContainer();
-    if (itemTags.has(Key.ATTRIBUTE_LIST.getNamespacedKey(), PersistentDataType.STRING)) {
-      attributes.getSlotAttributes().put(eSlot, new HashMap<>());
-      attributes.readAttributes(eSlot, itemTags, false);
-    }
-    if (item.getItemMeta().hasEnchants()) {
-      enchantments.getSlotEnchantments().put(eSlot, new HashMap<>());
-      enchantments.addEnchantments(eSlot, item, false);
-    }
-    if (itemTags.has(Key.PASSIVE_LIST.getNamespacedKey(), PersistentDataType.STRING)) {
-      abilities.getSlotPassives().put(eSlot, new ArrayList<>());
-      abilities.readPassives(eSlot, itemTags);
-    }
-    if (itemTags.has(Key.ACTIVE_EQUIPMENT_LIST.getNamespacedKey(), PersistentDataType.STRING)) {
-      abilities.getTriggerActives().put(eSlot, new ArrayList<>());
-      abilities.readActives(eSlot, itemTags);
-    }
-  }
-
-  /**
-   * Removes all data stored about an {@link RpgEquipmentSlot}.
+   * Applies the differences between the data stored about an
+   * {@link RpgEquipmentSlot} and the item's cached {@link ItemProfile}.
    *
    * @param eSlot {@link RpgEquipmentSlot}
+   * @param item  interacting item, or null if the slot is empty
    */
-  private void removeSlotData(RpgEquipmentSlot eSlot) {
-    if (attributes.getSlotAttributes().containsKey(eSlot)) {
-      attributes.removeAttributes(eSlot);
-    }
-    if (enchantments.getSlotEnchantments().containsKey(eSlot)) {
-      enchantments.removeEnchantments(eSlot);
-    }
-    if (abilities.getSlotPassives().containsKey(eSlot)) {
-      abilities.removePassives(eSlot);
-    }
-    if (abilities.getTriggerActives().containsKey(eSlot)) {
-      abilities.removeActives(eSlot);
+  private void applySlotData(RpgEquipmentSlot eSlot, ItemStack item) {
+    readItems[eSlot.ordinal()] = item != null ? item.clone() : null;
+    ItemProfile.SlotProfile slotProfile;
+    ItemStack enchantedItem = null;
+    if (item != null) {
+      ItemMeta meta = item.getItemMeta();
+      slotProfile = Plugin.getData().getRpgSystem().getItemProfiles().get(meta.getPersistentDataContainer()).getSlotProfile(eSlot);
+      if (meta.hasEnchants()) {
+        enchantedItem = item;
+      }
+    } else {
+      slotProfile = ItemProfile.EMPTY.getSlotProfile(eSlot);
     }
+    attributes.applyAttributes(eSlot, slotProfile.attributes());
+    enchantments.applyEnchantments(eSlot, enchantedItem);
+    abilities.applyPassives(eSlot, slotProfile.passives());
+    abilities.applyActives(eSlot, slotProfile.actives());
   }
 
   /**
@@ -343,16 +322,37 @@ public class Equipment {
 
   /**
    * Represents an {@link RpgPlayer}'s {@link Equipment} {@link AethelAttribute} values.
+   * <p>
+   * Totals are kept in memory and indexed by {@link AethelAttribute} ordinal.
+   * The player's {@link TagSchema#getAttributeKey(AethelAttribute) attribute tags}
+   * are only an exported view for commands and other plugins, written
+   * periodically and when the player leaves rather than on every equipment change.
    *
    * @author Danny Nguyen
-   * @version 1.25.9
+   * @version 1.27.48
    * @since 1.17.9
    */
   public class AethelAttributes {
     /**
-     * {@link AethelAttribute} values on {@link RpgEquipmentSlot}.
+     * {@link AethelAttribute} values not from {@link Equipment}, such as those set by commands.
+     */
+    private final double[] baseValues = new double[TagSchema.ATTRIBUTE_COUNT];
+
+    /**
+     * {@link AethelAttribute} values on {@link RpgEquipmentSlot} by
+     * {@link TagSchema#getSlotAttributeId(RpgEquipmentSlot, AethelAttribute) slot attribute ID}.
+     */
+    private final double[] slotValues = new double[TagSchema.SLOT_ATTRIBUTE_COUNT];
+
+    /**
+     * Total {@link AethelAttribute} values.
+     */
+    private final double[] totals = new double[TagSchema.ATTRIBUTE_COUNT];
+
+    /**
+     * If the totals have changed since they were last exported to the player's tags.
      */
-    private final Map<RpgEquipmentSlot, Map<AethelAttribute, Double>> slotAttributes = new HashMap<>();
+    private boolean isModified = false;
 
     /**
      * No parameter constructor.
@@ -361,73 +361,99 @@ public class Equipment {
     }
 
     /**
-     * Checks if the item is in the correct {@link RpgEquipmentSlot}
-     * before updating the player's {@link AethelAttribute} values.
+     * Applies the differences between the {@link Equipment} {@link AethelAttribute}
+     * modifiers at an {@link RpgEquipmentSlot} and the item's modifiers.
      *
-     * @param eSlot      {@link RpgEquipmentSlot}
-     * @param itemTags   item's persistent tags
-     * @param alreadySet if the attribute has already been set to tags, true only on equipment initialization
-     */
-    private void readAttributes(RpgEquipmentSlot eSlot, PersistentDataContainer itemTags, boolean alreadySet) {
-      String[] slotAttributes = itemTags.get(Key.ATTRIBUTE_LIST.getNamespacedKey(), PersistentDataType.STRING).split(" ");
-      for (String slotAttribute : slotAttributes) {
-        RpgEquipmentSlot slot = RpgEquipmentSlot.valueOf(TextFormatter.formatEnum(slotAttribute.substring(0, slotAttribute.indexOf("."))));
-        if (slot == eSlot) {
-          addAttributes(eSlot, itemTags, slotAttribute, alreadySet);
+     * @param eSlot          {@link RpgEquipmentSlot}
+     * @param itemAttributes item's {@link AethelAttribute} values
+     */
+    private void applyAttributes(RpgEquipmentSlot eSlot, Map<AethelAttribute, Double> itemAttributes) {
+      boolean changed = false;
+      for (AethelAttribute attribute : AethelAttribute.values()) {
+        int slotAttributeId = TagSchema.getSlotAttributeId(eSlot, attribute);
+        double itemValue = itemAttributes.getOrDefault(attribute, 0.0);
+        if (slotValues[slotAttributeId] != itemValue) {
+          slotValues[slotAttributeId] = itemValue;
+          sumTotal(attribute);
+          changed = true;
         }
       }
+      if (changed) {
+        isModified = true;
+        Plugin.getData().getRpgSystem().invalidateCombatProfile(uuid);
+      }
     }
 
     /**
-     * Adds new {@link Equipment} {@link AethelAttribute} modifiers.
-     *
-     * @param eSlot         {@link RpgEquipmentSlot}
-     * @param itemContainer item's persistent tags
-     * @param slotAttribute attribute modifier
-     * @param alreadySet    if the attribute has already been set to tags, true only on equipment initialization
+     * Writes the totals to the player's tags if they've changed since they were last exported.
+     */
+    public void exportTotals() {
+      if (!isModified) {
+        return;
+      }
+      isModified = false;
+      for (AethelAttribute attribute : AethelAttribute.values()) {
+        TagSchema.setAttribute(entityTags, attribute, totals[attribute.ordinal()]);
+      }
+    }
+
+    /**
+     * Reads the totals back from the player's tags after they've been edited externally.
+     * <p>
+     * The difference between the tags and the {@link Equipment} values is kept as base values.
      */
-    private void addAttributes(RpgEquipmentSlot eSlot, PersistentDataContainer itemContainer, String slotAttribute, boolean alreadySet) {
-      NamespacedKey itemAttributeKey = new NamespacedKey(Plugin.getInstance(), KeyHeader.ATTRIBUTE.getHeader() + slotAttribute);
-      String attributeId = slotAttribute.substring(slotAttribute.indexOf(".") + 1);
-      AethelAttribute attributeType = AethelAttribute.valueOf(TextFormatter.formatEnum(attributeId));
-      double itemAttributeValue = itemContainer.get(itemAttributeKey, PersistentDataType.DOUBLE);
-      slotAttributes.get(eSlot).put(attributeType, itemAttributeValue);
-
-      if (!alreadySet) {
-        NamespacedKey entityAttributeKey = new NamespacedKey(Plugin.getInstance(), KeyHeader.ATTRIBUTE.getHeader() + attributeId);
-        double entityAttributeValue = entityTags.getOrDefault(entityAttributeKey, PersistentDataType.DOUBLE, 0.0);
-        entityTags.set(entityAttributeKey, PersistentDataType.DOUBLE, entityAttributeValue + itemAttributeValue);
+    public void importTotals() {
+      for (AethelAttribute attribute : AethelAttribute.values()) {
+        double total = TagSchema.getAttribute(entityTags, attribute);
+        baseValues[attribute.ordinal()] = total - sumSlots(attribute);
+        totals[attribute.ordinal()] = total;
       }
+      isModified = false;
+      Plugin.getData().getRpgSystem().invalidateCombatProfile(uuid);
     }
 
     /**
-     * Removes existing {@link Equipment} {@link AethelAttribute} modifiers at a {@link RpgEquipmentSlot}.
+     * Recalculates an {@link AethelAttribute}'s total from its base and {@link RpgEquipmentSlot} values.
      *
-     * @param eSlot {@link RpgEquipmentSlot}
+     * @param attribute {@link AethelAttribute}
      */
-    public void removeAttributes(@NotNull RpgEquipmentSlot eSlot) {
-      Objects.requireNonNull(eSlot, "Null slot");
-      for (AethelAttribute attribute : slotAttributes.get(eSlot).keySet()) {
-        NamespacedKey entityAttributeKey = new NamespacedKey(Plugin.getInstance(), KeyHeader.ATTRIBUTE.getHeader() + attribute.getId());
-        double entityAttributeValue = entityTags.getOrDefault(entityAttributeKey, PersistentDataType.DOUBLE, 0.0);
-
-        if (entityAttributeValue - slotAttributes.get(eSlot).get(attribute) != 0.0) {
-          entityTags.set(entityAttributeKey, PersistentDataType.DOUBLE, entityAttributeValue - slotAttributes.get(eSlot).get(attribute));
-        } else {
-          entityTags.remove(entityAttributeKey);
-        }
+    private void sumTotal(AethelAttribute attribute) {
+      totals[attribute.ordinal()] = baseValues[attribute.ordinal()] + sumSlots(attribute);
+    }
+
+    /**
+     * Sums an {@link AethelAttribute}'s {@link RpgEquipmentSlot} values.
+     *
+     * @param attribute {@link AethelAttribute}
+     * @return sum of the {@link AethelAttribute}'s {@link RpgEquipmentSlot} values
+     */
+    private double sumSlots(AethelAttribute attribute) {
+      double sum = 0.0;
+      for (RpgEquipmentSlot eSlot : RpgEquipmentSlot.values()) {
+        sum += slotValues[TagSchema.getSlotAttributeId(eSlot, attribute)];
       }
-      slotAttributes.get(eSlot).clear();
+      return sum;
     }
 
     /**
-     * Gets {@link Equipment} {@link AethelAttribute} values on {@link RpgEquipmentSlot}.
+     * Gets an {@link AethelAttribute}'s total value.
      *
-     * @return {@link Equipment} {@link AethelAttribute} values on {@link RpgEquipmentSlot}
+     * @param attribute {@link AethelAttribute}
+     * @return {@link AethelAttribute} total value
      */
-    @NotNull
-    public Map<RpgEquipmentSlot, Map<AethelAttribute, Double>> getSlotAttributes() {
-      return this.slotAttributes;
+    public double getTotal(@NotNull AethelAttribute attribute) {
+      return totals[Objects.requireNonNull(attribute, "Null attribute").ordinal()];
+    }
+
+    /**
+     * Gets an {@link Equipment} {@link AethelAttribute} value on an {@link RpgEquipmentSlot}.
+     *
+     * @param eSlot     {@link RpgEquipmentSlot}
+     * @param attribute {@link AethelAttribute}
+     * @return {@link AethelAttribute} value on the {@link RpgEquipmentSlot}
+     */
+    public double getSlotValue(@NotNull RpgEquipmentSlot eSlot, @NotNull AethelAttribute attribute) {
+      return slotValues[TagSchema.getSlotAttributeId(eSlot, attribute)];
     }
   }
 
@@ -435,17 +461,10 @@ public class Equipment {
    * Represents an {@link RpgPlayer}'s equipment enchantments.
    *
    * @author Danny Nguyen
-   * @version 1.27.0
+   * @version 1.27.48
    * @since 1.17.9
    */
   public class Enchantments {
-    /**
-     * Tracked enchantments.
-     */
-    private static final Set<Enchantment> trackedEnchantments = Set.of(
-        Enchantment.PROTECTION, Enchantment.BLAST_PROTECTION,
-        Enchantment.FEATHER_FALLING, Enchantment.FIRE_PROTECTION, Enchantment.PROJECTILE_PROTECTION);
-
     /**
      * Enchantments on {@link RpgEquipmentSlot}.
      */
@@ -458,52 +477,36 @@ public class Equipment {
     }
 
     /**
-     * Adds new {@link Equipment} enchantments.
+     * Applies the differences between the {@link Equipment} {@link TagSchema#getEnchantment(int)
+     * tracked enchantments} at an {@link RpgEquipmentSlot} and the item's enchantments.
      *
-     * @param eSlot      {@link RpgEquipmentSlot}
-     * @param item       interacting item
-     * @param alreadySet if the attribute has already been set to tags, true only on equipment initialization
-     */
-    private void addEnchantments(RpgEquipmentSlot eSlot, ItemStack item, boolean alreadySet) {
-      for (Enchantment enchantment : trackedEnchantments) {
-        int itemEnchantmentValue = item.getEnchantmentLevel(enchantment);
-        if (itemEnchantmentValue == 0) {
+     * @param eSlot {@link RpgEquipmentSlot}
+     * @param item  interacting item, or null if the item isn't enchanted
+     */
+    private void applyEnchantments(RpgEquipmentSlot eSlot, ItemStack item) {
+      Map<Enchantment, Integer> equippedEnchantments = slotEnchantments.computeIfAbsent(eSlot, slot -> new HashMap<>());
+      boolean changed = false;
+      for (int enchantmentId = 0; enchantmentId < TagSchema.getEnchantmentCount(); enchantmentId++) {
+        Enchantment enchantment = TagSchema.getEnchantment(enchantmentId);
+        int equippedLevel = equippedEnchantments.getOrDefault(enchantment, 0);
+        int itemLevel = item != null ? item.getEnchantmentLevel(enchantment) : 0;
+        if (equippedLevel == itemLevel) {
           continue;
         }
 
-        slotEnchantments.get(eSlot).put(enchantment, itemEnchantmentValue);
-
-        if (!alreadySet) {
-          NamespacedKey entityEnchantmentKey = new NamespacedKey(Plugin.getInstance(), KeyHeader.ENCHANTMENT.getHeader() + TextFormatter.formatId(enchantment.getKey().getKey()));
-          int entityEnchantmentValue = entityTags.getOrDefault(entityEnchantmentKey, PersistentDataType.INTEGER, 0);
-          entityTags.set(entityEnchantmentKey, PersistentDataType.INTEGER, entityEnchantmentValue + itemEnchantmentValue);
-        }
-      }
-      readEnchantmentLevel(Enchantment.FEATHER_FALLING, 5);
-      readEnchantmentLevel(Enchantment.FIRE_PROTECTION, 10);
-    }
-
-    /**
-     * Removes existing {@link Equipment} enchantments at an {@link RpgEquipmentSlot}.
-     *
-     * @param eSlot {@link RpgEquipmentSlot}
-     */
-    public void removeEnchantments(@NotNull RpgEquipmentSlot eSlot) {
-      Objects.requireNonNull(eSlot, "Null slot");
-      for (Enchantment enchantment : slotEnchantments.get(eSlot).keySet()) {
-        NamespacedKey entityEnchantmentKey = new NamespacedKey(Plugin.getInstance(), KeyHeader.ENCHANTMENT.getHeader() + TextFormatter.formatId(enchantment.getKey().getKey()));
-        int entityEnchantmentValue = entityTags.getOrDefault(entityEnchantmentKey, PersistentDataType.INTEGER, 0);
-
-        if (entityEnchantmentValue - slotEnchantments.get(eSlot).get(enchantment) != 0.0) {
-          entityTags.set(entityEnchantmentKey, PersistentDataType.INTEGER, entityEnchantmentValue - slotEnchantments.get(eSlot).get(enchantment));
+        TagSchema.setEnchantment(entityTags, enchantmentId, TagSchema.getEnchantment(entityTags, enchantmentId) - equippedLevel + itemLevel);
+        if (itemLevel != 0) {
+          equippedEnchantments.put(enchantment, itemLevel);
         } else {
-          entityTags.remove(entityEnchantmentKey);
+          equippedEnchantments.remove(enchantment);
         }
+        changed = true;
+      }
+      if (changed) {
+        Plugin.getData().getRpgSystem().invalidateCombatProfile(uuid);
+        readEnchantmentLevel(Enchantment.FEATHER_FALLING, 5);
+        readEnchantmentLevel(Enchantment.FIRE_PROTECTION, 10);
       }
-      slotEnchantments.get(eSlot).clear();
-
-      readEnchantmentLevel(Enchantment.FEATHER_FALLING, 5);
-      readEnchantmentLevel(Enchantment.FIRE_PROTECTION, 10);
     }
 
     /**
@@ -513,10 +516,7 @@ public class Equipment {
      * @param requirement required level to be sufficient
      */
     private void readEnchantmentLevel(Enchantment enchantment, int requirement) {
-      NamespacedKey entityEnchantmentKey = new NamespacedKey(Plugin.getInstance(), KeyHeader.ENCHANTMENT.getHeader() + TextFormatter.formatEnum(enchantment.getKey().getKey()));
-      int entityEnchantmentValue = entityTags.getOrDefault(entityEnchantmentKey, PersistentDataType.INTEGER, 0);
-
-      if (entityEnchantmentValue >= requirement) {
+      if (TagSchema.getEnchantment(entityTags, TagSchema.getEnchantmentId(enchantment)) >= requirement) {
         Plugin.getData().getRpgSystem().getSufficientEnchantments().get(enchantment).add(uuid);
       } else {
         Plugin.getData().getRpgSystem().getSufficientEnchantments().get(enchantment).remove(uuid);
@@ -537,37 +537,40 @@ public class Equipment {
   /**
    * Represents an {@link RpgPlayer}'s {@link Equipment}
    * {@link PassiveAbility passive} and {@link ActiveAbility active} abilities.
+   * <p>
+   * {@link PassiveAbility Passive abilities} are dispatched from flat arrays by
+   * {@link PassiveTriggerType}, sorted by {@link CooldownLedger} index and
+   * only rebuilt when the player's passive abilities change.
    *
    * @author Danny Nguyen
-   * @version 1.25.9
+   * @version 1.27.48
    * @since 1.17.9
    */
   public class Abilities {
     /**
-     * Used to remove abilities upon {@link EquipmentListener}.
+     * {@link PassiveAbility Passive abilities} on {@link RpgEquipmentSlot}.
      */
-    private final Map<RpgEquipmentSlot, List<TriggerPassive>> slotPassives = new HashMap<>();
+    private final Map<RpgEquipmentSlot, List<PassiveAbility>> slotPassives = new EnumMap<>(RpgEquipmentSlot.class);
 
     /**
-     * Used to identify unique {@link PassiveAbility passive abilities}
-     * after a {@link PassiveTriggerType} is called.
+     * {@link PassiveAbility Passive abilities} identified by their {@link PassiveTriggerType}.
      */
-    private final Map<PassiveTriggerType, Map<SlotPassive, PassiveAbility>> triggerPassives = createPassiveTriggers();
+    private final Map<PassiveTriggerType, PassiveAbility[]> triggerPassives = createPassiveTriggers();
 
     /**
-     * {@link SlotPassive Passive abilities} on cooldown.
+     * {@link ActiveAbility Active abilities} identified by their {@link RpgEquipmentSlot} trigger.
      */
-    private final Map<PassiveTriggerType, Set<SlotPassive>> onCooldownPassives = createPassiveCooldownTriggers();
+    private final Map<RpgEquipmentSlot, List<ActiveAbility>> triggerActives = createActiveTriggers();
 
     /**
-     * {@link ActiveAbility Active abilities} identified by their {@link RpgEquipmentSlot} trigger.
+     * {@link ItemProfile.Passive Passive abilities} currently applied on {@link RpgEquipmentSlot}.
      */
-    private final Map<RpgEquipmentSlot, List<ActiveAbility>> triggerActives = createActiveTriggers();
+    private final Map<RpgEquipmentSlot, List<ItemProfile.Passive>> equippedPassives = new EnumMap<>(RpgEquipmentSlot.class);
 
     /**
-     * {@link ActiveAbilityType Active abilities} on cooldown.
+     * {@link ItemProfile.Active Active abilities} currently applied on {@link RpgEquipmentSlot}.
      */
-    private final Map<RpgEquipmentSlot, Set<ActiveAbilityType>> onCooldownActives = createActiveCooldownTriggers();
+    private final Map<RpgEquipmentSlot, List<ItemProfile.Active>> equippedActives = new EnumMap<>(RpgEquipmentSlot.class);
 
     /**
      * No parameter constructor.
@@ -580,24 +583,10 @@ public class Equipment {
      *
      * @return blank map of {@link PassiveTriggerType triggerable} {@link PassiveAbility passive abilities}
      */
-    private Map<PassiveTriggerType, Map<SlotPassive, PassiveAbility>> createPassiveTriggers() {
-      Map<PassiveTriggerType, Map<SlotPassive, PassiveAbility>> triggers = new HashMap<>();
+    private Map<PassiveTriggerType, PassiveAbility[]> createPassiveTriggers() {
+      Map<PassiveTriggerType, PassiveAbility[]> triggers = new EnumMap<>(PassiveTriggerType.class);
       for (PassiveTriggerType passiveTriggerType : PassiveTriggerType.values()) {
-        triggers.put(passiveTriggerType, new HashMap<>());
-      }
-      return triggers;
-    }
-
-    /**
-     * Creates a blank map of {@link PassiveTriggerType triggerable}
-     * {@link SlotPassive passive abilities} on cooldown.
-     *
-     * @return blank map of {@link PassiveTriggerType triggerable} {@link SlotPassive passive abilities} on cooldown
-     */
-    private Map<PassiveTriggerType, Set<SlotPassive>> createPassiveCooldownTriggers() {
-      Map<PassiveTriggerType, Set<SlotPassive>> triggers = new HashMap<>();
-      for (PassiveTriggerType passiveTriggerType : PassiveTriggerType.values()) {
-        triggers.put(passiveTriggerType, new HashSet<>());
+        triggers.put(passiveTriggerType, new PassiveAbility[0]);
       }
       return triggers;
     }
@@ -616,125 +605,109 @@ public class Equipment {
     }
 
     /**
-     * Creates a blank map of {@link RpgEquipmentSlot triggerable}
-     * {@link ActiveAbilityType active abilities} on cooldown.
+     * Applies the differences between the {@link Equipment} {@link PassiveAbility passive abilities}
+     * at an {@link RpgEquipmentSlot} and the item's passive abilities.
+     * <p>
+     * Passive abilities shared by both are kept as they are.
      *
-     * @return blank map of {@link RpgEquipmentSlot triggerable} {@link ActiveAbilityType active abilities} on cooldown
+     * @param eSlot        {@link RpgEquipmentSlot}
+     * @param itemPassives item's {@link ItemProfile.Passive passive abilities}
      */
-    private Map<RpgEquipmentSlot, Set<ActiveAbilityType>> createActiveCooldownTriggers() {
-      Map<RpgEquipmentSlot, Set<ActiveAbilityType>> triggers = new HashMap<>();
-      for (RpgEquipmentSlot slot : RpgEquipmentSlot.values()) {
-        triggers.put(slot, new HashSet<>());
+    private void applyPassives(RpgEquipmentSlot eSlot, List<ItemProfile.Passive> itemPassives) {
+      List<ItemProfile.Passive> passives = equippedPassives.getOrDefault(eSlot, List.of());
+      if (passives.equals(itemPassives)) {
+        return;
       }
-      return triggers;
-    }
 
-    /**
-     * Checks if the item is in the correct {@link RpgEquipmentSlot}
-     * before updating the player's {@link PassiveAbility passive abilities}.
-     *
-     * @param eSlot    {@link RpgEquipmentSlot}
-     * @param itemTags item's persistent tags
-     */
-    private void readPassives(RpgEquipmentSlot eSlot, PersistentDataContainer itemTags) {
-      String[] passives = itemTags.get(Key.PASSIVE_LIST.getNamespacedKey(), PersistentDataType.STRING).split(" ");
-      for (String passive : passives) {
-        RpgEquipmentSlot slot = RpgEquipmentSlot.valueOf(TextFormatter.formatEnum(passive.substring(0, passive.indexOf("."))));
-        if (slot == eSlot) {
-          addPassives(eSlot, itemTags, passive);
+      List<PassiveAbility> slotAbilities = slotPassives.getOrDefault(eSlot, List.of());
+      List<PassiveAbility> appliedPassives = new ArrayList<>(itemPassives.size());
+      for (ItemProfile.Passive passive : itemPassives) {
+        int index = passives.indexOf(passive);
+        if (index != -1) {
+          appliedPassives.add(slotAbilities.get(index));
+        } else {
+          appliedPassives.add(new PassiveAbility(cooldowns, eSlot, passive.trigger(), passive.type(), passive.dataValues().toArray(new String[0])));
         }
       }
+      slotPassives.put(eSlot, appliedPassives);
+      equippedPassives.put(eSlot, itemPassives);
+      sortPassiveTriggers();
     }
 
     /**
-     * Adds new {@link Equipment} {@link PassiveAbility passive abilities}.
-     *
-     * @param eSlot    {@link RpgEquipmentSlot}
-     * @param itemTags item's persistent tags
-     * @param passive  {@link PassiveAbility} data
-     */
-    private void addPassives(RpgEquipmentSlot eSlot, PersistentDataContainer itemTags, String passive) {
-      NamespacedKey passiveKey = new NamespacedKey(Plugin.getInstance(), KeyHeader.PASSIVE.getHeader() + passive);
-      String[] abilityMeta = passive.split("\\.");
-      PassiveTriggerType passiveTriggerType = PassiveTriggerType.valueOf(TextFormatter.formatEnum(abilityMeta[1]));
-      PassiveAbilityType abilityType = PassiveAbilityType.valueOf(TextFormatter.formatEnum(abilityMeta[2]));
-      slotPassives.get(eSlot).add(new TriggerPassive(passiveTriggerType, abilityType));
-      triggerPassives.get(passiveTriggerType).put(new Abilities.SlotPassive(eSlot, abilityType), new PassiveAbility(onCooldownPassives, eSlot, passiveTriggerType, abilityType, itemTags.get(passiveKey, PersistentDataType.STRING).split(" ")));
+     * Rebuilds the {@link PassiveTriggerType} dispatch arrays from the
+     * {@link PassiveAbility passive abilities} on each {@link RpgEquipmentSlot}.
+     * <p>
+     * Passive abilities with the same {@link PassiveTriggerType}, {@link RpgEquipmentSlot},
+     * and {@link PassiveAbilityType} replace each other, the same as when they are applied.
+     */
+    private void sortPassiveTriggers() {
+      Map<PassiveTriggerType, Map<Integer, PassiveAbility>> triggers = new EnumMap<>(PassiveTriggerType.class);
+      for (List<PassiveAbility> passives : slotPassives.values()) {
+        for (PassiveAbility passive : passives) {
+          triggers.computeIfAbsent(passive.getTrigger(), trigger -> new TreeMap<>()).put(passive.getCooldownIndex(), passive);
+        }
+      }
+      for (PassiveTriggerType passiveTriggerType : PassiveTriggerType.values()) {
+        Map<Integer, PassiveAbility> passives = triggers.get(passiveTriggerType);
+        triggerPassives.put(passiveTriggerType, passives != null ? passives.values().toArray(new PassiveAbility[0]) : new PassiveAbility[0]);
+      }
     }
 
     /**
-     * Removes existing {@link Equipment} {@link PassiveAbility passive abilities} at an {@link RpgEquipmentSlot}.
+     * Applies the differences between the {@link Equipment} {@link ActiveAbility active abilities}
+     * at an {@link RpgEquipmentSlot} and the item's active abilities.
+     * <p>
+     * Active abilities shared by both are kept as they are.
      *
-     * @param eSlot {@link RpgEquipmentSlot}
+     * @param eSlot       {@link RpgEquipmentSlot}
+     * @param itemActives item's {@link ItemProfile.Active active abilities}
      */
-    public void removePassives(@NotNull RpgEquipmentSlot eSlot) {
-      Objects.requireNonNull(eSlot, "Null slot");
-      for (TriggerPassive triggerPassive : slotPassives.get(eSlot)) {
-        triggerPassives.get(triggerPassive.trigger()).remove(new SlotPassive(eSlot, triggerPassive.ability()));
+    private void applyActives(RpgEquipmentSlot eSlot, List<ItemProfile.Active> itemActives) {
+      List<ItemProfile.Active> actives = equippedActives.getOrDefault(eSlot, List.of());
+      if (actives.equals(itemActives)) {
+        return;
       }
-      slotPassives.get(eSlot).clear();
-    }
 
-    /**
-     * Checks if the item is in the correct {@link RpgEquipmentSlot}
-     * before updating the player's {@link ActiveAbility active abilities}.
-     *
-     * @param eSlot    {@link RpgEquipmentSlot}
-     * @param itemTags item's persistent tags
-     */
-    private void readActives(RpgEquipmentSlot eSlot, PersistentDataContainer itemTags) {
-      String[] actives = itemTags.get(Key.ACTIVE_EQUIPMENT_LIST.getNamespacedKey(), PersistentDataType.STRING).split(" ");
-      for (String active : actives) {
-        RpgEquipmentSlot slot = RpgEquipmentSlot.valueOf(TextFormatter.formatEnum(active.substring(0, active.indexOf("."))));
-        if (slot == eSlot) {
-          addActives(eSlot, itemTags, active);
+      List<ActiveAbility> slotActives = triggerActives.get(eSlot);
+      List<ActiveAbility> appliedActives = new ArrayList<>(itemActives.size());
+      for (ItemProfile.Active active : itemActives) {
+        int index = actives.indexOf(active);
+        if (index != -1) {
+          appliedActives.add(slotActives.get(index));
+        } else {
+          appliedActives.add(new ActiveAbility(cooldowns, eSlot, active.type(), active.dataValues().toArray(new String[0])));
         }
       }
+      slotActives.clear();
+      slotActives.addAll(appliedActives);
+      equippedActives.put(eSlot, itemActives);
     }
 
     /**
-     * Adds new {@link Equipment} {@link ActiveAbility active abilities}.
-     *
-     * @param eSlot    {@link RpgEquipmentSlot}
-     * @param itemTags item's persistent tags
-     * @param active   {@link ActiveAbility} data
-     */
-    private void addActives(RpgEquipmentSlot eSlot, PersistentDataContainer itemTags, String active) {
-      NamespacedKey activeKey = new NamespacedKey(Plugin.getInstance(), KeyHeader.ACTIVE_EQUIPMENT.getHeader() + active);
-      String[] abilityMeta = active.split("\\.");
-      ActiveAbilityType activeAbilityType = ActiveAbilityType.valueOf(TextFormatter.formatEnum(abilityMeta[1]));
-      triggerActives.get(eSlot).add(new ActiveAbility(onCooldownActives, eSlot, activeAbilityType, itemTags.get(activeKey, PersistentDataType.STRING).split(" ")));
-    }
-
-    /**
-     * Removes existing {@link Equipment} {@link ActiveAbility active abilities} at an {@link RpgEquipmentSlot}.
-     *
-     * @param eSlot {@link RpgEquipmentSlot}
-     */
-    public void removeActives(@NotNull RpgEquipmentSlot eSlot) {
-      Objects.requireNonNull(eSlot, "Null slot");
-      triggerActives.get(eSlot).clear();
-    }
-
-    /**
-     * Gets the player's {@link TriggerPassive passive abilities}
+     * Gets the player's {@link PassiveAbility passive abilities}
      * that exist on each {@link RpgEquipmentSlot}.
      *
-     * @return {@link TriggerPassive passive abilities} that exist on each {@link RpgEquipmentSlot}
+     * @return {@link PassiveAbility passive abilities} that exist on each {@link RpgEquipmentSlot}
      */
     @NotNull
-    public Map<RpgEquipmentSlot, List<TriggerPassive>> getSlotPassives() {
+    public Map<RpgEquipmentSlot, List<PassiveAbility>> getSlotPassives() {
       return this.slotPassives;
     }
 
     /**
-     * Gets the player's {@link PassiveTriggerType triggerable} {@link PassiveAbility passive abilities}.
+     * Gets the player's {@link PassiveAbility passive abilities} triggered by a {@link PassiveTriggerType}.
+     * <p>
+     * The array is shared and must not be modified. It is replaced rather than
+     * modified when the player's passive abilities change, so it can be
+     * iterated while triggered passive abilities change the player's equipment.
      *
-     * @return {@link PassiveTriggerType triggerable} {@link PassiveAbility passive abilities}
+     * @param trigger {@link PassiveTriggerType}
+     * @return {@link PassiveAbility passive abilities} sorted by {@link CooldownLedger} index
      */
     @NotNull
-    public Map<PassiveTriggerType, Map<SlotPassive, PassiveAbility>> getTriggerPassives() {
-      return this.triggerPassives;
+    public PassiveAbility[] getTriggerPassives(@NotNull PassiveTriggerType trigger) {
+      return triggerPassives.get(Objects.requireNonNull(trigger, "Null trigger"));
     }
 
     /**
@@ -747,78 +720,5 @@ public class Equipment {
     public Map<RpgEquipmentSlot, List<ActiveAbility>> getTriggerActives() {
       return this.triggerActives;
     }
-
-    /**
-     * Represents an {@link RpgEquipmentSlot} {@link PassiveAbilityType} pair.
-     * <p>
-     * Used to identify unique {@link PassiveAbility passive abilities}
-     * after a {@link PassiveTriggerType} is called.
-     *
-     * @param eSlot {@link RpgEquipmentSlot}
-     * @param type  {@link PassiveAbilityType}
-     * @author Danny Nguyen
-     * @version 1.24.7
-     * @since 1.16.3
-     */
-    public record SlotPassive(@NotNull RpgEquipmentSlot eSlot, @NotNull PassiveAbilityType type) {
-      /**
-       * Associates an {@link RpgEquipmentSlot} with an {@link PassiveAbilityType}.
-       *
-       * @param eSlot {@link RpgEquipmentSlot}
-       * @param type  {@link PassiveAbilityType}
-       */
-      public SlotPassive(@NotNull RpgEquipmentSlot eSlot, @NotNull PassiveAbilityType type) {
-        this.eSlot = Objects.requireNonNull(eSlot, "Null slot");
-        this.type = Objects.requireNonNull(type, "Null ability");
-      }
-
-      /**
-       * Returns true if the slot ability has the same fields.
-       *
-       * @param o compared object
-       * @return if the slot ability has the same fields
-       */
-      @Override
-      public boolean equals(Object o) {
-        if (o instanceof SlotPassive slotPassive) {
-          return (slotPassive.eSlot() == eSlot && slotPassive.type() == type);
-        }
-        return false;
-      }
-
-      /**
-       * Gets the hash value of the slot ability.
-       *
-       * @return hash value of the slot ability
-       */
-      @Override
-      public int hashCode() {
-        return Objects.hash(eSlot, type);
-      }
-    }
-
-    /**
-     * Represents a {@link PassiveTriggerType} {@link PassiveAbilityType} pair.
-     * <p>
-     * Used to remove abilities upon {@link EquipmentListener}.
-     *
-     * @param trigger {@link PassiveTriggerType}
-     * @param ability {@link PassiveAbilityType}
-     * @author Danny Nguyen
-     * @version 1.24.7
-     * @since 1.16.1
-     */
-    public record TriggerPassive(@NotNull PassiveTriggerType trigger, @NotNull PassiveAbilityType ability) {
-      /**
-       * Associates a {@link PassiveTriggerType} with a {@link PassiveAbilityType}.
-       *
-       * @param trigger {@link PassiveTriggerType}
-       * @param ability {@link PassiveAbilityType}
-       */
-      public TriggerPassive(@NotNull PassiveTriggerType trigger, @NotNull PassiveAbilityType ability) {
-        this.trigger = Objects.requireNonNull(trigger, "Null trigger");
-        this.ability = Objects.requireNonNull(ability, "Null ability");
-      }
-    }
   }
 }
@@ -0,0 +1,127 @@
+package me.bam6561.aethelplugin.rpg;
+
+import me.bam6561.aethelplugin.enums.rpg.RpgEquipmentSlot;
+import me.bam6561.aethelplugin.listeners.EquipmentListener;
+import me.bam6561.aethelplugin.utils.entity.HealthChange;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Represents the reconciliation of {@link RpgPlayer} {@link Equipment} with their inventories.
+ * <p>
+ * {@link EquipmentListener} events, such as shift-clicks and hotbar scrolling, can fire many
+ * times in a tick. Each event, like each equipment change made through the character menu,
+ * only marks the player's affected {@link RpgEquipmentSlot} as dirty,
+ * and dirty slots are compared against the items last read into the player's {@link Equipment}
+ * once at the start of the next tick, so only slots that have actually changed are read.
+ * <p>
+ * Players whose equipment changed have their displays updated once on the following pass,
+ * since items containing Minecraft's Generic Health attribute require 1 tick to update.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.48
+ * @since 1.27.28
+ */
+public class EquipmentReconciler {
+  /**
+   * {@link RpgPlayer RPG players}
+   */
+  private final Map<UUID, RpgPlayer> rpgPlayers;
+
+  /**
+   * Players' dirty {@link RpgEquipmentSlot equipment slots}.
+   */
+  private final Map<UUID, Set<RpgEquipmentSlot>> dirtySlots = new LinkedHashMap<>();
+
+  /**
+   * Players whose displays need to be updated on the next pass.
+   */
+  private final Set<UUID> changedPlayers = new LinkedHashSet<>();
+
+  /**
+   * Associates the equipment reconciler with RPG players.
+   *
+   * @param rpgPlayers {@link RpgPlayer RPG players}
+   */
+  EquipmentReconciler(@NotNull Map<UUID, RpgPlayer> rpgPlayers) {
+    this.rpgPlayers = Objects.requireNonNull(rpgPlayers, "Null RPG players");
+  }
+
+  /**
+   * Marks a player's {@link RpgEquipmentSlot} to be compared on the next pass.
+   *
+   * @param uuid  player uuid
+   * @param eSlot {@link RpgEquipmentSlot}
+   */
+  public void markDirty(@NotNull UUID uuid, @NotNull RpgEquipmentSlot eSlot) {
+    Objects.requireNonNull(eSlot, "Null slot");
+    dirtySlots.computeIfAbsent(Objects.requireNonNull(uuid, "Null uuid"), player -> EnumSet.noneOf(RpgEquipmentSlot.class)).add(eSlot);
+  }
+
+  /**
+   * Updates the displays of players whose {@link Equipment} changed on the
+   * previous pass, then reads the dirty slots that have actually changed.
+   */
+  public void reconcile() {
+    if (!changedPlayers.isEmpty()) {
+      for (UUID uuid : changedPlayers) {
+        Player player = Bukkit.getPlayer(uuid);
+        if (player != null) {
+          new HealthChange(player).updateDisplays();
+        }
+      }
+      changedPlayers.clear();
+    }
+
+    if (dirtySlots.isEmpty()) {
+      return;
+    }
+    for (Map.Entry<UUID, Set<RpgEquipmentSlot>> playerSlots : dirtySlots.entrySet()) {
+      UUID uuid = playerSlots.getKey();
+      Player player = Bukkit.getPlayer(uuid);
+      RpgPlayer rpgPlayer = rpgPlayers.get(uuid);
+      if (player == null || rpgPlayer == null) {
+        continue;
+      }
+
+      Equipment equipment = rpgPlayer.getEquipment();
+      boolean changed = false;
+      for (RpgEquipmentSlot eSlot : playerSlots.getValue()) {
+        if (equipment.reconcileSlot(getItem(player, equipment, eSlot), eSlot)) {
+          changed = true;
+        }
+      }
+      if (changed) {
+        changedPlayers.add(uuid);
+      }
+    }
+    dirtySlots.clear();
+  }
+
+  /**
+   * Gets the item currently at a player's {@link RpgEquipmentSlot}.
+   *
+   * @param player    interacting player
+   * @param equipment player's {@link Equipment}
+   * @param eSlot     {@link RpgEquipmentSlot}
+   * @return item at the {@link RpgEquipmentSlot}
+   */
+  private ItemStack getItem(Player player, Equipment equipment, RpgEquipmentSlot eSlot) {
+    PlayerInventory pInv = player.getInventory();
+    return switch (eSlot) {
+      case HEAD -> pInv.getHelmet();
+      case CHEST -> pInv.getChestplate();
+      case LEGS -> pInv.getLeggings();
+      case FEET -> pInv.getBoots();
+      case HAND -> pInv.getItemInMainHand();
+      case OFF_HAND -> pInv.getItemInOffHand();
+      case NECKLACE -> equipment.getJewelry()[0];
+      case RING -> equipment.getJewelry()[1];
+    };
+  }
+}
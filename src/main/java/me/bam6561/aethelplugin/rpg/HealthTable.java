@@ -0,0 +1,175 @@
+package me.bam6561.aethelplugin.rpg;
+
+import me.bam6561.aethelplugin.enums.plugin.Key;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Represents entities' current RPG health in memory.
+ * <p>
+ * Health is read from the entity's {@link Key#RPG_HEALTH} tag the first time
+ * it is needed, after which damage, healing, and display updates only change
+ * the in-memory value. Changed values are written back to the entity's tags
+ * when the entity is unloaded, the player quits, the plugin is disabled,
+ * or the periodic checkpoint runs, so health still persists across restarts.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.20
+ * @since 1.27.20
+ */
+public class HealthTable {
+  /**
+   * {@link HealthEntry Health entries} by entity UUID.
+   */
+  private final Map<UUID, HealthEntry> entries = new HashMap<>();
+
+  /**
+   * Entities whose health has changed since it was last written back.
+   */
+  private final Set<UUID> dirtyEntities = new LinkedHashSet<>();
+
+  /**
+   * No parameter constructor.
+   */
+  public HealthTable() {
+  }
+
+  /**
+   * Gets an entity's current health, reading it from the entity's tags if it isn't loaded.
+   *
+   * @param entity interacting entity
+   * @return entity's current health
+   */
+  public double getHealth(@NotNull LivingEntity entity) {
+    return getEntry(Objects.requireNonNull(entity, "Null entity")).health;
+  }
+
+  /**
+   * Sets an entity's current health without writing it back to the entity's tags.
+   *
+   * @param entity interacting entity
+   * @param health current health
+   */
+  public void setHealth(@NotNull LivingEntity entity, double health) {
+    HealthEntry entry = getEntry(Objects.requireNonNull(entity, "Null entity"));
+    entry.health = health;
+    dirtyEntities.add(entity.getUniqueId());
+  }
+
+  /**
+   * Writes an entity's changed health back to its tags.
+   *
+   * @param uuid entity uuid
+   */
+  public void save(@NotNull UUID uuid) {
+    if (dirtyEntities.remove(Objects.requireNonNull(uuid, "Null uuid"))) {
+      entries.get(uuid).writeBack();
+    }
+  }
+
+  /**
+   * Writes all changed health back to entities' tags.
+   */
+  public void saveAll() {
+    for (UUID uuid : dirtyEntities) {
+      entries.get(uuid).writeBack();
+    }
+    dirtyEntities.clear();
+  }
+
+  /**
+   * Writes an entity's changed health back to its tags and stops tracking the entity.
+   *
+   * @param uuid entity uuid
+   */
+  public void unload(@NotNull UUID uuid) {
+    save(uuid);
+    entries.remove(uuid);
+  }
+
+  /**
+   * Stops tracking a dead or despawned entity without writing its health back.
+   *
+   * @param uuid entity uuid
+   */
+  public void discard(@NotNull UUID uuid) {
+    dirtyEntities.remove(Objects.requireNonNull(uuid, "Null uuid"));
+    entries.remove(uuid);
+  }
+
+  /**
+   * Gets the number of tracked entities.
+   *
+   * @return number of tracked entities
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Gets the number of entities whose health hasn't been written back.
+   *
+   * @return number of entities whose health hasn't been written back
+   */
+  public int getDirtyCount() {
+    return dirtyEntities.size();
+  }
+
+  /**
+   * Gets an entity's {@link HealthEntry}, creating it from the entity's tags if it doesn't exist.
+   *
+   * @param entity interacting entity
+   * @return entity's {@link HealthEntry}
+   */
+  private HealthEntry getEntry(LivingEntity entity) {
+    UUID uuid = entity.getUniqueId();
+    HealthEntry entry = entries.get(uuid);
+    if (entry == null) {
+      entry = new HealthEntry(entity, entity.getPersistentDataContainer().getOrDefault(Key.RPG_HEALTH.getNamespacedKey(), PersistentDataType.DOUBLE, entity.getHealth()));
+      entries.put(uuid, entry);
+    } else if (entry.entity != entity) {
+      entry.entity = entity;
+    }
+    return entry;
+  }
+
+  /**
+   * Represents an entity's in-memory health.
+   *
+   * @author Danny Nguyen
+   * @version 1.27.20
+   * @since 1.27.20
+   */
+  private static class HealthEntry {
+    /**
+     * Entity handle written back to.
+     */
+    private LivingEntity entity;
+
+    /**
+     * Current health.
+     */
+    private double health;
+
+    /**
+     * Associates the entry with its entity and current health.
+     *
+     * @param entity interacting entity
+     * @param health current health
+     */
+    HealthEntry(LivingEntity entity, double health) {
+      this.entity = entity;
+      this.health = health;
+    }
+
+    /**
+     * Writes the current health to the entity's tags.
+     */
+    private void writeBack() {
+      entity.getPersistentDataContainer().set(Key.RPG_HEALTH.getNamespacedKey(), PersistentDataType.DOUBLE, health);
+    }
+  }
+}
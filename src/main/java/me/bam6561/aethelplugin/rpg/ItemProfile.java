@@ -0,0 +1,203 @@
+package me.bam6561.aethelplugin.rpg;
+
+import me.bam6561.aethelplugin.Plugin;
+import me.bam6561.aethelplugin.enums.plugin.Key;
+import me.bam6561.aethelplugin.enums.plugin.KeyHeader;
+import me.bam6561.aethelplugin.enums.rpg.AethelAttribute;
+import me.bam6561.aethelplugin.enums.rpg.RpgEquipmentSlot;
+import me.bam6561.aethelplugin.enums.rpg.abilities.ActiveAbilityType;
+import me.bam6561.aethelplugin.enums.rpg.abilities.PassiveAbilityType;
+import me.bam6561.aethelplugin.enums.rpg.abilities.PassiveTriggerType;
+import me.bam6561.aethelplugin.rpg.abilities.ActiveAbility;
+import me.bam6561.aethelplugin.rpg.abilities.PassiveAbility;
+import me.bam6561.aethelplugin.utils.TagSchema;
+import me.bam6561.aethelplugin.utils.TextFormatter;
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Represents an item's compiled {@link Key#ATTRIBUTE_LIST Aethel attributes},
+ * {@link Key#PASSIVE_LIST passive abilities}, and
+ * {@link Key#ACTIVE_EQUIPMENT_LIST active abilities} by {@link RpgEquipmentSlot}.
+ * <p>
+ * Item profiles are immutable and shared between every player
+ * equipping items with the same tags through {@link ItemProfiles}.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.38
+ * @since 1.27.24
+ */
+public class ItemProfile {
+  /**
+   * Item profile of items without Aethel tags.
+   */
+  static final ItemProfile EMPTY = new ItemProfile(new EnumMap<>(RpgEquipmentSlot.class));
+
+  /**
+   * {@link SlotProfile} of slots without Aethel tags.
+   */
+  private static final SlotProfile EMPTY_SLOT = new SlotProfile(Map.of(), List.of(), List.of());
+
+  /**
+   * {@link SlotProfile Slot profiles} by {@link RpgEquipmentSlot}.
+   */
+  private final Map<RpgEquipmentSlot, SlotProfile> slotProfiles;
+
+  /**
+   * Associates an item profile with its slot profiles.
+   *
+   * @param slotProfiles {@link SlotProfile slot profiles} by {@link RpgEquipmentSlot}
+   */
+  private ItemProfile(Map<RpgEquipmentSlot, SlotProfile> slotProfiles) {
+    this.slotProfiles = slotProfiles;
+  }
+
+  /**
+   * Compiles an item's Aethel tags into an item profile.
+   *
+   * @param itemTags item's persistent tags
+   * @return item profile
+   */
+  @NotNull
+  static ItemProfile compile(@NotNull PersistentDataContainer itemTags) {
+    Objects.requireNonNull(itemTags, "Null item tags");
+    Map<RpgEquipmentSlot, Map<AethelAttribute, Double>> attributes = new EnumMap<>(RpgEquipmentSlot.class);
+    Map<RpgEquipmentSlot, List<Passive>> passives = new EnumMap<>(RpgEquipmentSlot.class);
+    Map<RpgEquipmentSlot, List<Active>> actives = new EnumMap<>(RpgEquipmentSlot.class);
+
+    if (itemTags.has(Key.ATTRIBUTE_LIST.getNamespacedKey(), PersistentDataType.STRING)) {
+      for (String slotAttribute : itemTags.get(Key.ATTRIBUTE_LIST.getNamespacedKey(), PersistentDataType.STRING).split(" ")) {
+        int slotAttributeId = TagSchema.parseSlotAttribute(slotAttribute);
+        if (slotAttributeId != -1) {
+          attributes.computeIfAbsent(TagSchema.getSlot(slotAttributeId), slot -> new EnumMap<>(AethelAttribute.class)).put(TagSchema.getAttribute(slotAttributeId), TagSchema.getSlotAttribute(itemTags, slotAttributeId));
+        }
+      }
+    }
+    if (itemTags.has(Key.PASSIVE_LIST.getNamespacedKey(), PersistentDataType.STRING)) {
+      for (String passive : itemTags.get(Key.PASSIVE_LIST.getNamespacedKey(), PersistentDataType.STRING).split(" ")) {
+        String[] abilityMeta = passive.split("\\.");
+        RpgEquipmentSlot eSlot = RpgEquipmentSlot.valueOf(TextFormatter.formatEnum(abilityMeta[0]));
+        PassiveTriggerType trigger = PassiveTriggerType.valueOf(TextFormatter.formatEnum(abilityMeta[1]));
+        PassiveAbilityType type = PassiveAbilityType.valueOf(TextFormatter.formatEnum(abilityMeta[2]));
+        NamespacedKey passiveKey = new NamespacedKey(Plugin.getInstance(), KeyHeader.PASSIVE.getHeader() + passive);
+        passives.computeIfAbsent(eSlot, slot -> new ArrayList<>()).add(new Passive(trigger, type, List.of(itemTags.get(passiveKey, PersistentDataType.STRING).split(" "))));
+      }
+    }
+    if (itemTags.has(Key.ACTIVE_EQUIPMENT_LIST.getNamespacedKey(), PersistentDataType.STRING)) {
+      for (String active : itemTags.get(Key.ACTIVE_EQUIPMENT_LIST.getNamespacedKey(), PersistentDataType.STRING).split(" ")) {
+        String[] abilityMeta = active.split("\\.");
+        RpgEquipmentSlot eSlot = RpgEquipmentSlot.valueOf(TextFormatter.formatEnum(abilityMeta[0]));
+        ActiveAbilityType type = ActiveAbilityType.valueOf(TextFormatter.formatEnum(abilityMeta[1]));
+        NamespacedKey activeKey = new NamespacedKey(Plugin.getInstance(), KeyHeader.ACTIVE_EQUIPMENT.getHeader() + active);
+        actives.computeIfAbsent(eSlot, slot -> new ArrayList<>()).add(new Active(type, List.of(itemTags.get(activeKey, PersistentDataType.STRING).split(" "))));
+      }
+    }
+
+    Map<RpgEquipmentSlot, SlotProfile> slotProfiles = new EnumMap<>(RpgEquipmentSlot.class);
+    for (RpgEquipmentSlot eSlot : RpgEquipmentSlot.values()) {
+      Map<AethelAttribute, Double> slotAttributes = attributes.get(eSlot);
+      List<Passive> slotPassives = passives.get(eSlot);
+      List<Active> slotActives = actives.get(eSlot);
+      if (slotAttributes != null || slotPassives != null || slotActives != null) {
+        slotProfiles.put(eSlot, new SlotProfile(
+            slotAttributes != null ? Collections.unmodifiableMap(slotAttributes) : Map.of(),
+            slotPassives != null ? List.copyOf(slotPassives) : List.of(),
+            slotActives != null ? List.copyOf(slotActives) : List.of()));
+      }
+    }
+    return new ItemProfile(slotProfiles);
+  }
+
+  /**
+   * Gets the {@link SlotProfile} of an {@link RpgEquipmentSlot}.
+   *
+   * @param eSlot {@link RpgEquipmentSlot}
+   * @return {@link SlotProfile}
+   */
+  @NotNull
+  public SlotProfile getSlotProfile(@NotNull RpgEquipmentSlot eSlot) {
+    return slotProfiles.getOrDefault(Objects.requireNonNull(eSlot, "Null slot"), EMPTY_SLOT);
+  }
+
+  /**
+   * Represents an item's compiled Aethel tags on an {@link RpgEquipmentSlot}.
+   *
+   * @param attributes {@link AethelAttribute} values
+   * @param passives   {@link Passive passive abilities}
+   * @param actives    {@link Active active abilities}
+   * @author Danny Nguyen
+   * @version 1.27.24
+   * @since 1.27.24
+   */
+  public record SlotProfile(@NotNull Map<AethelAttribute, Double> attributes, @NotNull List<Passive> passives, @NotNull List<Active> actives) {
+    /**
+     * Associates a slot profile with its attributes and abilities.
+     *
+     * @param attributes {@link AethelAttribute} values
+     * @param passives   {@link Passive passive abilities}
+     * @param actives    {@link Active active abilities}
+     */
+    public SlotProfile(@NotNull Map<AethelAttribute, Double> attributes, @NotNull List<Passive> passives, @NotNull List<Active> actives) {
+      this.attributes = Objects.requireNonNull(attributes, "Null attributes");
+      this.passives = Objects.requireNonNull(passives, "Null passives");
+      this.actives = Objects.requireNonNull(actives, "Null actives");
+    }
+  }
+
+  /**
+   * Represents a pre-parsed {@link PassiveAbility}.
+   * <p>
+   * The data values are split once when the item profile is compiled
+   * and copied into an unmodifiable list, so they can be safely shared.
+   *
+   * @param trigger    {@link PassiveTriggerType}
+   * @param type       {@link PassiveAbilityType}
+   * @param dataValues ability data
+   * @author Danny Nguyen
+   * @version 1.27.38
+   * @since 1.27.24
+   */
+  public record Passive(@NotNull PassiveTriggerType trigger, @NotNull PassiveAbilityType type, @NotNull List<String> dataValues) {
+    /**
+     * Associates a passive ability with its trigger, type, and data.
+     *
+     * @param trigger    {@link PassiveTriggerType}
+     * @param type       {@link PassiveAbilityType}
+     * @param dataValues ability data
+     */
+    public Passive(@NotNull PassiveTriggerType trigger, @NotNull PassiveAbilityType type, @NotNull List<String> dataValues) {
+      this.trigger = Objects.requireNonNull(trigger, "Null trigger");
+      this.type = Objects.requireNonNull(type, "Null ability");
+      this.dataValues = List.copyOf(Objects.requireNonNull(dataValues, "Null data values"));
+    }
+  }
+
+  /**
+   * Represents a pre-parsed {@link ActiveAbility}.
+   * <p>
+   * The data values are split once when the item profile is compiled
+   * and copied into an unmodifiable list, so they can be safely shared.
+   *
+   * @param type       {@link ActiveAbilityType}
+   * @param dataValues ability data
+   * @author Danny Nguyen
+   * @version 1.27.38
+   * @since 1.27.24
+   */
+  public record Active(@NotNull ActiveAbilityType type, @NotNull List<String> dataValues) {
+    /**
+     * Associates an active ability with its type and data.
+     *
+     * @param type       {@link ActiveAbilityType}
+     * @param dataValues ability data
+     */
+    public Active(@NotNull ActiveAbilityType type, @NotNull List<String> dataValues) {
+      this.type = Objects.requireNonNull(type, "Null ability");
+      this.dataValues = List.copyOf(Objects.requireNonNull(dataValues, "Null data values"));
+    }
+  }
+}
@@ -0,0 +1,161 @@
+package me.bam6561.aethelplugin.rpg;
+
+import me.bam6561.aethelplugin.Plugin;
+import me.bam6561.aethelplugin.enums.plugin.Key;
+import me.bam6561.aethelplugin.enums.plugin.KeyHeader;
+import me.bam6561.aethelplugin.utils.TagSchema;
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Represents a least recently used cache of compiled {@link ItemProfile item profiles}.
+ * <p>
+ * Item profiles are cached by a {@link Fingerprint} of the item's
+ * {@link Key#ATTRIBUTE_LIST Aethel attribute}, {@link Key#PASSIVE_LIST passive ability},
+ * and {@link Key#ACTIVE_EQUIPMENT_LIST active ability} tags, so re-equipping items with
+ * the same tags, such as when scrolling between weapons, only costs a hash lookup
+ * instead of parsing every tag. Items whose profile tags change have a different
+ * fingerprint and are compiled again, so cached profiles never become stale, while
+ * changes to other tags, such as {@link Key#RPG_DURABILITY durability}, still hit the cache.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.46
+ * @since 1.27.24
+ */
+public class ItemProfiles {
+  /**
+   * Maximum number of cached item profiles.
+   */
+  private static final int CAPACITY = 512;
+
+  /**
+   * {@link ItemProfile Item profiles} by {@link Fingerprint}.
+   */
+  private final Map<Fingerprint, ItemProfile> profiles = new LinkedHashMap<>(64, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Fingerprint, ItemProfile> eldest) {
+      return size() > CAPACITY;
+    }
+  };
+
+  /**
+   * No parameter constructor.
+   */
+  public ItemProfiles() {
+  }
+
+  /**
+   * Gets an item's {@link ItemProfile}, compiling it if it isn't cached.
+   *
+   * @param itemTags item's persistent tags
+   * @return {@link ItemProfile}
+   */
+  @NotNull
+  public ItemProfile get(@NotNull PersistentDataContainer itemTags) {
+    if (Objects.requireNonNull(itemTags, "Null item tags").isEmpty()) {
+      return ItemProfile.EMPTY;
+    }
+    Fingerprint fingerprint = Fingerprint.of(itemTags);
+    if (fingerprint == null) {
+      return ItemProfile.EMPTY;
+    }
+    ItemProfile profile = profiles.get(fingerprint);
+    if (profile == null) {
+      profile = ItemProfile.compile(itemTags);
+      profiles.put(fingerprint, profile);
+    }
+    return profile;
+  }
+
+  /**
+   * Gets the number of cached item profiles.
+   *
+   * @return number of cached item profiles
+   */
+  public int size() {
+    return profiles.size();
+  }
+
+  /**
+   * Represents the item tags an {@link ItemProfile} is compiled from as a cache key.
+   * <p>
+   * The tags' hash is computed once, and the tags themselves are only
+   * compared when hashes match, so colliding items never share a profile.
+   *
+   * @param tags values of the ability and attribute lists, each followed by the values of the tags they reference
+   * @param hash tags' hash
+   * @author Danny Nguyen
+   * @version 1.27.46
+   * @since 1.27.38
+   */
+  private record Fingerprint(List<Object> tags, int hash) {
+    /**
+     * Creates a fingerprint of an item's profile tags.
+     *
+     * @param itemTags item's persistent tags
+     * @return fingerprint, or null if the item has no profile tags
+     */
+    @Nullable
+    private static Fingerprint of(PersistentDataContainer itemTags) {
+      String attributeList = itemTags.get(Key.ATTRIBUTE_LIST.getNamespacedKey(), PersistentDataType.STRING);
+      String passiveList = itemTags.get(Key.PASSIVE_LIST.getNamespacedKey(), PersistentDataType.STRING);
+      String activeList = itemTags.get(Key.ACTIVE_EQUIPMENT_LIST.getNamespacedKey(), PersistentDataType.STRING);
+      if (attributeList == null && passiveList == null && activeList == null) {
+        return null;
+      }
+
+      List<Object> tags = new ArrayList<>();
+      tags.add(attributeList);
+      if (attributeList != null) {
+        for (String slotAttribute : attributeList.split(" ")) {
+          int slotAttributeId = TagSchema.parseSlotAttribute(slotAttribute);
+          if (slotAttributeId != -1) {
+            tags.add(TagSchema.getSlotAttribute(itemTags, slotAttributeId));
+          }
+        }
+      }
+      tags.add(passiveList);
+      if (passiveList != null) {
+        for (String passive : passiveList.split(" ")) {
+          tags.add(itemTags.get(new NamespacedKey(Plugin.getInstance(), KeyHeader.PASSIVE.getHeader() + passive), PersistentDataType.STRING));
+        }
+      }
+      tags.add(activeList);
+      if (activeList != null) {
+        for (String active : activeList.split(" ")) {
+          tags.add(itemTags.get(new NamespacedKey(Plugin.getInstance(), KeyHeader.ACTIVE_EQUIPMENT.getHeader() + active), PersistentDataType.STRING));
+        }
+      }
+      return new Fingerprint(tags, tags.hashCode());
+    }
+
+    /**
+     * Returns true if the fingerprint has the same profile tags.
+     *
+     * @param o compared object
+     * @return if the fingerprint has the same profile tags
+     */
+    @Override
+    public boolean equals(Object o) {
+      if (o instanceof Fingerprint fingerprint) {
+        return fingerprint.hash == hash && fingerprint.tags.equals(tags);
+      }
+      return false;
+    }
+
+    /**
+     * Gets the profile tags' hash.
+     *
+     * @return profile tags' hash
+     */
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
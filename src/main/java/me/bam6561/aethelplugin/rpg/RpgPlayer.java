@@ -12,7 +12,7 @@ import java.util.UUID;
  * Represents a player's RPG metadata.
  *
  * @author Danny Nguyen
- * @version 1.25.0
+ * @version 1.27.7
  * @since 1.8.9
  */
 public class RpgPlayer {
@@ -37,9 +37,9 @@ public class RpgPlayer {
   private final Equipment equipment;
 
   /**
-   * Edibles on cooldown.
+   * {@link CooldownLedger}
    */
-  private final Set<String> onCooldownEdibles = new HashSet<>();
+  private final CooldownLedger cooldowns = new CooldownLedger();
 
   /**
    * Active projections.
@@ -55,7 +55,7 @@ public class RpgPlayer {
     this.uuid = Objects.requireNonNull(player, "Null player").getUniqueId();
     this.settings = new Settings(uuid);
     this.displays = new Displays(player, settings);
-    this.equipment = new Equipment(player);
+    this.equipment = new Equipment(player, cooldowns);
   }
 
   /**
@@ -99,13 +99,13 @@ public class RpgPlayer {
   }
 
   /**
-   * Gets the edibles on cooldown.
+   * Gets the {@link CooldownLedger}.
    *
-   * @return edibles on cooldown
+   * @return {@link CooldownLedger}
    */
   @NotNull
-  public Set<String> getOnCooldownEdibles() {
-    return this.onCooldownEdibles;
+  public CooldownLedger getCooldowns() {
+    return this.cooldowns;
   }
 
   /**
@@ -1,7 +1,14 @@
 package me.bam6561.aethelplugin.rpg;
 
+import me.bam6561.aethelplugin.enums.plugin.KeyHeader;
+import me.bam6561.aethelplugin.enums.rpg.AethelAttribute;
 import me.bam6561.aethelplugin.enums.rpg.StatusType;
+import me.bam6561.aethelplugin.plugin.TickBuckets;
+import me.bam6561.aethelplugin.utils.TagSchema;
+import org.bukkit.NamespacedKey;
 import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
@@ -10,10 +17,15 @@ import java.util.*;
  * Represents RPG metadata in memory.
  *
  * @author Danny Nguyen
- * @version 1.27.0
+ * @version 1.27.43
  * @since 1.8.10
  */
 public class RpgSystem {
+  /**
+   * Number of {@link TickBuckets} used by per-second entity loops.
+   */
+  public static final int TICK_BUCKETS = 20;
+
   /**
    * Entities affected by {@link Buffs}.
    */
@@ -22,7 +34,12 @@ public class RpgSystem {
   /**
    * Entities affected by {@link Status statuses}.
    */
-  private final Map<UUID, Map<StatusType, Status>> statuses = new HashMap<>();
+  private final Map<UUID, StatusSet> statuses = new HashMap<>();
+
+  /**
+   * Entities affected by damage over time {@link Status statuses}.
+   */
+  private final TickBuckets<UUID> damageOverTimeEntities = new TickBuckets<>(TICK_BUCKETS);
 
   /**
    * Entities affected by Overshield.
@@ -30,13 +47,18 @@ public class RpgSystem {
    * Overshield is a condition when entities' current
    * health exceeds max health by a factor of x1.2.
    */
-  private final Set<UUID> overshields = new HashSet<>();
+  private final TickBuckets<UUID> overshields = new TickBuckets<>(TICK_BUCKETS);
 
   /**
    * {@link RpgPlayer RPG players}.
    */
   private final Map<UUID, RpgPlayer> rpgPlayers = new HashMap<>();
 
+  /**
+   * Online {@link RpgPlayer RPG players}.
+   */
+  private final TickBuckets<UUID> onlinePlayers = new TickBuckets<>(TICK_BUCKETS);
+
   /**
    * Players with sufficient {@link Equipment.Enchantments} level requirements.
    */
@@ -46,7 +68,62 @@ public class RpgSystem {
   /**
    * Players under max health.
    */
-  private final Set<UUID> wounded = new HashSet<>();
+  private final TickBuckets<UUID> wounded = new TickBuckets<>(TICK_BUCKETS);
+
+  /**
+   * {@link Status} stack instance timers.
+   */
+  private final TimingWheel statusTimers = new TimingWheel();
+
+  /**
+   * Live {@link EntityHandles entity handles}.
+   */
+  private final EntityHandles entityHandles = new EntityHandles();
+
+  /**
+   * Unloaded entities' {@link EntitySuspensions parked RPG state}.
+   */
+  private final EntitySuspensions suspensions = new EntitySuspensions();
+
+  /**
+   * Entities' cached {@link CombatProfile combat profiles}.
+   */
+  private final Map<UUID, CombatProfile> combatProfiles = new HashMap<>();
+
+  /**
+   * If entities participate in the RPG system.
+   */
+  private final Map<UUID, Boolean> participants = new HashMap<>();
+
+  /**
+   * Entities' current RPG health.
+   */
+  private final HealthTable healthTable = new HealthTable();
+
+  /**
+   * {@link DisplayManager} of RPG players' displays.
+   */
+  private final DisplayManager displayManager = new DisplayManager(rpgPlayers);
+
+  /**
+   * Compiled {@link ItemProfile item profiles} of equipped items.
+   */
+  private final ItemProfiles itemProfiles = new ItemProfiles();
+
+  /**
+   * {@link EquipmentReconciler} of RPG players' equipment.
+   */
+  private final EquipmentReconciler equipmentReconciler = new EquipmentReconciler(rpgPlayers);
+
+  /**
+   * {@link DamagePipeline} for entities damaging other entities.
+   */
+  private final DamagePipeline entityDamagePipeline = new DamagePipeline("entity");
+
+  /**
+   * {@link DamagePipeline} for environmental damage.
+   */
+  private final DamagePipeline environmentDamagePipeline = new DamagePipeline("environment");
 
   /**
    * No parameter constructor.
@@ -59,7 +136,7 @@ public class RpgSystem {
    * <p>
    * Note: Do not call any removals on the Map directly!
    * Use built-in function {@link Buffs#removeAllBuffs()}
-   * to safely clean up attribute buffs and their timers instead.
+   * to safely clean up buffs and their buff instances instead.
    *
    * @return entities with {@link Buffs}
    */
@@ -68,23 +145,285 @@ public class RpgSystem {
     return this.buffs;
   }
 
+  /**
+   * Advances the RPG system by one tick, expiring any
+   * {@link Status} stack instances and {@link Buffs} that are due.
+   * <p>
+   * Entities left without buffs are removed in the same tick.
+   */
+  public void tick() {
+    statusTimers.advance();
+    long currentTick = statusTimers.getCurrentTick();
+    Iterator<Buffs> entityBuffs = buffs.values().iterator();
+    while (entityBuffs.hasNext()) {
+      if (entityBuffs.next().expireBuffs(currentTick)) {
+        entityBuffs.remove();
+      }
+    }
+  }
+
+  /**
+   * Adds a number of {@link StatusType} stacks to an entity.
+   *
+   * @param uuid   entity uuid
+   * @param type   {@link StatusType}
+   * @param stacks number of stacks to add
+   * @param ticks  duration in ticks
+   */
+  public void addStatus(@NotNull UUID uuid, @NotNull StatusType type, int stacks, int ticks) {
+    participants.put(Objects.requireNonNull(uuid, "Null uuid"), Boolean.TRUE);
+    StatusSet statusSet = statuses.get(uuid);
+    if (statusSet == null) {
+      statusSet = new StatusSet(this, uuid);
+      statuses.put(uuid, statusSet);
+    }
+    statusSet.addStacks(type, stacks, ticks);
+  }
+
+  /**
+   * Removes a {@link StatusType} from an entity and cancels its stack instances.
+   *
+   * @param uuid entity uuid
+   * @param type {@link StatusType}
+   */
+  public void removeStatus(@NotNull UUID uuid, @NotNull StatusType type) {
+    Objects.requireNonNull(uuid, "Null uuid");
+    Objects.requireNonNull(type, "Null status type");
+    StatusSet statusSet = statuses.get(uuid);
+    if (statusSet != null) {
+      statusSet.remove(type);
+      updateStatusIndex(statusSet);
+    }
+  }
+
+  /**
+   * Removes all {@link Status statuses} from an entity and cancels their stack instances.
+   *
+   * @param uuid entity uuid
+   */
+  public void removeStatuses(@NotNull UUID uuid) {
+    StatusSet statusSet = statuses.get(Objects.requireNonNull(uuid, "Null uuid"));
+    if (statusSet != null) {
+      statusSet.removeAll();
+      updateStatusIndex(statusSet);
+    }
+  }
+
+  /**
+   * Discards all of a dead or despawned entity's RPG state.
+   * <p>
+   * Buffed attributes are reverted while the entity can still be resolved.
+   *
+   * @param uuid entity uuid
+   */
+  public void evictEntity(@NotNull UUID uuid) {
+    removeStatuses(Objects.requireNonNull(uuid, "Null uuid"));
+    Buffs entityBuffs = buffs.get(uuid);
+    if (entityBuffs != null) {
+      entityBuffs.removeAllBuffs();
+    }
+    overshields.remove(uuid);
+    suspensions.evict(uuid);
+    combatProfiles.remove(uuid);
+    participants.remove(uuid);
+    healthTable.discard(uuid);
+    entityHandles.invalidate(uuid);
+  }
+
+  /**
+   * Gets an entity's up-to-date {@link CombatProfile}, creating it if it doesn't exist.
+   *
+   * @param entity interacting entity
+   * @return entity's {@link CombatProfile}
+   */
+  @NotNull
+  public CombatProfile getCombatProfile(@NotNull LivingEntity entity) {
+    UUID uuid = Objects.requireNonNull(entity, "Null entity").getUniqueId();
+    CombatProfile combatProfile = combatProfiles.get(uuid);
+    if (combatProfile == null) {
+      combatProfile = new CombatProfile();
+      combatProfiles.put(uuid, combatProfile);
+    }
+    combatProfile.refresh(this, entity);
+    return combatProfile;
+  }
+
+  /**
+   * Gets an entity's {@link AethelAttribute} value, excluding {@link Buffs}.
+   * <p>
+   * {@link RpgPlayer RPG players'} values are read from their in-memory
+   * {@link Equipment.AethelAttributes} totals, while other entities' are read from their tags.
+   *
+   * @param entity    interacting entity
+   * @param attribute {@link AethelAttribute}
+   * @return entity's {@link AethelAttribute} value
+   */
+  public double getAethelAttribute(@NotNull LivingEntity entity, @NotNull AethelAttribute attribute) {
+    Objects.requireNonNull(entity, "Null entity");
+    if (entity instanceof Player) {
+      RpgPlayer rpgPlayer = rpgPlayers.get(entity.getUniqueId());
+      if (rpgPlayer != null) {
+        return rpgPlayer.getEquipment().getAttributes().getTotal(attribute);
+      }
+    }
+    return TagSchema.getAttribute(entity.getPersistentDataContainer(), attribute);
+  }
+
+  /**
+   * Writes all changed {@link RpgPlayer RPG players'} {@link Equipment.AethelAttributes} totals to their tags.
+   */
+  public void exportAttributes() {
+    for (RpgPlayer rpgPlayer : rpgPlayers.values()) {
+      rpgPlayer.getEquipment().getAttributes().exportTotals();
+    }
+  }
+
+  /**
+   * Marks an entity's {@link CombatProfile} to be reread on its next use.
+   *
+   * @param uuid entity uuid
+   */
+  public void invalidateCombatProfile(@NotNull UUID uuid) {
+    participants.put(Objects.requireNonNull(uuid, "Null uuid"), Boolean.TRUE);
+    CombatProfile combatProfile = combatProfiles.get(uuid);
+    if (combatProfile != null) {
+      combatProfile.markDirty();
+    }
+  }
+
+  /**
+   * Updates an entity's cached {@link StatusType} stacks in its {@link CombatProfile}
+   * without marking the rest of its stats to be reread.
+   *
+   * @param uuid   entity uuid
+   * @param type   {@link StatusType} read by {@link CombatProfile}
+   * @param stacks number of stacks
+   */
+  void updateCombatProfileStatus(@NotNull UUID uuid, @NotNull StatusType type, int stacks) {
+    CombatProfile combatProfile = combatProfiles.get(Objects.requireNonNull(uuid, "Null uuid"));
+    if (combatProfile != null) {
+      combatProfile.setStackAmount(type, stacks);
+    }
+  }
+
+  /**
+   * Gets if an entity participates in the RPG system.
+   * <p>
+   * Players, entities with {@link KeyHeader#AETHEL Aethel tags}, and entities
+   * that have had RPG state are participants. Whether an entity participates
+   * is only determined once, after which it is a single lookup.
+   * <p>
+   * Entities become participants once their RPG stats change,
+   * such as from {@link Buffs}, {@link Status statuses}, or tags.
+   *
+   * @param entity interacting entity
+   * @return if the entity participates in the RPG system
+   */
+  public boolean isParticipant(@NotNull LivingEntity entity) {
+    UUID uuid = Objects.requireNonNull(entity, "Null entity").getUniqueId();
+    Boolean isParticipant = participants.get(uuid);
+    if (isParticipant == null) {
+      isParticipant = entity instanceof Player || buffs.containsKey(uuid) || statuses.containsKey(uuid) || overshields.contains(uuid) || hasAethelTags(entity);
+      participants.put(uuid, isParticipant);
+    }
+    return isParticipant;
+  }
+
+  /**
+   * Marks an entity as participating in the RPG system.
+   *
+   * @param uuid entity uuid
+   */
+  public void markParticipant(@NotNull UUID uuid) {
+    participants.put(Objects.requireNonNull(uuid, "Null uuid"), Boolean.TRUE);
+  }
+
+  /**
+   * Forgets if an unloaded entity participates in the RPG system.
+   *
+   * @param uuid entity uuid
+   */
+  public void removeParticipant(@NotNull UUID uuid) {
+    participants.remove(Objects.requireNonNull(uuid, "Null uuid"));
+  }
+
+  /**
+   * Discards an entity's {@link CombatProfile}.
+   *
+   * @param uuid entity uuid
+   */
+  public void removeCombatProfile(@NotNull UUID uuid) {
+    combatProfiles.remove(Objects.requireNonNull(uuid, "Null uuid"));
+  }
+
+  /**
+   * If the entity has any {@link KeyHeader#AETHEL Aethel tags}.
+   *
+   * @param entity interacting entity
+   * @return if the entity has any Aethel tags
+   */
+  private boolean hasAethelTags(LivingEntity entity) {
+    for (NamespacedKey key : entity.getPersistentDataContainer().getKeys()) {
+      if (key.getKey().startsWith(KeyHeader.AETHEL.getHeader())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Updates an entity's {@link StatusSet} membership after its
+   * active {@link StatusType status types} have changed.
+   * <p>
+   * Empty status sets are removed, and entities are added to or removed
+   * from the damage over time index as their statuses change.
+   *
+   * @param statusSet {@link StatusSet}
+   */
+  void updateStatusIndex(StatusSet statusSet) {
+    UUID uuid = statusSet.getUUID();
+    if (statusSet.isEmpty()) {
+      statuses.remove(uuid, statusSet);
+      damageOverTimeEntities.remove(uuid);
+    } else if (statusSet.hasDamageOverTime()) {
+      damageOverTimeEntities.add(uuid);
+    } else {
+      damageOverTimeEntities.remove(uuid);
+    }
+  }
+
   /**
    * Gets entities affected by {@link Status statuses}.
+   * <p>
+   * Note: Do not call any removals on the Map directly!
+   * Use built-in functions {@link #removeStatus(UUID, StatusType)}
+   * and {@link #removeStatuses(UUID)} to safely clean up
+   * statuses and their stack instance timers instead.
    *
    * @return entities with {@link Status statuses}
    */
   @NotNull
-  public Map<UUID, Map<StatusType, Status>> getStatuses() {
+  public Map<UUID, StatusSet> getStatuses() {
     return this.statuses;
   }
 
+  /**
+   * Gets entities affected by damage over time {@link Status statuses}.
+   *
+   * @return entities affected by damage over time {@link Status statuses}
+   */
+  @NotNull
+  public TickBuckets<UUID> getDamageOverTimeEntities() {
+    return this.damageOverTimeEntities;
+  }
+
   /**
    * Gets entities affected by Overshield.
    *
    * @return entities affected by Overshield
    */
   @NotNull
-  public Set<UUID> getOvershields() {
+  public TickBuckets<UUID> getOvershields() {
     return this.overshields;
   }
 
@@ -98,6 +437,16 @@ public class RpgSystem {
     return this.rpgPlayers;
   }
 
+  /**
+   * Gets online {@link RpgPlayer RPG players}.
+   *
+   * @return online {@link RpgPlayer RPG players}
+   */
+  @NotNull
+  public TickBuckets<UUID> getOnlinePlayers() {
+    return this.onlinePlayers;
+  }
+
   /**
    * Gets players with sufficient {@link Equipment.Enchantments} level requirements.
    *
@@ -114,7 +463,167 @@ public class RpgSystem {
    * @return players under max health
    */
   @NotNull
-  public Set<UUID> getWounded() {
+  public TickBuckets<UUID> getWounded() {
     return this.wounded;
   }
+
+  /**
+   * Gets the {@link Status} stack instance timers.
+   *
+   * @return {@link Status} stack instance timers
+   */
+  @NotNull
+  public TimingWheel getStatusTimers() {
+    return this.statusTimers;
+  }
+
+  /**
+   * Gets the live {@link EntityHandles entity handles}.
+   *
+   * @return live {@link EntityHandles entity handles}
+   */
+  @NotNull
+  public EntityHandles getEntityHandles() {
+    return this.entityHandles;
+  }
+
+  /**
+   * Gets unloaded entities' {@link EntitySuspensions parked RPG state}.
+   *
+   * @return unloaded entities' {@link EntitySuspensions parked RPG state}
+   */
+  @NotNull
+  public EntitySuspensions getSuspensions() {
+    return this.suspensions;
+  }
+
+  /**
+   * Gets entities' current RPG health.
+   *
+   * @return {@link HealthTable}
+   */
+  @NotNull
+  public HealthTable getHealthTable() {
+    return this.healthTable;
+  }
+
+  /**
+   * Gets the {@link EquipmentReconciler} of RPG players' equipment.
+   *
+   * @return {@link EquipmentReconciler}
+   */
+  @NotNull
+  public EquipmentReconciler getEquipmentReconciler() {
+    return this.equipmentReconciler;
+  }
+
+  /**
+   * Gets the {@link DisplayManager} of RPG players' displays.
+   *
+   * @return {@link DisplayManager}
+   */
+  @NotNull
+  public DisplayManager getDisplayManager() {
+    return this.displayManager;
+  }
+
+  /**
+   * Gets the compiled {@link ItemProfile item profiles} of equipped items.
+   *
+   * @return {@link ItemProfiles}
+   */
+  @NotNull
+  public ItemProfiles getItemProfiles() {
+    return this.itemProfiles;
+  }
+
+  /**
+   * Gets the {@link DamagePipeline} for entities damaging other entities.
+   *
+   * @return {@link DamagePipeline} for entities damaging other entities
+   */
+  @NotNull
+  public DamagePipeline getEntityDamagePipeline() {
+    return this.entityDamagePipeline;
+  }
+
+  /**
+   * Gets the {@link DamagePipeline} for environmental damage.
+   *
+   * @return {@link DamagePipeline} for environmental damage
+   */
+  @NotNull
+  public DamagePipeline getEnvironmentDamagePipeline() {
+    return this.environmentDamagePipeline;
+  }
+
+  /**
+   * Gets every {@link DamagePipeline}.
+   *
+   * @return every {@link DamagePipeline}
+   */
+  @NotNull
+  public List<DamagePipeline> getDamagePipelines() {
+    return List.of(entityDamagePipeline, environmentDamagePipeline);
+  }
+
+  /**
+   * Enables or disables a {@link DamagePipeline} stage in a world
+   * for every pipeline that contains a stage by that name.
+   * <p>
+   * No pipeline is changed if any stage by that name is a core stage being disabled.
+   *
+   * @param stageName stage name
+   * @param worldName world name
+   * @param isEnabled if the stage is enabled
+   * @return if a stage by that name exists
+   * @throws IllegalArgumentException if a core stage is disabled
+   */
+  public boolean setDamageStageEnabled(@NotNull String stageName, @NotNull String worldName, boolean isEnabled) {
+    Objects.requireNonNull(stageName, "Null stage name");
+    Objects.requireNonNull(worldName, "Null world name");
+    List<DamagePipeline.Stage> stages = new ArrayList<>();
+    for (DamagePipeline pipeline : getDamagePipelines()) {
+      DamagePipeline.Stage stage = pipeline.getStage(stageName);
+      if (stage != null) {
+        if (!isEnabled && stage.isCore()) {
+          throw new IllegalArgumentException("Core stage: " + stageName);
+        }
+        stages.add(stage);
+      }
+    }
+    for (DamagePipeline.Stage stage : stages) {
+      stage.setEnabled(worldName, isEnabled);
+    }
+    return !stages.isEmpty();
+  }
+
+  /**
+   * Gets the names of {@link DamagePipeline} stages disabled in a world.
+   *
+   * @param worldName world name
+   * @return names of stages disabled in the world
+   */
+  @NotNull
+  public List<String> getDisabledDamageStages(@NotNull String worldName) {
+    Objects.requireNonNull(worldName, "Null world name");
+    Set<String> stageNames = new LinkedHashSet<>();
+    for (DamagePipeline pipeline : getDamagePipelines()) {
+      for (DamagePipeline.Stage stage : pipeline.getStages()) {
+        if (!stage.isEnabled(worldName)) {
+          stageNames.add(stage.getName());
+        }
+      }
+    }
+    return new ArrayList<>(stageNames);
+  }
+
+  /**
+   * Gets the RPG system's current tick.
+   *
+   * @return current tick
+   */
+  public long getCurrentTick() {
+    return statusTimers.getCurrentTick();
+  }
 }
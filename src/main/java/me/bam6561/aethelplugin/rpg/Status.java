@@ -1,27 +1,23 @@
 package me.bam6561.aethelplugin.rpg;
 
-import me.bam6561.aethelplugin.Plugin;
 import me.bam6561.aethelplugin.enums.rpg.StatusType;
-import org.bukkit.Bukkit;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.Objects;
-import java.util.UUID;
 
 /**
  * Represents {@link StatusType statuses} that affect entities.
  *
  * @author Danny Nguyen
- * @version 1.23.10
+ * @version 1.27.43
  * @since 1.14.7
  */
 public class Status {
   /**
-   * Entity UUID.
+   * Owning {@link StatusSet}.
    */
-  private final UUID uuid;
+  private final StatusSet statusSet;
 
   /**
    * {@link StatusType}
@@ -29,38 +25,31 @@ public class Status {
   private final StatusType type;
 
   /**
-   * If stack instances are cumulative.
+   * If the stack amount is {@link CombatProfile#isCached(StatusType) cached} by combat profiles.
    */
-  private final boolean isCumulative;
+  private final boolean isCached;
 
   /**
    * Individual stack applications.
    * <p>
-   * Stack instances are represented by their Bukkit task ID.
+   * Stack instances expire through the {@link RpgSystem#getStatusTimers() status timing wheel}.
    */
-  private final Map<Integer, Integer> stackInstances = new HashMap<>();
-
-  /**
-   * Number of stacks.
-   */
-  private int stackAmount;
+  private final StatusStacks<StackInstance> stacks;
 
   /**
    * Associates a new status with its initial stacks and application.
    *
-   * @param uuid   entity uuid
-   * @param type   {@link StatusType}
-   * @param stacks initial amount of stacks
-   * @param ticks  initial stack application duration
+   * @param statusSet owning {@link StatusSet}
+   * @param type      {@link StatusType}
+   * @param stacks    initial amount of stacks
+   * @param ticks     initial stack application duration
    */
-  public Status(@NotNull UUID uuid, @NotNull StatusType type, int stacks, int ticks) {
-    this.uuid = Objects.requireNonNull(uuid, "Null uuid");
+  Status(@NotNull StatusSet statusSet, @NotNull StatusType type, int stacks, int ticks) {
+    this.statusSet = Objects.requireNonNull(statusSet, "Null status set");
     this.type = Objects.requireNonNull(type, "Null status type");
-    this.isCumulative = type.isCumulative();
-    int taskId = Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> removeStacks(stacks), ticks).getTaskId();
-    Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> stackInstances.remove(taskId), ticks);
-    this.stackAmount = stacks;
-    this.stackInstances.put(taskId, stacks);
+    this.isCached = CombatProfile.isCached(type);
+    this.stacks = new StatusStacks<>(type);
+    addStacks(stacks, ticks);
   }
 
   /**
@@ -70,66 +59,71 @@ public class Status {
    * @param ticks  duration in ticks
    */
   public void addStacks(int stacks, int ticks) {
-    int taskId = Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> removeStacks(stacks), ticks).getTaskId();
-    Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> stackInstances.remove(taskId), ticks);
-    if (isCumulative) {
-      stackAmount = stackAmount + stacks;
-    } else {
-      if (stacks > stackAmount) {
-        stackAmount = stacks;
-      }
+    RpgSystem rpgSystem = statusSet.getRpgSystem();
+    StackInstance stackInstance = new StackInstance(stacks);
+    rpgSystem.getStatusTimers().schedule(stackInstance, ticks);
+    this.stacks.add(stackInstance);
+    updateCombatProfile(rpgSystem);
+  }
+
+  /**
+   * Removes an expired stack instance from the {@link StatusType}.
+   * <p>
+   * The {@link StatusType} is removed from the entity once no stack instances remain.
+   *
+   * @param stackInstance expired {@link StackInstance}
+   */
+  private void removeStacks(StackInstance stackInstance) {
+    stacks.remove(stackInstance);
+    updateCombatProfile(statusSet.getRpgSystem());
+
+    if (stacks.getInstanceCount() == 0) {
+      statusSet.removeExpired(this);
     }
-    stackInstances.put(taskId, stacks);
   }
 
   /**
-   * Removes a number of stacks from the {@link StatusType}.
+   * Cancels the {@link StatusType}'s remaining stack instances.
+   * <p>
+   * Does not remove the {@link StatusType} from the entity, use
+   * {@link RpgSystem#removeStatus(java.util.UUID, StatusType)} instead.
+   */
+  void cancel() {
+    RpgSystem rpgSystem = statusSet.getRpgSystem();
+    stacks.clear(rpgSystem.getStatusTimers());
+    updateCombatProfile(rpgSystem);
+  }
+
+  /**
+   * Updates the entity's {@link CombatProfile} with the stack amount
+   * if it is {@link CombatProfile#isCached(StatusType) cached}.
    *
-   * @param stacks number of stacks to remove
+   * @param rpgSystem {@link RpgSystem}
    */
-  private void removeStacks(int stacks) {
-    if (isCumulative) {
-      stackAmount = stackAmount - stacks;
-    } else {
-      Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> {
-        int highest = Integer.MIN_VALUE;
-        for (int stackInstance : stackInstances.values()) {
-          if (stackInstance >= highest) {
-            highest = stackInstance;
-          }
-        }
-        stackAmount = highest;
-      }, 1);
+  private void updateCombatProfile(RpgSystem rpgSystem) {
+    if (isCached) {
+      rpgSystem.updateCombatProfileStatus(statusSet.getUUID(), type, stacks.getStackAmount());
     }
-    removeStatusTypeIfEmpty();
   }
 
   /**
-   * Removes the {@link StatusType} if no stack instances remain.
+   * Gets the {@link StatusType}'s stack instances.
+   *
+   * @return {@link StatusType}'s stack instances
    */
-  private void removeStatusTypeIfEmpty() {
-    Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> {
-      if (stackInstances.isEmpty()) {
-        Map<UUID, Map<StatusType, Status>> entityStatuses = Plugin.getData().getRpgSystem().getStatuses();
-        if (entityStatuses.get(uuid) != null) {
-          Map<StatusType, Status> statuses = entityStatuses.get(uuid);
-          statuses.remove(type);
-          if (statuses.isEmpty()) {
-            entityStatuses.remove(uuid);
-          }
-        }
-      }
-    }, 1);
+  @NotNull
+  public List<StackInstance> getStackInstances() {
+    return stacks.getInstances();
   }
 
   /**
-   * Gets the {@link StatusType}'s stack durations.
+   * Gets the {@link StatusType}.
    *
-   * @return {@link StatusType}'s stack durations
+   * @return {@link StatusType}
    */
   @NotNull
-  public Map<Integer, Integer> getStackInstances() {
-    return this.stackInstances;
+  public StatusType getType() {
+    return this.type;
   }
 
   /**
@@ -138,6 +132,32 @@ public class Status {
    * @return number of {@link StatusType}'s stacks
    */
   public int getStackAmount() {
-    return this.stackAmount;
+    return stacks.getStackAmount();
+  }
+
+  /**
+   * Represents an individual stack application.
+   *
+   * @author Danny Nguyen
+   * @version 1.27.34
+   * @since 1.27.5
+   */
+  public class StackInstance extends StatusStacks.Instance {
+    /**
+     * Associates a stack instance with its number of stacks.
+     *
+     * @param stacks number of stacks applied
+     */
+    private StackInstance(int stacks) {
+      super(stacks);
+    }
+
+    /**
+     * Removes the stack instance from its {@link StatusType}.
+     */
+    @Override
+    protected void expire() {
+      removeStacks(this);
+    }
   }
 }
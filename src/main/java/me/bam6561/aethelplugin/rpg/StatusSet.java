@@ -0,0 +1,204 @@
+package me.bam6561.aethelplugin.rpg;
+
+import me.bam6561.aethelplugin.enums.rpg.StatusType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Represents an entity's {@link Status statuses}.
+ * <p>
+ * Statuses are stored in an EnumMap alongside a bitmask of
+ * active {@link StatusType status types}, so checking whether
+ * an entity has a {@link StatusType} doesn't require hashing.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.43
+ * @since 1.27.9
+ */
+public class StatusSet {
+  /**
+   * Damage over time {@link StatusType status types} bitmask.
+   */
+  private static final int DAMAGE_OVER_TIME = getMask(StatusType.BLEED) | getMask(StatusType.ELECTROCUTE) | getMask(StatusType.SOAK);
+
+  /**
+   * Owning {@link RpgSystem}.
+   */
+  private final RpgSystem rpgSystem;
+
+  /**
+   * Entity UUID.
+   */
+  private final UUID uuid;
+
+  /**
+   * {@link Status Statuses} by {@link StatusType}.
+   */
+  private final Map<StatusType, Status> statuses = new EnumMap<>(StatusType.class);
+
+  /**
+   * Active {@link StatusType status types} bitmask.
+   */
+  private int activeTypes;
+
+  /**
+   * Associates a status set with its {@link RpgSystem} and entity.
+   *
+   * @param rpgSystem owning {@link RpgSystem}
+   * @param uuid      entity uuid
+   */
+  public StatusSet(@NotNull RpgSystem rpgSystem, @NotNull UUID uuid) {
+    this.rpgSystem = Objects.requireNonNull(rpgSystem, "Null RPG system");
+    this.uuid = Objects.requireNonNull(uuid, "Null uuid");
+  }
+
+  /**
+   * Gets a {@link StatusType}'s bit.
+   *
+   * @param type {@link StatusType}
+   * @return {@link StatusType}'s bit
+   */
+  private static int getMask(StatusType type) {
+    return 1 << type.ordinal();
+  }
+
+  /**
+   * Adds a number of stacks to a {@link StatusType}, applying the {@link Status} if it isn't active.
+   *
+   * @param type   {@link StatusType}
+   * @param stacks number of stacks to add
+   * @param ticks  duration in ticks
+   */
+  public void addStacks(@NotNull StatusType type, int stacks, int ticks) {
+    Objects.requireNonNull(type, "Null status type");
+    Status status = statuses.get(type);
+    if (status != null) {
+      status.addStacks(stacks, ticks);
+      return;
+    }
+    statuses.put(type, new Status(this, type, stacks, ticks));
+    activeTypes |= getMask(type);
+    rpgSystem.updateStatusIndex(this);
+  }
+
+  /**
+   * Removes a {@link StatusType} and cancels its stack instances.
+   *
+   * @param type {@link StatusType}
+   */
+  void remove(StatusType type) {
+    Status status = statuses.remove(type);
+    if (status != null) {
+      status.cancel();
+      activeTypes &= ~getMask(type);
+    }
+  }
+
+  /**
+   * Removes all {@link StatusType status types} and cancels their stack instances.
+   */
+  void removeAll() {
+    for (Status status : statuses.values()) {
+      status.cancel();
+    }
+    statuses.clear();
+    activeTypes = 0;
+  }
+
+  /**
+   * Removes a {@link Status} once its last stack instance has expired.
+   *
+   * @param status expired {@link Status}
+   */
+  void removeExpired(Status status) {
+    StatusType type = status.getType();
+    if (statuses.remove(type, status)) {
+      activeTypes &= ~getMask(type);
+      rpgSystem.updateStatusIndex(this);
+    }
+  }
+
+  /**
+   * Gets the entity UUID.
+   *
+   * @return entity uuid
+   */
+  @NotNull
+  public UUID getUUID() {
+    return this.uuid;
+  }
+
+  /**
+   * Gets the owning {@link RpgSystem}.
+   *
+   * @return owning {@link RpgSystem}
+   */
+  @NotNull
+  RpgSystem getRpgSystem() {
+    return this.rpgSystem;
+  }
+
+  /**
+   * Gets if the entity has a {@link StatusType}.
+   *
+   * @param type {@link StatusType}
+   * @return if the entity has the {@link StatusType}
+   */
+  public boolean has(@NotNull StatusType type) {
+    return (activeTypes & getMask(type)) != 0;
+  }
+
+  /**
+   * Gets if the entity has any damage over time {@link StatusType status types}.
+   *
+   * @return if the entity has damage over time {@link StatusType status types}
+   */
+  public boolean hasDamageOverTime() {
+    return (activeTypes & DAMAGE_OVER_TIME) != 0;
+  }
+
+  /**
+   * Gets if the entity has no {@link Status statuses}.
+   *
+   * @return if the entity has no {@link Status statuses}
+   */
+  public boolean isEmpty() {
+    return activeTypes == 0;
+  }
+
+  /**
+   * Gets a {@link Status}.
+   *
+   * @param type {@link StatusType}
+   * @return {@link Status} if it exists, otherwise null
+   */
+  @Nullable
+  public Status get(@NotNull StatusType type) {
+    return statuses.get(type);
+  }
+
+  /**
+   * Gets a {@link StatusType}'s number of stacks.
+   *
+   * @param type {@link StatusType}
+   * @return number of stacks, or 0 if the entity doesn't have the {@link StatusType}
+   */
+  public int getStackAmount(@NotNull StatusType type) {
+    if (!has(type)) {
+      return 0;
+    }
+    return statuses.get(type).getStackAmount();
+  }
+
+  /**
+   * Gets the {@link Status statuses} by {@link StatusType}.
+   *
+   * @return {@link Status statuses} by {@link StatusType}
+   */
+  @NotNull
+  public Map<StatusType, Status> getStatuses() {
+    return Collections.unmodifiableMap(this.statuses);
+  }
+}
@@ -0,0 +1,233 @@
+package me.bam6561.aethelplugin.rpg;
+
+import me.bam6561.aethelplugin.enums.rpg.StatusType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents a {@link StatusType}'s stack instances and number of stacks.
+ * <p>
+ * Stack instances are ordered as a max-heap by their number of stacks and know their own
+ * heap index, so non-cumulative statuses can read their highest stack instance directly
+ * and add or remove instances in O(log n). Cumulative statuses sum their stack instances.
+ * <p>
+ * Stacking doesn't depend on any server classes, so it is shared by
+ * {@link Status} and the offline combat simulator.
+ *
+ * @param <T> {@link Instance stack instance} type
+ * @author Danny Nguyen
+ * @version 1.27.34
+ * @since 1.27.34
+ */
+public class StatusStacks<T extends StatusStacks.Instance> {
+  /**
+   * If stack instances are cumulative.
+   */
+  private final boolean isCumulative;
+
+  /**
+   * Stack instances, ordered as a max-heap by their number of stacks.
+   */
+  private Instance[] instances = new Instance[4];
+
+  /**
+   * Number of stack instances.
+   */
+  private int instanceCount;
+
+  /**
+   * Number of stacks.
+   */
+  private int stackAmount;
+
+  /**
+   * Associates the stacks with their {@link StatusType}.
+   *
+   * @param type {@link StatusType}
+   */
+  public StatusStacks(@NotNull StatusType type) {
+    this.isCumulative = Objects.requireNonNull(type, "Null status type").isCumulative();
+  }
+
+  /**
+   * Adds a stack instance.
+   *
+   * @param instance {@link Instance}
+   */
+  public void add(@NotNull T instance) {
+    Objects.requireNonNull(instance, "Null instance");
+    if (instanceCount == instances.length) {
+      instances = Arrays.copyOf(instances, instanceCount * 2);
+    }
+    instances[instanceCount] = instance;
+    instance.heapIndex = instanceCount;
+    instanceCount++;
+    siftUp(instance.heapIndex);
+
+    if (isCumulative) {
+      stackAmount = stackAmount + instance.getStacks();
+    } else {
+      stackAmount = instances[0].getStacks();
+    }
+  }
+
+  /**
+   * Removes a stack instance.
+   *
+   * @param instance {@link Instance}
+   */
+  public void remove(@NotNull T instance) {
+    int index = Objects.requireNonNull(instance, "Null instance").heapIndex;
+    if (index == -1) {
+      return;
+    }
+    instanceCount--;
+    Instance lastInstance = instances[instanceCount];
+    instances[instanceCount] = null;
+    instance.heapIndex = -1;
+    if (index != instanceCount) {
+      instances[index] = lastInstance;
+      lastInstance.heapIndex = index;
+      siftDown(index);
+      siftUp(lastInstance.heapIndex);
+    }
+
+    if (isCumulative) {
+      stackAmount = stackAmount - instance.getStacks();
+    } else {
+      stackAmount = instanceCount == 0 ? 0 : instances[0].getStacks();
+    }
+  }
+
+  /**
+   * Cancels and removes all stack instances.
+   *
+   * @param timers {@link TimingWheel} the stack instances are scheduled on
+   */
+  public void clear(@NotNull TimingWheel timers) {
+    Objects.requireNonNull(timers, "Null timers");
+    for (int i = 0; i < instanceCount; i++) {
+      timers.cancel(instances[i]);
+      instances[i].heapIndex = -1;
+      instances[i] = null;
+    }
+    instanceCount = 0;
+    stackAmount = 0;
+  }
+
+  /**
+   * Moves a stack instance up the heap until its parent has at least as many stacks.
+   *
+   * @param index heap index
+   */
+  private void siftUp(int index) {
+    Instance instance = instances[index];
+    while (index > 0) {
+      int parentIndex = (index - 1) >>> 1;
+      Instance parent = instances[parentIndex];
+      if (parent.getStacks() >= instance.getStacks()) {
+        break;
+      }
+      instances[index] = parent;
+      parent.heapIndex = index;
+      index = parentIndex;
+    }
+    instances[index] = instance;
+    instance.heapIndex = index;
+  }
+
+  /**
+   * Moves a stack instance down the heap until its children have at most as many stacks.
+   *
+   * @param index heap index
+   */
+  private void siftDown(int index) {
+    Instance instance = instances[index];
+    int half = instanceCount >>> 1;
+    while (index < half) {
+      int childIndex = (index << 1) + 1;
+      int rightIndex = childIndex + 1;
+      if (rightIndex < instanceCount && instances[rightIndex].getStacks() > instances[childIndex].getStacks()) {
+        childIndex = rightIndex;
+      }
+      Instance child = instances[childIndex];
+      if (instance.getStacks() >= child.getStacks()) {
+        break;
+      }
+      instances[index] = child;
+      child.heapIndex = index;
+      index = childIndex;
+    }
+    instances[index] = instance;
+    instance.heapIndex = index;
+  }
+
+  /**
+   * Gets the stack instances.
+   *
+   * @return stack instances
+   */
+  @NotNull
+  @SuppressWarnings("unchecked")
+  public List<T> getInstances() {
+    return (List<T>) List.of(Arrays.copyOf(instances, instanceCount));
+  }
+
+  /**
+   * Gets the number of stack instances.
+   *
+   * @return number of stack instances
+   */
+  public int getInstanceCount() {
+    return this.instanceCount;
+  }
+
+  /**
+   * Gets the number of stacks.
+   *
+   * @return number of stacks
+   */
+  public int getStackAmount() {
+    return this.stackAmount;
+  }
+
+  /**
+   * Represents an individual stack application that expires through a {@link TimingWheel}.
+   *
+   * @author Danny Nguyen
+   * @version 1.27.34
+   * @since 1.27.34
+   */
+  public abstract static class Instance extends TimingWheel.Timer {
+    /**
+     * Number of stacks applied.
+     */
+    private final int stacks;
+
+    /**
+     * Index in the {@link StatusStacks} heap, -1 if removed.
+     */
+    private int heapIndex = -1;
+
+    /**
+     * Associates a stack instance with its number of stacks.
+     *
+     * @param stacks number of stacks applied
+     */
+    protected Instance(int stacks) {
+      this.stacks = stacks;
+    }
+
+    /**
+     * Gets the number of stacks applied.
+     *
+     * @return number of stacks applied
+     */
+    public int getStacks() {
+      return this.stacks;
+    }
+  }
+}
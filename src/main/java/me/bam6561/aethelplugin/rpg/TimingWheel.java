@@ -0,0 +1,271 @@
+package me.bam6561.aethelplugin.rpg;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Represents a tick-driven hierarchical timing wheel.
+ * <p>
+ * Timers are bucketed into 4 levels of 64 slots, where each level
+ * covers 64 times the range of the level below it. Scheduling and
+ * cancellation are O(1), and advancing a tick only visits the timers
+ * that are due or must be cascaded into a lower level.
+ * <p>
+ * Timers further than the wheel's range are parked in the highest
+ * level and re-inserted when their slot is cascaded.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.5
+ * @since 1.27.5
+ */
+public class TimingWheel {
+  /**
+   * Number of bits used to index a level's slots.
+   */
+  private static final int SLOT_BITS = 6;
+
+  /**
+   * Number of slots per level.
+   */
+  private static final int SLOTS = 1 << SLOT_BITS;
+
+  /**
+   * Slot index mask.
+   */
+  private static final int SLOT_MASK = SLOTS - 1;
+
+  /**
+   * Number of levels.
+   */
+  private static final int LEVELS = 4;
+
+  /**
+   * Maximum number of ticks the wheel can represent.
+   */
+  private static final long RANGE = 1L << (SLOT_BITS * LEVELS);
+
+  /**
+   * Timer list heads by level and slot.
+   */
+  private final Timer[][] wheels = new Timer[LEVELS][SLOTS];
+
+  /**
+   * Current tick.
+   */
+  private long currentTick;
+
+  /**
+   * Number of scheduled timers.
+   */
+  private int size;
+
+  /**
+   * No parameter constructor.
+   */
+  public TimingWheel() {
+  }
+
+  /**
+   * Schedules a timer to expire after a number of ticks.
+   * <p>
+   * Timers that are already scheduled are rescheduled.
+   *
+   * @param timer {@link Timer}
+   * @param ticks delay in ticks, minimum of 1
+   */
+  public void schedule(@NotNull Timer timer, long ticks) {
+    Objects.requireNonNull(timer, "Null timer");
+    if (timer.isScheduled()) {
+      cancel(timer);
+    }
+    timer.deadline = currentTick + Math.max(1, ticks);
+    insert(timer);
+    size++;
+  }
+
+  /**
+   * Cancels a timer if it is scheduled.
+   *
+   * @param timer {@link Timer}
+   */
+  public void cancel(@NotNull Timer timer) {
+    if (Objects.requireNonNull(timer, "Null timer").isScheduled()) {
+      unlink(timer);
+      size--;
+    }
+  }
+
+  /**
+   * Advances the wheel by one tick, cascading higher level timers
+   * into lower levels and expiring any timers that are due.
+   */
+  public void advance() {
+    currentTick++;
+    for (int level = LEVELS - 1; level > 0; level--) {
+      int shift = SLOT_BITS * level;
+      if ((currentTick & ((1L << shift) - 1)) == 0) {
+        cascade(level, (int) ((currentTick >>> shift) & SLOT_MASK));
+      }
+    }
+
+    int slot = (int) (currentTick & SLOT_MASK);
+    Timer timer;
+    while ((timer = wheels[0][slot]) != null) {
+      unlink(timer);
+      if (timer.deadline > currentTick) {
+        insert(timer);
+        continue;
+      }
+      size--;
+      timer.expire();
+    }
+  }
+
+  /**
+   * Re-inserts a higher level slot's timers into lower levels.
+   *
+   * @param level wheel level
+   * @param slot  slot index
+   */
+  private void cascade(int level, int slot) {
+    Timer timer = wheels[level][slot];
+    wheels[level][slot] = null;
+    while (timer != null) {
+      Timer next = timer.next;
+      timer.prev = null;
+      timer.next = null;
+      timer.level = -1;
+      insert(timer);
+      timer = next;
+    }
+  }
+
+  /**
+   * Inserts a timer into the level and slot that corresponds to its deadline.
+   *
+   * @param timer {@link Timer}
+   */
+  private void insert(Timer timer) {
+    long target = Math.min(timer.deadline, currentTick + RANGE - 1);
+    long ticks = target - currentTick;
+    int level = 0;
+    while (level < LEVELS - 1 && ticks >= (1L << (SLOT_BITS * (level + 1)))) {
+      level++;
+    }
+    int slot = (int) ((target >>> (SLOT_BITS * level)) & SLOT_MASK);
+
+    Timer head = wheels[level][slot];
+    timer.next = head;
+    timer.prev = null;
+    if (head != null) {
+      head.prev = timer;
+    }
+    wheels[level][slot] = timer;
+    timer.level = level;
+    timer.slot = slot;
+  }
+
+  /**
+   * Removes a timer from its slot.
+   *
+   * @param timer {@link Timer}
+   */
+  private void unlink(Timer timer) {
+    if (timer.prev != null) {
+      timer.prev.next = timer.next;
+    } else {
+      wheels[timer.level][timer.slot] = timer.next;
+    }
+    if (timer.next != null) {
+      timer.next.prev = timer.prev;
+    }
+    timer.prev = null;
+    timer.next = null;
+    timer.level = -1;
+  }
+
+  /**
+   * Gets the current tick.
+   *
+   * @return current tick
+   */
+  public long getCurrentTick() {
+    return this.currentTick;
+  }
+
+  /**
+   * Gets the number of scheduled timers.
+   *
+   * @return number of scheduled timers
+   */
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Represents a timer scheduled on a {@link TimingWheel}.
+   * <p>
+   * Timers are intrusive list nodes, so a timer can only
+   * be scheduled on one wheel at a time.
+   *
+   * @author Danny Nguyen
+   * @version 1.27.5
+   * @since 1.27.5
+   */
+  public abstract static class Timer {
+    /**
+     * Tick the timer expires on.
+     */
+    private long deadline;
+
+    /**
+     * Previous timer in the slot.
+     */
+    private Timer prev;
+
+    /**
+     * Next timer in the slot.
+     */
+    private Timer next;
+
+    /**
+     * Wheel level, -1 if not scheduled.
+     */
+    private int level = -1;
+
+    /**
+     * Slot index.
+     */
+    private int slot;
+
+    /**
+     * No parameter constructor.
+     */
+    protected Timer() {
+    }
+
+    /**
+     * Called once the timer's deadline has been reached.
+     */
+    protected abstract void expire();
+
+    /**
+     * Gets if the timer is scheduled.
+     *
+     * @return if the timer is scheduled
+     */
+    public boolean isScheduled() {
+      return this.level != -1;
+    }
+
+    /**
+     * Gets the tick the timer expires on.
+     *
+     * @return tick the timer expires on
+     */
+    public long getDeadline() {
+      return this.deadline;
+    }
+  }
+}
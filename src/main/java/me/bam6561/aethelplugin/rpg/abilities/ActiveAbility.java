@@ -1,24 +1,24 @@
 package me.bam6561.aethelplugin.rpg.abilities;
 
 import me.bam6561.aethelplugin.Plugin;
-import me.bam6561.aethelplugin.enums.plugin.Key;
 import me.bam6561.aethelplugin.enums.rpg.AethelAttribute;
+import me.bam6561.aethelplugin.enums.rpg.MitigationType;
 import me.bam6561.aethelplugin.enums.rpg.RpgEquipmentSlot;
 import me.bam6561.aethelplugin.enums.rpg.StatusType;
 import me.bam6561.aethelplugin.enums.rpg.abilities.ActiveAbilityType;
 import me.bam6561.aethelplugin.rpg.Buffs;
+import me.bam6561.aethelplugin.rpg.CooldownLedger;
 import me.bam6561.aethelplugin.rpg.Equipment;
+import me.bam6561.aethelplugin.rpg.RpgSystem;
 import me.bam6561.aethelplugin.rpg.Status;
-import me.bam6561.aethelplugin.utils.entity.DamageMitigation;
-import me.bam6561.aethelplugin.utils.entity.HealthChange;
+import me.bam6561.aethelplugin.rpg.StatusSet;
+import me.bam6561.aethelplugin.utils.entity.BatchDamage;
 import org.bukkit.*;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.persistence.PersistentDataContainer;
-import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 import org.bukkit.util.Vector;
@@ -33,7 +33,7 @@ import java.util.*;
  * Represents an item's {@link ActiveAbilityType}.
  *
  * @author Danny Nguyen
- * @version 1.26.7
+ * @version 1.27.27
  * @since 1.17.4
  */
 public class ActiveAbility {
@@ -43,19 +43,19 @@ public class ActiveAbility {
   private final Source source;
 
   /**
-   * {@link ActiveAbilityType Active abilities} on cooldown.
+   * {@link CooldownLedger}
    */
-  private Map<RpgEquipmentSlot, Set<ActiveAbilityType>> onCooldownActives;
+  private final CooldownLedger cooldowns;
 
   /**
-   * {@link RpgEquipmentSlot}
+   * Equipment {@link CooldownLedger} index.
    */
-  private RpgEquipmentSlot eSlot;
+  private int cooldownIndex;
 
   /**
-   * {@link ActiveAbilityType Edible active abilities} on cooldown.
+   * {@link RpgEquipmentSlot}
    */
-  private Set<String> onCooldownEdibles;
+  private RpgEquipmentSlot eSlot;
 
   /**
    * Edible item id.
@@ -80,15 +80,16 @@ public class ActiveAbility {
   /**
    * Associates an {@link Equipment} {@link ActiveAbilityType active ability} with its data.
    *
-   * @param onCooldownActives {@link ActiveAbilityType} on cooldown
-   * @param eSlot             {@link RpgEquipmentSlot}
-   * @param type              {@link ActiveAbilityType}
-   * @param dataValues        ability data
+   * @param cooldowns  {@link CooldownLedger}
+   * @param eSlot      {@link RpgEquipmentSlot}
+   * @param type       {@link ActiveAbilityType}
+   * @param dataValues ability data
    */
-  public ActiveAbility(@NotNull Map<RpgEquipmentSlot, Set<ActiveAbilityType>> onCooldownActives, @NotNull RpgEquipmentSlot eSlot, @NotNull ActiveAbilityType type, @NotNull String[] dataValues) {
-    this.onCooldownActives = Objects.requireNonNull(onCooldownActives, "Null on cooldown actives");
+  public ActiveAbility(@NotNull CooldownLedger cooldowns, @NotNull RpgEquipmentSlot eSlot, @NotNull ActiveAbilityType type, @NotNull String[] dataValues) {
+    this.cooldowns = Objects.requireNonNull(cooldowns, "Null cooldowns");
     this.eSlot = Objects.requireNonNull(eSlot, "Null slot");
     this.type = Objects.requireNonNull(type, "Null ability");
+    this.cooldownIndex = CooldownLedger.getActiveIndex(eSlot, type);
     Objects.requireNonNull(dataValues, "Null data values");
     this.baseCooldown = Integer.parseInt(dataValues[0]);
     this.source = Source.EQUIPMENT;
@@ -98,13 +99,13 @@ public class ActiveAbility {
   /**
    * Associates an edible {@link ActiveAbilityType active ability} with its data.
    *
-   * @param onCooldownEdibles {@link ActiveAbilityType} on cooldown
-   * @param id                edible item id
-   * @param type              {@link ActiveAbilityType}
-   * @param dataValues        ability data
+   * @param cooldowns  {@link CooldownLedger}
+   * @param id         edible item id
+   * @param type       {@link ActiveAbilityType}
+   * @param dataValues ability data
    */
-  public ActiveAbility(@NotNull Set<String> onCooldownEdibles, @NotNull String id, @NotNull ActiveAbilityType type, @NotNull String[] dataValues) {
-    this.onCooldownEdibles = Objects.requireNonNull(onCooldownEdibles, "Null on cooldown edibles");
+  public ActiveAbility(@NotNull CooldownLedger cooldowns, @NotNull String id, @NotNull ActiveAbilityType type, @NotNull String[] dataValues) {
+    this.cooldowns = Objects.requireNonNull(cooldowns, "Null cooldowns");
     this.id = Objects.requireNonNull(id, "Null item id");
     this.type = Objects.requireNonNull(type, "Null ability");
     Objects.requireNonNull(dataValues, "Null data values");
@@ -149,10 +150,10 @@ public class ActiveAbility {
    */
   public void doEffect(@NotNull Player caster) {
     UUID uuid = Objects.requireNonNull(caster, "Null caster").getUniqueId();
-    PersistentDataContainer entityTags = caster.getPersistentDataContainer();
-    Buffs buffs = Plugin.getData().getRpgSystem().getBuffs().get(uuid);
+    RpgSystem rpgSystem = Plugin.getData().getRpgSystem();
+    Buffs buffs = rpgSystem.getBuffs().get(uuid);
 
-    double itemCooldownBase = entityTags.getOrDefault(Key.ATTRIBUTE_ITEM_COOLDOWN.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
+    double itemCooldownBase = rpgSystem.getAethelAttribute(caster, AethelAttribute.ITEM_COOLDOWN);
     double cooldownModifierBuff = 0.0;
     if (buffs != null) {
       cooldownModifierBuff = buffs.getAethelAttribute(AethelAttribute.ITEM_COOLDOWN);
@@ -180,10 +181,10 @@ public class ActiveAbility {
   public boolean isOnCooldown() {
     switch (source) {
       case EQUIPMENT -> {
-        return onCooldownActives.get(eSlot).contains(type);
+        return cooldowns.isActiveOnCooldown(cooldownIndex);
       }
       case EDIBLE -> {
-        return onCooldownEdibles.contains(id);
+        return cooldowns.isEdibleOnCooldown(id);
       }
     }
     return false;
@@ -193,7 +194,7 @@ public class ActiveAbility {
    * Represents an ability's effect.
    *
    * @author Danny Nguyen
-   * @version 1.27.0
+   * @version 1.27.27
    * @since 1.23.13
    */
   private class Effect {
@@ -242,40 +243,35 @@ public class ActiveAbility {
      */
     private void clearStatus(double cooldownModifier, Player caster) {
       World world = caster.getWorld();
-      Map<UUID, Map<StatusType, Status>> entityStatuses = Plugin.getData().getRpgSystem().getStatuses();
+      RpgSystem rpgSystem = Plugin.getData().getRpgSystem();
       UUID uuid = caster.getUniqueId();
       Collection<PotionEffect> activePotionEffects = caster.getActivePotionEffects();
       List<PotionEffectType> potionEffectsToRemove = new ArrayList<>();
-      Map<StatusType, Status> statuses = entityStatuses.get(uuid);
 
       switch (type) {
         case DISMISS -> {
-          world.playSound(caster.getEyeLocation(), Sound.BLOCK_BEACON_POWER_SELECT, SoundCategory.PLAYERS, 1, 1.5f);
-          world.spawnParticle(Particle.SCRAPE, caster.getLocation().add(0, 1, 0), 10, 0.75, 0.75, 0.75);
+          Plugin.getData().getEffectBuffer().playSound(world, caster.getEyeLocation(), Sound.BLOCK_BEACON_POWER_SELECT, SoundCategory.PLAYERS, 1, 1.5f);
+          Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.SCRAPE, caster.getLocation().add(0, 1, 0), 10, 0.75, 0.75, 0.75);
           for (PotionEffect potionEffect : activePotionEffects) {
             switch (potionEffect.getType().getName()) {
               case "BAD_OMEN", "BLINDNESS", "CONFUSION", "DARKNESS", "GLOWING", "HUNGER", "LEVITATION",
                   "SLOW", "SLOW_DIGGING", "UNLUCK", "WEAKNESS" -> potionEffectsToRemove.add(potionEffect.getType());
             }
           }
-          if (statuses != null) {
-            for (StatusType type : StatusType.Type.NON_DAMAGE.getStatusTypes()) {
-              statuses.remove(type);
-            }
+          for (StatusType type : StatusType.Type.NON_DAMAGE.getStatusTypes()) {
+            rpgSystem.removeStatus(uuid, type);
           }
         }
         case DISREGARD -> {
-          world.playSound(caster.getEyeLocation(), Sound.BLOCK_BEACON_POWER_SELECT, SoundCategory.PLAYERS, 1, 2);
-          world.spawnParticle(Particle.EGG_CRACK, caster.getLocation().add(0, 1, 0), 10, 0.75, 0.75, 0.75);
+          Plugin.getData().getEffectBuffer().playSound(world, caster.getEyeLocation(), Sound.BLOCK_BEACON_POWER_SELECT, SoundCategory.PLAYERS, 1, 2);
+          Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.EGG_CRACK, caster.getLocation().add(0, 1, 0), 10, 0.75, 0.75, 0.75);
           for (PotionEffect potionEffect : activePotionEffects) {
             switch (potionEffect.getType().getName()) {
               case "HARM", "POISON", "WITHER" -> potionEffectsToRemove.add(potionEffect.getType());
             }
           }
-          if (statuses != null) {
-            for (StatusType type : StatusType.Type.DAMAGE.getStatusTypes()) {
-              statuses.remove(type);
-            }
+          for (StatusType type : StatusType.Type.DAMAGE.getStatusTypes()) {
+            rpgSystem.removeStatus(uuid, type);
           }
         }
       }
@@ -298,16 +294,16 @@ public class ActiveAbility {
 
       switch (type) {
         case DRAG -> {
-          caster.getWorld().playSound(caster.getEyeLocation(), Sound.ITEM_TRIDENT_RIPTIDE_1, SoundCategory.PLAYERS, 1, 2);
+          Plugin.getData().getEffectBuffer().playSound(caster.getWorld(), caster.getEyeLocation(), Sound.ITEM_TRIDENT_RIPTIDE_1, SoundCategory.PLAYERS, 1, 2);
           new TargetDisplacement(caster, modifier, distance).getDragTargets(caster.getEyeLocation(), distance);
         }
         case THRUST -> {
-          caster.getWorld().playSound(caster.getEyeLocation(), Sound.ITEM_TRIDENT_RIPTIDE_1, SoundCategory.PLAYERS, 1, 0);
+          Plugin.getData().getEffectBuffer().playSound(caster.getWorld(), caster.getEyeLocation(), Sound.ITEM_TRIDENT_RIPTIDE_1, SoundCategory.PLAYERS, 1, 0);
           new TargetDisplacement(caster, modifier, distance).getThrustTargets(caster.getEyeLocation(), distance);
         }
         case ATTRACT -> {
           Location casterLocation = caster.getLocation().add(0, 1, 0);
-          caster.getWorld().playSound(caster.getEyeLocation(), Sound.ENTITY_IRON_GOLEM_HURT, SoundCategory.PLAYERS, 0.8f, 0.5f);
+          Plugin.getData().getEffectBuffer().playSound(caster.getWorld(), caster.getEyeLocation(), Sound.ENTITY_IRON_GOLEM_HURT, SoundCategory.PLAYERS, 0.8f, 0.5f);
           TargetValidation targetValidation = new TargetValidation();
           for (Entity entity : caster.getNearbyEntities(distance, distance, distance)) {
             if (!(entity instanceof LivingEntity livingEntity)) {
@@ -323,7 +319,7 @@ public class ActiveAbility {
         }
         case REPEL -> {
           Location casterLocation = caster.getLocation().add(0, 1, 0);
-          caster.getWorld().playSound(caster.getEyeLocation(), Sound.ENTITY_IRON_GOLEM_REPAIR, SoundCategory.PLAYERS, 0.55f, 0.5f);
+          Plugin.getData().getEffectBuffer().playSound(caster.getWorld(), caster.getEyeLocation(), Sound.ENTITY_IRON_GOLEM_REPAIR, SoundCategory.PLAYERS, 0.55f, 0.5f);
           TargetValidation targetValidation = new TargetValidation();
           for (Entity entity : caster.getNearbyEntities(distance, distance, distance)) {
             if (!(entity instanceof LivingEntity livingEntity)) {
@@ -350,10 +346,10 @@ public class ActiveAbility {
      */
     private void dealDistanceDamage(double cooldownModifier, Player caster) {
       World world = caster.getWorld();
-      PersistentDataContainer entityTags = caster.getPersistentDataContainer();
-      Buffs buffs = Plugin.getData().getRpgSystem().getBuffs().get(caster.getUniqueId());
+      RpgSystem rpgSystem = Plugin.getData().getRpgSystem();
+      Buffs buffs = rpgSystem.getBuffs().get(caster.getUniqueId());
 
-      double itemDamageBase = entityTags.getOrDefault(Key.ATTRIBUTE_ITEM_DAMAGE.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
+      double itemDamageBase = rpgSystem.getAethelAttribute(caster, AethelAttribute.ITEM_DAMAGE);
       double damageModifierBuff = 0.0;
       if (buffs != null) {
         damageModifierBuff = buffs.getAethelAttribute(AethelAttribute.ITEM_DAMAGE);
@@ -365,20 +361,20 @@ public class ActiveAbility {
 
       switch (type) {
         case BEAM -> {
-          world.playSound(caster.getLocation(), Sound.ENTITY_PLAYER_ATTACK_KNOCKBACK, SoundCategory.PLAYERS, 0.65f, 0);
+          Plugin.getData().getEffectBuffer().playSound(world, caster.getLocation(), Sound.ENTITY_PLAYER_ATTACK_KNOCKBACK, SoundCategory.PLAYERS, 0.65f, 0);
           Vector casterDirection = caster.getLocation().getDirection();
           new TargetValidation().getBeamTargets(world, targets, caster.getEyeLocation(), casterDirection, distance);
           targets.remove(caster);
         }
         case BULLET -> {
-          world.playSound(caster.getLocation(), Sound.ENTITY_PLAYER_ATTACK_KNOCKBACK, SoundCategory.PLAYERS, 0.65f, 0);
+          Plugin.getData().getEffectBuffer().playSound(world, caster.getLocation(), Sound.ENTITY_PLAYER_ATTACK_KNOCKBACK, SoundCategory.PLAYERS, 0.65f, 0);
           Vector casterDirection = caster.getLocation().getDirection();
           new TargetValidation().getBulletTargets(caster, world, targets, caster.getEyeLocation(), casterDirection, distance);
           targets.remove(caster);
         }
         case EXPLODE -> {
-          world.playSound(caster.getEyeLocation(), Sound.ENTITY_GENERIC_EXPLODE, SoundCategory.PLAYERS, 0.85f, 0.5f);
-          world.spawnParticle(Particle.EXPLOSION, caster.getEyeLocation(), 3, 0.5, 0.5, 0.5);
+          Plugin.getData().getEffectBuffer().playSound(world, caster.getEyeLocation(), Sound.ENTITY_GENERIC_EXPLODE, SoundCategory.PLAYERS, 0.85f, 0.5f);
+          Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.EXPLOSION, caster.getEyeLocation(), 3, 0.5, 0.5, 0.5);
 
           TargetValidation targetValidation = new TargetValidation();
           for (Entity entity : caster.getNearbyEntities(distance, distance, distance)) {
@@ -391,9 +387,9 @@ public class ActiveAbility {
           }
         }
         case SWEEP -> {
-          world.playSound(caster.getEyeLocation(), Sound.ENTITY_PLAYER_ATTACK_SWEEP, SoundCategory.PLAYERS, 0.65f, 0);
+          Plugin.getData().getEffectBuffer().playSound(world, caster.getEyeLocation(), Sound.ENTITY_PLAYER_ATTACK_SWEEP, SoundCategory.PLAYERS, 0.65f, 0);
           Vector casterDirection = caster.getLocation().getDirection();
-          world.spawnParticle(Particle.SWEEP_ATTACK, caster.getLocation().add(0, 1, 0).add(casterDirection.setY(0).multiply(1.5)), 3, 0.125, 0.125, 0.125);
+          Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.SWEEP_ATTACK, caster.getLocation().add(0, 1, 0).add(casterDirection.setY(0).multiply(1.5)), 3, 0.125, 0.125, 0.125);
 
           TargetValidation targetValidation = new TargetValidation();
           for (Entity entity : caster.getNearbyEntities(distance, 1, distance)) {
@@ -406,8 +402,8 @@ public class ActiveAbility {
           }
         }
         case QUAKE -> {
-          world.playSound(caster.getEyeLocation(), Sound.ITEM_TOTEM_USE, SoundCategory.PLAYERS, 0.25f, 2);
-          world.spawnParticle(Particle.BLOCK, caster.getLocation(), 20, 1.5, 0.25, 1.5, Bukkit.createBlockData(Material.DIRT));
+          Plugin.getData().getEffectBuffer().playSound(world, caster.getEyeLocation(), Sound.ITEM_TOTEM_USE, SoundCategory.PLAYERS, 0.25f, 2);
+          Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.BLOCK, caster.getLocation(), 20, 1.5, 0.25, 1.5, Bukkit.createBlockData(Material.DIRT));
 
           TargetValidation targetValidation = new TargetValidation();
           for (Entity entity : caster.getNearbyEntities(distance, 1, distance)) {
@@ -421,23 +417,16 @@ public class ActiveAbility {
         }
       }
 
-      for (LivingEntity livingEntity : targets) {
-        final double finalDamage = new DamageMitigation(livingEntity).mitigateArmorProtectionResistance(damage);
-        if (livingEntity instanceof Player player) {
-          if (player.getGameMode() == GameMode.SURVIVAL || player.getGameMode() == GameMode.ADVENTURE) {
-            new HealthChange(livingEntity).damage(finalDamage);
-          }
-        } else {
-          new HealthChange(livingEntity).damage(finalDamage);
-        }
-      }
+      BatchDamage batchDamage = new BatchDamage(caster, MitigationType.ARMOR_PROTECTION_RESISTANCE);
+      batchDamage.addAll(targets, damage);
+      batchDamage.apply();
 
       cooldownAbility(cooldownModifier);
 
       StringBuilder logEntry = new StringBuilder();
       String time = ZonedDateTime.now(ZoneId.of("America/New_York")).format(DateTimeFormatter.ofPattern("hh:mm"));
       Location location = caster.getLocation();
-      logEntry.append(time).append(" ").append(location.getWorld().getName()).append(" ").append(location.getBlockX()).append(" ").append(location.getBlockY()).append(" ").append(location.getBlockZ()).append(" ").append(caster.getName()).append(" ").append(type.name()).append(" ").append(distance);
+      logEntry.append(time).append(" ").append(location.getWorld().getName()).append(" ").append(location.getBlockX()).append(" ").append(location.getBlockY()).append(" ").append(location.getBlockZ()).append(" ").append(caster.getName()).append(" ").append(type.name()).append(" ").append(distance).append(" ").append(batchDamage.getTargetCount());
       Plugin.getData().getPluginLogger().addEntry(logEntry.toString());
     }
 
@@ -454,31 +443,31 @@ public class ActiveAbility {
 
       switch (type) {
         case DASH -> {
-          world.playSound(caster.getEyeLocation(), Sound.ENTITY_WITHER_SHOOT, SoundCategory.PLAYERS, 0.25f, 0.5f);
+          Plugin.getData().getEffectBuffer().playSound(world, caster.getEyeLocation(), Sound.ENTITY_WITHER_SHOOT, SoundCategory.PLAYERS, 0.25f, 0.5f);
           vector = caster.getLocation().getDirection().multiply(modifier);
           vector.setY(0.2);
-          world.spawnParticle(Particle.CAMPFIRE_COSY_SMOKE, caster.getLocation(), 5, 0.125, 0.125, 0.125, 0.025);
+          Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.CAMPFIRE_COSY_SMOKE, caster.getLocation(), 5, 0.125, 0.125, 0.125, 0.025);
           Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> {
-            world.spawnParticle(Particle.CAMPFIRE_COSY_SMOKE, caster.getLocation(), 5, 0.125, 0.125, 0.125, 0.025);
-            Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> world.spawnParticle(Particle.CAMPFIRE_COSY_SMOKE, caster.getLocation(), 5, 0.125, 0.125, 0.125, 0.025), 5);
+            Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.CAMPFIRE_COSY_SMOKE, caster.getLocation(), 5, 0.125, 0.125, 0.125, 0.025);
+            Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.CAMPFIRE_COSY_SMOKE, caster.getLocation(), 5, 0.125, 0.125, 0.125, 0.025), 5);
           }, 5);
         }
         case LEAP -> {
-          world.playSound(caster.getLocation(), Sound.ENTITY_SLIME_JUMP, SoundCategory.PLAYERS, 1, 0);
-          world.spawnParticle(Particle.ITEM_SLIME, caster.getLocation(), 15, 0.75, 0.25, 0.75);
+          Plugin.getData().getEffectBuffer().playSound(world, caster.getLocation(), Sound.ENTITY_SLIME_JUMP, SoundCategory.PLAYERS, 1, 0);
+          Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.ITEM_SLIME, caster.getLocation(), 15, 0.75, 0.25, 0.75);
           vector = caster.getLocation().getDirection().multiply(modifier);
         }
         case SPRING -> {
-          world.playSound(caster.getEyeLocation(), Sound.BLOCK_BEEHIVE_ENTER, SoundCategory.PLAYERS, 1, 2);
-          world.spawnParticle(Particle.ITEM_SLIME, caster.getLocation(), 15, 0.5, 0.25, 0.25);
+          Plugin.getData().getEffectBuffer().playSound(world, caster.getEyeLocation(), Sound.BLOCK_BEEHIVE_ENTER, SoundCategory.PLAYERS, 1, 2);
+          Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.ITEM_SLIME, caster.getLocation(), 15, 0.5, 0.25, 0.25);
           vector.setX(0);
           vector.setY(1);
           vector.setZ(0);
           vector = vector.multiply(modifier);
         }
         case WITHDRAW -> {
-          world.playSound(caster.getEyeLocation(), Sound.ENTITY_WITCH_THROW, SoundCategory.PLAYERS, 0.65f, 0.5f);
-          world.spawnParticle(Particle.CAMPFIRE_COSY_SMOKE, caster.getLocation(), 10, 0.125, 0.125, 0.125, 0.025);
+          Plugin.getData().getEffectBuffer().playSound(world, caster.getEyeLocation(), Sound.ENTITY_WITCH_THROW, SoundCategory.PLAYERS, 0.65f, 0.5f);
+          Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.CAMPFIRE_COSY_SMOKE, caster.getLocation(), 10, 0.125, 0.125, 0.125, 0.025);
           vector = caster.getLocation().getDirection().multiply(-modifier);
           vector.setY(0.2);
         }
@@ -516,17 +505,17 @@ public class ActiveAbility {
       final Location abilityLocation = caster.getLocation().clone();
       Location casterLocation = caster.getLocation();
 
-      world.spawnParticle(Particle.PORTAL, casterLocation, 15, 0.5, 0.5, 0.5);
+      Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.PORTAL, casterLocation, 15, 0.5, 0.5, 0.5);
       caster.teleport(new TargetTeleport(caster).ifValidTeleportThroughBlock(casterLocation, casterLocation, Integer.parseInt(effectData.get(0))));
-      world.playSound(caster.getEyeLocation(), Sound.ENTITY_ENDERMAN_TELEPORT, SoundCategory.PLAYERS, 1, 0.75f);
-      world.spawnParticle(Particle.PORTAL, casterLocation, 15, 0.5, 0.5, 0.5);
+      Plugin.getData().getEffectBuffer().playSound(world, caster.getEyeLocation(), Sound.ENTITY_ENDERMAN_TELEPORT, SoundCategory.PLAYERS, 1, 0.75f);
+      Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.PORTAL, casterLocation, 15, 0.5, 0.5, 0.5);
 
       int delay = Integer.parseInt(effectData.get(1));
       int taskId = Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> {
-        world.spawnParticle(Particle.PORTAL, casterLocation, 15, 0.5, 0.5, 0.5);
+        Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.PORTAL, casterLocation, 15, 0.5, 0.5, 0.5);
         caster.teleport(abilityLocation);
-        world.playSound(caster.getEyeLocation(), Sound.ENTITY_WARDEN_SONIC_CHARGE, SoundCategory.PLAYERS, 0.5f, 0.75f);
-        world.spawnParticle(Particle.PORTAL, casterLocation, 15, 0.5, 0.5, 0.5);
+        Plugin.getData().getEffectBuffer().playSound(world, caster.getEyeLocation(), Sound.ENTITY_WARDEN_SONIC_CHARGE, SoundCategory.PLAYERS, 0.5f, 0.75f);
+        Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.PORTAL, casterLocation, 15, 0.5, 0.5, 0.5);
       }, delay).getTaskId();
 
       Set<Integer> projections = Plugin.getData().getRpgSystem().getRpgPlayers().get(caster.getUniqueId()).getProjections();
@@ -545,33 +534,27 @@ public class ActiveAbility {
      */
     private void shatterChill(double cooldownModifier, Player caster) {
       World world = caster.getWorld();
-      Map<UUID, Map<StatusType, Status>> entityStatuses = Plugin.getData().getRpgSystem().getStatuses();
+      RpgSystem rpgSystem = Plugin.getData().getRpgSystem();
+      Map<UUID, StatusSet> entityStatuses = rpgSystem.getStatuses();
       double meters = Double.parseDouble(effectData.get(0));
 
-      world.playSound(caster.getEyeLocation(), Sound.BLOCK_GLASS_BREAK, SoundCategory.PLAYERS, 0.5f, 0.25f);
+      Plugin.getData().getEffectBuffer().playSound(world, caster.getEyeLocation(), Sound.BLOCK_GLASS_BREAK, SoundCategory.PLAYERS, 0.5f, 0.25f);
+      ItemStack particleItem = new ItemStack(Material.LIGHT_BLUE_DYE);
+      BatchDamage batchDamage = new BatchDamage(caster, MitigationType.PROTECTION_RESISTANCE);
       for (Entity entity : caster.getNearbyEntities(meters, meters, meters)) {
         if (!(entity instanceof LivingEntity livingEntity)) {
           continue;
         }
 
         UUID livingEntityUUID = livingEntity.getUniqueId();
-        if (entityStatuses.containsKey(livingEntityUUID) && entityStatuses.get(livingEntityUUID).containsKey(StatusType.CHILL)) {
-          world.spawnParticle(Particle.ITEM, livingEntity.getLocation().add(0, 1, 0), 10, 0.25, 0.5, 0.25, new ItemStack(Material.LIGHT_BLUE_DYE));
-
-          Map<StatusType, Status> statuses = entityStatuses.get(livingEntity.getUniqueId());
-          double damage = 0.5 * statuses.get(StatusType.CHILL).getStackAmount();
-          final double finalDamage = new DamageMitigation(livingEntity).mitigateProtectionResistance(damage);
-
-          if (livingEntity instanceof Player player) {
-            if (player.getGameMode() == GameMode.SURVIVAL || player.getGameMode() == GameMode.ADVENTURE) {
-              new HealthChange(livingEntity).damage(finalDamage);
-            }
-          } else {
-            new HealthChange(livingEntity).damage(finalDamage);
-          }
-          statuses.remove(StatusType.CHILL);
+        StatusSet statuses = entityStatuses.get(livingEntityUUID);
+        if (statuses != null && statuses.has(StatusType.CHILL)) {
+          Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.ITEM, livingEntity.getLocation().add(0, 1, 0), 10, 0.25, 0.5, 0.25, particleItem);
+          batchDamage.add(livingEntity, 0.5 * statuses.getStackAmount(StatusType.CHILL));
+          rpgSystem.removeStatus(livingEntityUUID, StatusType.CHILL);
         }
       }
+      batchDamage.apply();
       cooldownAbility(cooldownModifier);
     }
 
@@ -588,15 +571,15 @@ public class ActiveAbility {
 
       switch (type) {
         case BLINK -> {
-          world.spawnParticle(Particle.PORTAL, casterLocation, 15, 0.5, 0.5, 0.5);
+          Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.PORTAL, casterLocation, 15, 0.5, 0.5, 0.5);
           caster.teleport(new TargetTeleport(caster).ifValidTeleportThroughBlock(casterLocation, casterLocation, distance));
-          world.playSound(caster.getEyeLocation(), Sound.ENTITY_ENDERMAN_TELEPORT, SoundCategory.PLAYERS, 1, 0.75f);
-          world.spawnParticle(Particle.PORTAL, casterLocation, 15, 0.5, 0.5, 0.5);
+          Plugin.getData().getEffectBuffer().playSound(world, caster.getEyeLocation(), Sound.ENTITY_ENDERMAN_TELEPORT, SoundCategory.PLAYERS, 1, 0.75f);
+          Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.PORTAL, casterLocation, 15, 0.5, 0.5, 0.5);
         }
         case EMERGE -> {
           LivingEntity entity = new TargetTeleport(caster).getTeleportTarget(world, caster.getEyeLocation(), distance);
           if (entity != null) {
-            world.spawnParticle(Particle.PORTAL, casterLocation, 15, 0.5, 0.5, 0.5);
+            Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.PORTAL, casterLocation, 15, 0.5, 0.5, 0.5);
 
             Location entityLocation = entity.getLocation();
             Location behindEntity = entityLocation.clone().subtract(entityLocation.getDirection());
@@ -609,8 +592,8 @@ public class ActiveAbility {
               caster.teleport(frontEntity);
             }
 
-            world.playSound(caster.getEyeLocation(), Sound.ENTITY_ENDERMAN_TELEPORT, SoundCategory.PLAYERS, 1, 0.75f);
-            world.spawnParticle(Particle.PORTAL, casterLocation, 15, 0.5, 0.5, 0.5);
+            Plugin.getData().getEffectBuffer().playSound(world, caster.getEyeLocation(), Sound.ENTITY_ENDERMAN_TELEPORT, SoundCategory.PLAYERS, 1, 0.75f);
+            Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.PORTAL, casterLocation, 15, 0.5, 0.5, 0.5);
           }
         }
         case HOOK -> {
@@ -619,18 +602,18 @@ public class ActiveAbility {
             Location hookLocation = casterLocation.add(casterLocation.getDirection());
             hookLocation.setYaw(hookLocation.getYaw() - 180);
             entity.teleport(hookLocation);
-            world.spawnParticle(Particle.PORTAL, entity.getLocation(), 15, 0.5, 0.5, 0.5);
-            world.playSound(entity.getEyeLocation(), Sound.ENTITY_ENDERMAN_TELEPORT, SoundCategory.PLAYERS, 1, 0.75f);
+            Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.PORTAL, entity.getLocation(), 15, 0.5, 0.5, 0.5);
+            Plugin.getData().getEffectBuffer().playSound(world, entity.getEyeLocation(), Sound.ENTITY_ENDERMAN_TELEPORT, SoundCategory.PLAYERS, 1, 0.75f);
           }
         }
         case SWITCH -> {
           LivingEntity entity = new TargetTeleport(caster).getTeleportTarget(world, caster.getEyeLocation(), distance);
           if (entity != null) {
-            world.spawnParticle(Particle.PORTAL, casterLocation, 15, 0.5, 0.5, 0.5);
+            Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.PORTAL, casterLocation, 15, 0.5, 0.5, 0.5);
             caster.teleport(entity.getLocation());
             entity.teleport(casterLocation);
-            world.spawnParticle(Particle.PORTAL, caster.getLocation(), 15, 0.5, 0.5, 0.5);
-            world.playSound(caster.getEyeLocation(), Sound.ENTITY_ENDERMAN_TELEPORT, SoundCategory.PLAYERS, 1, 0.75f);
+            Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.PORTAL, caster.getLocation(), 15, 0.5, 0.5, 0.5);
+            Plugin.getData().getEffectBuffer().playSound(world, caster.getEyeLocation(), Sound.ENTITY_ENDERMAN_TELEPORT, SoundCategory.PLAYERS, 1, 0.75f);
           }
         }
       }
@@ -644,32 +627,10 @@ public class ActiveAbility {
      */
     private void cooldownAbility(double cooldownModifier) {
       if (baseCooldown > 0) {
-        setOnCooldown(true);
         int cooldown = (int) Math.max(1, baseCooldown - (baseCooldown * cooldownModifier));
-        Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> setOnCooldown(false), cooldown);
-      }
-    }
-
-    /**
-     * Sets if the {@link ActiveAbilityType} is on cooldown.
-     *
-     * @param isOnCooldown is on cooldown
-     */
-    private void setOnCooldown(boolean isOnCooldown) {
-      switch (source) {
-        case EQUIPMENT -> {
-          if (isOnCooldown) {
-            onCooldownActives.get(eSlot).add(type);
-          } else {
-            onCooldownActives.get(eSlot).remove(type);
-          }
-        }
-        case EDIBLE -> {
-          if (isOnCooldown) {
-            onCooldownEdibles.add(id);
-          } else {
-            onCooldownEdibles.remove(id);
-          }
+        switch (source) {
+          case EQUIPMENT -> cooldowns.setActiveCooldown(cooldownIndex, cooldown);
+          case EDIBLE -> cooldowns.setEdibleCooldown(id, cooldown);
         }
       }
     }
@@ -678,7 +639,7 @@ public class ActiveAbility {
      * Represents an effect's target location or entity validation.
      *
      * @author Danny Nguyen
-     * @version 1.27.0
+     * @version 1.27.19
      * @since 1.23.13
      */
     private class TargetValidation {
@@ -770,7 +731,7 @@ public class ActiveAbility {
         if (distance <= 0 || location.getBlock().getType().isSolid()) {
           return targets;
         }
-        world.spawnParticle(Particle.CLOUD, location, 2, 0.125, 0.125, 0.125, 0.025);
+        Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.CLOUD, location, 2, 0.125, 0.125, 0.125, 0.025);
         for (Entity entity : world.getNearbyEntities(location, 1, 1, 1)) {
           if (entity instanceof LivingEntity livingEntity) {
             targets.add(livingEntity);
@@ -793,8 +754,8 @@ public class ActiveAbility {
       private Set<LivingEntity> getBulletTargets(Player caster, World world, Set<LivingEntity> targets, Location location, Vector direction, int distance) {
         if (distance <= 0 || location.getBlock().getType().isSolid()) {
           Location impactLocation = location.subtract(direction);
-          world.playSound(impactLocation, Sound.ENTITY_GENERIC_EXPLODE, SoundCategory.PLAYERS, 0.85f, 0.5f);
-          world.spawnParticle(Particle.EXPLOSION, impactLocation, 1);
+          Plugin.getData().getEffectBuffer().playSound(world, impactLocation, Sound.ENTITY_GENERIC_EXPLODE, SoundCategory.PLAYERS, 0.85f, 0.5f);
+          Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.EXPLOSION, impactLocation, 1);
           return targets;
         }
         Collection<Entity> entities = world.getNearbyEntities(location, 0.5, 0.5, 0.5);
@@ -814,8 +775,8 @@ public class ActiveAbility {
           }
         }
         if (!targets.isEmpty()) {
-          world.playSound(location, Sound.ENTITY_GENERIC_EXPLODE, SoundCategory.PLAYERS, 0.85f, 0.5f);
-          world.spawnParticle(Particle.EXPLOSION, location, 1);
+          Plugin.getData().getEffectBuffer().playSound(world, location, Sound.ENTITY_GENERIC_EXPLODE, SoundCategory.PLAYERS, 0.85f, 0.5f);
+          Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.EXPLOSION, location, 1);
           return targets;
         }
         return getBulletTargets(caster, world, targets, location.add(direction).clone(), direction, distance - 1);
@@ -826,7 +787,7 @@ public class ActiveAbility {
      * Represents a {@link ActiveAbilityType.Effect#DISPLACEMENT} effect's entity validation.
      *
      * @author Danny Nguyen
-     * @version 1.24.0
+     * @version 1.27.19
      * @since 1.24.0
      */
     private class TargetDisplacement {
@@ -886,7 +847,7 @@ public class ActiveAbility {
         if (remainingDistance <= 0 || location.getBlock().getType().isSolid()) {
           return;
         }
-        world.spawnParticle(Particle.SOUL, location, 1, 0.125, 0.125, 0.125, 0.025);
+        Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.SOUL, location, 1, 0.125, 0.125, 0.125, 0.025);
         for (Entity entity : world.getNearbyEntities(location, 1, 1, 1)) {
           if (!(entity instanceof LivingEntity livingEntity) || livingEntity.equals(caster)) {
             continue;
@@ -910,7 +871,7 @@ public class ActiveAbility {
         if (remainingDistance <= 0 || location.getBlock().getType().isSolid()) {
           return;
         }
-        world.spawnParticle(Particle.SCULK_SOUL, location, 1, 0.125, 0.125, 0.125, 0.025);
+        Plugin.getData().getEffectBuffer().spawnParticle(world, Particle.SCULK_SOUL, location, 1, 0.125, 0.125, 0.125, 0.025);
         for (Entity entity : world.getNearbyEntities(location, 1, 1, 1)) {
           if (!(entity instanceof LivingEntity livingEntity) || livingEntity.equals(caster)) {
             continue;
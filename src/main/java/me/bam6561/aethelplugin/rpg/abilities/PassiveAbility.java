@@ -1,43 +1,47 @@
 package me.bam6561.aethelplugin.rpg.abilities;
 
 import me.bam6561.aethelplugin.Plugin;
-import me.bam6561.aethelplugin.enums.plugin.Key;
 import me.bam6561.aethelplugin.enums.rpg.AethelAttribute;
+import me.bam6561.aethelplugin.enums.rpg.MitigationType;
 import me.bam6561.aethelplugin.enums.rpg.RpgEquipmentSlot;
 import me.bam6561.aethelplugin.enums.rpg.StatusType;
 import me.bam6561.aethelplugin.enums.rpg.abilities.PassiveAbilityType;
 import me.bam6561.aethelplugin.enums.rpg.abilities.PassiveTriggerType;
 import me.bam6561.aethelplugin.rpg.Buffs;
-import me.bam6561.aethelplugin.rpg.Equipment;
+import me.bam6561.aethelplugin.rpg.CooldownLedger;
+import me.bam6561.aethelplugin.rpg.RpgSystem;
 import me.bam6561.aethelplugin.rpg.Status;
-import me.bam6561.aethelplugin.utils.entity.DamageMitigation;
-import me.bam6561.aethelplugin.utils.entity.HealthChange;
+import me.bam6561.aethelplugin.rpg.StatusSet;
+import me.bam6561.aethelplugin.utils.entity.BatchDamage;
 import org.bukkit.Bukkit;
-import org.bukkit.GameMode;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.persistence.PersistentDataContainer;
-import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents an item's {@link PassiveAbilityType}.
  *
  * @author Danny Nguyen
- * @version 1.26.7
+ * @version 1.27.34
  * @since 1.16.2
  */
 public class PassiveAbility {
   /**
-   * {@link PassiveAbilityType Passive abilities} on cooldown.
+   * {@link CooldownLedger}
    */
-  private final Map<PassiveTriggerType, Set<Equipment.Abilities.SlotPassive>> onCooldownPassives;
+  private final CooldownLedger cooldowns;
+
+  /**
+   * {@link CooldownLedger} index.
+   */
+  private final int cooldownIndex;
 
   /**
    * {@link RpgEquipmentSlot}
@@ -64,22 +68,41 @@ public class PassiveAbility {
    */
   private final List<String> effectData = new ArrayList<>();
 
+  /**
+   * Pre-parsed {@link PassiveTriggerType.Condition} chance or health percentage.
+   */
+  private final double conditionValue;
+
+  /**
+   * Pre-parsed {@link PassiveTriggerType.Condition} cooldown in ticks.
+   */
+  private final int cooldownTicks;
+
+  /**
+   * Pre-parsed if the {@link PassiveAbilityType.Effect} targets self.
+   */
+  private final boolean self;
+
   /**
    * Associates a {@link PassiveAbilityType passive ability} with its data.
    *
-   * @param onCooldownPassives {@link PassiveAbilityType} on cooldown
-   * @param eSlot              {@link RpgEquipmentSlot}
-   * @param trigger            {@link PassiveTriggerType}
-   * @param type               {@link PassiveAbilityType}
-   * @param dataValues         ability data
+   * @param cooldowns  {@link CooldownLedger}
+   * @param eSlot      {@link RpgEquipmentSlot}
+   * @param trigger    {@link PassiveTriggerType}
+   * @param type       {@link PassiveAbilityType}
+   * @param dataValues ability data
    */
-  public PassiveAbility(@NotNull Map<PassiveTriggerType, Set<Equipment.Abilities.SlotPassive>> onCooldownPassives, @NotNull RpgEquipmentSlot eSlot, @NotNull PassiveTriggerType trigger, @NotNull PassiveAbilityType type, @NotNull String[] dataValues) {
-    this.onCooldownPassives = Objects.requireNonNull(onCooldownPassives, "Null on cooldown passives");
+  public PassiveAbility(@NotNull CooldownLedger cooldowns, @NotNull RpgEquipmentSlot eSlot, @NotNull PassiveTriggerType trigger, @NotNull PassiveAbilityType type, @NotNull String[] dataValues) {
+    this.cooldowns = Objects.requireNonNull(cooldowns, "Null cooldowns");
     this.eSlot = Objects.requireNonNull(eSlot, "Null slot");
     this.trigger = Objects.requireNonNull(trigger, "Null trigger");
     this.type = Objects.requireNonNull(type, "Null ability");
+    this.cooldownIndex = CooldownLedger.getPassiveIndex(trigger, eSlot, type);
     Objects.requireNonNull(dataValues, "Null data values");
     loadAbilityData(trigger.getCondition(), type.getEffect(), dataValues);
+    this.conditionValue = conditionData.get(0).isEmpty() ? 0.0 : Double.parseDouble(conditionData.get(0));
+    this.cooldownTicks = Integer.parseInt(conditionData.get(1));
+    this.self = Boolean.parseBoolean(effectData.get(0));
   }
 
   /**
@@ -158,10 +181,10 @@ public class PassiveAbility {
     if (caster == null) {
       return;
     }
-    PersistentDataContainer entityTags = caster.getPersistentDataContainer();
-    Buffs buffs = Plugin.getData().getRpgSystem().getBuffs().get(casterUUID);
+    RpgSystem rpgSystem = Plugin.getData().getRpgSystem();
+    Buffs buffs = rpgSystem.getBuffs().get(casterUUID);
 
-    double itemCooldownBase = entityTags.getOrDefault(Key.ATTRIBUTE_ITEM_COOLDOWN.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
+    double itemCooldownBase = rpgSystem.getAethelAttribute(caster, AethelAttribute.ITEM_COOLDOWN);
     double cooldownModifierBuff = 0.0;
     if (buffs != null) {
       cooldownModifierBuff = buffs.getAethelAttribute(AethelAttribute.ITEM_COOLDOWN);
@@ -176,6 +199,26 @@ public class PassiveAbility {
     }
   }
 
+  /**
+   * Gets the {@link RpgEquipmentSlot}.
+   *
+   * @return {@link RpgEquipmentSlot}
+   */
+  @NotNull
+  public RpgEquipmentSlot getSlot() {
+    return this.eSlot;
+  }
+
+  /**
+   * Gets the {@link PassiveTriggerType}.
+   *
+   * @return {@link PassiveTriggerType}
+   */
+  @NotNull
+  public PassiveTriggerType getTrigger() {
+    return this.trigger;
+  }
+
   /**
    * Gets the {@link PassiveAbilityType}.
    *
@@ -206,20 +249,85 @@ public class PassiveAbility {
     return this.effectData;
   }
 
+  /**
+   * Gets the {@link PassiveTriggerType.Condition} chance or health percentage.
+   *
+   * @return {@link PassiveTriggerType.Condition} chance or health percentage
+   */
+  public double getConditionValue() {
+    return this.conditionValue;
+  }
+
+  /**
+   * Gets if the {@link PassiveAbilityType.Effect} targets self.
+   *
+   * @return if the {@link PassiveAbilityType.Effect} targets self
+   */
+  public boolean isSelf() {
+    return this.self;
+  }
+
+  /**
+   * Gets the {@link CooldownLedger} index.
+   *
+   * @return {@link CooldownLedger} index
+   */
+  public int getCooldownIndex() {
+    return this.cooldownIndex;
+  }
+
   /**
    * Gets if the {@link PassiveAbilityType} is on cooldown.
    *
    * @return if the {@link PassiveAbilityType} is on cooldown
    */
   public boolean isOnCooldown() {
-    return onCooldownPassives.get(trigger).contains(new Equipment.Abilities.SlotPassive(eSlot, type));
+    return cooldowns.isPassiveOnCooldown(cooldownIndex);
+  }
+
+  /**
+   * Gets if the {@link PassiveAbilityType} is off cooldown and
+   * its {@link PassiveTriggerType.Condition} chance is met.
+   * <p>
+   * Doesn't depend on any server classes, so it is shared by
+   * the damage listeners and the offline combat simulator.
+   *
+   * @param currentTick current tick
+   * @param random      RNG
+   * @return if the {@link PassiveAbilityType} is triggered
+   */
+  public boolean isTriggered(long currentTick, @NotNull RandomGenerator random) {
+    return !cooldowns.isPassiveOnCooldown(cooldownIndex, currentTick) && conditionValue > random.nextDouble() * 100;
+  }
+
+  /**
+   * Puts the {@link PassiveAbilityType} on cooldown, if it has any.
+   *
+   * @param currentTick      current tick
+   * @param cooldownModifier cooldown modifier
+   */
+  public void startCooldown(long currentTick, double cooldownModifier) {
+    if (cooldownTicks > 0) {
+      cooldowns.setPassiveCooldown(cooldownIndex, currentTick, (int) Math.max(1, cooldownTicks - (cooldownTicks * cooldownModifier)));
+    }
+  }
+
+  /**
+   * Gets a {@link PassiveAbilityType.Effect#STACK_INSTANCE} duration reduced by tenacity.
+   *
+   * @param ticks    duration in ticks
+   * @param tenacity tenacity
+   * @return reduced duration in ticks
+   */
+  public static int getTenacityDuration(int ticks, double tenacity) {
+    return (int) Math.max(1, ticks - (ticks * tenacity / 100));
   }
 
   /**
    * Represents an ability's effect.
    *
    * @author Danny Nguyen
-   * @version 1.25.0
+   * @version 1.27.29
    * @since 1.23.13
    */
   private class Effect {
@@ -236,7 +344,7 @@ public class PassiveAbility {
      * @param targetUUID       entity to receive {@link PassiveAbilityType.Effect#BUFF}
      */
     private void applyBuff(double cooldownModifier, UUID targetUUID) {
-      if (!(Bukkit.getEntity(targetUUID) instanceof LivingEntity)) {
+      if (Plugin.getData().getRpgSystem().getEntityHandles().get(targetUUID) == null) {
         return;
       }
 
@@ -259,8 +367,7 @@ public class PassiveAbility {
         }
       }
 
-      int cooldown = Integer.parseInt(conditionData.get(1));
-      cooldownAbility(cooldown, cooldownModifier);
+      cooldownAbility(cooldownModifier);
     }
 
     /**
@@ -270,37 +377,27 @@ public class PassiveAbility {
      * @param targetUUID       entity to receive {@link PassiveAbilityType.Effect#STACK_INSTANCE}
      */
     private void applyStackInstance(double cooldownModifier, UUID targetUUID) {
-      Map<UUID, Map<StatusType, Status>> entityStatuses = Plugin.getData().getRpgSystem().getStatuses();
-      Map<StatusType, Status> statuses;
-      if (!entityStatuses.containsKey(targetUUID)) {
-        entityStatuses.put(targetUUID, new HashMap<>());
-      }
-      statuses = entityStatuses.get(targetUUID);
-
       StatusType statusType = StatusType.valueOf(type.toString());
       int stacks = Integer.parseInt(effectData.get(1));
       int ticks = Integer.parseInt(effectData.get(2));
 
-      Entity entity = Bukkit.getEntity(targetUUID);
-      PersistentDataContainer entityTags = entity.getPersistentDataContainer();
+      LivingEntity entity = Plugin.getData().getRpgSystem().getEntityHandles().get(targetUUID);
+      if (entity == null) {
+        return;
+      }
       Buffs buffs = Plugin.getData().getRpgSystem().getBuffs().get(targetUUID);
 
-      double tenacityBase = entityTags.getOrDefault(Key.ATTRIBUTE_TENACITY.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
+      double tenacityBase = Plugin.getData().getRpgSystem().getAethelAttribute(entity, AethelAttribute.TENACITY);
       double tenacityBuff = 0.0;
       if (buffs != null) {
         tenacityBuff = buffs.getAethelAttribute(AethelAttribute.TENACITY);
       }
 
-      ticks = (int) Math.max(1, ticks - (ticks * (tenacityBase + tenacityBuff) / 100));
+      ticks = getTenacityDuration(ticks, tenacityBase + tenacityBuff);
 
-      if (statuses.containsKey(statusType)) {
-        statuses.get(statusType).addStacks(stacks, ticks);
-      } else {
-        statuses.put(statusType, new Status(targetUUID, statusType, stacks, ticks));
-      }
+      Plugin.getData().getRpgSystem().addStatus(targetUUID, statusType, stacks, ticks);
 
-      int cooldown = Integer.parseInt(conditionData.get(1));
-      cooldownAbility(cooldown, cooldownModifier);
+      cooldownAbility(cooldownModifier);
     }
 
     /**
@@ -310,7 +407,7 @@ public class PassiveAbility {
      * @param targetUUID       {@link PassiveAbilityType.Effect#CHAIN_DAMAGE} source
      */
     private void chainDamage(double cooldownModifier, UUID targetUUID) {
-      Map<UUID, Map<StatusType, Status>> entityStatuses = Plugin.getData().getRpgSystem().getStatuses();
+      Map<UUID, StatusSet> entityStatuses = Plugin.getData().getRpgSystem().getStatuses();
 
       double chainDamage = Double.parseDouble(effectData.get(1));
       double meters = Double.parseDouble(effectData.get(2));
@@ -318,22 +415,13 @@ public class PassiveAbility {
       Map<LivingEntity, Integer> soakTargets = new HashMap<>();
       getSoakTargets(entityStatuses, soakTargets, targetUUID, meters);
 
-      for (LivingEntity livingEntity : soakTargets.keySet()) {
-        Map<StatusType, Status> statuses = entityStatuses.get(livingEntity.getUniqueId());
-        double damage = chainDamage * (1 + statuses.get(StatusType.SOAK).getStackAmount() / 50.0);
-        final double finalDamage = new DamageMitigation(livingEntity).mitigateProtectionResistance(damage);
-
-        if (livingEntity instanceof Player player) {
-          if (player.getGameMode() == GameMode.SURVIVAL || player.getGameMode() == GameMode.ADVENTURE) {
-            new HealthChange(livingEntity).damage(finalDamage);
-          }
-        } else {
-          new HealthChange(livingEntity).damage(finalDamage);
-        }
+      BatchDamage batchDamage = new BatchDamage(null, MitigationType.PROTECTION_RESISTANCE);
+      for (Map.Entry<LivingEntity, Integer> soakTarget : soakTargets.entrySet()) {
+        batchDamage.add(soakTarget.getKey(), chainDamage * (1 + soakTarget.getValue() / 50.0));
       }
+      batchDamage.apply();
 
-      int cooldown = Integer.parseInt(conditionData.get(1));
-      cooldownAbility(cooldown, cooldownModifier);
+      cooldownAbility(cooldownModifier);
     }
 
     /**
@@ -347,12 +435,14 @@ public class PassiveAbility {
       int amplifier = Integer.parseInt(effectData.get(2));
       int duration = Integer.parseInt(effectData.get(3));
       boolean particles = Boolean.parseBoolean(effectData.get(4));
-      LivingEntity target = (LivingEntity) Bukkit.getEntity(targetUUID);
+      LivingEntity target = Plugin.getData().getRpgSystem().getEntityHandles().get(targetUUID);
+      if (target == null) {
+        return;
+      }
 
       target.addPotionEffect(new PotionEffect(potionEffectType, duration, amplifier, particles, particles));
 
-      int cooldown = Integer.parseInt(conditionData.get(1));
-      cooldownAbility(cooldown, cooldownModifier);
+      cooldownAbility(cooldownModifier);
     }
 
     /**
@@ -363,18 +453,22 @@ public class PassiveAbility {
      * @param targetUUID     source entity
      * @param meters         distance
      */
-    private void getSoakTargets(Map<UUID, Map<StatusType, Status>> entityStatuses, Map<LivingEntity, Integer> soakTargets, UUID targetUUID, double meters) {
+    private void getSoakTargets(Map<UUID, StatusSet> entityStatuses, Map<LivingEntity, Integer> soakTargets, UUID targetUUID, double meters) {
       Set<LivingEntity> newSoakTargets = new HashSet<>();
-      for (Entity entity : Bukkit.getEntity(targetUUID).getNearbyEntities(meters, meters, meters)) {
+      LivingEntity source = Plugin.getData().getRpgSystem().getEntityHandles().get(targetUUID);
+      if (source == null) {
+        return;
+      }
+      for (Entity entity : source.getNearbyEntities(meters, meters, meters)) {
         if (!(entity instanceof LivingEntity livingEntity)) {
           continue;
         }
 
-        UUID livingEntityUUID = livingEntity.getUniqueId();
-        if (entityStatuses.containsKey(livingEntityUUID) && entityStatuses.get(livingEntityUUID).containsKey(StatusType.SOAK)) {
+        StatusSet statuses = entityStatuses.get(livingEntity.getUniqueId());
+        if (statuses != null && statuses.has(StatusType.SOAK)) {
           if (!soakTargets.containsKey(livingEntity)) {
             newSoakTargets.add(livingEntity);
-            soakTargets.put(livingEntity, entityStatuses.get(livingEntityUUID).get(StatusType.SOAK).getStackAmount());
+            soakTargets.put(livingEntity, statuses.getStackAmount(StatusType.SOAK));
           }
         }
       }
@@ -389,29 +483,10 @@ public class PassiveAbility {
     /**
      * Puts the ability on cooldown, if any.
      *
-     * @param cooldown         cooldown
      * @param cooldownModifier cooldown modifier
      */
-    private void cooldownAbility(int cooldown, double cooldownModifier) {
-      if (cooldown > 0) {
-        setOnCooldown(true);
-        cooldown = (int) Math.max(1, cooldown - (cooldown * cooldownModifier));
-        Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> setOnCooldown(false), cooldown);
-      }
-    }
-
-    /**
-     * Sets if the {@link PassiveAbilityType} is on cooldown.
-     *
-     * @param isOnCooldown is on cooldown
-     */
-    private void setOnCooldown(boolean isOnCooldown) {
-      Equipment.Abilities.SlotPassive slotPassive = new Equipment.Abilities.SlotPassive(eSlot, type);
-      if (isOnCooldown) {
-        onCooldownPassives.get(trigger).add(slotPassive);
-      } else {
-        onCooldownPassives.get(trigger).remove(slotPassive);
-      }
+    private void cooldownAbility(double cooldownModifier) {
+      startCooldown(Plugin.getData().getRpgSystem().getCurrentTick(), cooldownModifier);
     }
   }
 }
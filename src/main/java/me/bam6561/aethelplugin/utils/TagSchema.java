@@ -0,0 +1,313 @@
+package me.bam6561.aethelplugin.utils;
+
+import me.bam6561.aethelplugin.enums.plugin.KeyHeader;
+import me.bam6561.aethelplugin.enums.rpg.AethelAttribute;
+import me.bam6561.aethelplugin.enums.rpg.RpgEquipmentSlot;
+import org.bukkit.NamespacedKey;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Precompiled schema of {@link KeyHeader#ATTRIBUTE attribute}
+ * and {@link KeyHeader#ENCHANTMENT enchantment} tags.
+ * <p>
+ * Every {@link AethelAttribute}, {@link RpgEquipmentSlot} {@link AethelAttribute}
+ * pair, and tracked enchantment is given a dense ID and its namespaced key
+ * once, so tags are read and written without building keys at runtime.
+ * <p>
+ * Slot attribute IDs are ordered by {@link RpgEquipmentSlot} then {@link AethelAttribute}.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.41
+ * @since 1.27.25
+ */
+public class TagSchema {
+  /**
+   * Number of {@link AethelAttribute attributes}.
+   */
+  public static final int ATTRIBUTE_COUNT = AethelAttribute.values().length;
+
+  /**
+   * Number of {@link RpgEquipmentSlot} {@link AethelAttribute} pairs.
+   */
+  public static final int SLOT_ATTRIBUTE_COUNT = RpgEquipmentSlot.values().length * ATTRIBUTE_COUNT;
+
+  /**
+   * Tracked enchantments.
+   */
+  private static final Enchantment[] enchantments = {
+      Enchantment.PROTECTION, Enchantment.BLAST_PROTECTION, Enchantment.FEATHER_FALLING,
+      Enchantment.FIRE_PROTECTION, Enchantment.PROJECTILE_PROTECTION};
+
+  /**
+   * Entity {@link AethelAttribute} keys by attribute ordinal.
+   */
+  private static final NamespacedKey[] attributeKeys = new NamespacedKey[ATTRIBUTE_COUNT];
+
+  /**
+   * Item {@link RpgEquipmentSlot} {@link AethelAttribute} keys by slot attribute ID.
+   */
+  private static final NamespacedKey[] slotAttributeKeys = new NamespacedKey[SLOT_ATTRIBUTE_COUNT];
+
+  /**
+   * Entity enchantment keys by enchantment ID.
+   */
+  private static final NamespacedKey[] enchantmentKeys = new NamespacedKey[enchantments.length];
+
+  /**
+   * {@link AethelAttribute Attributes} by ID.
+   */
+  private static final Map<String, AethelAttribute> attributeIds = new HashMap<>();
+
+  /**
+   * Slot attribute IDs by slot attribute tag, such as "hand.armor".
+   */
+  private static final Map<String, Integer> slotAttributeIds = new HashMap<>();
+
+  /**
+   * Enchantment IDs by tracked enchantment.
+   */
+  private static final Map<Enchantment, Integer> enchantmentIds = new HashMap<>();
+
+  /**
+   * Enchantment IDs by enchantment tag, such as "feather_falling".
+   */
+  private static final Map<String, Integer> enchantmentTagIds = new HashMap<>();
+
+  static {
+    for (AethelAttribute attribute : AethelAttribute.values()) {
+      attributeKeys[attribute.ordinal()] = new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ATTRIBUTE.getHeader() + attribute.getId());
+      attributeIds.put(attribute.getId(), attribute);
+    }
+    for (RpgEquipmentSlot eSlot : RpgEquipmentSlot.values()) {
+      for (AethelAttribute attribute : AethelAttribute.values()) {
+        int id = getSlotAttributeId(eSlot, attribute);
+        String tag = eSlot.getId() + "." + attribute.getId();
+        slotAttributeKeys[id] = new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ATTRIBUTE.getHeader() + tag);
+        slotAttributeIds.put(tag, id);
+      }
+    }
+    for (int id = 0; id < enchantments.length; id++) {
+      String tag = TextFormatter.formatId(enchantments[id].getKey().getKey());
+      enchantmentKeys[id] = new NamespacedKey(KeyHeader.NAMESPACE, KeyHeader.ENCHANTMENT.getHeader() + tag);
+      enchantmentIds.put(enchantments[id], id);
+      enchantmentTagIds.put(tag, id);
+    }
+  }
+
+  /**
+   * Utility methods only.
+   */
+  private TagSchema() {
+  }
+
+  /**
+   * Gets the dense ID of an {@link RpgEquipmentSlot} {@link AethelAttribute} pair.
+   *
+   * @param eSlot     {@link RpgEquipmentSlot}
+   * @param attribute {@link AethelAttribute}
+   * @return slot attribute ID
+   */
+  public static int getSlotAttributeId(@NotNull RpgEquipmentSlot eSlot, @NotNull AethelAttribute attribute) {
+    return Objects.requireNonNull(eSlot, "Null slot").ordinal() * ATTRIBUTE_COUNT + Objects.requireNonNull(attribute, "Null attribute").ordinal();
+  }
+
+  /**
+   * Gets the {@link RpgEquipmentSlot} of a slot attribute ID.
+   *
+   * @param slotAttributeId slot attribute ID
+   * @return {@link RpgEquipmentSlot}
+   */
+  @NotNull
+  public static RpgEquipmentSlot getSlot(int slotAttributeId) {
+    return RpgEquipmentSlot.values()[slotAttributeId / ATTRIBUTE_COUNT];
+  }
+
+  /**
+   * Gets the {@link AethelAttribute} of a slot attribute ID.
+   *
+   * @param slotAttributeId slot attribute ID
+   * @return {@link AethelAttribute}
+   */
+  @NotNull
+  public static AethelAttribute getAttribute(int slotAttributeId) {
+    return AethelAttribute.values()[slotAttributeId % ATTRIBUTE_COUNT];
+  }
+
+  /**
+   * Parses an attribute tag, such as "armor".
+   *
+   * @param tag attribute tag
+   * @return {@link AethelAttribute}, or null if the tag is invalid
+   */
+  @Nullable
+  public static AethelAttribute parseAttribute(@NotNull String tag) {
+    return attributeIds.get(TextFormatter.formatId(tag));
+  }
+
+  /**
+   * Parses a slot attribute tag, such as "hand.armor".
+   *
+   * @param tag slot attribute tag
+   * @return slot attribute ID, or -1 if the tag is invalid
+   */
+  public static int parseSlotAttribute(@NotNull String tag) {
+    return slotAttributeIds.getOrDefault(TextFormatter.formatId(tag), -1);
+  }
+
+  /**
+   * Parses an enchantment tag, such as "feather_falling".
+   *
+   * @param tag enchantment tag
+   * @return enchantment ID, or -1 if the tag is invalid
+   */
+  public static int parseEnchantment(@NotNull String tag) {
+    return enchantmentTagIds.getOrDefault(TextFormatter.formatId(tag), -1);
+  }
+
+  /**
+   * Gets an entity's {@link AethelAttribute} key.
+   *
+   * @param attribute {@link AethelAttribute}
+   * @return entity attribute key
+   */
+  @NotNull
+  public static NamespacedKey getAttributeKey(@NotNull AethelAttribute attribute) {
+    return attributeKeys[Objects.requireNonNull(attribute, "Null attribute").ordinal()];
+  }
+
+  /**
+   * Gets an item's {@link RpgEquipmentSlot} {@link AethelAttribute} key.
+   *
+   * @param slotAttributeId slot attribute ID
+   * @return item slot attribute key
+   */
+  @NotNull
+  public static NamespacedKey getSlotAttributeKey(int slotAttributeId) {
+    return slotAttributeKeys[slotAttributeId];
+  }
+
+  /**
+   * Gets a tracked enchantment's entity key.
+   *
+   * @param enchantmentId enchantment ID
+   * @return entity enchantment key
+   */
+  @NotNull
+  public static NamespacedKey getEnchantmentKey(int enchantmentId) {
+    return enchantmentKeys[enchantmentId];
+  }
+
+  /**
+   * Gets a tracked enchantment's ID.
+   *
+   * @param enchantment enchantment
+   * @return enchantment ID, or -1 if the enchantment isn't tracked
+   */
+  public static int getEnchantmentId(@NotNull Enchantment enchantment) {
+    return enchantmentIds.getOrDefault(Objects.requireNonNull(enchantment, "Null enchantment"), -1);
+  }
+
+  /**
+   * Gets the enchantment of an enchantment ID.
+   *
+   * @param enchantmentId enchantment ID
+   * @return enchantment
+   */
+  @NotNull
+  public static Enchantment getEnchantment(int enchantmentId) {
+    return enchantments[enchantmentId];
+  }
+
+  /**
+   * Gets the number of tracked enchantments.
+   *
+   * @return number of tracked enchantments
+   */
+  public static int getEnchantmentCount() {
+    return enchantments.length;
+  }
+
+  /**
+   * Gets an entity's {@link AethelAttribute} value.
+   *
+   * @param entityTags entity's persistent tags
+   * @param attribute  {@link AethelAttribute}
+   * @return attribute value
+   */
+  public static double getAttribute(@NotNull PersistentDataContainer entityTags, @NotNull AethelAttribute attribute) {
+    return Objects.requireNonNull(entityTags, "Null entity tags").getOrDefault(getAttributeKey(attribute), PersistentDataType.DOUBLE, 0.0);
+  }
+
+  /**
+   * Sets an entity's {@link AethelAttribute} value, removing the tag if it is 0.
+   *
+   * @param entityTags entity's persistent tags
+   * @param attribute  {@link AethelAttribute}
+   * @param value      attribute value
+   */
+  public static void setAttribute(@NotNull PersistentDataContainer entityTags, @NotNull AethelAttribute attribute, double value) {
+    Objects.requireNonNull(entityTags, "Null entity tags");
+    if (value != 0.0) {
+      entityTags.set(getAttributeKey(attribute), PersistentDataType.DOUBLE, value);
+    } else {
+      entityTags.remove(getAttributeKey(attribute));
+    }
+  }
+
+  /**
+   * Gets an item's {@link RpgEquipmentSlot} {@link AethelAttribute} value.
+   *
+   * @param itemTags        item's persistent tags
+   * @param slotAttributeId slot attribute ID
+   * @return slot attribute value
+   */
+  public static double getSlotAttribute(@NotNull PersistentDataContainer itemTags, int slotAttributeId) {
+    return Objects.requireNonNull(itemTags, "Null item tags").getOrDefault(slotAttributeKeys[slotAttributeId], PersistentDataType.DOUBLE, 0.0);
+  }
+
+  /**
+   * Sets an item's {@link RpgEquipmentSlot} {@link AethelAttribute} value.
+   *
+   * @param itemTags        item's persistent tags
+   * @param slotAttributeId slot attribute ID
+   * @param value           slot attribute value
+   */
+  public static void setSlotAttribute(@NotNull PersistentDataContainer itemTags, int slotAttributeId, double value) {
+    Objects.requireNonNull(itemTags, "Null item tags").set(slotAttributeKeys[slotAttributeId], PersistentDataType.DOUBLE, value);
+  }
+
+  /**
+   * Gets an entity's tracked enchantment level.
+   *
+   * @param entityTags    entity's persistent tags
+   * @param enchantmentId enchantment ID
+   * @return enchantment level
+   */
+  public static int getEnchantment(@NotNull PersistentDataContainer entityTags, int enchantmentId) {
+    return Objects.requireNonNull(entityTags, "Null entity tags").getOrDefault(enchantmentKeys[enchantmentId], PersistentDataType.INTEGER, 0);
+  }
+
+  /**
+   * Sets an entity's tracked enchantment level, removing the tag if it is 0.
+   *
+   * @param entityTags    entity's persistent tags
+   * @param enchantmentId enchantment ID
+   * @param level         enchantment level
+   */
+  public static void setEnchantment(@NotNull PersistentDataContainer entityTags, int enchantmentId, int level) {
+    Objects.requireNonNull(entityTags, "Null entity tags");
+    if (level != 0) {
+      entityTags.set(enchantmentKeys[enchantmentId], PersistentDataType.INTEGER, level);
+    } else {
+      entityTags.remove(enchantmentKeys[enchantmentId]);
+    }
+  }
+}
@@ -0,0 +1,204 @@
+package me.bam6561.aethelplugin.utils.entity;
+
+import me.bam6561.aethelplugin.Plugin;
+import me.bam6561.aethelplugin.enums.rpg.MitigationType;
+import me.bam6561.aethelplugin.plugin.EffectBuffer;
+import me.bam6561.aethelplugin.rpg.DisplayManager;
+import me.bam6561.aethelplugin.rpg.EntityHandles;
+import me.bam6561.aethelplugin.rpg.HealthTable;
+import me.bam6561.aethelplugin.rpg.RpgSystem;
+import org.bukkit.Bukkit;
+import org.bukkit.GameMode;
+import org.bukkit.Sound;
+import org.bukkit.SoundCategory;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Monster;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Represents an operation that damages many entities at once, such as area of effect abilities.
+ * <p>
+ * Targets are collected first, then in a single pass each target's damage is mitigated
+ * from their cached {@link me.bam6561.aethelplugin.rpg.CombatProfile combat profile}
+ * with a reused {@link DamageMitigation} and written directly to the {@link HealthTable}.
+ * No entity damage events are fired. Surviving targets play their hurt animation, while
+ * their hurt sounds and health displays are deferred to the end of the tick by the
+ * {@link EffectBuffer} and {@link DisplayManager}. Targets whose health was depleted
+ * die together the following tick.
+ * <p>
+ * A batch can only be applied once.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.37
+ * @since 1.27.22
+ */
+public class BatchDamage {
+  /**
+   * Attacking entity.
+   */
+  private final LivingEntity attacker;
+
+  /**
+   * {@link MitigationType}
+   */
+  private final MitigationType mitigationType;
+
+  /**
+   * Targets to be damaged.
+   */
+  private final List<LivingEntity> targets = new ArrayList<>();
+
+  /**
+   * Targets' initial damage, then their mitigated damage once applied.
+   */
+  private double[] damages = new double[8];
+
+  /**
+   * Total mitigated damage dealt.
+   */
+  private double totalDamage = 0;
+
+  /**
+   * If the batch has been applied.
+   */
+  private boolean isApplied = false;
+
+  /**
+   * Associates the batch damage with its attacker and mitigation type.
+   *
+   * @param attacker       attacking entity, which is never damaged by its own batch
+   * @param mitigationType {@link MitigationType}
+   */
+  public BatchDamage(@Nullable LivingEntity attacker, @NotNull MitigationType mitigationType) {
+    this.attacker = attacker;
+    this.mitigationType = Objects.requireNonNull(mitigationType, "Null mitigation type");
+  }
+
+  /**
+   * Adds a target to be damaged.
+   * <p>
+   * Players who aren't in survival or adventure mode are ignored.
+   *
+   * @param target target entity
+   * @param damage initial damage
+   */
+  public void add(@NotNull LivingEntity target, double damage) {
+    Objects.requireNonNull(target, "Null target");
+    if (target == attacker) {
+      return;
+    }
+    if (target instanceof Player player && player.getGameMode() != GameMode.SURVIVAL && player.getGameMode() != GameMode.ADVENTURE) {
+      return;
+    }
+    int index = targets.size();
+    if (index == damages.length) {
+      damages = Arrays.copyOf(damages, index * 2);
+    }
+    targets.add(target);
+    damages[index] = damage;
+  }
+
+  /**
+   * Adds targets to be damaged by the same initial damage.
+   *
+   * @param targets target entities
+   * @param damage  initial damage
+   */
+  public void addAll(@NotNull Iterable<? extends LivingEntity> targets, double damage) {
+    for (LivingEntity target : Objects.requireNonNull(targets, "Null targets")) {
+      add(target, damage);
+    }
+  }
+
+  /**
+   * Mitigates every target's damage, then damages their health.
+   *
+   * @throws IllegalStateException if the batch has already been applied
+   */
+  public void apply() {
+    if (isApplied) {
+      throw new IllegalStateException("Batch damage already applied");
+    }
+    isApplied = true;
+
+    RpgSystem rpgSystem = Plugin.getData().getRpgSystem();
+    HealthTable healthTable = rpgSystem.getHealthTable();
+    EntityHandles entityHandles = rpgSystem.getEntityHandles();
+    DisplayManager displayManager = rpgSystem.getDisplayManager();
+    EffectBuffer effectBuffer = Plugin.getData().getEffectBuffer();
+    DamageMitigation mitigation = new DamageMitigation();
+    List<LivingEntity> dyingTargets = new ArrayList<>();
+
+    int size = targets.size();
+    for (int i = 0; i < size; i++) {
+      LivingEntity target = targets.get(i);
+      UUID uuid = target.getUniqueId();
+      rpgSystem.markParticipant(uuid);
+      mitigation.reset(target);
+      double damage = switch (mitigationType) {
+        case ARMOR_PROTECTION_RESISTANCE -> mitigation.mitigateArmorProtectionResistance(damages[i]);
+        case PROTECTION_RESISTANCE -> mitigation.mitigateProtectionResistance(damages[i]);
+      };
+      damages[i] = damage;
+      totalDamage += damage;
+
+      double remainingHealth = healthTable.getHealth(target) - damage;
+      healthTable.setHealth(target, remainingHealth);
+      if (remainingHealth > 0) {
+        entityHandles.put(target);
+        displayManager.deferUpdate(uuid);
+        target.playHurtAnimation(0);
+        Sound hurtSound = target.getHurtSound();
+        if (hurtSound != null) {
+          effectBuffer.playSound(target.getWorld(), target.getLocation(), hurtSound, getSoundCategory(target), 1, 1);
+        }
+      } else {
+        dyingTargets.add(target);
+      }
+    }
+    mitigation.clear();
+
+    if (!dyingTargets.isEmpty()) {
+      Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> {
+        for (LivingEntity target : dyingTargets) {
+          HealthChange.die(target, null);
+        }
+      }, 1);
+    }
+  }
+
+  /**
+   * Gets the sound category an entity's hurt sound is played in.
+   *
+   * @param entity interacting entity
+   * @return {@link SoundCategory}
+   */
+  private static SoundCategory getSoundCategory(LivingEntity entity) {
+    if (entity instanceof Player) {
+      return SoundCategory.PLAYERS;
+    }
+    return entity instanceof Monster ? SoundCategory.HOSTILE : SoundCategory.NEUTRAL;
+  }
+
+  /**
+   * Gets the number of targets.
+   *
+   * @return number of targets
+   */
+  public int getTargetCount() {
+    return targets.size();
+  }
+
+  /**
+   * Gets the total mitigated damage dealt.
+   *
+   * @return total mitigated damage dealt
+   */
+  public double getTotalDamage() {
+    return this.totalDamage;
+  }
+}
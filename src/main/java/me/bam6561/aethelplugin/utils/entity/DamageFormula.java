@@ -0,0 +1,150 @@
+package me.bam6561.aethelplugin.utils.entity;
+
+/**
+ * Calculates the RPG damage model's modifiers from primitive stats.
+ * <p>
+ * Formulas don't depend on any server classes, so they are shared by
+ * {@link DamageMitigation}, the damage stages, and the offline combat simulator.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.34
+ * @since 1.27.17
+ */
+public class DamageFormula {
+  /**
+   * Utility methods only.
+   */
+  private DamageFormula() {
+  }
+
+  /**
+   * Mitigates fall damage taken based on feather falling levels.
+   *
+   * @param damage         initial damage
+   * @param featherFalling feather falling level
+   * @return damage taken
+   */
+  public static double mitigateFall(double damage, int featherFalling) {
+    return damage - (damage * (featherFalling * .25));
+  }
+
+  /**
+   * Mitigates fire damage taken based on fire protection levels.
+   *
+   * @param damage         initial damage
+   * @param fireProtection fire protection level
+   * @return damage taken
+   */
+  public static double mitigateFire(double damage, int fireProtection) {
+    return damage - (damage * (fireProtection * .1));
+  }
+
+  /**
+   * Mitigates explosion damage taken based on blast protection levels.
+   *
+   * @param damage          initial damage
+   * @param blastProtection blast protection level
+   * @return damage taken
+   */
+  public static double mitigateExplosion(double damage, int blastProtection) {
+    return damage - (damage * (blastProtection * .1));
+  }
+
+  /**
+   * Mitigates projectile damage taken based on projectile protection levels.
+   *
+   * @param damage               initial damage
+   * @param projectileProtection projectile protection level
+   * @return damage taken
+   */
+  public static double mitigateProjectile(double damage, int projectileProtection) {
+    return damage - (damage * (Math.min(projectileProtection * .05, .5)));
+  }
+
+  /**
+   * Mitigates damage taken based on resistance level.
+   *
+   * @param damage     initial damage
+   * @param resistance resistance amplifier + 1, or 0 if not resistant
+   * @return damage taken
+   */
+  public static double mitigateResistance(double damage, int resistance) {
+    if (resistance > 0) {
+      damage = damage - (damage * (resistance * 0.05));
+    }
+    return damage;
+  }
+
+  /**
+   * Mitigates physical damage taken based on armor and protection levels.
+   *
+   * @param damage     initial damage
+   * @param armor      total armor
+   * @param brittle    number of brittle stacks
+   * @param protection protection level
+   * @return damage taken
+   */
+  public static double mitigateArmorProtection(double damage, int armor, int brittle, int protection) {
+    if (brittle > 0) {
+      armor = Math.max(0, armor - brittle);
+    }
+    double mitigationValue = Math.min(armor * 0.02, .4) + Math.min(protection * 0.02, .4);
+    return damage - (damage * mitigationValue);
+  }
+
+  /**
+   * Mitigates magical damage taken based on protection levels.
+   *
+   * @param damage     initial damage
+   * @param protection protection level
+   * @return damage taken
+   */
+  public static double mitigateProtection(double damage, int protection) {
+    return damage - (damage * (Math.min(protection * .04, .8)));
+  }
+
+  /**
+   * Mitigates damage taken by a flat amount based on armor toughness.
+   *
+   * @param damage    initial damage
+   * @param toughness total armor toughness
+   * @param batter    number of batter stacks
+   * @return damage taken
+   */
+  public static double mitigateToughness(double damage, double toughness, int batter) {
+    if (batter > 0) {
+      toughness = Math.max(0, toughness - batter);
+    }
+    return Math.max(0, damage - (toughness / 2));
+  }
+
+  /**
+   * Gets the damage multiplier of a critical hit.
+   *
+   * @param criticalDamage critical damage
+   * @return critical hit damage multiplier
+   */
+  public static double getCriticalMultiplier(double criticalDamage) {
+    return 1.25 + criticalDamage / 100;
+  }
+
+  /**
+   * Gets the damage multiplier of vulnerable stacks.
+   *
+   * @param vulnerable number of vulnerable stacks
+   * @return vulnerable damage multiplier
+   */
+  public static double getVulnerableMultiplier(int vulnerable) {
+    return 1 + (vulnerable * 0.025);
+  }
+
+  /**
+   * Gets the damage dealt per second by damage over time stacks.
+   *
+   * @param stacks number of damage over time stacks
+   * @return damage dealt per second
+   */
+  public static double getDamageOverTime(int stacks) {
+    return stacks * 0.2;
+  }
+}
@@ -1,63 +1,86 @@
 package me.bam6561.aethelplugin.utils.entity;
 
 import me.bam6561.aethelplugin.Plugin;
-import me.bam6561.aethelplugin.enums.plugin.Key;
-import me.bam6561.aethelplugin.enums.rpg.AethelAttribute;
-import me.bam6561.aethelplugin.enums.rpg.StatusType;
-import me.bam6561.aethelplugin.rpg.Buffs;
-import me.bam6561.aethelplugin.rpg.RpgSystem;
-import me.bam6561.aethelplugin.rpg.Status;
+import me.bam6561.aethelplugin.rpg.CombatProfile;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.entity.LivingEntity;
-import org.bukkit.persistence.PersistentDataContainer;
-import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.UUID;
 
 /**
  * Represents entity damage mitigation.
+ * <p>
+ * Instances can be {@link #reset(LivingEntity) reset} onto another
+ * entity so the damage pipeline can reuse one per hit context.
  *
  * @author Danny Nguyen
- * @version 1.27.0
+ * @version 1.27.41
  * @since 1.16.14
  */
 public class DamageMitigation {
   /**
    * Defending entity.
    */
-  private final LivingEntity defender;
+  private LivingEntity defender;
 
   /**
-   * Entity's persistent tags.
+   * Entity's {@link CombatProfile}.
    */
-  private final PersistentDataContainer entityTags;
+  private CombatProfile profile;
 
   /**
-   * Entity's {@link Buffs}.
+   * Associates the damage mitigation with an entity.
+   *
+   * @param defender defending entity
    */
-  private final Buffs buffs;
+  public DamageMitigation(@NotNull LivingEntity defender) {
+    reset(defender);
+  }
 
   /**
-   * Entity's {@link Status statuses}.
+   * No parameter constructor.
+   * <p>
+   * The damage mitigation must be {@link #reset(LivingEntity) reset}
+   * onto an entity before any damage is mitigated.
    */
-  private final Map<StatusType, Status> statuses;
+  public DamageMitigation() {
+  }
 
   /**
-   * Associates the damage mitigation with an entity.
+   * Associates the damage mitigation with another entity.
    *
    * @param defender defending entity
+   * @return this damage mitigation
    */
-  public DamageMitigation(@NotNull LivingEntity defender) {
+  @NotNull
+  public DamageMitigation reset(@NotNull LivingEntity defender) {
+    return reset(defender, Plugin.getData().getRpgSystem().getCombatProfile(defender));
+  }
+
+  /**
+   * Associates the damage mitigation with another entity whose
+   * {@link CombatProfile} has already been read.
+   *
+   * @param defender defending entity
+   * @param profile  defending entity's {@link CombatProfile}
+   * @return this damage mitigation
+   */
+  @NotNull
+  public DamageMitigation reset(@NotNull LivingEntity defender, @NotNull CombatProfile profile) {
     this.defender = Objects.requireNonNull(defender, "Null damagee");
-    this.entityTags = defender.getPersistentDataContainer();
-    RpgSystem rpgSystem = Plugin.getData().getRpgSystem();
-    UUID uuid = defender.getUniqueId();
-    this.buffs = rpgSystem.getBuffs().get(uuid);
-    this.statuses = rpgSystem.getStatuses().get(uuid);
+    this.profile = Objects.requireNonNull(profile, "Null profile");
+    return this;
+  }
+
+  /**
+   * Releases the references to the last entity mitigated for.
+   */
+  public void clear() {
+    this.defender = null;
+    this.profile = null;
   }
 
   /**
@@ -67,8 +90,7 @@ public class DamageMitigation {
    * @return damage taken
    */
   public double mitigateFall(double damage) {
-    int featherFallingBase = entityTags.getOrDefault(Key.ENCHANTMENT_FEATHER_FALLING.getNamespacedKey(), PersistentDataType.INTEGER, 0);
-    return damage - (damage * (featherFallingBase * .25));
+    return DamageFormula.mitigateFall(damage, profile.getFeatherFalling());
   }
 
   /**
@@ -78,8 +100,7 @@ public class DamageMitigation {
    * @return damage taken
    */
   public double mitigateFire(double damage) {
-    int fireProtectionBase = entityTags.getOrDefault(Key.ENCHANTMENT_FIRE_PROTECTION.getNamespacedKey(), PersistentDataType.INTEGER, 0);
-    return damage - (damage * (fireProtectionBase * .1));
+    return DamageFormula.mitigateFire(damage, profile.getFireProtection());
   }
 
   /**
@@ -89,8 +110,7 @@ public class DamageMitigation {
    * @return damage taken
    */
   public double mitigateExplosion(double damage) {
-    int blastProtectionBase = entityTags.getOrDefault(Key.ENCHANTMENT_BLAST_PROTECTION.getNamespacedKey(), PersistentDataType.INTEGER, 0);
-    return damage - (damage * (blastProtectionBase * .1));
+    return DamageFormula.mitigateExplosion(damage, profile.getBlastProtection());
   }
 
   /**
@@ -100,8 +120,7 @@ public class DamageMitigation {
    * @return damage taken
    */
   public double mitigateProjectile(double damage) {
-    int projectileProtectionBase = entityTags.getOrDefault(Key.ENCHANTMENT_PROJECTILE_PROTECTION.getNamespacedKey(), PersistentDataType.INTEGER, 0);
-    return damage - (damage * (Math.min(projectileProtectionBase * .05, .5)));
+    return DamageFormula.mitigateProjectile(damage, profile.getProjectileProtection());
   }
 
   /**
@@ -111,11 +130,7 @@ public class DamageMitigation {
    * @return damage taken
    */
   public double mitigateResistance(double damage) {
-    if (defender.hasPotionEffect(PotionEffectType.RESISTANCE)) {
-      int resistance = defender.getPotionEffect(PotionEffectType.RESISTANCE).getAmplifier() + 1;
-      damage = damage - (damage * (resistance * 0.05));
-    }
-    return damage;
+    return DamageFormula.mitigateResistance(damage, getResistance());
   }
 
   /**
@@ -125,18 +140,8 @@ public class DamageMitigation {
    * @return damage taken
    */
   public double mitigateArmorProtection(double damage) {
-    double armorBase = entityTags.getOrDefault(Key.ATTRIBUTE_ARMOR.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
-    double armorBuff = 0.0;
-    if (buffs != null) {
-      armorBuff = buffs.getAethelAttribute(AethelAttribute.ARMOR);
-    }
-    int armor = (int) defender.getAttribute(Attribute.GENERIC_ARMOR).getValue() + (int) armorBase + (int) armorBuff;
-    if (statuses != null && statuses.containsKey(StatusType.BRITTLE)) {
-      armor = Math.max(0, armor - statuses.get(StatusType.BRITTLE).getStackAmount());
-    }
-    int protectionBase = entityTags.getOrDefault(Key.ENCHANTMENT_PROTECTION.getNamespacedKey(), PersistentDataType.INTEGER, 0);
-    double mitigationValue = Math.min(armor * 0.02, .4) + Math.min(protectionBase * 0.02, .4);
-    return damage - (damage * mitigationValue);
+    int armor = (int) defender.getAttribute(Attribute.GENERIC_ARMOR).getValue() + profile.getArmor();
+    return DamageFormula.mitigateArmorProtection(damage, armor, profile.getBrittle(), profile.getProtection());
   }
 
   /**
@@ -147,23 +152,7 @@ public class DamageMitigation {
    * @return damage taken
    */
   public double mitigateArmorProtectionResistance(double damage) {
-    double armorBase = entityTags.getOrDefault(Key.ATTRIBUTE_ARMOR.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
-    double armorBuff = 0.0;
-    if (buffs != null) {
-      armorBuff = buffs.getAethelAttribute(AethelAttribute.ARMOR);
-    }
-    int armor = (int) defender.getAttribute(Attribute.GENERIC_ARMOR).getValue() + (int) armorBase + (int) armorBuff;
-    if (statuses != null && statuses.containsKey(StatusType.BRITTLE)) {
-      armor = Math.max(0, armor - statuses.get(StatusType.BRITTLE).getStackAmount());
-    }
-    int protectionBase = entityTags.getOrDefault(Key.ENCHANTMENT_PROTECTION.getNamespacedKey(), PersistentDataType.INTEGER, 0);
-    double mitigationValue = Math.min(armor * 0.02, .4) + Math.min(protectionBase * 0.02, .4);
-    damage = damage - (damage * mitigationValue);
-    if (defender.hasPotionEffect(PotionEffectType.RESISTANCE)) {
-      int resistance = defender.getPotionEffect(PotionEffectType.RESISTANCE).getAmplifier() + 1;
-      damage = damage - (damage * (resistance * 0.05));
-    }
-    return damage;
+    return DamageFormula.mitigateResistance(mitigateArmorProtection(damage), getResistance());
   }
 
   /**
@@ -173,8 +162,7 @@ public class DamageMitigation {
    * @return damage taken
    */
   public double mitigateProtection(double damage) {
-    int protectionBase = entityTags.getOrDefault(Key.ENCHANTMENT_PROTECTION.getNamespacedKey(), PersistentDataType.INTEGER, 0);
-    return damage - (damage * (Math.min(protectionBase * .04, .8)));
+    return DamageFormula.mitigateProtection(damage, profile.getProtection());
   }
 
   /**
@@ -185,12 +173,16 @@ public class DamageMitigation {
    * @return damage taken
    */
   public double mitigateProtectionResistance(double damage) {
-    int protectionBase = entityTags.getOrDefault(Key.ENCHANTMENT_PROTECTION.getNamespacedKey(), PersistentDataType.INTEGER, 0);
-    damage = damage - (damage * (Math.min(protectionBase * .04, .8)));
-    if (defender.hasPotionEffect(PotionEffectType.RESISTANCE)) {
-      int resistance = defender.getPotionEffect(PotionEffectType.RESISTANCE).getAmplifier() + 1;
-      damage = damage - (damage * (resistance * 0.05));
-    }
-    return damage;
+    return DamageFormula.mitigateResistance(mitigateProtection(damage), getResistance());
+  }
+
+  /**
+   * Gets the entity's resistance level.
+   *
+   * @return resistance amplifier + 1, or 0 if not resistant
+   */
+  private int getResistance() {
+    PotionEffect resistance = defender.getPotionEffect(PotionEffectType.RESISTANCE);
+    return resistance == null ? 0 : resistance.getAmplifier() + 1;
   }
 }
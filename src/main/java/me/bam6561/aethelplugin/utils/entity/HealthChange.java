@@ -1,32 +1,25 @@
 package me.bam6561.aethelplugin.utils.entity;
 
 import me.bam6561.aethelplugin.Plugin;
-import me.bam6561.aethelplugin.enums.plugin.Key;
-import me.bam6561.aethelplugin.enums.rpg.AethelAttribute;
-import me.bam6561.aethelplugin.rpg.Buffs;
-import me.bam6561.aethelplugin.rpg.Settings;
-import net.md_5.bungee.api.ChatMessageType;
-import net.md_5.bungee.api.chat.TextComponent;
+import me.bam6561.aethelplugin.rpg.DisplayManager;
+import me.bam6561.aethelplugin.rpg.HealthTable;
+import me.bam6561.aethelplugin.rpg.RpgSystem;
 import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
 import org.bukkit.EntityEffect;
 import org.bukkit.Material;
 import org.bukkit.attribute.Attribute;
-import org.bukkit.boss.BarColor;
-import org.bukkit.boss.BossBar;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Villager;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.inventory.EntityEquipment;
+import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.persistence.PersistentDataContainer;
-import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.text.DecimalFormat;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
@@ -34,9 +27,15 @@ import java.util.UUID;
 
 /**
  * Represents an entity health change operation.
+ * <p>
+ * Instances can be {@link #reset(LivingEntity) reset} onto another entity so
+ * the damage pipeline can reuse one per hit context. Work deferred to later
+ * ticks never refers back to the instance, so it may be reset immediately.
+ * <p>
+ * Health changes created without an {@link RpgSystem} use the plugin's.
  *
  * @author Danny Nguyen
- * @version 1.26.11
+ * @version 1.27.41
  * @since 1.22.20
  */
 public class HealthChange {
@@ -49,20 +48,25 @@ public class HealthChange {
       new PotionEffect(PotionEffectType.FIRE_RESISTANCE, 800, 0, true, true)
   );
 
+  /**
+   * {@link RpgSystem}
+   */
+  private RpgSystem rpgSystem;
+
   /**
    * Defending entity.
    */
-  private final LivingEntity defender;
+  private LivingEntity defender;
 
   /**
    * Entity's UUID.
    */
-  private final UUID uuid;
+  private UUID uuid;
 
   /**
-   * Entity's persistent tags.
+   * {@link HealthTable}
    */
-  private final PersistentDataContainer entityTags;
+  private HealthTable healthTable;
 
   /**
    * Current health.
@@ -72,7 +76,7 @@ public class HealthChange {
   /**
    * Max health.
    */
-  private final double maxHealth;
+  private double maxHealth;
 
   /**
    * Associates the health change with an entity.
@@ -80,21 +84,59 @@ public class HealthChange {
    * @param defender defending entity
    */
   public HealthChange(@NotNull LivingEntity defender) {
-    this.defender = Objects.requireNonNull(defender, "Null UUID");
+    reset(defender);
+  }
+
+  /**
+   * No parameter constructor.
+   * <p>
+   * The health change must be {@link #reset(LivingEntity) reset}
+   * onto an entity before any health is changed.
+   */
+  public HealthChange() {
+  }
+
+  /**
+   * Associates the health change with an {@link RpgSystem}.
+   * <p>
+   * The health change must be {@link #reset(LivingEntity) reset}
+   * onto an entity before any health is changed.
+   *
+   * @param rpgSystem {@link RpgSystem}
+   */
+  public HealthChange(@NotNull RpgSystem rpgSystem) {
+    this.rpgSystem = Objects.requireNonNull(rpgSystem, "Null RPG system");
+  }
+
+  /**
+   * Associates the health change with another entity.
+   *
+   * @param defender defending entity
+   * @return this health change
+   */
+  @NotNull
+  public HealthChange reset(@NotNull LivingEntity defender) {
+    this.defender = Objects.requireNonNull(defender, "Null defender");
     this.uuid = defender.getUniqueId();
-    this.entityTags = defender.getPersistentDataContainer();
-    this.currentHealth = entityTags.getOrDefault(Key.RPG_HEALTH.getNamespacedKey(), PersistentDataType.DOUBLE, defender.getHealth());
-
-    double maxHealthBase = entityTags.getOrDefault(Key.ATTRIBUTE_MAX_HEALTH.getNamespacedKey(), PersistentDataType.DOUBLE, 0.0);
-    Buffs buffs = Plugin.getData().getRpgSystem().getBuffs().get(uuid);
-    double genericMaxHealthBuff = 0.0;
-    double maxHealthBuff = 0.0;
-    if (buffs != null) {
-      genericMaxHealthBuff = buffs.getAttribute(Attribute.GENERIC_MAX_HEALTH);
-      maxHealthBuff = buffs.getAethelAttribute(AethelAttribute.MAX_HEALTH);
+    if (rpgSystem == null) {
+      this.rpgSystem = Plugin.getData().getRpgSystem();
     }
+    rpgSystem.markParticipant(uuid);
+    this.healthTable = rpgSystem.getHealthTable();
+    this.currentHealth = healthTable.getHealth(defender);
 
-    this.maxHealth = defender.getAttribute(Attribute.GENERIC_MAX_HEALTH).getValue() + maxHealthBase + genericMaxHealthBuff + maxHealthBuff;
+    double maxHealthBonus = rpgSystem.getCombatProfile(defender).getMaxHealth();
+    this.maxHealth = defender.getAttribute(Attribute.GENERIC_MAX_HEALTH).getValue() + maxHealthBonus;
+    return this;
+  }
+
+  /**
+   * Releases the references to the last entity changed.
+   */
+  public void clear() {
+    this.defender = null;
+    this.uuid = null;
+    this.healthTable = null;
   }
 
   /**
@@ -110,101 +152,88 @@ public class HealthChange {
     if (remainingHealth > 0) {
       updateDisplays();
     } else {
-      Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> {
-        EntityEquipment equipment = defender.getEquipment();
-        if (equipment.getItemInMainHand().getType() == Material.TOTEM_OF_UNDYING) {
-          defender.playEffect(EntityEffect.TOTEM_RESURRECT);
-          equipment.setItemInMainHand(new ItemStack(Material.AIR), true);
-          defender.addPotionEffects(totemOfUndyingEffects);
-          setCurrentHealth(1);
-          updateDisplays();
-          return;
-        }
-        if (equipment.getItemInOffHand().getType() == Material.TOTEM_OF_UNDYING) {
-          defender.playEffect(EntityEffect.TOTEM_RESURRECT);
-          equipment.setItemInOffHand(new ItemStack(Material.AIR), true);
-          defender.addPotionEffects(totemOfUndyingEffects);
-          setCurrentHealth(1);
-          updateDisplays();
-          return;
-        }
-
-        if (defender instanceof Villager villager) {
-          defender.setHealth(20);
-          villager.zombify();
-          return;
-        }
-
-        defender.setHealth(0.0);
-        if (defender instanceof Player) {
-          BossBar healthBar = Plugin.getData().getRpgSystem().getRpgPlayers().get(uuid).getDisplays().getBar();
-          if (healthBar.isVisible()) {
-            DecimalFormat df2 = new DecimalFormat();
-            df2.setMaximumFractionDigits(2);
-            healthBar.setProgress(0.0);
-            healthBar.setTitle(currentHealth + " / " + df2.format(maxHealth) + " HP");
-          }
-        }
-      }, 1);
+      LivingEntity defender = this.defender;
+      Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> die(defender, null), 1);
     }
   }
 
   /**
    * Damages the entity by an amount regarding an entity damage by entity event.
+   * <p>
+   * The event itself plays the entity's hurt effects, and the entity's health displays
+   * are {@link DisplayManager#deferUpdate(UUID) updated} once the event's damage has been applied.
    *
    * @param e      entity damage by entity event
    * @param damage damage amount
    */
-  public void damage(EntityDamageByEntityEvent e, double damage) {
-    defender.damage(0.1);
+  public void damage(@NotNull EntityDamageByEntityEvent e, double damage) {
     double remainingHealth = currentHealth - damage;
 
     if (remainingHealth > 0) {
       setCurrentHealth(remainingHealth);
-      Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), this::updateDisplays, 1);
+      rpgSystem.getDisplayManager().deferUpdate(uuid);
     } else {
       e.setDamage(defender.getHealth() + 10);
-      Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> {
-        EntityEquipment equipment = defender.getEquipment();
-        if (equipment.getItemInMainHand().getType() == Material.TOTEM_OF_UNDYING) {
-          defender.playEffect(EntityEffect.TOTEM_RESURRECT);
-          equipment.setItemInMainHand(new ItemStack(Material.AIR), true);
-          defender.addPotionEffects(totemOfUndyingEffects);
-          e.setDamage(0.01);
-          setCurrentHealth(1);
-          updateDisplays();
-          return;
-        }
-        if (equipment.getItemInOffHand().getType() == Material.TOTEM_OF_UNDYING) {
-          defender.playEffect(EntityEffect.TOTEM_RESURRECT);
-          equipment.setItemInOffHand(new ItemStack(Material.AIR), true);
-          defender.addPotionEffects(totemOfUndyingEffects);
-          e.setDamage(0.01);
-          setCurrentHealth(1);
-          updateDisplays();
-          return;
-        }
-
-        if (defender instanceof Villager villager) {
-          e.setDamage(0.01);
-          defender.setHealth(20);
-          villager.zombify();
-          return;
-        }
-
-        if (defender instanceof Player) {
-          BossBar healthBar = Plugin.getData().getRpgSystem().getRpgPlayers().get(uuid).getDisplays().getBar();
-          if (healthBar.isVisible()) {
-            DecimalFormat df2 = new DecimalFormat();
-            df2.setMaximumFractionDigits(2);
-            healthBar.setProgress(0.0);
-            healthBar.setTitle(currentHealth + " / " + df2.format(maxHealth) + " HP");
-          }
-        }
-      }, 1);
+      LivingEntity defender = this.defender;
+      Bukkit.getScheduler().runTaskLater(Plugin.getInstance(), () -> die(defender, e), 1);
+    }
+  }
+
+  /**
+   * Resurrects an entity with a totem of undying or zombifies a villager,
+   * otherwise lets the entity die the tick after its health was depleted.
+   *
+   * @param defender defending entity
+   * @param e        entity damage by entity event, or null if the damage wasn't from an event
+   */
+  static void die(@NotNull LivingEntity defender, @Nullable EntityDamageByEntityEvent e) {
+    EntityEquipment equipment = defender.getEquipment();
+    if (equipment.getItemInMainHand().getType() == Material.TOTEM_OF_UNDYING) {
+      resurrect(defender, e, EquipmentSlot.HAND);
+      return;
+    }
+    if (equipment.getItemInOffHand().getType() == Material.TOTEM_OF_UNDYING) {
+      resurrect(defender, e, EquipmentSlot.OFF_HAND);
+      return;
+    }
+
+    if (defender instanceof Villager villager) {
+      if (e != null) {
+        e.setDamage(0.01);
+      }
+      defender.setHealth(20);
+      villager.zombify();
+      return;
+    }
+
+    if (e == null) {
+      defender.setHealth(0.0);
+    }
+    if (defender instanceof Player) {
+      HealthChange healthChange = new HealthChange(defender);
+      Plugin.getData().getRpgSystem().getDisplayManager().markDirty(defender.getUniqueId(), healthChange.currentHealth, healthChange.maxHealth);
     }
   }
 
+  /**
+   * Resurrects an entity with the effects of a totem of undying.
+   *
+   * @param defender defending entity
+   * @param e        entity damage by entity event, or null if the damage wasn't from an event
+   * @param eSlot    equipment slot of the totem of undying
+   */
+  private static void resurrect(LivingEntity defender, EntityDamageByEntityEvent e, EquipmentSlot eSlot) {
+    defender.playEffect(EntityEffect.TOTEM_RESURRECT);
+    defender.getEquipment().setItem(eSlot, new ItemStack(Material.AIR), true);
+    defender.addPotionEffects(totemOfUndyingEffects);
+    if (e != null) {
+      e.setDamage(0.01);
+    }
+    HealthChange healthChange = new HealthChange(defender);
+    healthChange.setCurrentHealth(1);
+    healthChange.updateDisplays();
+  }
+
   /**
    * Heals the entity by an amount.
    *
@@ -232,7 +261,7 @@ public class HealthChange {
   public void overshield() {
     double overshield = maxHealth * 1.2;
     if (currentHealth <= overshield) {
-      Plugin.getData().getRpgSystem().getOvershields().remove(uuid);
+      rpgSystem.getOvershields().remove(uuid);
       return;
     }
     double decayRate = Math.max((currentHealth - overshield) / 10, 0.25);
@@ -250,6 +279,8 @@ public class HealthChange {
 
   /**
    * Updates health displays.
+   * <p>
+   * Player health displays are rendered at the end of the tick by the {@link DisplayManager}.
    */
   public void updateDisplays() {
     double maxHealthScale = defender.getAttribute(Attribute.GENERIC_MAX_HEALTH).getValue();
@@ -258,97 +289,29 @@ public class HealthChange {
       defender.setHealth(Math.max(1, lifeRatio * maxHealthScale));
 
       if (defender instanceof Player) {
-        Plugin.getData().getRpgSystem().getWounded().add(uuid);
-
-        updateActionDisplay(Condition.WOUNDED);
-        updateBarDisplay(Condition.WOUNDED, lifeRatio);
+        rpgSystem.getWounded().add(uuid);
       }
     } else if (currentHealth == maxHealth) {
       defender.setHealth(maxHealthScale);
 
       if (defender instanceof Player) {
-        Plugin.getData().getRpgSystem().getWounded().remove(uuid);
-
-        updateActionDisplay(Condition.NORMAL);
-        updateBarDisplay(Condition.NORMAL, 1.0);
+        rpgSystem.getWounded().remove(uuid);
       }
     } else if (currentHealth > maxHealth) {
       defender.setHealth(maxHealthScale);
 
       double overshield = maxHealth * 1.2;
       if (currentHealth > overshield) {
-        Plugin.getData().getRpgSystem().getOvershields().add(uuid);
+        rpgSystem.getOvershields().add(uuid);
       }
 
       if (defender instanceof Player) {
-        Plugin.getData().getRpgSystem().getWounded().remove(uuid);
-
-        updateActionDisplay(Condition.SHIELD);
-        updateBarDisplay(Condition.SHIELD, 1.0);
-      }
-    }
-  }
-
-  /**
-   * Updates the action bar display.
-   */
-  public void updateActionDisplay() {
-    Settings settings = Plugin.getData().getRpgSystem().getRpgPlayers().get(uuid).getSettings();
-    if (settings.isHealthActionVisible()) {
-      DecimalFormat df2 = new DecimalFormat();
-      df2.setMaximumFractionDigits(2);
-      switch (getCondition()) {
-        case WOUNDED, NORMAL -> Bukkit.getPlayer(uuid).spigot().sendMessage(ChatMessageType.ACTION_BAR, new TextComponent(ChatColor.RED + df2.format(currentHealth) + " / " + df2.format(maxHealth) + " ❤"));
-        case SHIELD -> Bukkit.getPlayer(uuid).spigot().sendMessage(ChatMessageType.ACTION_BAR, new TextComponent(ChatColor.YELLOW + df2.format(currentHealth) + " / " + df2.format(maxHealth) + " ❤"));
-      }
-    }
-  }
-
-  /**
-   * Updates the action bar display.
-   *
-   * @param condition {@link Condition}
-   */
-  private void updateActionDisplay(Condition condition) {
-    Settings settings = Plugin.getData().getRpgSystem().getRpgPlayers().get(uuid).getSettings();
-    if (settings.isHealthActionVisible()) {
-      DecimalFormat df2 = new DecimalFormat();
-      df2.setMaximumFractionDigits(2);
-      switch (condition) {
-        case WOUNDED, NORMAL -> Bukkit.getPlayer(uuid).spigot().sendMessage(ChatMessageType.ACTION_BAR, new TextComponent(ChatColor.RED + df2.format(currentHealth) + " / " + df2.format(maxHealth) + " ❤"));
-        case SHIELD -> Bukkit.getPlayer(uuid).spigot().sendMessage(ChatMessageType.ACTION_BAR, new TextComponent(ChatColor.YELLOW + df2.format(currentHealth) + " / " + df2.format(maxHealth) + " ❤"));
+        rpgSystem.getWounded().remove(uuid);
       }
     }
-  }
 
-  /**
-   * Updates the health bar display.
-   *
-   * @param condition {@link Condition}
-   * @param lifeRatio hearts displayed : true max health
-   */
-  private void updateBarDisplay(Condition condition, double lifeRatio) {
-    BossBar healthBar = Plugin.getData().getRpgSystem().getRpgPlayers().get(uuid).getDisplays().getBar();
-    if (healthBar.isVisible()) {
-      DecimalFormat df2 = new DecimalFormat();
-      df2.setMaximumFractionDigits(2);
-      switch (condition) {
-        case WOUNDED -> {
-          healthBar.setProgress(lifeRatio);
-          healthBar.setColor(BarColor.RED);
-          healthBar.setTitle(ChatColor.RED + df2.format(currentHealth) + " / " + df2.format(maxHealth) + " ❤");
-        }
-        case NORMAL -> {
-          healthBar.setProgress(1.0);
-          healthBar.setColor(BarColor.RED);
-          healthBar.setTitle(ChatColor.RED + df2.format(currentHealth) + " / " + df2.format(maxHealth) + " ❤");
-        }
-        case SHIELD -> {
-          healthBar.setProgress(1.0);
-          healthBar.setColor(BarColor.YELLOW);
-          healthBar.setTitle(ChatColor.YELLOW + df2.format(currentHealth) + " / " + df2.format(maxHealth) + " ❤");
-        }
-      }
+    if (defender instanceof Player) {
+      rpgSystem.getDisplayManager().markDirty(uuid, currentHealth, maxHealth);
     }
   }
 
@@ -359,42 +322,6 @@ public class HealthChange {
    */
   private void setCurrentHealth(double currentHealth) {
     this.currentHealth = currentHealth;
-    entityTags.set(Key.RPG_HEALTH.getNamespacedKey(), PersistentDataType.DOUBLE, currentHealth);
-  }
-
-  /**
-   * Gets the {@link Condition}.
-   *
-   * @return {@link Condition}
-   */
-  private Condition getCondition() {
-    if (currentHealth < maxHealth) {
-      return Condition.WOUNDED;
-    } else if (currentHealth == maxHealth) {
-      return Condition.NORMAL;
-    } else if (currentHealth > maxHealth) {
-      return Condition.SHIELD;
-    }
-    return null;
-  }
-
-  /**
-   * Types of health conditions.
-   */
-  private enum Condition {
-    /**
-     * Below max health.
-     */
-    WOUNDED,
-
-    /**
-     * At max health.
-     */
-    NORMAL,
-
-    /**
-     * Above max health.
-     */
-    SHIELD
+    healthTable.setHealth(defender, currentHealth);
   }
 }
@@ -25,13 +25,13 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Changes damage on existing items' durabilities.
  *
  * @author Danny Nguyen
- * @version 1.27.0
+ * @version 1.27.28
  * @since 1.13.0
  */
 public class DurabilityChange {
@@ -66,7 +66,7 @@ public class DurabilityChange {
     int unbreaking = item.getEnchantmentLevel(Enchantment.UNBREAKING);
     if (unbreaking > 0) {
       double damageChance = 1.0 / (unbreaking + 1);
-      if (damageChance < new Random().nextDouble()) {
+      if (damageChance < ThreadLocalRandom.current().nextDouble()) {
         return;
       }
     }
@@ -119,13 +119,13 @@ public class DurabilityChange {
 
     if (durability.getDamage() > item.getType().getMaxDurability()) {
       equipment.setItem(eSlot, new ItemStack(Material.AIR));
-      defender.getWorld().playSound(defender.getEyeLocation(), Sound.ENTITY_ITEM_BREAK, SoundCategory.PLAYERS, 1, 1);
+      Plugin.getData().getEffectBuffer().playSound(defender.getWorld(), defender.getEyeLocation(), Sound.ENTITY_ITEM_BREAK, SoundCategory.PLAYERS, 1, 1);
       if (defender instanceof Player) {
         StringBuilder logEntry = new StringBuilder();
         String time = ZonedDateTime.now(ZoneId.of("America/New_York")).format(DateTimeFormatter.ofPattern("hh:mm"));
         logEntry.append(time).append(" ").append(defender.getName()).append("DC/IC");
         Plugin.getData().getPluginLogger().addEntry(logEntry.toString());
-        Plugin.getData().getRpgSystem().getRpgPlayers().get(defender.getUniqueId()).getEquipment().readSlot(null, RpgEquipmentSlot.valueOf(TextFormatter.formatEnum(eSlot.name())));
+        Plugin.getData().getRpgSystem().getEquipmentReconciler().markDirty(defender.getUniqueId(), RpgEquipmentSlot.valueOf(TextFormatter.formatEnum(eSlot.name())));
       }
       return;
     }
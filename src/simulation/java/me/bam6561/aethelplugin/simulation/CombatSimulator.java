@@ -0,0 +1,474 @@
+package me.bam6561.aethelplugin.simulation;
+
+import me.bam6561.aethelplugin.enums.rpg.AethelAttribute;
+import me.bam6561.aethelplugin.enums.rpg.RpgEquipmentSlot;
+import me.bam6561.aethelplugin.enums.rpg.StatusType;
+import me.bam6561.aethelplugin.enums.rpg.abilities.PassiveAbilityType;
+import me.bam6561.aethelplugin.enums.rpg.abilities.PassiveTriggerType;
+import me.bam6561.aethelplugin.listeners.DamageListener;
+import me.bam6561.aethelplugin.plugin.EffectBuffer;
+import me.bam6561.aethelplugin.rpg.*;
+import me.bam6561.aethelplugin.rpg.abilities.PassiveAbility;
+import me.bam6561.aethelplugin.stubs.StubDamageEvent;
+import me.bam6561.aethelplugin.stubs.StubLivingEntity;
+import me.bam6561.aethelplugin.stubs.StubPlayer;
+import me.bam6561.aethelplugin.stubs.Stubs;
+import me.bam6561.aethelplugin.utils.TagSchema;
+import me.bam6561.aethelplugin.utils.entity.DamageFormula;
+import me.bam6561.aethelplugin.utils.entity.DamageMitigation;
+import org.bukkit.World;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.EntityType;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Represents an offline simulation of the RPG damage model.
+ * <p>
+ * Fights are simulated between a stubbed attacker and a stubbed defending player
+ * on a virtual tick clock with a seeded RNG, so the same inputs always produce
+ * the same {@link SimulationReport}. Every hit is run through the
+ * {@link DamageListener}'s {@link DamagePipeline entity damage stages} of an
+ * {@link RpgSystem} of its own, so critical hits, vulnerable, cause-specific
+ * protection, blocking, counterattacks, dodges, toughness, and armor, protection,
+ * and resistance are all calculated by the plugin's code. {@link Passive Damage dealt
+ * passives} apply {@link Status statuses} to the defender, and damage over time
+ * statuses deal damage every second.
+ * <p>
+ * The stubbed entities have enough health to survive every fight, so each
+ * combatant's health is tracked by the simulator from the damage taken by its
+ * stub. A fight ends once either combatant's health is depleted, and the hit that
+ * killed the attacker through counterattacks deals no damage.
+ * <p>
+ * Damage dealt passives are triggered through {@link PassiveAbility} by the simulator,
+ * since the pipeline only triggers an online player's equipped passives. The simulator
+ * isn't packaged into the plugin jar; it is compiled with the test sources and can be
+ * run from the command line without a server:
+ * <pre>
+ *   mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=me.bam6561.aethelplugin.simulation.CombatSimulator -Dexec.args="[fights] [seed]"
+ * </pre>
+ *
+ * @author Danny Nguyen
+ * @version 1.27.43
+ * @since 1.27.17
+ */
+public class CombatSimulator {
+  /**
+   * Ticks per second.
+   */
+  private static final int TICKS_PER_SECOND = 20;
+
+  /**
+   * Number of ticks before a fight is considered a stalemate.
+   */
+  private static final long MAX_FIGHT_TICKS = 20L * 60 * 10;
+
+  /**
+   * Health of the stubbed entities, high enough for them to survive every fight.
+   */
+  private static final double STUB_HEALTH = 1.0E12;
+
+  /**
+   * Seeded RNG.
+   */
+  private final SplittableRandom random;
+
+  /**
+   * {@link RpgSystem} whose {@link DamagePipeline} the hits are run through.
+   */
+  private final RpgSystem rpgSystem = new RpgSystem();
+
+  /**
+   * {@link EffectBuffer} the stages queue effects into.
+   */
+  private final EffectBuffer effectBuffer = new EffectBuffer();
+
+  /**
+   * Reused {@link DamageContext}.
+   */
+  private final DamageContext context;
+
+  /**
+   * Entity {@link DamagePipeline}.
+   */
+  private final DamagePipeline pipeline;
+
+  /**
+   * Dodge {@link DamagePipeline.Stage stage}.
+   */
+  private final DamagePipeline.Stage dodgeStage;
+
+  /**
+   * Toughness {@link DamagePipeline.Stage stage}.
+   */
+  private final DamagePipeline.Stage toughnessStage;
+
+  /**
+   * Reused {@link DamageMitigation} for damage over time.
+   */
+  private final DamageMitigation mitigation = new DamageMitigation();
+
+  /**
+   * World the fights take place in.
+   */
+  private final World world = Stubs.createWorld("simulation");
+
+  /**
+   * {@link SimulationReport} of the current simulation.
+   */
+  private SimulationReport report;
+
+  /**
+   * Damage of the current hit before critical hits.
+   */
+  private double baseDamage;
+
+  /**
+   * Associates the simulator with its seed and registers the damage stages.
+   *
+   * @param seed RNG seed
+   */
+  public CombatSimulator(long seed) {
+    Stubs.installServer();
+    this.random = new SplittableRandom(seed);
+    this.context = new DamageContext(rpgSystem, effectBuffer, random);
+    DamageListener.addStages(rpgSystem);
+    this.pipeline = rpgSystem.getEntityDamagePipeline();
+    pipeline.addStageBefore("critical-hit", "simulation-base-damage", c -> {
+      baseDamage = c.getDamage();
+      return false;
+    });
+    pipeline.addStageAfter("critical-hit", "simulation-critical-hit", c -> {
+      if (c.getDamage() > baseDamage) {
+        report.recordCritical();
+      }
+      return false;
+    });
+    this.dodgeStage = Objects.requireNonNull(pipeline.getStage("dodge"), "Null dodge stage");
+    this.toughnessStage = Objects.requireNonNull(pipeline.getStage("toughness"), "Null toughness stage");
+  }
+
+  /**
+   * Simulates fights between an attacker and defender with example stats.
+   *
+   * @param args optional number of fights and RNG seed
+   */
+  public static void main(String[] args) {
+    int fights = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+    long seed = args.length > 1 ? Long.parseLong(args[1]) : 0;
+
+    Combatant attacker = new Combatant(20, 7, 12, 25, 50, 10, 10, 0, 0, 0, 0, 0, 0, 0, 0, 0, List.of(
+        new Passive(PassiveAbilityType.BLEED, 30, 2, 100, 20),
+        new Passive(PassiveAbilityType.BRITTLE, 20, 5, 100, 40),
+        new Passive(PassiveAbilityType.VULNERABLE, 15, 4, 60, 60)));
+    Combatant defender = new Combatant(60, 4, 20, 0, 0, 0, 0, 10, 15, 4, 20, 8, 4, 1, 10, 10, List.of());
+
+    System.out.println(new CombatSimulator(seed).simulate(attacker, defender, EntityDamageEvent.DamageCause.ENTITY_ATTACK, fights));
+  }
+
+  /**
+   * Simulates fights until either combatant dies or the fight reaches a stalemate.
+   *
+   * @param attacker attacking {@link Combatant}
+   * @param defender defending {@link Combatant}
+   * @param cause    damage cause of the attacker's hits, either entity attacks or explosions
+   * @param fights   number of fights
+   * @return {@link SimulationReport}
+   */
+  @NotNull
+  public SimulationReport simulate(@NotNull Combatant attacker, @NotNull Combatant defender, @NotNull EntityDamageEvent.DamageCause cause, int fights) {
+    Objects.requireNonNull(attacker, "Null attacker");
+    Objects.requireNonNull(defender, "Null defender");
+    switch (Objects.requireNonNull(cause, "Null cause")) {
+      case ENTITY_ATTACK, ENTITY_EXPLOSION -> {
+      }
+      default -> throw new IllegalArgumentException("Unsupported cause: " + cause);
+    }
+    if (fights <= 0) {
+      throw new IllegalArgumentException("Non-positive fights");
+    }
+
+    report = new SimulationReport(fights);
+    pipeline.resetMetrics();
+    StubLivingEntity attackerEntity = createEntity(Stubs.createLivingEntity(EntityType.ZOMBIE, world), attacker);
+    StubPlayer defenderEntity = (StubPlayer) createEntity(Stubs.createPlayer(world), defender);
+    attackerEntity.setPosition(0.5, 64, 2.5);
+    defenderEntity.setPosition(0.5, 64, 0.5);
+    UUID defenderUUID = defenderEntity.getUniqueId();
+    HealthTable healthTable = rpgSystem.getHealthTable();
+    StubDamageEvent event = new StubDamageEvent(attackerEntity, defenderEntity, cause, attacker.attackDamage());
+
+    Passive[] passives = attacker.passives().toArray(new Passive[0]);
+    StatusType[] passiveStatuses = new StatusType[passives.length];
+    for (int i = 0; i < passives.length; i++) {
+      passiveStatuses[i] = StatusType.valueOf(passives[i].type().name());
+    }
+
+    long start = System.nanoTime();
+    for (int fight = 0; fight < fights; fight++) {
+      rpgSystem.removeStatuses(defenderUUID);
+      healthTable.setHealth(attackerEntity, STUB_HEALTH);
+      healthTable.setHealth(defenderEntity, STUB_HEALTH);
+      long startTick = rpgSystem.getCurrentTick();
+      CooldownLedger cooldowns = new CooldownLedger();
+      PassiveAbility[] abilities = new PassiveAbility[passives.length];
+      for (int i = 0; i < passives.length; i++) {
+        abilities[i] = passives[i].toPassiveAbility(cooldowns);
+      }
+
+      double attackerHealth = attacker.maxHealth();
+      double health = defender.maxHealth();
+      double damageDealt = 0;
+      long tick = 0;
+      long nextDamageOverTimeTick = TICKS_PER_SECOND;
+      while (health > 0 && attackerHealth > 0 && tick < MAX_FIGHT_TICKS) {
+        tick += attacker.attackIntervalTicks();
+
+        while (nextDamageOverTimeTick <= tick && health > 0) {
+          advance(startTick + nextDamageOverTimeTick);
+          double damage = getDamageOverTime(defenderEntity);
+          health -= damage;
+          damageDealt += damage;
+          nextDamageOverTimeTick += TICKS_PER_SECOND;
+        }
+        if (health <= 0) {
+          break;
+        }
+        advance(startTick + tick);
+
+        double attackerStubHealth = healthTable.getHealth(attackerEntity);
+        double defenderStubHealth = healthTable.getHealth(defenderEntity);
+        boolean isStopped = runHit(event, defenderEntity, defender.blockChance(), attacker.attackDamage());
+
+        double counterDamage = attackerStubHealth - healthTable.getHealth(attackerEntity);
+        if (counterDamage > 0) {
+          report.recordCounter();
+          attackerHealth -= counterDamage;
+          if (attackerHealth <= 0) {
+            break;
+          }
+        }
+        double damage = defenderStubHealth - healthTable.getHealth(defenderEntity);
+        if (damage > 0) {
+          report.recordHit();
+          health -= damage;
+          damageDealt += damage;
+          if (health > 0) {
+            triggerDamageDealtPassives(passives, abilities, passiveStatuses, defender, defenderUUID, tick);
+          }
+        } else if (isStopped) {
+          recordAvoided(defenderEntity);
+        }
+      }
+      report.recordFight(tick, damageDealt, health <= 0, attackerHealth <= 0);
+    }
+    report.setElapsedNanos(System.nanoTime() - start);
+    return report;
+  }
+
+  /**
+   * Creates a stubbed entity with a {@link Combatant combatant's} stats.
+   * <p>
+   * Aethel attributes and enchantments are written to the entity's tags,
+   * while its vanilla armor and toughness are left at 0.
+   *
+   * @param entity    stubbed entity
+   * @param combatant {@link Combatant}
+   * @return stubbed entity
+   */
+  private StubLivingEntity createEntity(StubLivingEntity entity, Combatant combatant) {
+    entity.setHealth(STUB_HEALTH);
+    entity.setAttribute(Attribute.GENERIC_MAX_HEALTH, STUB_HEALTH);
+    entity.setAttribute(Attribute.GENERIC_ARMOR, 0);
+    entity.setAttribute(Attribute.GENERIC_ARMOR_TOUGHNESS, 0);
+    entity.setAttribute(Attribute.GENERIC_ATTACK_DAMAGE, combatant.attackDamage());
+    entity.setAttribute(Attribute.GENERIC_ATTACK_SPEED, (double) TICKS_PER_SECOND / combatant.attackIntervalTicks());
+
+    PersistentDataContainer entityTags = entity.getPersistentDataContainer();
+    TagSchema.setAttribute(entityTags, AethelAttribute.CRITICAL_CHANCE, combatant.criticalChance());
+    TagSchema.setAttribute(entityTags, AethelAttribute.CRITICAL_DAMAGE, combatant.criticalDamage());
+    TagSchema.setAttribute(entityTags, AethelAttribute.FEINT_SKILL, combatant.feintSkill());
+    TagSchema.setAttribute(entityTags, AethelAttribute.ACCURACY_SKILL, combatant.accuracySkill());
+    TagSchema.setAttribute(entityTags, AethelAttribute.COUNTER_CHANCE, combatant.counterChance());
+    TagSchema.setAttribute(entityTags, AethelAttribute.DODGE_CHANCE, combatant.dodgeChance());
+    TagSchema.setAttribute(entityTags, AethelAttribute.ARMOR_TOUGHNESS, combatant.armorToughness());
+    TagSchema.setAttribute(entityTags, AethelAttribute.ARMOR, combatant.armor());
+    TagSchema.setEnchantment(entityTags, TagSchema.getEnchantmentId(Enchantment.PROTECTION), combatant.protection());
+    TagSchema.setEnchantment(entityTags, TagSchema.getEnchantmentId(Enchantment.BLAST_PROTECTION), combatant.blastProtection());
+    if (combatant.resistance() > 0) {
+      entity.addPotionEffect(new PotionEffect(PotionEffectType.RESISTANCE, PotionEffect.INFINITE_DURATION, combatant.resistance() - 1));
+    }
+    return entity;
+  }
+
+  /**
+   * Runs a single hit through the {@link DamagePipeline}.
+   *
+   * @param event       reused entity damage event
+   * @param defender    defending player
+   * @param blockChance chance the defender is blocking
+   * @param damage      damage of the hit
+   * @return if a stage ended the hit early
+   */
+  private boolean runHit(StubDamageEvent event, StubPlayer defender, double blockChance, double damage) {
+    defender.setIsBlocking(blockChance > random.nextDouble() * 100);
+    event.setDamage(damage);
+    report.recordAttempt();
+    boolean isStopped;
+    context.load(event);
+    try {
+      isStopped = pipeline.run(context);
+      context.applyDamage();
+    } finally {
+      context.clear();
+    }
+    effectBuffer.flush();
+    return isStopped;
+  }
+
+  /**
+   * Records which stage avoided a hit that was ended early.
+   *
+   * @param defender defending player
+   */
+  private void recordAvoided(StubPlayer defender) {
+    if (defender.isBlocking()) {
+      report.recordBlock();
+    } else if (dodgeStage.getStops() > report.getDodges()) {
+      report.recordDodge();
+    } else if (toughnessStage.getStops() > report.getToughened()) {
+      report.recordToughened();
+    }
+  }
+
+  /**
+   * Gets the damage taken from the defender's damage over time {@link Status statuses},
+   * mitigated the same way as {@link me.bam6561.aethelplugin.PluginTask#triggerStatuses(UUID)}.
+   *
+   * @param defender defending player
+   * @return damage taken
+   */
+  private double getDamageOverTime(StubPlayer defender) {
+    StatusSet statuses = rpgSystem.getStatuses().get(defender.getUniqueId());
+    if (statuses == null || !statuses.hasDamageOverTime()) {
+      return 0;
+    }
+    mitigation.reset(defender, rpgSystem.getCombatProfile(defender));
+    double damage = 0;
+    if (statuses.has(StatusType.BLEED)) {
+      damage += mitigation.mitigateProtectionResistance(DamageFormula.getDamageOverTime(statuses.getStackAmount(StatusType.BLEED)));
+    }
+    if (statuses.has(StatusType.ELECTROCUTE)) {
+      damage += mitigation.mitigateProtectionResistance(DamageFormula.getDamageOverTime(statuses.getStackAmount(StatusType.ELECTROCUTE)));
+    }
+    mitigation.clear();
+    return damage;
+  }
+
+  /**
+   * Advances the {@link RpgSystem} to a tick, expiring any {@link Status} stack instances that are due.
+   *
+   * @param tick tick to advance to
+   */
+  private void advance(long tick) {
+    while (rpgSystem.getCurrentTick() < tick) {
+      rpgSystem.tick();
+    }
+  }
+
+  /**
+   * Triggers the attacker's damage dealt passives that are off cooldown.
+   *
+   * @param passives        attacker's {@link Passive passives}
+   * @param abilities       passives' {@link PassiveAbility passive abilities}
+   * @param passiveStatuses passives' {@link StatusType status types}
+   * @param defender        defending {@link Combatant}
+   * @param defenderUUID    defending player's UUID
+   * @param tick            current tick
+   */
+  private void triggerDamageDealtPassives(Passive[] passives, PassiveAbility[] abilities, StatusType[] passiveStatuses, Combatant defender, UUID defenderUUID, long tick) {
+    for (int i = 0; i < abilities.length; i++) {
+      PassiveAbility ability = abilities[i];
+      if (ability.isTriggered(tick, random)) {
+        Passive passive = passives[i];
+        rpgSystem.addStatus(defenderUUID, passiveStatuses[i], passive.stacks(), PassiveAbility.getTenacityDuration(passive.ticks(), defender.tenacity()));
+        ability.startCooldown(tick, 0.0);
+      }
+    }
+  }
+
+  /**
+   * Represents a synthetic entity's combat stats.
+   *
+   * @param maxHealth           max health
+   * @param attackDamage        damage per hit and counterattack
+   * @param attackIntervalTicks ticks between hits
+   * @param criticalChance      critical chance
+   * @param criticalDamage      critical damage
+   * @param feintSkill          feint skill
+   * @param accuracySkill       accuracy skill
+   * @param counterChance       counter chance
+   * @param dodgeChance         dodge chance
+   * @param armorToughness      total armor toughness
+   * @param armor               total armor
+   * @param protection          protection level
+   * @param blastProtection     blast protection level
+   * @param resistance          resistance amplifier + 1, or 0 if not resistant
+   * @param tenacity            tenacity
+   * @param blockChance         chance to be blocking with a shield while facing the attacker
+   * @param passives            damage dealt {@link Passive passives}
+   */
+  public record Combatant(double maxHealth, double attackDamage, int attackIntervalTicks, double criticalChance, double criticalDamage, double feintSkill, double accuracySkill, double counterChance, double dodgeChance, double armorToughness, int armor, int protection, int blastProtection, int resistance, double tenacity, double blockChance, List<Passive> passives) {
+    /**
+     * Validates the combatant's stats.
+     */
+    public Combatant {
+      if (attackIntervalTicks <= 0) {
+        throw new IllegalArgumentException("Non-positive attack interval");
+      }
+      passives = List.copyOf(Objects.requireNonNull(passives, "Null passives"));
+    }
+  }
+
+  /**
+   * Represents a synthetic damage dealt passive that applies a status.
+   *
+   * @param type          {@link PassiveAbilityType}
+   * @param chance        chance to trigger
+   * @param stacks        number of stacks applied
+   * @param ticks         duration in ticks
+   * @param cooldownTicks cooldown in ticks
+   */
+  public record Passive(PassiveAbilityType type, double chance, int stacks, int ticks, int cooldownTicks) {
+    /**
+     * Validates the passive.
+     */
+    public Passive {
+      if (Objects.requireNonNull(type, "Null type").getEffect() != PassiveAbilityType.Effect.STACK_INSTANCE) {
+        throw new IllegalArgumentException("Non-stack instance passive");
+      }
+    }
+
+    /**
+     * Creates the passive's {@link PassiveAbility} in the same
+     * data format as damage dealt passives stored on items.
+     *
+     * @param cooldowns {@link CooldownLedger}
+     * @return {@link PassiveAbility}
+     */
+    @NotNull
+    PassiveAbility toPassiveAbility(@NotNull CooldownLedger cooldowns) {
+      String[] dataValues = {String.valueOf(chance), String.valueOf(cooldownTicks), "false", String.valueOf(stacks), String.valueOf(ticks)};
+      return new PassiveAbility(cooldowns, RpgEquipmentSlot.HAND, PassiveTriggerType.DAMAGE_DEALT, type, dataValues);
+    }
+  }
+}
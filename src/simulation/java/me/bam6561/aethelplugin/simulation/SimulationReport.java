@@ -0,0 +1,385 @@
+package me.bam6561.aethelplugin.simulation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Represents the results of a {@link CombatSimulator} run.
+ * <p>
+ * Time to kill is only recorded for fights where the defender died,
+ * while damage per second is recorded for every fight.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.43
+ * @since 1.27.17
+ */
+public class SimulationReport {
+  /**
+   * Time to kill of each fight the defender died in, in ticks.
+   */
+  private final long[] timeToKillTicks;
+
+  /**
+   * Damage per second of each fight.
+   */
+  private final double[] damagePerSecond;
+
+  /**
+   * Number of fights the defender died in.
+   */
+  private int kills;
+
+  /**
+   * Number of fights the attacker died in.
+   */
+  private int deaths;
+
+  /**
+   * Number of recorded fights.
+   */
+  private int fights;
+
+  /**
+   * Number of attempted hits.
+   */
+  private long attempts;
+
+  /**
+   * Number of hits that dealt damage.
+   */
+  private long hits;
+
+  /**
+   * Number of critical hits.
+   */
+  private long criticals;
+
+  /**
+   * Number of hits that were counterattacked.
+   */
+  private long counters;
+
+  /**
+   * Number of blocked hits.
+   */
+  private long blocks;
+
+  /**
+   * Number of dodged hits.
+   */
+  private long dodges;
+
+  /**
+   * Number of hits fully mitigated by toughness.
+   */
+  private long toughened;
+
+  /**
+   * Time spent simulating in nanoseconds.
+   */
+  private long elapsedNanos;
+
+  /**
+   * If the distributions are sorted.
+   */
+  private boolean isSorted = false;
+
+  /**
+   * Associates the report with its number of fights.
+   *
+   * @param fights number of fights
+   */
+  SimulationReport(int fights) {
+    this.timeToKillTicks = new long[fights];
+    this.damagePerSecond = new double[fights];
+  }
+
+  /**
+   * Records the result of a fight.
+   *
+   * @param ticks            fight duration in ticks
+   * @param damageDealt      total damage dealt
+   * @param isKilled         if the defender died
+   * @param isAttackerKilled if the attacker died from counterattacks
+   */
+  void recordFight(long ticks, double damageDealt, boolean isKilled, boolean isAttackerKilled) {
+    if (isKilled) {
+      timeToKillTicks[kills++] = ticks;
+    } else if (isAttackerKilled) {
+      deaths++;
+    }
+    damagePerSecond[fights++] = damageDealt / (ticks / 20.0);
+    isSorted = false;
+  }
+
+  /**
+   * Records an attempted hit.
+   */
+  void recordAttempt() {
+    attempts++;
+  }
+
+  /**
+   * Records a hit that dealt damage.
+   */
+  void recordHit() {
+    hits++;
+  }
+
+  /**
+   * Records a critical hit.
+   */
+  void recordCritical() {
+    criticals++;
+  }
+
+  /**
+   * Records a hit that was counterattacked.
+   */
+  void recordCounter() {
+    counters++;
+  }
+
+  /**
+   * Records a blocked hit.
+   */
+  void recordBlock() {
+    blocks++;
+  }
+
+  /**
+   * Records a dodged hit.
+   */
+  void recordDodge() {
+    dodges++;
+  }
+
+  /**
+   * Records a hit fully mitigated by toughness.
+   */
+  void recordToughened() {
+    toughened++;
+  }
+
+  /**
+   * Sets the time spent simulating in nanoseconds.
+   *
+   * @param elapsedNanos time spent simulating in nanoseconds
+   */
+  void setElapsedNanos(long elapsedNanos) {
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * Gets a time to kill percentile in seconds.
+   *
+   * @param percentile percentile between 0 and 100
+   * @return time to kill percentile in seconds, or 0 if the defender never died
+   */
+  public double getTimeToKill(double percentile) {
+    if (kills == 0) {
+      return 0;
+    }
+    sort();
+    return timeToKillTicks[getIndex(percentile, kills)] / 20.0;
+  }
+
+  /**
+   * Gets the average time to kill in seconds.
+   *
+   * @return average time to kill in seconds, or 0 if the defender never died
+   */
+  public double getAverageTimeToKill() {
+    if (kills == 0) {
+      return 0;
+    }
+    long total = 0;
+    for (int i = 0; i < kills; i++) {
+      total += timeToKillTicks[i];
+    }
+    return total / 20.0 / kills;
+  }
+
+  /**
+   * Gets a damage per second percentile.
+   *
+   * @param percentile percentile between 0 and 100
+   * @return damage per second percentile
+   */
+  public double getDamagePerSecond(double percentile) {
+    if (fights == 0) {
+      return 0;
+    }
+    sort();
+    return damagePerSecond[getIndex(percentile, fights)];
+  }
+
+  /**
+   * Gets the average damage per second.
+   *
+   * @return average damage per second
+   */
+  public double getAverageDamagePerSecond() {
+    if (fights == 0) {
+      return 0;
+    }
+    double total = 0;
+    for (int i = 0; i < fights; i++) {
+      total += damagePerSecond[i];
+    }
+    return total / fights;
+  }
+
+  /**
+   * Gets the number of recorded fights.
+   *
+   * @return number of recorded fights
+   */
+  public int getFights() {
+    return this.fights;
+  }
+
+  /**
+   * Gets the number of fights the defender died in.
+   *
+   * @return number of fights the defender died in
+   */
+  public int getKills() {
+    return this.kills;
+  }
+
+  /**
+   * Gets the number of fights the attacker died in.
+   *
+   * @return number of fights the attacker died in
+   */
+  public int getDeaths() {
+    return this.deaths;
+  }
+
+  /**
+   * Gets the number of hits that dealt damage.
+   *
+   * @return number of hits that dealt damage
+   */
+  public long getHits() {
+    return this.hits;
+  }
+
+  /**
+   * Gets the number of critical hits.
+   *
+   * @return number of critical hits
+   */
+  public long getCriticals() {
+    return this.criticals;
+  }
+
+  /**
+   * Gets the number of hits that were counterattacked.
+   *
+   * @return number of hits that were counterattacked
+   */
+  public long getCounters() {
+    return this.counters;
+  }
+
+  /**
+   * Gets the number of blocked hits.
+   *
+   * @return number of blocked hits
+   */
+  public long getBlocks() {
+    return this.blocks;
+  }
+
+  /**
+   * Gets the number of dodged hits.
+   *
+   * @return number of dodged hits
+   */
+  public long getDodges() {
+    return this.dodges;
+  }
+
+  /**
+   * Gets the number of hits fully mitigated by toughness.
+   *
+   * @return number of hits fully mitigated by toughness
+   */
+  public long getToughened() {
+    return this.toughened;
+  }
+
+  /**
+   * Gets the number of attempted hits.
+   *
+   * @return number of attempted hits
+   */
+  public long getAttempts() {
+    return this.attempts;
+  }
+
+  /**
+   * Gets the time spent simulating in nanoseconds.
+   *
+   * @return time spent simulating in nanoseconds
+   */
+  public long getElapsedNanos() {
+    return this.elapsedNanos;
+  }
+
+  /**
+   * Gets the number of attempted hits simulated per second.
+   *
+   * @return number of attempted hits simulated per second
+   */
+  public double getHitsPerSecond() {
+    return elapsedNanos == 0 ? 0 : getAttempts() / (elapsedNanos / 1000000000.0);
+  }
+
+  /**
+   * Gets the report as readable lines.
+   *
+   * @return report as readable lines
+   */
+  @NotNull
+  @Override
+  public String toString() {
+    return String.format("""
+            Fights: %d Kills: %d Deaths: %d Stalemates: %d
+            Attempts: %d Hits: %d Criticals: %d Counters: %d Blocks: %d Dodges: %d Toughened: %d
+            TTK (s) Avg: %.3f P50: %.3f P90: %.3f P99: %.3f Max: %.3f
+            DPS Avg: %.3f P1: %.3f P10: %.3f P50: %.3f P90: %.3f
+            Throughput: %.0f hits/s in %.3f ms""",
+        fights, kills, deaths, fights - kills - deaths,
+        attempts, hits, criticals, counters, blocks, dodges, toughened,
+        getAverageTimeToKill(), getTimeToKill(50), getTimeToKill(90), getTimeToKill(99), getTimeToKill(100),
+        getAverageDamagePerSecond(), getDamagePerSecond(1), getDamagePerSecond(10), getDamagePerSecond(50), getDamagePerSecond(90),
+        getHitsPerSecond(), elapsedNanos / 1000000.0);
+  }
+
+  /**
+   * Sorts the distributions if they aren't already.
+   */
+  private void sort() {
+    if (!isSorted) {
+      Arrays.sort(timeToKillTicks, 0, kills);
+      Arrays.sort(damagePerSecond, 0, fights);
+      isSorted = true;
+    }
+  }
+
+  /**
+   * Gets the nearest rank index of a percentile.
+   *
+   * @param percentile percentile between 0 and 100
+   * @param size       number of values
+   * @return index of the percentile
+   */
+  private int getIndex(double percentile, int size) {
+    int rank = (int) Math.ceil(Math.max(0, Math.min(100, percentile)) / 100 * size);
+    return Math.max(0, rank - 1);
+  }
+}
@@ -0,0 +1,80 @@
+package me.bam6561.aethelplugin.plugin;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Cadence tests for {@link TickBuckets}.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.39
+ * @since 1.27.39
+ */
+class TickBucketsTest {
+  /**
+   * Number of buckets.
+   */
+  private static final int BUCKETS = 20;
+
+  /**
+   * Removing elements mid-cycle never skips or repeats the remaining elements within a cycle.
+   */
+  @Test
+  void removalsMidCycleKeepEachElementVisitedOncePerCycle() {
+    TickBuckets<Integer> tickBuckets = new TickBuckets<>(BUCKETS);
+    for (int i = 0; i < 200; i++) {
+      tickBuckets.add(i);
+    }
+
+    int removed = 0;
+    for (int cycle = 0; cycle < 5; cycle++) {
+      Map<Integer, Integer> visits = new HashMap<>();
+      for (int bucket = 0; bucket < BUCKETS; bucket++) {
+        List<Integer> elements = tickBuckets.pollBucket();
+        for (Integer element : elements) {
+          visits.merge(element, 1, Integer::sum);
+        }
+        if (!elements.isEmpty() && bucket % 3 == 0) {
+          tickBuckets.remove(elements.get(0));
+          removed++;
+        }
+        tickBuckets.remove(199 - removed);
+        removed++;
+      }
+      for (Integer element : tickBuckets) {
+        assertEquals(1, visits.getOrDefault(element, 0), "Element " + element + " in cycle " + cycle);
+      }
+    }
+  }
+
+  /**
+   * Buckets are rebalanced at the start of each cycle.
+   */
+  @Test
+  void bucketsAreRebalancedBetweenCycles() {
+    TickBuckets<Integer> tickBuckets = new TickBuckets<>(BUCKETS);
+    for (int i = 0; i < 100; i++) {
+      tickBuckets.add(i);
+    }
+    for (int i = 0; i < 100; i += BUCKETS) {
+      for (int j = 0; j < 4; j++) {
+        tickBuckets.remove(i + j);
+      }
+    }
+
+    int min = Integer.MAX_VALUE;
+    int max = 0;
+    for (int bucket = 0; bucket < BUCKETS; bucket++) {
+      int size = tickBuckets.pollBucket().size();
+      min = Math.min(min, size);
+      max = Math.max(max, size);
+    }
+    assertTrue(max - min <= 1, "Bucket sizes ranged from " + min + " to " + max);
+  }
+}
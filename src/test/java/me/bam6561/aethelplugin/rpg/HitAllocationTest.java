@@ -0,0 +1,144 @@
+package me.bam6561.aethelplugin.rpg;
+
+import me.bam6561.aethelplugin.enums.rpg.AethelAttribute;
+import me.bam6561.aethelplugin.listeners.DamageListener;
+import me.bam6561.aethelplugin.plugin.EffectBuffer;
+import me.bam6561.aethelplugin.stubs.StubDamageEvent;
+import me.bam6561.aethelplugin.stubs.StubLivingEntity;
+import me.bam6561.aethelplugin.stubs.Stubs;
+import me.bam6561.aethelplugin.utils.TagSchema;
+import org.bukkit.World;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.entity.EntityType;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation-rate regression tests for the hit path.
+ * <p>
+ * Hits are {@link DamageContext#load loaded} into a reused {@link DamageContext} and run
+ * through the {@link DamageListener}'s {@link DamagePipeline} stages over stubbed entities,
+ * so critical hits, counterattacks, dodges, and mitigation all use the plugin's own code.
+ * None of them should allocate once the path has been compiled.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.41
+ * @since 1.27.33
+ */
+class HitAllocationTest {
+  /**
+   * Number of hits run before measuring.
+   */
+  private static final int WARMUP_HITS = 200_000;
+
+  /**
+   * Number of hits measured.
+   */
+  private static final int MEASURED_HITS = 1_000_000;
+
+  /**
+   * Maximum average number of bytes allocated per hit.
+   */
+  private static final double MAX_BYTES_PER_HIT = 1.0;
+
+  /**
+   * Health of the stubbed entities, high enough for them to survive every hit.
+   */
+  private static final double HEALTH = 1.0E12;
+
+  /**
+   * Installs the stub server.
+   */
+  @BeforeAll
+  static void installServer() {
+    Stubs.installServer();
+  }
+
+  /**
+   * Running hits through the damage pipeline with a reused damage context allocates nothing per hit.
+   */
+  @Test
+  void reusedContextDoesNotAllocatePerHit() {
+    com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    assumeTrue(threadMXBean.isThreadAllocatedMemorySupported(), "Thread allocation measurement unsupported");
+    threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+    RpgSystem rpgSystem = new RpgSystem();
+    DamageListener.addStages(rpgSystem);
+    EffectBuffer effectBuffer = new EffectBuffer();
+    DamageContext context = new DamageContext(rpgSystem, effectBuffer);
+    DamagePipeline pipeline = rpgSystem.getEntityDamagePipeline();
+
+    World world = Stubs.createWorld("world");
+    StubLivingEntity attacker = createEntity(world);
+    TagSchema.setAttribute(attacker.getPersistentDataContainer(), AethelAttribute.CRITICAL_CHANCE, 25);
+    TagSchema.setAttribute(attacker.getPersistentDataContainer(), AethelAttribute.CRITICAL_DAMAGE, 50);
+    StubLivingEntity defender = createEntity(world);
+    TagSchema.setAttribute(defender.getPersistentDataContainer(), AethelAttribute.COUNTER_CHANCE, 25);
+    TagSchema.setAttribute(defender.getPersistentDataContainer(), AethelAttribute.DODGE_CHANCE, 10);
+    TagSchema.setAttribute(defender.getPersistentDataContainer(), AethelAttribute.ARMOR, 5);
+    TagSchema.setAttribute(defender.getPersistentDataContainer(), AethelAttribute.ARMOR_TOUGHNESS, 2);
+    defender.setPosition(0.5, 64, 0.5);
+    StubDamageEvent event = new StubDamageEvent(attacker, defender, EntityDamageEvent.DamageCause.ENTITY_ATTACK, 10.0);
+
+    double sink = runHits(pipeline, context, event, WARMUP_HITS);
+    long start = threadMXBean.getCurrentThreadAllocatedBytes();
+    sink += runHits(pipeline, context, event, MEASURED_HITS);
+    long allocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes() - start;
+
+    assertTrue(Double.isFinite(sink));
+    assertTrue(effectBuffer.getMerged() > 0, "No effects were queued");
+    assertTrue(rpgSystem.getHealthTable().getHealth(attacker) < HEALTH, "No counterattacks were run");
+    assertTrue(rpgSystem.getHealthTable().getHealth(defender) < HEALTH, "No damage was taken");
+    double bytesPerHit = (double) allocatedBytes / MEASURED_HITS;
+    assertTrue(bytesPerHit < MAX_BYTES_PER_HIT, "Allocated " + bytesPerHit + " bytes per hit");
+  }
+
+  /**
+   * Creates a stubbed zombie with enough health to survive every hit.
+   *
+   * @param world world
+   * @return stubbed zombie
+   */
+  private static StubLivingEntity createEntity(World world) {
+    StubLivingEntity entity = Stubs.createLivingEntity(EntityType.ZOMBIE, world);
+    entity.setHealth(HEALTH);
+    entity.setAttribute(Attribute.GENERIC_MAX_HEALTH, HEALTH);
+    entity.setAttribute(Attribute.GENERIC_ARMOR, 10);
+    entity.setAttribute(Attribute.GENERIC_ARMOR_TOUGHNESS, 4);
+    entity.setAttribute(Attribute.GENERIC_ATTACK_DAMAGE, 3);
+    entity.setAttribute(Attribute.GENERIC_ATTACK_SPEED, 1);
+    return entity;
+  }
+
+  /**
+   * Runs a number of hits through the damage pipeline.
+   *
+   * @param pipeline {@link DamagePipeline}
+   * @param context  reused {@link DamageContext}
+   * @param event    reused entity damage event
+   * @param hits     number of hits
+   * @return total damage dealt
+   */
+  private static double runHits(DamagePipeline pipeline, DamageContext context, StubDamageEvent event, int hits) {
+    double totalDamage = 0.0;
+    for (int i = 0; i < hits; i++) {
+      event.setDamage(10.0 + (i & 31));
+      context.load(event);
+      try {
+        pipeline.run(context);
+        context.applyDamage();
+      } finally {
+        context.clear();
+      }
+      totalDamage += event.getDamage();
+    }
+    return totalDamage;
+  }
+}
@@ -0,0 +1,107 @@
+package me.bam6561.aethelplugin.simulation;
+
+import me.bam6561.aethelplugin.enums.rpg.abilities.PassiveAbilityType;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link CombatSimulator} fights run through the real damage stages.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.43
+ * @since 1.27.43
+ */
+class CombatSimulatorTest {
+  /**
+   * Number of fights per simulation.
+   */
+  private static final int FIGHTS = 200;
+
+  /**
+   * Attacker with critical hits and a bleed passive.
+   */
+  private static final CombatSimulator.Combatant ATTACKER = new CombatSimulator.Combatant(20, 7, 12, 25, 50, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, List.of(
+      new CombatSimulator.Passive(PassiveAbilityType.BLEED, 30, 2, 100, 20)));
+
+  /**
+   * The same seed produces the same fights.
+   */
+  @Test
+  void sameSeedProducesSameReport() {
+    CombatSimulator.Combatant defender = createDefender(10, 10, 0, 0, 10);
+    SimulationReport first = new CombatSimulator(1).simulate(ATTACKER, defender, EntityDamageEvent.DamageCause.ENTITY_ATTACK, FIGHTS);
+    SimulationReport second = new CombatSimulator(1).simulate(ATTACKER, defender, EntityDamageEvent.DamageCause.ENTITY_ATTACK, FIGHTS);
+
+    assertEquals(first.getAttempts(), second.getAttempts());
+    assertEquals(first.getHits(), second.getHits());
+    assertEquals(first.getCriticals(), second.getCriticals());
+    assertEquals(first.getCounters(), second.getCounters());
+    assertEquals(first.getBlocks(), second.getBlocks());
+    assertEquals(first.getDodges(), second.getDodges());
+    assertEquals(first.getKills(), second.getKills());
+    assertEquals(first.getAverageDamagePerSecond(), second.getAverageDamagePerSecond());
+  }
+
+  /**
+   * Hits are critical, countered, blocked, and dodged by the pipeline's stages.
+   */
+  @Test
+  void stagesDecideEachHit() {
+    SimulationReport report = new CombatSimulator(2).simulate(ATTACKER, createDefender(10, 10, 0, 0, 10), EntityDamageEvent.DamageCause.ENTITY_ATTACK, FIGHTS);
+
+    assertEquals(FIGHTS, report.getFights());
+    assertTrue(report.getKills() > 0, "Defender never died");
+    assertTrue(report.getCriticals() > 0, "No critical hits");
+    assertTrue(report.getCounters() > 0, "No counterattacks");
+    assertTrue(report.getBlocks() > 0, "No blocks");
+    assertTrue(report.getDodges() > 0, "No dodges");
+    assertTrue(report.getHits() + report.getBlocks() + report.getDodges() <= report.getAttempts());
+  }
+
+  /**
+   * A defender that is always blocking takes no damage from hits.
+   */
+  @Test
+  void alwaysBlockingDefenderTakesNoHits() {
+    SimulationReport report = new CombatSimulator(3).simulate(ATTACKER, createDefender(0, 0, 0, 0, 100), EntityDamageEvent.DamageCause.ENTITY_ATTACK, FIGHTS);
+
+    assertEquals(0, report.getHits());
+    assertEquals(0, report.getKills());
+    assertEquals(report.getAttempts(), report.getBlocks());
+  }
+
+  /**
+   * Blast protection only mitigates explosions.
+   */
+  @Test
+  void blastProtectionMitigatesExplosions() {
+    CombatSimulator.Combatant unprotected = createDefender(0, 0, 0, 0, 0);
+    CombatSimulator.Combatant protectedDefender = createDefender(0, 0, 0, 20, 0);
+
+    double explosion = new CombatSimulator(4).simulate(ATTACKER, unprotected, EntityDamageEvent.DamageCause.ENTITY_EXPLOSION, FIGHTS).getAverageDamagePerSecond();
+    double protectedExplosion = new CombatSimulator(4).simulate(ATTACKER, protectedDefender, EntityDamageEvent.DamageCause.ENTITY_EXPLOSION, FIGHTS).getAverageDamagePerSecond();
+    double protectedAttack = new CombatSimulator(4).simulate(ATTACKER, protectedDefender, EntityDamageEvent.DamageCause.ENTITY_ATTACK, FIGHTS).getAverageDamagePerSecond();
+
+    assertTrue(protectedExplosion < explosion, "Blast protection didn't mitigate explosions");
+    assertEquals(explosion, protectedAttack, 1.0E-9, "Blast protection mitigated entity attacks");
+  }
+
+  /**
+   * Creates a defender with 60 health, 20 armor, and no toughness.
+   *
+   * @param counterChance   counter chance
+   * @param dodgeChance     dodge chance
+   * @param protection      protection level
+   * @param blastProtection blast protection level
+   * @param blockChance     chance to be blocking
+   * @return defending {@link CombatSimulator.Combatant}
+   */
+  private static CombatSimulator.Combatant createDefender(double counterChance, double dodgeChance, int protection, int blastProtection, double blockChance) {
+    return new CombatSimulator.Combatant(60, 1, 20, 0, 0, 0, 0, counterChance, dodgeChance, 0, 20, protection, blastProtection, 0, 0, blockChance, List.of());
+  }
+}
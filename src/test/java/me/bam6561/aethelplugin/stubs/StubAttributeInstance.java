@@ -0,0 +1,63 @@
+package me.bam6561.aethelplugin.stubs;
+
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Represents an attribute without modifiers.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.41
+ * @since 1.27.41
+ */
+public abstract class StubAttributeInstance implements AttributeInstance {
+  /**
+   * Attribute.
+   */
+  private final Attribute attribute;
+
+  /**
+   * Base value.
+   */
+  private double baseValue;
+
+  /**
+   * Associates the attribute with its base value.
+   *
+   * @param attribute attribute
+   * @param baseValue base value
+   */
+  public StubAttributeInstance(@NotNull Attribute attribute, double baseValue) {
+    this.attribute = Objects.requireNonNull(attribute, "Null attribute");
+    this.baseValue = baseValue;
+  }
+
+  @Override
+  @NotNull
+  public Attribute getAttribute() {
+    return this.attribute;
+  }
+
+  @Override
+  public double getBaseValue() {
+    return this.baseValue;
+  }
+
+  @Override
+  public void setBaseValue(double baseValue) {
+    this.baseValue = baseValue;
+  }
+
+  @Override
+  public double getValue() {
+    return this.baseValue;
+  }
+
+  @Override
+  public double getDefaultValue() {
+    return this.baseValue;
+  }
+}
@@ -0,0 +1,47 @@
+package me.bam6561.aethelplugin.stubs;
+
+import org.bukkit.damage.DamageSource;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents an entity damage by entity event whose damage is a plain field.
+ * <p>
+ * Bukkit events box their damage into modifier maps whenever it is set,
+ * which is the server's cost rather than the plugin's, so it is left out
+ * of allocation measurements.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.41
+ * @since 1.27.41
+ */
+public class StubDamageEvent extends EntityDamageByEntityEvent {
+  /**
+   * Damage.
+   */
+  private double damage;
+
+  /**
+   * Associates the event with its entities, cause, and damage.
+   *
+   * @param damager attacking entity
+   * @param damagee defending entity
+   * @param cause   damage cause
+   * @param damage  damage
+   */
+  public StubDamageEvent(@NotNull Entity damager, @NotNull Entity damagee, @NotNull DamageCause cause, double damage) {
+    super(damager, damagee, cause, Stubs.create(DamageSource.class), damage);
+    this.damage = damage;
+  }
+
+  @Override
+  public double getDamage() {
+    return this.damage;
+  }
+
+  @Override
+  public void setDamage(double damage) {
+    this.damage = damage;
+  }
+}
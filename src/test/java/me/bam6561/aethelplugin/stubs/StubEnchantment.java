@@ -0,0 +1,36 @@
+package me.bam6561.aethelplugin.stubs;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.enchantments.Enchantment;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Represents an enchantment that only has a key.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.41
+ * @since 1.27.41
+ */
+public abstract class StubEnchantment extends Enchantment {
+  /**
+   * Enchantment key.
+   */
+  private final NamespacedKey key;
+
+  /**
+   * Associates the enchantment with its key.
+   *
+   * @param key enchantment key
+   */
+  public StubEnchantment(@NotNull NamespacedKey key) {
+    this.key = Objects.requireNonNull(key, "Null key");
+  }
+
+  @Override
+  @NotNull
+  public NamespacedKey getKey() {
+    return this.key;
+  }
+}
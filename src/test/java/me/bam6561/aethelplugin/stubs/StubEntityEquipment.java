@@ -0,0 +1,62 @@
+package me.bam6561.aethelplugin.stubs;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.EntityEquipment;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents an entity's equipment with nothing equipped.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.43
+ * @since 1.27.43
+ */
+public abstract class StubEntityEquipment implements EntityEquipment {
+  /**
+   * Empty item.
+   */
+  private final ItemStack air = new ItemStack(Material.AIR);
+
+  /**
+   * No parameter constructor.
+   */
+  public StubEntityEquipment() {
+  }
+
+  @Override
+  @NotNull
+  public ItemStack getItemInMainHand() {
+    return this.air;
+  }
+
+  @Override
+  @NotNull
+  public ItemStack getItemInOffHand() {
+    return this.air;
+  }
+
+  @Override
+  @NotNull
+  public ItemStack getHelmet() {
+    return this.air;
+  }
+
+  @Override
+  @NotNull
+  public ItemStack getChestplate() {
+    return this.air;
+  }
+
+  @Override
+  @NotNull
+  public ItemStack getLeggings() {
+    return this.air;
+  }
+
+  @Override
+  @NotNull
+  public ItemStack getBoots() {
+    return this.air;
+  }
+}
@@ -0,0 +1,233 @@
+package me.bam6561.aethelplugin.stubs;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.inventory.EntityEquipment;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Represents a living entity standing still with nothing equipped.
+ * <p>
+ * Its health, attributes, potion effects, and persistent tags are
+ * held in memory, and damage dealt to it directly is ignored.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.43
+ * @since 1.27.41
+ */
+public abstract class StubLivingEntity implements LivingEntity {
+  /**
+   * Entity type.
+   */
+  private final EntityType type;
+
+  /**
+   * World.
+   */
+  private final World world;
+
+  /**
+   * Persistent tags.
+   */
+  private final PersistentDataContainer entityTags;
+
+  /**
+   * Entity UUID.
+   */
+  private final UUID uuid = UUID.randomUUID();
+
+  /**
+   * Attributes.
+   */
+  private final Map<Attribute, AttributeInstance> attributes = new EnumMap<>(Attribute.class);
+
+  /**
+   * Potion effects by type.
+   */
+  private final Map<PotionEffectType, PotionEffect> potionEffects = new HashMap<>();
+
+  /**
+   * Equipment.
+   */
+  private final EntityEquipment equipment = Stubs.create(StubEntityEquipment.class);
+
+  /**
+   * X-coordinate.
+   */
+  private double x;
+
+  /**
+   * Y-coordinate.
+   */
+  private double y;
+
+  /**
+   * Z-coordinate.
+   */
+  private double z;
+
+  /**
+   * Health.
+   */
+  private double health = 20.0;
+
+  /**
+   * Associates the entity with its type, world, and persistent tags.
+   *
+   * @param type       entity type
+   * @param world      world
+   * @param entityTags persistent tags
+   */
+  public StubLivingEntity(@NotNull EntityType type, @NotNull World world, @NotNull PersistentDataContainer entityTags) {
+    this.type = Objects.requireNonNull(type, "Null type");
+    this.world = Objects.requireNonNull(world, "Null world");
+    this.entityTags = Objects.requireNonNull(entityTags, "Null entity tags");
+  }
+
+  /**
+   * Sets an attribute's base value, adding the attribute if the entity doesn't have it.
+   *
+   * @param attribute attribute
+   * @param value     base value
+   */
+  public void setAttribute(@NotNull Attribute attribute, double value) {
+    AttributeInstance instance = attributes.get(attribute);
+    if (instance == null) {
+      attributes.put(attribute, Stubs.create(StubAttributeInstance.class, attribute, value));
+    } else {
+      instance.setBaseValue(value);
+    }
+  }
+
+  /**
+   * Moves the entity.
+   *
+   * @param x x-coordinate
+   * @param y y-coordinate
+   * @param z z-coordinate
+   */
+  public void setPosition(double x, double y, double z) {
+    this.x = x;
+    this.y = y;
+    this.z = z;
+  }
+
+  @Override
+  @NotNull
+  public EntityType getType() {
+    return this.type;
+  }
+
+  @Override
+  @NotNull
+  public World getWorld() {
+    return this.world;
+  }
+
+  @Override
+  @NotNull
+  public UUID getUniqueId() {
+    return this.uuid;
+  }
+
+  @Override
+  @NotNull
+  public PersistentDataContainer getPersistentDataContainer() {
+    return this.entityTags;
+  }
+
+  @Override
+  @Nullable
+  public AttributeInstance getAttribute(@NotNull Attribute attribute) {
+    return attributes.get(attribute);
+  }
+
+  @Override
+  @NotNull
+  public Location getLocation() {
+    return new Location(world, x, y, z);
+  }
+
+  @Override
+  @Nullable
+  public Location getLocation(@Nullable Location location) {
+    if (location != null) {
+      if (location.getWorld() != world) {
+        location.setWorld(world);
+      }
+      location.setX(x);
+      location.setY(y);
+      location.setZ(z);
+      location.setYaw(0);
+      location.setPitch(0);
+    }
+    return location;
+  }
+
+  @Override
+  public double getEyeHeight() {
+    return 1.62;
+  }
+
+  @Override
+  @NotNull
+  public Location getEyeLocation() {
+    return getLocation().add(0, getEyeHeight(), 0);
+  }
+
+  @Override
+  public double getHealth() {
+    return this.health;
+  }
+
+  @Override
+  public void setHealth(double health) {
+    this.health = health;
+  }
+
+  @Override
+  public void damage(double amount) {
+  }
+
+  @Override
+  public boolean addPotionEffect(@NotNull PotionEffect effect) {
+    potionEffects.put(effect.getType(), effect);
+    return true;
+  }
+
+  @Override
+  @Nullable
+  public PotionEffect getPotionEffect(@NotNull PotionEffectType type) {
+    return potionEffects.get(type);
+  }
+
+  @Override
+  @NotNull
+  public EntityEquipment getEquipment() {
+    return this.equipment;
+  }
+
+  @Override
+  public boolean isValid() {
+    return true;
+  }
+
+  @Override
+  public boolean isDead() {
+    return false;
+  }
+}
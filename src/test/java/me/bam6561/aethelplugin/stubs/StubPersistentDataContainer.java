@@ -0,0 +1,77 @@
+package me.bam6561.aethelplugin.stubs;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Represents persistent tags held in memory as their complex values.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.41
+ * @since 1.27.41
+ */
+public abstract class StubPersistentDataContainer implements PersistentDataContainer {
+  /**
+   * Tag values by key.
+   */
+  private final Map<NamespacedKey, Object> tags = new HashMap<>();
+
+  /**
+   * No parameter constructor.
+   */
+  public StubPersistentDataContainer() {
+  }
+
+  @Override
+  public <P, C> void set(@NotNull NamespacedKey key, @NotNull PersistentDataType<P, C> type, @NotNull C value) {
+    tags.put(Objects.requireNonNull(key, "Null key"), Objects.requireNonNull(value, "Null value"));
+  }
+
+  @Override
+  public <P, C> boolean has(@NotNull NamespacedKey key, @NotNull PersistentDataType<P, C> type) {
+    return type.getComplexType().isInstance(tags.get(key));
+  }
+
+  @Override
+  public boolean has(@NotNull NamespacedKey key) {
+    return tags.containsKey(key);
+  }
+
+  @Override
+  @Nullable
+  public <P, C> C get(@NotNull NamespacedKey key, @NotNull PersistentDataType<P, C> type) {
+    Object value = tags.get(key);
+    return type.getComplexType().isInstance(value) ? type.getComplexType().cast(value) : null;
+  }
+
+  @Override
+  @NotNull
+  public <P, C> C getOrDefault(@NotNull NamespacedKey key, @NotNull PersistentDataType<P, C> type, @NotNull C defaultValue) {
+    C value = get(key, type);
+    return value != null ? value : defaultValue;
+  }
+
+  @Override
+  @NotNull
+  public Set<NamespacedKey> getKeys() {
+    return Set.copyOf(tags.keySet());
+  }
+
+  @Override
+  public void remove(@NotNull NamespacedKey key) {
+    tags.remove(key);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return tags.isEmpty();
+  }
+}
@@ -0,0 +1,53 @@
+package me.bam6561.aethelplugin.stubs;
+
+import org.bukkit.GameMode;
+import org.bukkit.World;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents a survival mode player without RPG data, like an NPC,
+ * that can be made to block with a shield.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.43
+ * @since 1.27.43
+ */
+public abstract class StubPlayer extends StubLivingEntity implements Player {
+  /**
+   * If the player is blocking.
+   */
+  private boolean isBlocking = false;
+
+  /**
+   * Associates the player with its world and persistent tags.
+   *
+   * @param world      world
+   * @param entityTags persistent tags
+   */
+  public StubPlayer(@NotNull World world, @NotNull PersistentDataContainer entityTags) {
+    super(EntityType.PLAYER, world, entityTags);
+  }
+
+  /**
+   * Sets if the player is blocking.
+   *
+   * @param isBlocking if the player is blocking
+   */
+  public void setIsBlocking(boolean isBlocking) {
+    this.isBlocking = isBlocking;
+  }
+
+  @Override
+  public boolean isBlocking() {
+    return this.isBlocking;
+  }
+
+  @Override
+  @NotNull
+  public GameMode getGameMode() {
+    return GameMode.SURVIVAL;
+  }
+}
@@ -0,0 +1,36 @@
+package me.bam6561.aethelplugin.stubs;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.potion.PotionEffectType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Represents a potion effect type that only has a key.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.41
+ * @since 1.27.41
+ */
+public abstract class StubPotionEffectType extends PotionEffectType {
+  /**
+   * Potion effect type key.
+   */
+  private final NamespacedKey key;
+
+  /**
+   * Associates the potion effect type with its key.
+   *
+   * @param key potion effect type key
+   */
+  public StubPotionEffectType(@NotNull NamespacedKey key) {
+    this.key = Objects.requireNonNull(key, "Null key");
+  }
+
+  @Override
+  @NotNull
+  public NamespacedKey getKey() {
+    return this.key;
+  }
+}
@@ -0,0 +1,80 @@
+package me.bam6561.aethelplugin.stubs;
+
+import org.bukkit.Keyed;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Represents a registry that creates its entries on lookup.
+ *
+ * @param <T> registry entry type
+ * @author Danny Nguyen
+ * @version 1.27.41
+ * @since 1.27.41
+ */
+public abstract class StubRegistry<T extends Keyed> implements Registry<T> {
+  /**
+   * Entry factory.
+   */
+  private final Factory<T> factory;
+
+  /**
+   * Entries by key.
+   */
+  private final Map<NamespacedKey, T> entries = new LinkedHashMap<>();
+
+  /**
+   * Associates the registry with its entry factory.
+   *
+   * @param factory entry factory
+   */
+  public StubRegistry(@NotNull Factory<T> factory) {
+    this.factory = Objects.requireNonNull(factory, "Null factory");
+  }
+
+  @Override
+  @Nullable
+  public synchronized T get(@NotNull NamespacedKey key) {
+    T entry = entries.get(key);
+    if (entry == null) {
+      entry = factory.create(key);
+      if (entry != null) {
+        entries.put(key, entry);
+      }
+    }
+    return entry;
+  }
+
+  @Override
+  @NotNull
+  public synchronized Iterator<T> iterator() {
+    return Map.copyOf(entries).values().iterator();
+  }
+
+  /**
+   * Creates registry entries.
+   *
+   * @param <T> registry entry type
+   * @author Danny Nguyen
+   * @version 1.27.41
+   * @since 1.27.41
+   */
+  @FunctionalInterface
+  public interface Factory<T> {
+    /**
+     * Creates an entry.
+     *
+     * @param key entry key
+     * @return entry, or null if the registry has no such entry
+     */
+    @Nullable
+    T create(@NotNull NamespacedKey key);
+  }
+}
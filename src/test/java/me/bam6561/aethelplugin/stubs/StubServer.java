@@ -0,0 +1,77 @@
+package me.bam6561.aethelplugin.stubs;
+
+import org.bukkit.Keyed;
+import org.bukkit.Registry;
+import org.bukkit.Server;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.potion.PotionEffectType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Represents a server that only provides registries.
+ * <p>
+ * {@link Enchantment} and {@link PotionEffectType} registries return stubs
+ * for any key, while other registries are empty.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.41
+ * @since 1.27.41
+ */
+public abstract class StubServer implements Server {
+  /**
+   * Logger.
+   */
+  private final Logger logger = Logger.getLogger("StubServer");
+
+  /**
+   * Registries by type.
+   */
+  private final Map<Class<?>, Registry<?>> registries = new ConcurrentHashMap<>();
+
+  /**
+   * No parameter constructor.
+   */
+  public StubServer() {
+  }
+
+  @Override
+  @NotNull
+  public Logger getLogger() {
+    return this.logger;
+  }
+
+  @Override
+  @NotNull
+  public String getName() {
+    return "StubServer";
+  }
+
+  @Override
+  @NotNull
+  public String getVersion() {
+    return "stub";
+  }
+
+  @Override
+  @NotNull
+  public String getBukkitVersion() {
+    return "stub";
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T extends Keyed> Registry<T> getRegistry(@NotNull Class<T> type) {
+    return (Registry<T>) registries.computeIfAbsent(type, registryType -> {
+      if (registryType == Enchantment.class) {
+        return Stubs.create(StubRegistry.class, (StubRegistry.Factory<Enchantment>) key -> Stubs.create(StubEnchantment.class, key));
+      } else if (registryType == PotionEffectType.class) {
+        return Stubs.create(StubRegistry.class, (StubRegistry.Factory<PotionEffectType>) key -> Stubs.create(StubPotionEffectType.class, key));
+      }
+      return Stubs.create(StubRegistry.class, (StubRegistry.Factory<T>) key -> null);
+    });
+  }
+}
@@ -0,0 +1,55 @@
+package me.bam6561.aethelplugin.stubs;
+
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Represents a world without players.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.41
+ * @since 1.27.41
+ */
+public abstract class StubWorld implements World {
+  /**
+   * World name.
+   */
+  private final String name;
+
+  /**
+   * World UUID.
+   */
+  private final UUID uuid = UUID.randomUUID();
+
+  /**
+   * Associates the world with its name.
+   *
+   * @param name world name
+   */
+  public StubWorld(@NotNull String name) {
+    this.name = Objects.requireNonNull(name, "Null name");
+  }
+
+  @Override
+  @NotNull
+  public String getName() {
+    return this.name;
+  }
+
+  @Override
+  @NotNull
+  public UUID getUID() {
+    return this.uuid;
+  }
+
+  @Override
+  @NotNull
+  public List<Player> getPlayers() {
+    return List.of();
+  }
+}
@@ -0,0 +1,137 @@
+package me.bam6561.aethelplugin.stubs;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.ExceptionMethod;
+import net.bytebuddy.matcher.ElementMatchers;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.EntityType;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates server-free stand-ins of Bukkit types for tests and benchmarks.
+ * <p>
+ * Stubs are abstract classes that implement only the methods the plugin
+ * calls on its hit path. Their remaining abstract methods are generated
+ * to throw {@link UnsupportedOperationException}, so calls to stubbed
+ * methods are plain virtual calls that allocate nothing.
+ *
+ * @author Danny Nguyen
+ * @version 1.27.43
+ * @since 1.27.41
+ */
+public class Stubs {
+  /**
+   * Generated concrete classes by stubbed type.
+   */
+  private static final Map<Class<?>, Class<?>> stubClasses = new ConcurrentHashMap<>();
+
+  /**
+   * Utility methods only.
+   */
+  private Stubs() {
+  }
+
+  /**
+   * Installs a {@link StubServer} as the Bukkit server if none is installed,
+   * so registry-backed types such as enchantments and potion effect types load.
+   */
+  public static synchronized void installServer() {
+    if (Bukkit.getServer() == null) {
+      Bukkit.setServer(create(StubServer.class));
+    }
+  }
+
+  /**
+   * Creates a stub of a type whose unimplemented abstract methods throw.
+   *
+   * @param type abstract class or interface
+   * @param args constructor arguments
+   * @param <T>  stubbed type
+   * @return stub instance
+   */
+  @NotNull
+  public static <T> T create(@NotNull Class<T> type, @NotNull Object... args) {
+    Objects.requireNonNull(type, "Null type");
+    Class<?> stubClass = stubClasses.computeIfAbsent(type, Stubs::generate);
+    for (Constructor<?> constructor : stubClass.getConstructors()) {
+      if (constructor.getParameterCount() == args.length) {
+        try {
+          return type.cast(constructor.newInstance(args));
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException ex) {
+          throw new IllegalStateException("Unable to create stub: " + type.getName(), ex);
+        }
+      }
+    }
+    throw new IllegalArgumentException("No constructor with " + args.length + " parameters: " + type.getName());
+  }
+
+  /**
+   * Creates a {@link StubWorld}.
+   *
+   * @param name world name
+   * @return {@link StubWorld}
+   */
+  @NotNull
+  public static World createWorld(@NotNull String name) {
+    return create(StubWorld.class, name);
+  }
+
+  /**
+   * Creates a {@link StubLivingEntity}.
+   *
+   * @param type  entity type
+   * @param world world
+   * @return {@link StubLivingEntity}
+   */
+  @NotNull
+  public static StubLivingEntity createLivingEntity(@NotNull EntityType type, @NotNull World world) {
+    return create(StubLivingEntity.class, type, world, create(StubPersistentDataContainer.class));
+  }
+
+  /**
+   * Creates a {@link StubPlayer}.
+   *
+   * @param world world
+   * @return {@link StubPlayer}
+   */
+  @NotNull
+  public static StubPlayer createPlayer(@NotNull World world) {
+    return create(StubPlayer.class, world, create(StubPersistentDataContainer.class));
+  }
+
+  /**
+   * Creates a {@link StubPersistentDataContainer}.
+   *
+   * @return {@link StubPersistentDataContainer}
+   */
+  @NotNull
+  public static PersistentDataContainer createPersistentDataContainer() {
+    return create(StubPersistentDataContainer.class);
+  }
+
+  /**
+   * Generates a concrete class of a stubbed type.
+   *
+   * @param type abstract class or interface
+   * @return concrete class
+   */
+  private static Class<?> generate(Class<?> type) {
+    return new ByteBuddy()
+        .subclass(type, ConstructorStrategy.Default.IMITATE_SUPER_CLASS_PUBLIC)
+        .method(ElementMatchers.isAbstract())
+        .intercept(ExceptionMethod.throwing(UnsupportedOperationException.class, "Not stubbed"))
+        .make()
+        .load(type.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+        .getLoaded();
+  }
+}